@@ -34,7 +34,7 @@ public class CacheConfig {
                 .recordStats());
 
         // Pre-configure caches
-        cacheManager.setCacheNames(java.util.Arrays.asList("processedWebhooks", "paymentDetails", "rateLimiting"));
+        cacheManager.setCacheNames(java.util.Arrays.asList("rateLimiting"));
 
         return cacheManager;
     }
@@ -5,7 +5,6 @@ import io.github.oussemasahbeni.konnect.core.KonnectTemplate;
 import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentResponse;
 import io.github.oussemasahbeni.konnect.model.PaymentResponse;
 import io.github.oussemasahbeni.konnect.model.enums.KonnectTheme;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -29,12 +28,6 @@ public class PaymentService {
         );
     }
 
-
-    @Cacheable(
-            value = "paymentDetails",
-            key = "#paymentRef",
-            unless = "#result == null or #result.payment() == null or #result.payment().status() != T(io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus).COMPLETED"
-    )
     public PaymentResponse getPaymentDetails(String paymentRef) {
         return konnectTemplate.getPaymentDetails(paymentRef);
     }
@@ -26,7 +26,9 @@ public class WebhookService {
 
     /**
      * Process webhook with idempotency and comprehensive error handling
-     * Implements all Konnect best practices including rate limiting
+     * Implements all Konnect best practices including rate limiting.
+     * Duplicate webhooks for already handled payments are answered by the handler without calling the Konnect API
+     * ({@code konnect.api.webhook.deduplication.enabled}).
      */
     public PaymentResponse processWebhook(String paymentRef, String requestId) {
         // Log all incoming webhook requests
@@ -0,0 +1,80 @@
+package io.github.oussemasahbeni.konnect.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.github.oussemasahbeni.konnect.model.KonnectPayment;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentMethod;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentType;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectToken;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectTransactionStatus;
+
+/**
+ * Realistic payment fixtures shared by the benchmarks.
+ */
+final class BenchmarkPayments {
+
+    static final String PAYMENT_REF = "68891e9415c9b9a0dae24829";
+
+    static final BigDecimal AMOUNT = new BigDecimal("10000");
+
+    private BenchmarkPayments() {
+    }
+
+    /**
+     * Creates an ObjectMapper configured like Spring Boot's default one for the model classes.
+     *
+     * @return a new ObjectMapper
+     */
+    static ObjectMapper objectMapper() {
+        return new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+
+    /**
+     * Creates a completed payment whose last transaction succeeded, after {@code transactions - 1} failed attempts.
+     *
+     * @param transactions the number of transactions
+     * @return the payment details
+     */
+    static PaymentResponse completedPayment(int transactions) {
+        List<KonnectPayment.Transaction> attempts = new ArrayList<>(transactions);
+        for (int i = 0; i < transactions; i++) {
+            KonnectTransactionStatus status = i == transactions - 1 ? KonnectTransactionStatus.SUCCESS : KonnectTransactionStatus.FAILED_PAYMENT;
+            attempts.add(new KonnectPayment.Transaction(
+                    "payment", KonnectPaymentMethod.BANK_CARD, status, KonnectToken.TND, 10_000_000L,
+                    "ext-" + i, "customer", 9_850_000L, "Attempt " + i,
+                    new KonnectPayment.ExtSenderInfo("4111****1111", "12/30", "local", "customer@example.com"),
+                    new BigDecimal("0.015"), 150_000L, "6889" + String.format("%020d", i)));
+        }
+        Instant createdAt = Instant.parse("2025-07-29T19:25:40.123Z");
+        return new PaymentResponse(new KonnectPayment(
+                attempts, transactions - 1, 1, List.of(KonnectPaymentMethod.BANK_CARD, KonnectPaymentMethod.WALLET),
+                AMOUNT, KonnectToken.TND, "order-123", KonnectPaymentType.IMMEDIATE, KonnectPaymentStatus.COMPLETED,
+                10_000_000L, BigDecimal.ONE,
+                new KonnectPayment.PaymentDetails("+21612345678", "customer@example.com", "Jane Doe"),
+                "https://example.com/webhook", createdAt, createdAt.plusSeconds(90), PAYMENT_REF));
+    }
+
+    /**
+     * Serializes a completed payment with the given number of transactions, like the Konnect API returns it.
+     *
+     * @param transactions the number of transactions
+     * @return the JSON payment details
+     */
+    static byte[] completedPaymentJson(int transactions) {
+        try {
+            return objectMapper().writeValueAsBytes(completedPayment(transactions));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.oussemasahbeni.konnect.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentRequest;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentMethod;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentType;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectTheme;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectToken;
+
+/**
+ * Building and serializing a payment initiation request, done for every {@code initiatePayment} call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InitPaymentRequestBenchmark {
+
+    private static final List<KonnectPaymentMethod> PAYMENT_METHODS = List.of(KonnectPaymentMethod.BANK_CARD, KonnectPaymentMethod.WALLET);
+
+    private ObjectMapper objectMapper;
+    private InitKonnectPaymentRequest request;
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkPayments.objectMapper();
+        request = build();
+    }
+
+    @Benchmark
+    public InitKonnectPaymentRequest build() {
+        return new InitKonnectPaymentRequest.Builder()
+                .receiverWalletId("5f7a209aeb3f76490ac4a3d1")
+                .token(KonnectToken.TND)
+                .amount(BenchmarkPayments.AMOUNT)
+                .type(KonnectPaymentType.IMMEDIATE)
+                .description("Order #123")
+                .acceptedPaymentMethods(PAYMENT_METHODS)
+                .lifespan(30)
+                .checkoutForm(true)
+                .addPaymentFeesToAmount(false)
+                .firstName("Jane")
+                .lastName("Doe")
+                .phoneNumber("+21612345678")
+                .email("customer@example.com")
+                .orderId("order-123")
+                .webhook("https://example.com/webhook")
+                .theme(KonnectTheme.LIGHT)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] buildAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(build());
+    }
+}
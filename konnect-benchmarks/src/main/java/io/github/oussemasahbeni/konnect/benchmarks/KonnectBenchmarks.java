@@ -0,0 +1,35 @@
+package io.github.oussemasahbeni.konnect.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}.
+ * Runs the benchmarks selected by the usual JMH command line options (all of them by default) with the
+ * {@link GCProfiler}, so every result comes with its allocation rate ({@code gc.alloc.rate.norm}, in bytes per
+ * operation) and GC counts, and writes the results to {@code jmh-result.json}.
+ *
+ * <p>Example:
+ * {@code java -jar konnect-benchmarks/target/benchmarks.jar PaymentRefValidatorBenchmark -f 1}
+ */
+public final class KonnectBenchmarks {
+
+    private KonnectBenchmarks() {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("jmh-result.json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.oussemasahbeni.konnect.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.oussemasahbeni.konnect.core.KonnectPaymentVerifier;
+import io.github.oussemasahbeni.konnect.model.KonnectPayment;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectToken;
+
+/**
+ * Verification of a completed payment, done when handling every webhook.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class KonnectPaymentVerifierBenchmark {
+
+    @Param({"1", "50"})
+    public int transactions;
+
+    private PaymentResponse payment;
+
+    @Setup
+    public void setUp() {
+        payment = BenchmarkPayments.completedPayment(transactions);
+    }
+
+    @Benchmark
+    public KonnectPayment.Transaction verify() {
+        return KonnectPaymentVerifier.verify(payment, BenchmarkPayments.AMOUNT, KonnectToken.TND);
+    }
+}
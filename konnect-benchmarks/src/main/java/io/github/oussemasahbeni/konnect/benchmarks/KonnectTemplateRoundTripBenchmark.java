@@ -0,0 +1,119 @@
+package io.github.oussemasahbeni.konnect.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.oussemasahbeni.konnect.autoconfigure.KonnectAutoConfiguration;
+import io.github.oussemasahbeni.konnect.core.KonnectTemplate;
+import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentResponse;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+
+/**
+ * Full {@link KonnectTemplate} round trips against an in-process stub of the Konnect API, with the template
+ * created by the starter's auto-configuration and the selected HTTP transport. The stub answers immediately,
+ * so the results measure the client-side overhead: serialization, HTTP exchange and deserialization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class KonnectTemplateRoundTripBenchmark {
+
+    @Param({"jdk", "apache", "simple"})
+    public String transport;
+
+    private HttpServer server;
+    private ConfigurableApplicationContext context;
+    private KonnectTemplate konnectTemplate;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] paymentDetails = BenchmarkPayments.completedPaymentJson(2);
+        byte[] initPayment = """
+                { "payUrl": "https://gateway.sandbox.konnect.network/pay?payment_ref=%1$s", "paymentRef": "%1$s" }
+                """.formatted(BenchmarkPayments.PAYMENT_REF).getBytes(StandardCharsets.UTF_8);
+
+        // Disable Nagle's algorithm: otherwise delayed ACKs, not the client, bound the measured throughput
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/payments/init-payment", exchange -> respond(exchange, initPayment));
+        server.createContext("/payments/", exchange -> respond(exchange, paymentDetails));
+        server.start();
+
+        context = new SpringApplicationBuilder(StubKonnectConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "konnect.api.base-url=http://127.0.0.1:" + server.getAddress().getPort() + "/",
+                        "konnect.api.key=benchmark-key",
+                        "konnect.api.receiver-wallet-id=5f7a209aeb3f76490ac4a3d1",
+                        "konnect.api.webhook-url=https://example.com/webhook",
+                        "konnect.api.http.transport=" + transport,
+                        "logging.level.root=warn")
+                .run();
+        konnectTemplate = context.getBean(KonnectTemplate.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public PaymentResponse getPaymentDetails() {
+        return konnectTemplate.getPaymentDetails(BenchmarkPayments.PAYMENT_REF);
+    }
+
+    @Benchmark
+    public InitKonnectPaymentResponse initiatePayment() {
+        return konnectTemplate.initiatePayment(BigDecimal.TEN);
+    }
+
+    private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+        try (exchange; OutputStream response = exchange.getResponseBody()) {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            response.write(body);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({KonnectAutoConfiguration.class, JacksonAutoConfiguration.class, RestClientAutoConfiguration.class})
+    static class StubKonnectConfiguration {
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.oussemasahbeni.konnect.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.oussemasahbeni.konnect.core.PaymentRef;
+import io.github.oussemasahbeni.konnect.core.PaymentRefValidator;
+
+/**
+ * Validation and parsing of payment references, run before every lookup and on every webhook hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PaymentRefValidatorBenchmark {
+
+    @Param({"valid", "invalid", "padded"})
+    public String input;
+
+    private String paymentRef;
+
+    @Setup
+    public void setUp() {
+        paymentRef = switch (input) {
+            case "valid" -> "68891e9415c9b9a0dae24829";
+            case "invalid" -> "68891e9415c9b9a0dae2482G";
+            case "padded" -> "  68891e9415c9b9a0dae24829  ";
+            default -> throw new IllegalArgumentException(input);
+        };
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return PaymentRefValidator.validate(paymentRef);
+    }
+
+    @Benchmark
+    public Object parse() {
+        try {
+            return PaymentRef.parse(paymentRef);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+}
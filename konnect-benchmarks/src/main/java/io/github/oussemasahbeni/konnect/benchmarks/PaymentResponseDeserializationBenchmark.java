@@ -0,0 +1,57 @@
+package io.github.oussemasahbeni.konnect.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+
+/**
+ * Jackson deserialization of payment details, done for every {@code getPaymentDetails} response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PaymentResponseDeserializationBenchmark {
+
+    @Param({"1", "5", "20", "50"})
+    public int transactions;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader reader;
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkPayments.objectMapper();
+        reader = objectMapper.readerFor(PaymentResponse.class);
+        json = BenchmarkPayments.completedPaymentJson(transactions);
+    }
+
+    @Benchmark
+    public PaymentResponse objectMapper() throws IOException {
+        return objectMapper.readValue(json, PaymentResponse.class);
+    }
+
+    @Benchmark
+    public PaymentResponse objectReader() throws IOException {
+        return reader.readValue(json);
+    }
+}
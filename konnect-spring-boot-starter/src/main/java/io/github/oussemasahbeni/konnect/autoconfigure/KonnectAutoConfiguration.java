@@ -4,23 +4,64 @@ package io.github.oussemasahbeni.konnect.autoconfigure;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
+import java.net.http.HttpClient;
+import java.time.Clock;
 import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.UnaryOperator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.web.client.RestClient;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.github.oussemasahbeni.konnect.client.AimdConcurrencyLimit;
+import io.github.oussemasahbeni.konnect.client.GradientConcurrencyLimit;
+import io.github.oussemasahbeni.konnect.client.KonnectAsyncClient;
+import io.github.oussemasahbeni.konnect.client.KonnectBulkheadInterceptor;
 import io.github.oussemasahbeni.konnect.client.KonnectClient;
+import io.github.oussemasahbeni.konnect.client.KonnectClientHttpRequestFactory;
+import io.github.oussemasahbeni.konnect.client.KonnectConcurrencyLimit;
+import io.github.oussemasahbeni.konnect.client.KonnectConcurrencyLimitInterceptor;
+import io.github.oussemasahbeni.konnect.client.KonnectInterceptorOrder;
+import io.github.oussemasahbeni.konnect.client.KonnectOperation;
+import io.github.oussemasahbeni.konnect.client.KonnectPriority;
+import io.github.oussemasahbeni.konnect.client.KonnectPriorityScheduler;
+import io.github.oussemasahbeni.konnect.core.InMemoryWebhookDeduplicationStore;
+import io.github.oussemasahbeni.konnect.core.KonnectAsyncTemplate;
 import io.github.oussemasahbeni.konnect.core.KonnectTemplate;
+import io.github.oussemasahbeni.konnect.core.KonnectPaymentListener;
+import io.github.oussemasahbeni.konnect.core.KonnectPaymentPoller;
+import io.github.oussemasahbeni.konnect.core.KonnectPaymentWatcher;
+import io.github.oussemasahbeni.konnect.core.KonnectTemplateRegistry;
+import io.github.oussemasahbeni.konnect.core.KonnectTenant;
+import io.github.oussemasahbeni.konnect.core.KonnectTenantResolver;
 import io.github.oussemasahbeni.konnect.core.KonnectWebhookHandler;
+import io.github.oussemasahbeni.konnect.core.KonnectWebhookQueue;
+import io.github.oussemasahbeni.konnect.core.PaymentDetailsCache;
+import io.github.oussemasahbeni.konnect.core.PaymentDetailsCoalescer;
+import io.github.oussemasahbeni.konnect.core.PaymentDetailsFallback;
+import io.github.oussemasahbeni.konnect.core.PaymentDetailsHedger;
+import io.github.oussemasahbeni.konnect.core.PaymentDetailsLoader;
+import io.github.oussemasahbeni.konnect.core.PaymentPollingBackoff;
+import io.github.oussemasahbeni.konnect.core.WebhookDeduplicationStore;
+import io.micrometer.observation.ObservationRegistry;
 
 /**
  * Spring Boot auto-configuration for the Konnect Payment Gateway integration.
@@ -29,11 +70,26 @@ import io.github.oussemasahbeni.konnect.core.KonnectWebhookHandler;
  * 
  * <p>The auto-configuration will create the following beans:
  * <ul>
+ *   <li>{@link KonnectClientHttpRequestFactory} - Pooled HTTP transport selected by {@code konnect.api.http.transport}</li>
+ *   <li>{@link KonnectConcurrencyLimitInterceptor} - Opt-in adaptive concurrency limit of each operation</li>
+ *   <li>{@link KonnectBulkheadInterceptor} - Opt-in bulkhead isolating the calls of each operation</li>
+ *   <li>{@link KonnectPriorityScheduler} - Opt-in scheduling of the calls by {@link KonnectPriority}</li>
  *   <li>{@link RestClient} - Pre-configured HTTP client with authentication and base URL</li>
  *   <li>{@link KonnectClient} - Low-level API client for making HTTP requests</li>
  *   <li>{@link KonnectTemplate} - High-level template for common operations</li>
+ *   <li>{@link KonnectTemplateRegistry} and {@link KonnectTenantResolver} - Opt-in templates of many tenants sharing the RestClient</li>
+ *   <li>{@link PaymentDetailsCache} and {@link PaymentDetailsCoalescer} - Opt-in caching and coalescing of payment details lookups</li>
+ *   <li>{@link PaymentDetailsHedger} - Opt-in hedging of slow payment details lookups</li>
+ *   <li>{@link KonnectAsyncClient} and {@link KonnectAsyncTemplate} - Non-blocking counterparts returning {@code CompletableFuture}s</li>
  *   <li>{@link KonnectWebhookHandler} - Handler for processing incoming webhooks</li>
+ *   <li>{@link WebhookDeduplicationStore} - Opt-in suppression of duplicate webhooks</li>
+ *   <li>{@link KonnectWebhookQueue} - Opt-in asynchronous ingestion of webhooks through a bounded queue</li>
+ *   <li>{@link KonnectPaymentPoller} - Opt-in polling of the status of initiated payments</li>
+ *   <li>{@link KonnectPaymentWatcher} - Waits for payments to complete, woken by webhooks and polls</li>
  * </ul>
+ *
+ * <p>When an {@link ObservationRegistry} bean exists, the KonnectClient, the templates and the webhook handler record Micrometer
+ * observations of their calls, see {@link io.github.oussemasahbeni.konnect.core.KonnectObservationDocumentation}.
  * 
  * <p>This configuration is activated when the property {@code konnect.api.key} is present.
  * All beans are created with {@code @ConditionalOnMissingBean} to allow for custom implementations.
@@ -42,7 +98,7 @@ import io.github.oussemasahbeni.konnect.core.KonnectWebhookHandler;
  * @see KonnectTemplate
  * @see KonnectClient
  */
-@AutoConfiguration
+@AutoConfiguration(afterName = "org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration")
 @EnableConfigurationProperties(KonnectProperties.class)
 @ConditionalOnProperty(prefix = "konnect.api", name = "key")
 public class KonnectAutoConfiguration {
@@ -60,6 +116,100 @@ public class KonnectAutoConfiguration {
         this.properties = properties;
     }
 
+    /**
+     * Creates the HTTP transport used by the Konnect RestClient.
+     * The transport is selected with {@code konnect.api.http.transport} and tuned with the other
+     * {@code konnect.api.http.*} properties. Each operation gets its own read timeout
+     * ({@code konnect.api.operations.<name>.read-timeout}) while sharing a single connection pool, unless
+     * bulkheads are enabled: each operation then gets a pool of its own, sized with
+     * {@code konnect.api.operations.<name>.max-connections}.
+     *
+     * @return the request factory backing the Konnect RestClient
+     */
+    @Bean(name = "konnectClientHttpRequestFactory")
+    @ConditionalOnMissingBean(name = "konnectClientHttpRequestFactory")
+    KonnectClientHttpRequestFactory konnectClientHttpRequestFactory() {
+        KonnectProperties.KonnectHttp http = properties.http();
+        log.info("Initializing Konnect {} HTTP transport (connect timeout: {}, read timeout: {})",
+                http.transport(), http.connectTimeout(), http.readTimeout());
+        return KonnectClientHttpRequestFactories.create(properties);
+    }
+
+    /**
+     * Creates the interceptor bounding the requests in flight of each operation with an adaptive concurrency limit,
+     * applied to every request sent by the Konnect RestClient.
+     * Only created when {@code konnect.api.concurrency.mode} is {@code ADAPTIVE}.
+     *
+     * @return a KonnectConcurrencyLimitInterceptor instance
+     */
+    @Bean
+    @Qualifier("konnectRestClientInterceptor")
+    @Order(KonnectInterceptorOrder.CONCURRENCY_LIMIT)
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "konnect.api.concurrency", name = "mode", havingValue = "adaptive")
+    public KonnectConcurrencyLimitInterceptor konnectConcurrencyLimitInterceptor() {
+        KonnectProperties.KonnectConcurrency concurrency = properties.concurrency();
+        log.info("Initializing Konnect {} concurrency limit with an initial limit of {}.",
+                concurrency.algorithm(), concurrency.initialLimit());
+        Map<KonnectOperation, KonnectConcurrencyLimit> limits = new EnumMap<>(KonnectOperation.class);
+        for (KonnectOperation operation : KonnectOperation.values()) {
+            int maxLimit = properties.maxConcurrency(operation);
+            int minLimit = Math.min(concurrency.minLimit(), maxLimit);
+            limits.put(operation, switch (concurrency.algorithm()) {
+                case AIMD -> new AimdConcurrencyLimit(concurrency.initialLimit(), minLimit, maxLimit,
+                        concurrency.backoffRatio(), concurrency.timeout());
+                case GRADIENT -> new GradientConcurrencyLimit(concurrency.initialLimit(), minLimit, maxLimit,
+                        concurrency.backoffRatio());
+            });
+        }
+        return new KonnectConcurrencyLimitInterceptor(limits, concurrency.maxWait());
+    }
+
+    /**
+     * Creates the interceptor isolating the calls of each operation in a bulkhead of its own, applied to every
+     * request sent by the Konnect RestClient, so that a slow operation cannot take the threads and connections of
+     * the others. Only created when {@code konnect.api.bulkhead.enabled} is true.
+     *
+     * @return a KonnectBulkheadInterceptor instance
+     */
+    @Bean
+    @Qualifier("konnectRestClientInterceptor")
+    @Order(KonnectInterceptorOrder.BULKHEAD)
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "konnect.api.bulkhead", name = "enabled", havingValue = "true")
+    public KonnectBulkheadInterceptor konnectBulkheadInterceptor() {
+        Map<KonnectOperation, Integer> maxConcurrentCalls = new EnumMap<>(KonnectOperation.class);
+        Map<KonnectOperation, Duration> maxWait = new EnumMap<>(KonnectOperation.class);
+        for (KonnectOperation operation : KonnectOperation.values()) {
+            maxConcurrentCalls.put(operation, properties.maxConcurrentCalls(operation));
+            maxWait.put(operation, properties.maxWait(operation));
+        }
+        log.info("Initializing Konnect bulkheads with {} concurrent calls.", maxConcurrentCalls);
+        return new KonnectBulkheadInterceptor(maxConcurrentCalls, maxWait);
+    }
+
+    /**
+     * Creates the interceptor scheduling the requests sent by the Konnect RestClient by priority, so that polls and
+     * bulk lookups give way to checkouts as Konnect nears its capacity or its rate limit.
+     * Only created when {@code konnect.api.scheduling.enabled} is true.
+     *
+     * @return a KonnectPriorityScheduler instance
+     */
+    @Bean
+    @Qualifier("konnectRestClientInterceptor")
+    @Order(KonnectInterceptorOrder.PRIORITY_SCHEDULER)
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "konnect.api.scheduling", name = "enabled", havingValue = "true")
+    public KonnectPriorityScheduler konnectPriorityScheduler() {
+        KonnectProperties.KonnectScheduling scheduling = properties.scheduling();
+        log.info("Initializing Konnect priority scheduler with {} concurrent calls.", scheduling.maxConcurrentCalls());
+        Map<KonnectPriority, Double> shares = new EnumMap<>(KonnectPriority.class);
+        shares.put(KonnectPriority.WEBHOOK, scheduling.webhookShare());
+        shares.put(KonnectPriority.BACKGROUND, scheduling.backgroundShare());
+        return new KonnectPriorityScheduler(scheduling.maxConcurrentCalls(), shares, scheduling.maxWait(),
+                scheduling.starvationTimeout(), scheduling.throttleBackoff());
+    }
+
     /**
      * Creates a pre-configured RestClient for making requests to the Konnect API.
      * The client is configured with:
@@ -67,23 +217,25 @@ public class KonnectAutoConfiguration {
      *   <li>Base URL pointing to the Konnect API</li>
      *   <li>Authentication header with the API key</li>
      *   <li>Default content type set to application/json</li>
-     *   <li>Connection and read timeouts</li>
+     *   <li>The pooled HTTP transport and its connection and read timeouts</li>
+     *   <li>The interceptors qualified with {@code konnectRestClientInterceptor}, such as the Micrometer instrumentation,
+     *   in the order of {@link KonnectInterceptorOrder}</li>
      * </ul>
-     * 
+     *
+     * @param konnectClientHttpRequestFactory the HTTP transport
+     * @param interceptors                    the optional interceptors applied to every request, in order
      * @return a configured RestClient for Konnect API communication
      */
     @Bean(name = "konnectRestClient")
     @ConditionalOnMissingBean(name = "konnectRestClient")
-    RestClient konnectRestClient() {
+    RestClient konnectRestClient(KonnectClientHttpRequestFactory konnectClientHttpRequestFactory,
+                                 @Qualifier("konnectRestClientInterceptor") ObjectProvider<ClientHttpRequestInterceptor> interceptors) {
         log.info("Initializing Konnect RestClient with base URL: {}", properties.baseUrl());
 
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(Duration.ofSeconds(5)); // 5 second connect timeout
-        requestFactory.setReadTimeout(Duration.ofSeconds(30)); // 30 second read timeout
-
         return RestClient.builder()
                 .baseUrl(properties.baseUrl())
-                .requestFactory(requestFactory)
+                .requestFactory(konnectClientHttpRequestFactory)
+                .requestInterceptors(restClientInterceptors -> interceptors.orderedStream().forEach(restClientInterceptors::add))
                 .defaultHeader("x-api-key", properties.key())
                 .defaultHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
                 .build();
@@ -95,13 +247,15 @@ public class KonnectAutoConfiguration {
      * 
      * @param konnectRestClient the pre-configured RestClient
      * @param objectMapper the ObjectMapper for JSON processing
+     * @param observationRegistry the optional registry recording the observation of each request
      * @return a KonnectClient instance
      */
     @Bean
     @ConditionalOnMissingBean
-    public KonnectClient konnectClient(RestClient konnectRestClient, ObjectMapper objectMapper) {
+    public KonnectClient konnectClient(RestClient konnectRestClient, ObjectMapper objectMapper,
+                                       ObjectProvider<ObservationRegistry> observationRegistry) {
         log.info("Initializing KonnectClient implementation.");
-        return new KonnectClient(konnectRestClient, objectMapper);
+        return new KonnectClient(konnectRestClient, objectMapper, observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
     }
 
     /**
@@ -109,27 +263,291 @@ public class KonnectAutoConfiguration {
      * This handler provides secure webhook processing following Konnect best practices.
      * 
      * @param konnectTemplate the KonnectTemplate for making API calls
+     * @param listeners the listeners notified with the payment details of each processed webhook
+     * @param deduplicationStore the optional store suppressing duplicate webhooks
+     * @param observationRegistry the optional registry recording the observation of each webhook
      * @return a KonnectWebhookHandler instance
      */
     @Bean
     @ConditionalOnMissingBean
-    public KonnectWebhookHandler konnectWebhookHandler(KonnectTemplate konnectTemplate) {
-        return new KonnectWebhookHandler(konnectTemplate);
+    public KonnectWebhookHandler konnectWebhookHandler(KonnectTemplate konnectTemplate,
+                                                       ObjectProvider<KonnectPaymentListener> listeners,
+                                                       ObjectProvider<WebhookDeduplicationStore> deduplicationStore,
+                                                       ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new KonnectWebhookHandler(konnectTemplate, listeners.orderedStream().toList(),
+                deduplicationStore.getIfAvailable(), observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+    }
+
+    /**
+     * Creates the watcher letting callers wait for payments to complete.
+     * As a {@link KonnectPaymentListener}, it is notified by the KonnectWebhookHandler of every webhook and poll.
+     *
+     * @param konnectTemplate the KonnectTemplate fetching the details of newly watched payments, bypassing the cache
+     * @return a KonnectPaymentWatcher instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public KonnectPaymentWatcher konnectPaymentWatcher(KonnectTemplate konnectTemplate) {
+        return new KonnectPaymentWatcher(konnectTemplate::refreshPaymentDetails);
+    }
+
+    /**
+     * Creates the in-memory store remembering the payments whose terminal status was handled,
+     * so that duplicate webhooks for them are suppressed.
+     * Only created when {@code konnect.api.webhook.deduplication.enabled} is {@code true}.
+     *
+     * @return a WebhookDeduplicationStore instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "konnect.api.webhook.deduplication", name = "enabled", havingValue = "true")
+    public WebhookDeduplicationStore konnectWebhookDeduplicationStore() {
+        KonnectProperties.KonnectWebhookDeduplication deduplication = properties.webhook().deduplication();
+        return new InMemoryWebhookDeduplicationStore(deduplication.timeToLive(), deduplication.maximumSize(),
+                deduplication.stripes(), Clock.systemUTC());
+    }
+
+    /**
+     * Creates the queue ingesting webhooks asynchronously with the KonnectWebhookHandler.
+     * Only created when {@code konnect.api.webhook.queue.enabled} is {@code true}.
+     * The queue is drained when the application context shuts down.
+     *
+     * @param konnectWebhookHandler the handler processing each queued webhook
+     * @param observationRegistry   the optional registry whose current observation is restored while processing each webhook
+     * @return a KonnectWebhookQueue instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "konnect.api.webhook.queue", name = "enabled", havingValue = "true")
+    public KonnectWebhookQueue konnectWebhookQueue(KonnectWebhookHandler konnectWebhookHandler,
+                                                   ObjectProvider<ObservationRegistry> observationRegistry) {
+        KonnectProperties.KonnectWebhookQueueSettings queue = properties.webhook().queue();
+        log.info("Initializing KonnectWebhookQueue with {} workers and a capacity of {}.", queue.workers(), queue.capacity());
+        return new KonnectWebhookQueue(konnectWebhookHandler, queue.capacity(), queue.overflowPolicy(),
+                queue.workers(), queue.shutdownTimeout(), observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+    }
+
+    /**
+     * Creates the coalescer sharing in-flight payment details lookups between concurrent callers.
+     * Only created when {@code konnect.api.payment-details.coalescing.enabled} is {@code true}.
+     *
+     * @return a PaymentDetailsCoalescer instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "konnect.api.payment-details.coalescing", name = "enabled", havingValue = "true")
+    public PaymentDetailsCoalescer konnectPaymentDetailsCoalescer() {
+        return new PaymentDetailsCoalescer();
+    }
+
+    /**
+     * Creates the hedger sending a second request for payment details lookups slower than usual.
+     * Only created when {@code konnect.api.payment-details.hedging.enabled} is {@code true}.
+     *
+     * @param observationRegistry the optional registry of the observations the hedged attempts run within
+     * @return a PaymentDetailsHedger instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "konnect.api.payment-details.hedging", name = "enabled", havingValue = "true")
+    public PaymentDetailsHedger konnectPaymentDetailsHedger(ObjectProvider<ObservationRegistry> observationRegistry) {
+        KonnectProperties.KonnectHedging hedging = properties.paymentDetails().hedging();
+        return new PaymentDetailsHedger(hedging.percentile(), hedging.minDelay(), hedging.minSamples(),
+                hedging.budgetRatio(), hedging.window(), observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Creates the status-aware cache of payment details, backed by Caffeine when it is on the classpath.
+     * Only created when {@code konnect.api.payment-details.cache.enabled} is {@code true}.
+     *
+     * @return a PaymentDetailsCache instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "konnect.api.payment-details.cache", name = "enabled", havingValue = "true")
+    public PaymentDetailsCache konnectPaymentDetailsCache() {
+        return KonnectPaymentDetailsCaches.create(properties);
     }
 
     /**
      * Creates the KonnectTemplate bean for high-level API operations.
      * This template provides a simplified interface for common payment operations
      * and automatically applies configured defaults.
+     * Payment details lookups go through the optional features enabled under {@code konnect.api.payment-details}.
      * 
      * @param konnectClient the low-level HTTP client
      * @param konnectProperties the configuration properties with defaults
+     * @param hedger the optional hedger of slow payment details lookups, applied to each lookup sent to Konnect
+     * @param fallback the optional fallback to the last known payment details while the Konnect API is unavailable
+     * @param coalescer the optional coalescer for concurrent payment details lookups
+     * @param cache the optional cache of payment details, consulted before the coalescer
+     * @param paymentPoller the optional poller tracking the status of initiated payments
+     * @param observationRegistry the optional registry recording the observations of each call
      * @return a KonnectTemplate instance
      */
     @Bean
     @ConditionalOnMissingBean
-    public KonnectTemplate konnectTemplate(KonnectClient konnectClient, KonnectProperties konnectProperties) {
+    public KonnectTemplate konnectTemplate(KonnectClient konnectClient, KonnectProperties konnectProperties,
+                                           ObjectProvider<PaymentDetailsHedger> hedger,
+                                           ObjectProvider<PaymentDetailsFallback> fallback,
+                                           ObjectProvider<PaymentDetailsCoalescer> coalescer,
+                                           ObjectProvider<PaymentDetailsCache> cache,
+                                           ObjectProvider<KonnectPaymentPoller> paymentPoller,
+                                           ObjectProvider<ObservationRegistry> observationRegistry) {
         log.info("Initializing KonnectTemplate with configured defaults.");
-        return new KonnectTemplate(konnectClient, konnectProperties);
+        PaymentDetailsLoader paymentDetailsLoader = konnectClient::getPaymentDetails;
+        PaymentDetailsHedger paymentDetailsHedger = hedger.getIfAvailable();
+        if (paymentDetailsHedger != null) {
+            paymentDetailsLoader = paymentDetailsHedger.decorate(paymentDetailsLoader);
+        }
+        PaymentDetailsCoalescer paymentDetailsCoalescer = coalescer.getIfAvailable();
+        if (paymentDetailsCoalescer != null) {
+            paymentDetailsLoader = paymentDetailsCoalescer.decorate(paymentDetailsLoader);
+        }
+        PaymentDetailsCache paymentDetailsCache = cache.getIfAvailable();
+        if (paymentDetailsCache != null) {
+            paymentDetailsLoader = paymentDetailsCache.decorate(paymentDetailsLoader);
+        }
+        return new KonnectTemplate(konnectClient, konnectProperties, paymentDetailsLoader, paymentPoller.getIfAvailable(),
+                observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP), fallback.getIfAvailable());
+    }
+
+    /**
+     * Creates the resolver finding the tenants configured under {@code konnect.api.tenancy.tenants}.
+     * Only created when {@code konnect.api.tenancy.enabled} is {@code true}.
+     *
+     * @return a KonnectTenantResolver instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "konnect.api.tenancy", name = "enabled", havingValue = "true")
+    public KonnectTenantResolver konnectTenantResolver() {
+        Map<String, KonnectProperties.KonnectTenantSettings> tenants = properties.tenancy().tenants();
+        return tenantId -> {
+            KonnectProperties.KonnectTenantSettings tenant = tenants.get(tenantId);
+            return tenant != null ? new KonnectTenant(tenantId, tenant.key(), tenant.receiverWalletId(),
+                    tenant.webhookUrl(), tenant.defaults()) : null;
+        };
+    }
+
+    /**
+     * Creates the registry of the templates of each tenant, sharing the Konnect RestClient and its connection pools.
+     * The client of each tenant is advised like the KonnectClient bean, so that its calls go through the
+     * {@code konnect-api} Resilience4j instances as well.
+     * Only created when {@code konnect.api.tenancy.enabled} is {@code true}.
+     *
+     * @param konnectRestClient   the RestClient shared by every tenant
+     * @param konnectClient       the KonnectClient bean whose advice is applied to the client of each tenant
+     * @param objectMapper        the ObjectMapper for JSON processing
+     * @param tenantResolver      the resolver finding the settings of each tenant
+     * @param observationRegistry the optional registry recording the observations of each call
+     * @return a KonnectTemplateRegistry instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "konnect.api.tenancy", name = "enabled", havingValue = "true")
+    public KonnectTemplateRegistry konnectTemplateRegistry(RestClient konnectRestClient, KonnectClient konnectClient,
+                                                           ObjectMapper objectMapper, KonnectTenantResolver tenantResolver,
+                                                           ObjectProvider<ObservationRegistry> observationRegistry) {
+        KonnectProperties.KonnectTenancy tenancy = properties.tenancy();
+        log.info("Initializing KonnectTemplateRegistry for up to {} tenants.", tenancy.maxTenants());
+        return new KonnectTemplateRegistry(konnectRestClient, objectMapper, properties, tenantResolver,
+                tenancy.maxTenants(), tenancy.rateLimit(), adviseLike(konnectClient),
+                observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+    }
+
+    /**
+     * Gets the decorator applying the advice of the given client, such as the Resilience4j aspects, to other clients.
+     *
+     * @param konnectClient the KonnectClient bean
+     * @return a decorator proxying each client with the same advisors, or returning it as is if the bean is not advised
+     */
+    static UnaryOperator<KonnectClient> adviseLike(KonnectClient konnectClient) {
+        if (!(konnectClient instanceof Advised advised) || advised.getAdvisors().length == 0) {
+            return UnaryOperator.identity();
+        }
+        return client -> {
+            ProxyFactory proxyFactory = new ProxyFactory(client);
+            proxyFactory.setProxyTargetClass(true);
+            proxyFactory.addAdvisors(advised.getAdvisors());
+            return (KonnectClient) proxyFactory.getProxy(KonnectClient.class.getClassLoader());
+        };
+    }
+
+    /**
+     * Creates the poller tracking the status of the payments initiated with the KonnectTemplate.
+     * Polls go through the KonnectWebhookHandler, so their results reach the payment listeners like webhooks.
+     * As a {@link KonnectPaymentListener}, the poller stops tracking a payment as soon as a webhook reports it settled.
+     * Only created when {@code konnect.api.polling.enabled} is {@code true}.
+     *
+     * @param konnectWebhookHandler the handler processing each poll, resolved lazily since it depends on the template
+     * @return a KonnectPaymentPoller instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "konnect.api.polling", name = "enabled", havingValue = "true")
+    public KonnectPaymentPoller konnectPaymentPoller(ObjectProvider<KonnectWebhookHandler> konnectWebhookHandler) {
+        KonnectProperties.KonnectPolling polling = properties.polling();
+        log.info("Initializing KonnectPaymentPoller with an initial delay of {} and a maximum delay of {}.",
+                polling.initialDelay(), polling.maxDelay());
+        PaymentPollingBackoff backoff = new PaymentPollingBackoff(polling.initialDelay(), polling.maxDelay(),
+                polling.multiplier(), polling.jitter());
+        return new KonnectPaymentPoller(paymentRef -> konnectWebhookHandler.getObject().processWebhook(paymentRef),
+                backoff, polling.tickDuration(), polling.ticksPerWheel(), polling.parallelism());
+    }
+
+    /**
+     * Creates the JDK HttpClient used by the non-blocking {@link KonnectAsyncClient}.
+     * The client is only created once the KonnectAsyncClient is first used, and is closed when the application
+     * context shuts down. It is not a default candidate, so it is only injected where qualified by its name and
+     * never clashes with the HttpClient beans of the application.
+     *
+     * @return an HttpClient configured with the {@code konnect.api.http.*} settings
+     */
+    @Lazy
+    @Bean(name = "konnectAsyncHttpClient", defaultCandidate = false)
+    @ConditionalOnMissingBean(name = "konnectAsyncHttpClient")
+    HttpClient konnectAsyncHttpClient() {
+        return KonnectClientHttpRequestFactories.createJdkHttpClient(properties.http());
+    }
+
+    /**
+     * Creates the KonnectAsyncClient bean for non-blocking API communication.
+     * Responses are decoded on the executor bean named {@code konnectAsyncExecutor} when one is defined,
+     * and on the common {@link ForkJoinPool} otherwise. The client is created lazily, so that applications not
+     * calling Konnect asynchronously do not start the selector thread of its HttpClient.
+     *
+     * @param konnectAsyncHttpClient the JDK HttpClient sending the requests
+     * @param objectMapper           the ObjectMapper for JSON processing
+     * @param konnectAsyncExecutor   the optional executor for response decoding and dependent stages
+     * @return a KonnectAsyncClient instance
+     */
+    @Lazy
+    @Bean
+    @ConditionalOnMissingBean
+    public KonnectAsyncClient konnectAsyncClient(@Qualifier("konnectAsyncHttpClient") HttpClient konnectAsyncHttpClient,
+                                                 ObjectMapper objectMapper,
+                                                 @Qualifier("konnectAsyncExecutor") ObjectProvider<Executor> konnectAsyncExecutor) {
+        log.info("Initializing KonnectAsyncClient implementation.");
+        Executor executor = konnectAsyncExecutor.getIfAvailable(ForkJoinPool::commonPool);
+        return new KonnectAsyncClient(konnectAsyncHttpClient, properties, objectMapper, executor);
+    }
+
+    /**
+     * Creates the KonnectAsyncTemplate bean for non-blocking high-level API operations.
+     *
+     * @param konnectAsyncClient the non-blocking HTTP client
+     * @param konnectProperties  the configuration properties with defaults
+     * @param observationRegistry the optional registry recording the observations of each call
+     * @return a KonnectAsyncTemplate instance
+     */
+    @Lazy
+    @Bean
+    @ConditionalOnMissingBean
+    public KonnectAsyncTemplate konnectAsyncTemplate(KonnectAsyncClient konnectAsyncClient, KonnectProperties konnectProperties,
+                                                     ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new KonnectAsyncTemplate(konnectAsyncClient, konnectProperties,
+                observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
     }
 }
@@ -0,0 +1,69 @@
+package io.github.oussemasahbeni.konnect.autoconfigure;
+
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import io.github.oussemasahbeni.konnect.core.PaymentDetailsFallback;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.common.circuitbreaker.configuration.CircuitBreakerConfigCustomizer;
+
+/**
+ * Spring Boot auto-configuration of the degraded mode of the Konnect API, while the Resilience4j {@code konnect-api}
+ * circuit breaker is open.
+ * This configuration is activated when Resilience4j is on the classpath and the property {@code konnect.api.key}
+ * is present.
+ *
+ * <p>The auto-configuration will create the following beans:
+ * <ul>
+ *   <li>{@code konnectCircuitBreakerConfigCustomizer} - Lets a single call probe Konnect while the {@code konnect-api}
+ *   circuit breaker configured under {@code resilience4j.circuitbreaker.instances} is half-open</li>
+ *   <li>{@link PaymentDetailsFallback} - Serves the last known details of completed and expired payments while the
+ *   circuit breaker is open, when {@code konnect.api.payment-details.stale-fallback.enabled} is {@code true}</li>
+ * </ul>
+ *
+ * <p>All beans are created with {@code @ConditionalOnMissingBean} to allow for custom implementations.
+ *
+ * @see KonnectCircuitBreakerExceptionPredicate
+ */
+@AutoConfiguration(beforeName = "io.github.resilience4j.springboot3.circuitbreaker.autoconfigure.CircuitBreakerAutoConfiguration")
+@EnableConfigurationProperties(KonnectProperties.class)
+@ConditionalOnClass(CircuitBreakerConfigCustomizer.class)
+@ConditionalOnProperty(prefix = "konnect.api", name = "key")
+public class KonnectCircuitBreakerAutoConfiguration {
+
+    private static final String RESILIENCE_CONFIG_NAME = "konnect-api";
+
+    /**
+     * Creates the customizer limiting the {@code konnect-api} circuit breaker to a single call while it is half-open,
+     * so that a recovering Konnect API is probed by one request rather than by every waiting caller at once.
+     *
+     * @return a CircuitBreakerConfigCustomizer for the {@code konnect-api} instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "konnectCircuitBreakerConfigCustomizer")
+    public CircuitBreakerConfigCustomizer konnectCircuitBreakerConfigCustomizer() {
+        return CircuitBreakerConfigCustomizer.of(RESILIENCE_CONFIG_NAME,
+                builder -> builder.permittedNumberOfCallsInHalfOpenState(1));
+    }
+
+    /**
+     * Creates the fallback serving the last known details of completed and expired payments while the
+     * {@code konnect-api} circuit breaker rejects calls.
+     * Only created when {@code konnect.api.payment-details.stale-fallback.enabled} is {@code true}.
+     *
+     * @param properties the Konnect configuration properties
+     * @return a PaymentDetailsFallback instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "konnect.api.payment-details.stale-fallback", name = "enabled", havingValue = "true")
+    public PaymentDetailsFallback konnectPaymentDetailsFallback(KonnectProperties properties) {
+        return new PaymentDetailsFallback(KonnectPaymentDetailsCaches.createLastKnown(properties),
+                CallNotPermittedException.class::isInstance);
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.oussemasahbeni.konnect.autoconfigure;
+
+import java.util.function.Predicate;
+
+import org.springframework.http.HttpStatusCode;
+
+import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
+import io.github.oussemasahbeni.konnect.exception.KonnectRejectedException;
+
+/**
+ * Custom exception predicate for the Resilience4j circuit breaker.
+ * This predicate determines which failed calls to the Konnect API count towards opening the circuit,
+ * that is which failures tell that the Konnect API itself is unhealthy.
+ *
+ * <ul>
+ *   <li><strong>Record 5xx server errors</strong> - Konnect failed to handle the request</li>
+ *   <li><strong>Record network issues</strong> - Connection failures, timeouts and exceeded deadlines</li>
+ *   <li><strong>Ignore 4xx client errors</strong> - An unknown payment reference does not make Konnect unhealthy</li>
+ *   <li><strong>Ignore calls rejected by the adaptive concurrency limit, a full bulkhead, the priority scheduler or the
+ *   rate limit of their tenant</strong> - They were never sent</li>
+ * </ul>
+ *
+ * <p>This predicate is used in the Resilience4j configuration:
+ * <pre>
+ * resilience4j:
+ *   circuitbreaker:
+ *     instances:
+ *       konnect-api:
+ *         record-failure-predicate: io.github.oussemasahbeni.konnect.autoconfigure.KonnectCircuitBreakerExceptionPredicate
+ * </pre>
+ *
+ * @see KonnectRetryExceptionPredicate
+ */
+public class KonnectCircuitBreakerExceptionPredicate implements Predicate<Throwable> {
+
+    /**
+     * Tests whether the given throwable counts as a failure of the Konnect API.
+     *
+     * @param throwable the exception that occurred during the API call
+     * @return true if the failure is recorded by the circuit breaker, false otherwise
+     */
+    @Override
+    public boolean test(Throwable throwable) {
+        if (throwable instanceof KonnectRejectedException) {
+            return false;
+        }
+        if (throwable instanceof KonnectApiException e) {
+            return HttpStatusCode.valueOf(e.getStatusCode()).is5xxServerError();
+        }
+        return true;
+    }
+}
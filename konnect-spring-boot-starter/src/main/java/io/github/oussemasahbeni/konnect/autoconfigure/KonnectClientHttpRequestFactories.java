@@ -0,0 +1,247 @@
+package io.github.oussemasahbeni.konnect.autoconfigure;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.util.ClassUtils;
+
+import io.github.oussemasahbeni.konnect.client.KonnectClientHttpRequestFactory;
+import io.github.oussemasahbeni.konnect.client.KonnectOperation;
+
+/**
+ * Creates the {@link KonnectClientHttpRequestFactory} matching the configured
+ * {@link KonnectProperties.KonnectHttp.Transport transport}.
+ * A single HTTP client is created per transport and shared by the per-operation request factories, and by the
+ * request factories created for requests whose read timeout is cut by a deadline. When bulkheads are enabled,
+ * each operation gets an HTTP client and a connection pool of its own instead, and so does an operation overriding
+ * its connect timeout or pool size. Read timeouts are resolved once, when the request factory is created.
+ */
+final class KonnectClientHttpRequestFactories {
+
+    private static final boolean APACHE_HTTP_CLIENT_PRESENT = ClassUtils.isPresent(
+            "org.apache.hc.client5.http.impl.classic.HttpClients",
+            KonnectClientHttpRequestFactories.class.getClassLoader());
+
+    private KonnectClientHttpRequestFactories() {
+    }
+
+    /**
+     * Creates the request factory described by the given properties.
+     *
+     * @param properties the Konnect configuration properties
+     * @return a request factory owning its underlying HTTP client
+     * @throws IllegalStateException if the Apache transport is selected but not on the classpath
+     */
+    static KonnectClientHttpRequestFactory create(KonnectProperties properties) {
+        KonnectProperties.KonnectHttp http = properties.http();
+        return switch (http.transport()) {
+            case JDK -> Jdk.create(properties);
+            case APACHE -> {
+                if (!APACHE_HTTP_CLIENT_PRESENT) {
+                    throw new IllegalStateException(
+                            "konnect.api.http.transport=APACHE requires org.apache.httpcomponents.client5:httpclient5 on the classpath");
+                }
+                yield Apache.create(properties);
+            }
+            case SIMPLE -> Simple.create(properties);
+        };
+    }
+
+    /**
+     * Creates a JDK {@link HttpClient} using the configured protocol version and connect timeout.
+     *
+     * @param http the HTTP transport settings
+     * @return a new HTTP client
+     */
+    static HttpClient createJdkHttpClient(KonnectProperties.KonnectHttp http) {
+        return createJdkHttpClient(http, http.connectTimeout());
+    }
+
+    /**
+     * Creates a JDK {@link HttpClient} using the configured protocol version and the given connect timeout.
+     *
+     * @param http           the HTTP transport settings
+     * @param connectTimeout the maximum time to establish a connection
+     * @return a new HTTP client
+     */
+    static HttpClient createJdkHttpClient(KonnectProperties.KonnectHttp http, Duration connectTimeout) {
+        return HttpClient.newBuilder()
+                .version(http.version())
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+
+    /**
+     * Creates the request factory routing each operation to the transport created for it: a transport of its own
+     * when bulkheads are enabled or when the operation overrides its connect timeout or pool size, sized with
+     * {@code konnect.api.operations.<name>.max-connections}, or else the transport shared by every operation.
+     *
+     * @param properties the Konnect configuration properties
+     * @param transports creates a transport with the given maximum number of pooled connections and connect timeout
+     * @return a request factory owning every transport it created
+     */
+    private static KonnectClientHttpRequestFactory create(KonnectProperties properties, TransportFactory transports) {
+        KonnectProperties.KonnectHttp http = properties.http();
+        Transport shared = transports.create(http.maxConnections(), http.connectTimeout());
+        List<Transport> created = new ArrayList<>(List.of(shared));
+        Map<KonnectOperation, Transport> operationTransports = new EnumMap<>(KonnectOperation.class);
+        Map<KonnectOperation, Duration> readTimeouts = new EnumMap<>(KonnectOperation.class);
+        Map<KonnectOperation, ClientHttpRequestFactory> operationFactories = new EnumMap<>(KonnectOperation.class);
+        for (KonnectOperation operation : KonnectOperation.values()) {
+            Transport transport = shared;
+            if (properties.hasOwnTransport(operation)) {
+                transport = transports.create(properties.maxConnections(operation), properties.connectTimeout(operation));
+                created.add(transport);
+            }
+            operationTransports.put(operation, transport);
+            readTimeouts.put(operation, properties.readTimeout(operation));
+            operationFactories.put(operation, transport.requestFactory(readTimeouts.get(operation)));
+        }
+        return new KonnectClientHttpRequestFactory(shared.requestFactory(http.readTimeout()), operationFactories,
+                () -> close(created),
+                operation -> operation != null ? readTimeouts.get(operation) : http.readTimeout(),
+                (operation, readTimeout) -> (operation != null ? operationTransports.get(operation) : shared)
+                        .requestFactory(readTimeout));
+    }
+
+    private static void close(List<Transport> transports) throws Exception {
+        Exception failure = null;
+        for (Transport transport : transports) {
+            try {
+                transport.close();
+            } catch (Exception e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Creates a transport with the given maximum number of pooled connections and connect timeout.
+     */
+    @FunctionalInterface
+    private interface TransportFactory {
+
+        Transport create(int maxConnections, Duration connectTimeout);
+    }
+
+    /**
+     * An HTTP client and its connection pool, creating request factories with a given read timeout.
+     */
+    private interface Transport extends AutoCloseable {
+
+        ClientHttpRequestFactory requestFactory(Duration readTimeout);
+
+        static Transport of(AutoCloseable httpClient, Function<Duration, ClientHttpRequestFactory> requestFactories) {
+            return new Transport() {
+                @Override
+                public ClientHttpRequestFactory requestFactory(Duration readTimeout) {
+                    return requestFactories.apply(readTimeout);
+                }
+
+                @Override
+                public void close() throws Exception {
+                    if (httpClient != null) {
+                        httpClient.close();
+                    }
+                }
+            };
+        }
+    }
+
+    private static final class Jdk {
+
+        static KonnectClientHttpRequestFactory create(KonnectProperties properties) {
+            KonnectProperties.KonnectHttp http = properties.http();
+            // The JDK client does not bound its connections: HTTP/2 multiplexes requests over a single one
+            return KonnectClientHttpRequestFactories.create(properties, (maxConnections, connectTimeout) -> {
+                HttpClient httpClient = createJdkHttpClient(http, connectTimeout);
+                return Transport.of(httpClient, readTimeout -> {
+                    JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+                    factory.setReadTimeout(readTimeout);
+                    return factory;
+                });
+            });
+        }
+    }
+
+    private static final class Apache {
+
+        static KonnectClientHttpRequestFactory create(KonnectProperties properties) {
+            return KonnectClientHttpRequestFactories.create(properties, (maxConnections, connectTimeout) -> {
+                CloseableHttpClient httpClient = createHttpClient(properties.http(), maxConnections, connectTimeout);
+                return Transport.of(httpClient, readTimeout -> {
+                    HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+                    factory.setReadTimeout(readTimeout);
+                    return factory;
+                });
+            });
+        }
+
+        private static CloseableHttpClient createHttpClient(KonnectProperties.KonnectHttp http, int maxConnections,
+                                                            Duration connectTimeout) {
+            PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(maxConnections)
+                    .setMaxConnPerRoute(maxConnections)
+                    .setDefaultConnectionConfig(ConnectionConfig.custom()
+                            .setConnectTimeout(Timeout.of(connectTimeout))
+                            .build())
+                    .build();
+
+            TimeValue keepAlive = TimeValue.of(http.keepAlive());
+            ConnectionKeepAliveStrategy keepAliveStrategy = (response, context) -> {
+                // Honor a shorter Keep-Alive advertised by the server, but never exceed the configured maximum.
+                TimeValue advertised = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return TimeValue.isPositive(advertised) && advertised.compareTo(keepAlive) < 0 ? advertised : keepAlive;
+            };
+
+            return HttpClients.custom()
+                    .setConnectionManager(connectionManager)
+                    .setKeepAliveStrategy(keepAliveStrategy)
+                    .evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.of(http.evictIdleAfter()))
+                    .setDefaultRequestConfig(RequestConfig.custom()
+                            .setConnectionRequestTimeout(Timeout.of(http.connectionRequestTimeout()))
+                            .build())
+                    .build();
+        }
+    }
+
+    private static final class Simple {
+
+        static KonnectClientHttpRequestFactory create(KonnectProperties properties) {
+            // HttpURLConnection keeps alive its connections in a JVM-wide cache, that cannot be split per operation
+            return KonnectClientHttpRequestFactories.create(properties, (maxConnections, connectTimeout) -> Transport.of(null, readTimeout -> {
+                SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+                factory.setConnectTimeout(connectTimeout);
+                factory.setReadTimeout(readTimeout);
+                return factory;
+            }));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.oussemasahbeni.konnect.autoconfigure;
+
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+import io.github.oussemasahbeni.konnect.jfr.KonnectRetryEvent;
+import io.github.resilience4j.retry.RetryRegistry;
+
+/**
+ * Spring Boot auto-configuration bridging the Resilience4j {@code konnect-api} retry to the JDK Flight Recorder.
+ * This configuration is activated when Resilience4j is configured; the other Konnect JFR events are emitted
+ * directly by the components they describe, see {@link io.github.oussemasahbeni.konnect.jfr.KonnectFlightRecorder}.
+ *
+ * <p>The auto-configuration will create the following beans:
+ * <ul>
+ *   <li>{@code konnectRetryFlightRecorder} - Emits a {@link KonnectRetryEvent} for each retried call</li>
+ * </ul>
+ *
+ * <p>All beans are created with {@code @ConditionalOnMissingBean} to allow for custom implementations.
+ */
+@AutoConfiguration(afterName = "io.github.resilience4j.springboot3.retry.autoconfigure.RetryAutoConfiguration")
+@ConditionalOnClass(RetryRegistry.class)
+@ConditionalOnBean(RetryRegistry.class)
+public class KonnectFlightRecorderAutoConfiguration {
+
+    private static final String RESILIENCE_CONFIG_NAME = "konnect-api";
+
+    /**
+     * Subscribes to the retries of the {@code konnect-api} retry, once all singletons are created.
+     *
+     * @param retryRegistry the Resilience4j retry registry
+     * @return the callback subscribing to the retries
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "konnectRetryFlightRecorder")
+    public SmartInitializingSingleton konnectRetryFlightRecorder(RetryRegistry retryRegistry) {
+        return () -> retryRegistry.retry(RESILIENCE_CONFIG_NAME).getEventPublisher().onRetry(event ->
+                new KonnectRetryEvent().record(event.getName(), event.getNumberOfRetryAttempts(),
+                        event.getWaitInterval().toMillis(), event.getLastThrowable()));
+    }
+}
@@ -0,0 +1,636 @@
+package io.github.oussemasahbeni.konnect.autoconfigure;
+
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+import io.github.oussemasahbeni.konnect.client.KonnectBulkheadInterceptor;
+import io.github.oussemasahbeni.konnect.client.KonnectClientMetricsInterceptor;
+import io.github.oussemasahbeni.konnect.client.KonnectConcurrencyLimitInterceptor;
+import io.github.oussemasahbeni.konnect.client.KonnectInterceptorOrder;
+import io.github.oussemasahbeni.konnect.client.KonnectOperation;
+import io.github.oussemasahbeni.konnect.client.KonnectPriority;
+import io.github.oussemasahbeni.konnect.client.KonnectPriorityScheduler;
+import io.github.oussemasahbeni.konnect.client.KonnectRetryBudget;
+import io.github.oussemasahbeni.konnect.core.KonnectPaymentPoller;
+import io.github.oussemasahbeni.konnect.core.KonnectTemplateRegistry;
+import io.github.oussemasahbeni.konnect.core.KonnectWebhookHandler;
+import io.github.oussemasahbeni.konnect.core.KonnectWebhookQueue;
+import io.github.oussemasahbeni.konnect.core.PaymentDetailsCache;
+import io.github.oussemasahbeni.konnect.core.PaymentDetailsCoalescer;
+import io.github.oussemasahbeni.konnect.core.PaymentDetailsFallback;
+import io.github.oussemasahbeni.konnect.core.PaymentDetailsHedger;
+import io.github.oussemasahbeni.konnect.core.PaymentStatusBroadcaster;
+import io.github.oussemasahbeni.konnect.core.WebhookDeduplicationStore;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Spring Boot auto-configuration exposing Konnect metrics through Micrometer.
+ * This configuration is activated when Micrometer is on the classpath; the {@link MeterBinder}
+ * beans it declares are bound to the application's {@link MeterRegistry} by Spring Boot Actuator.
+ *
+ * <p>The auto-configuration will create the following beans:
+ * <ul>
+ *   <li>{@link KonnectClientMetricsInterceptor} - Timers of the requests sent to the Konnect API, when a {@link MeterRegistry} bean exists</li>
+ *   <li>{@code konnectRetryMetrics}, {@code konnectRateLimiterMetrics} and {@code konnectCircuitBreakerMetrics} - Retries,
+ *   rejections and state of the Resilience4j {@code konnect-api} instances</li>
+ *   <li>{@code konnectRetryBudgetMetrics} - Remaining tokens and exhaustions of the {@link KonnectRetryBudget}</li>
+ *   <li>{@code konnectConcurrencyLimitMetrics} - Limits, requests in flight and rejections of the adaptive concurrency limit</li>
+ *   <li>{@code konnectBulkheadMetrics} - Sizes, requests in flight, queued requests and rejections of the bulkheads</li>
+ *   <li>{@code konnectPrioritySchedulerMetrics} - Requests in flight, queued and rejected per priority, and quota left</li>
+ *   <li>{@code konnectTemplateRegistryMetrics} - Tenants, evictions and rate limited requests of the {@link KonnectTemplateRegistry}</li>
+ *   <li>{@code konnectPaymentDetailsCoalescerMetrics} - Executed and collapsed lookups of the {@link PaymentDetailsCoalescer}</li>
+ *   <li>{@code konnectPaymentDetailsHedgerMetrics} - Hedges, hedges won and hedging delay of the {@link PaymentDetailsHedger}</li>
+ *   <li>{@code konnectPaymentDetailsFallbackMetrics} - Stale payment details served by the {@link PaymentDetailsFallback}</li>
+ *   <li>{@code konnectPaymentDetailsCacheMetrics} - Hits, misses, evictions and size of the {@link PaymentDetailsCache}</li>
+ *   <li>{@code konnectWebhookQueueMetrics} - Depth, lag and throughput of the {@link KonnectWebhookQueue}</li>
+ *   <li>{@code konnectWebhookDeduplicationMetrics} - Duplicate webhooks suppressed by the {@link KonnectWebhookHandler}</li>
+ *   <li>{@code konnectPaymentPollerMetrics} - Tracked payments and polls of the {@link KonnectPaymentPoller}</li>
+ *   <li>{@code konnectPaymentStatusBroadcasterMetrics} - Open payment status streams of the {@link PaymentStatusBroadcaster}</li>
+ * </ul>
+ *
+ * <p>All beans are created with {@code @ConditionalOnMissingBean} to allow for custom implementations.
+ */
+@AutoConfiguration(after = {KonnectAutoConfiguration.class, KonnectPaymentStatusAutoConfiguration.class,
+        KonnectRetryAutoConfiguration.class, KonnectCircuitBreakerAutoConfiguration.class}, afterName = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+        "io.github.resilience4j.springboot3.retry.autoconfigure.RetryAutoConfiguration",
+        "io.github.resilience4j.springboot3.circuitbreaker.autoconfigure.CircuitBreakerAutoConfiguration",
+        "io.github.resilience4j.springboot3.ratelimiter.autoconfigure.RateLimiterAutoConfiguration"})
+@ConditionalOnClass(MeterRegistry.class)
+public class KonnectMetricsAutoConfiguration {
+
+    private static final String PAYMENT_DETAILS_CACHE_NAME = "konnect.payment-details";
+
+    private static final String RESILIENCE_CONFIG_NAME = "konnect-api";
+
+    /**
+     * Creates the interceptor timing every request sent by the Konnect RestClient, see {@link KonnectClientMetricsInterceptor}.
+     * Only created when a {@link MeterRegistry} bean exists, so requests are not intercepted otherwise.
+     *
+     * @param registry the registry the timers are registered to
+     * @return a KonnectClientMetricsInterceptor instance
+     */
+    @Bean
+    @Qualifier("konnectRestClientInterceptor")
+    @Order(KonnectInterceptorOrder.METRICS)
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnMissingBean
+    public KonnectClientMetricsInterceptor konnectClientMetricsInterceptor(MeterRegistry registry) {
+        return new KonnectClientMetricsInterceptor(registry);
+    }
+
+    /**
+     * Creates the binder registering the metrics of the retry budget:
+     * <ul>
+     *   <li>{@code konnect.api.retry.budget.remaining} - retries currently left in the budget</li>
+     *   <li>{@code konnect.api.retry.budget.exhausted} - failed calls not retried because the budget was exhausted</li>
+     * </ul>
+     *
+     * @param retryBudget the retry budget
+     * @return a MeterBinder for the retry budget
+     */
+    @Bean
+    @ConditionalOnBean(KonnectRetryBudget.class)
+    @ConditionalOnMissingBean(name = "konnectRetryBudgetMetrics")
+    public MeterBinder konnectRetryBudgetMetrics(KonnectRetryBudget retryBudget) {
+        return registry -> {
+            Gauge.builder("konnect.api.retry.budget.remaining", retryBudget, KonnectRetryBudget::getRemaining)
+                    .description("Retries of calls to the Konnect API left in the budget")
+                    .register(registry);
+            FunctionCounter.builder("konnect.api.retry.budget.exhausted", retryBudget, KonnectRetryBudget::getExhaustedCount)
+                    .description("Failed calls to the Konnect API not retried because the retry budget was exhausted")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Creates the binder registering the metrics of the adaptive concurrency limit, tagged with the {@code operation}:
+     * <ul>
+     *   <li>{@code konnect.api.concurrency.limit} - requests allowed in flight</li>
+     *   <li>{@code konnect.api.concurrency.in-flight} - requests currently in flight</li>
+     *   <li>{@code konnect.api.concurrency.rejections} - requests rejected because the limit was reached</li>
+     * </ul>
+     *
+     * @param interceptor the concurrency limit interceptor
+     * @return a MeterBinder for the concurrency limit
+     */
+    @Bean
+    @ConditionalOnBean(KonnectConcurrencyLimitInterceptor.class)
+    @ConditionalOnMissingBean(name = "konnectConcurrencyLimitMetrics")
+    public MeterBinder konnectConcurrencyLimitMetrics(KonnectConcurrencyLimitInterceptor interceptor) {
+        return registry -> {
+            for (KonnectOperation operation : KonnectOperation.values()) {
+                Gauge.builder("konnect.api.concurrency.limit", interceptor, i -> i.getLimit(operation))
+                        .description("Requests to the Konnect API allowed in flight")
+                        .tag("operation", operation.getValue())
+                        .register(registry);
+                Gauge.builder("konnect.api.concurrency.in-flight", interceptor, i -> i.getInFlight(operation))
+                        .description("Requests to the Konnect API currently in flight")
+                        .tag("operation", operation.getValue())
+                        .register(registry);
+                FunctionCounter.builder("konnect.api.concurrency.rejections", interceptor, i -> i.getRejectedCount(operation))
+                        .description("Requests to the Konnect API rejected by the concurrency limit")
+                        .tag("operation", operation.getValue())
+                        .register(registry);
+            }
+        };
+    }
+
+    /**
+     * Creates the binder registering the metrics of the bulkheads, tagged with the {@code operation}:
+     * <ul>
+     *   <li>{@code konnect.api.bulkhead.max-concurrent-calls} - requests allowed in flight</li>
+     *   <li>{@code konnect.api.bulkhead.in-flight} - requests currently in flight</li>
+     *   <li>{@code konnect.api.bulkhead.queued} - requests waiting for room in the bulkhead</li>
+     *   <li>{@code konnect.api.bulkhead.rejections} - requests rejected because the bulkhead was full</li>
+     * </ul>
+     *
+     * @param interceptor the bulkhead interceptor
+     * @return a MeterBinder for the bulkheads
+     */
+    @Bean
+    @ConditionalOnBean(KonnectBulkheadInterceptor.class)
+    @ConditionalOnMissingBean(name = "konnectBulkheadMetrics")
+    public MeterBinder konnectBulkheadMetrics(KonnectBulkheadInterceptor interceptor) {
+        return registry -> {
+            for (KonnectOperation operation : KonnectOperation.values()) {
+                Gauge.builder("konnect.api.bulkhead.max-concurrent-calls", interceptor, i -> i.getMaxConcurrentCalls(operation))
+                        .description("Requests to the Konnect API allowed in flight by the bulkhead")
+                        .tag("operation", operation.getValue())
+                        .register(registry);
+                Gauge.builder("konnect.api.bulkhead.in-flight", interceptor, i -> i.getInFlight(operation))
+                        .description("Requests to the Konnect API currently in flight in the bulkhead")
+                        .tag("operation", operation.getValue())
+                        .register(registry);
+                Gauge.builder("konnect.api.bulkhead.queued", interceptor, i -> i.getQueued(operation))
+                        .description("Requests to the Konnect API waiting for room in the bulkhead")
+                        .tag("operation", operation.getValue())
+                        .register(registry);
+                FunctionCounter.builder("konnect.api.bulkhead.rejections", interceptor, i -> i.getRejectedCount(operation))
+                        .description("Requests to the Konnect API rejected by a full bulkhead")
+                        .tag("operation", operation.getValue())
+                        .register(registry);
+            }
+        };
+    }
+
+    /**
+     * Creates the binder registering the metrics of the template registry:
+     * <ul>
+     *   <li>{@code konnect.api.tenancy.tenants} - tenants whose template is kept</li>
+     *   <li>{@code konnect.api.tenancy.creations} - templates created, including those created anew after eviction</li>
+     *   <li>{@code konnect.api.tenancy.evictions} - templates evicted</li>
+     *   <li>{@code konnect.api.tenancy.rate-limit.rejections} - requests rejected by the rate limit of their tenant</li>
+     * </ul>
+     *
+     * @param templateRegistry the template registry
+     * @return a MeterBinder for the template registry
+     */
+    @Bean
+    @ConditionalOnBean(KonnectTemplateRegistry.class)
+    @ConditionalOnMissingBean(name = "konnectTemplateRegistryMetrics")
+    public MeterBinder konnectTemplateRegistryMetrics(KonnectTemplateRegistry templateRegistry) {
+        return registry -> {
+            Gauge.builder("konnect.api.tenancy.tenants", templateRegistry, KonnectTemplateRegistry::size)
+                    .description("Tenants whose Konnect template is kept")
+                    .register(registry);
+            FunctionCounter.builder("konnect.api.tenancy.creations", templateRegistry, KonnectTemplateRegistry::getCreatedCount)
+                    .description("Konnect templates created for tenants")
+                    .register(registry);
+            FunctionCounter.builder("konnect.api.tenancy.evictions", templateRegistry, KonnectTemplateRegistry::getEvictedCount)
+                    .description("Konnect templates of the least recently used tenants evicted")
+                    .register(registry);
+            FunctionCounter.builder("konnect.api.tenancy.rate-limit.rejections", templateRegistry, KonnectTemplateRegistry::getRateLimitedCount)
+                    .description("Requests to the Konnect API rejected by the rate limit of their tenant")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Creates the binder registering the metrics of the priority scheduler, tagged with the {@code priority}:
+     * <ul>
+     *   <li>{@code konnect.api.scheduling.in-flight} - requests currently in flight</li>
+     *   <li>{@code konnect.api.scheduling.queued} - requests waiting for a slot</li>
+     *   <li>{@code konnect.api.scheduling.paused} - 1 while requests wait for the rate limit quota to reset</li>
+     *   <li>{@code konnect.api.scheduling.rejections} - requests rejected because no slot was left to them</li>
+     *   <li>{@code konnect.api.scheduling.promotions} - requests served like interactive ones after starving, untagged</li>
+     *   <li>{@code konnect.api.scheduling.quota.remaining} - share of the rate limit quota left, untagged</li>
+     * </ul>
+     *
+     * @param scheduler the priority scheduler
+     * @return a MeterBinder for the priority scheduler
+     */
+    @Bean
+    @ConditionalOnBean(KonnectPriorityScheduler.class)
+    @ConditionalOnMissingBean(name = "konnectPrioritySchedulerMetrics")
+    public MeterBinder konnectPrioritySchedulerMetrics(KonnectPriorityScheduler scheduler) {
+        return registry -> {
+            for (KonnectPriority priority : KonnectPriority.values()) {
+                Gauge.builder("konnect.api.scheduling.in-flight", scheduler, s -> s.getInFlight(priority))
+                        .description("Requests to the Konnect API currently in flight")
+                        .tag("priority", priority.getValue())
+                        .register(registry);
+                Gauge.builder("konnect.api.scheduling.queued", scheduler, s -> s.getQueued(priority))
+                        .description("Requests to the Konnect API waiting for a slot")
+                        .tag("priority", priority.getValue())
+                        .register(registry);
+                Gauge.builder("konnect.api.scheduling.paused", scheduler, s -> s.isPaused(priority) ? 1 : 0)
+                        .description("Whether requests to the Konnect API wait for the rate limit quota to reset")
+                        .tag("priority", priority.getValue())
+                        .register(registry);
+                FunctionCounter.builder("konnect.api.scheduling.rejections", scheduler, s -> s.getRejectedCount(priority))
+                        .description("Requests to the Konnect API rejected by the priority scheduler")
+                        .tag("priority", priority.getValue())
+                        .register(registry);
+            }
+            FunctionCounter.builder("konnect.api.scheduling.promotions", scheduler, KonnectPriorityScheduler::getPromotedCount)
+                    .description("Requests to the Konnect API served like interactive ones after waiting too long")
+                    .register(registry);
+            Gauge.builder("konnect.api.scheduling.quota.remaining", scheduler, KonnectPriorityScheduler::getQuotaRemaining)
+                    .description("Share of the Konnect API rate limit quota left, as last reported by Konnect")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Creates the binder registering the metrics of the payment details coalescer:
+     * <ul>
+     *   <li>{@code konnect.payment-details.coalescing.calls} - calls, tagged {@code result=executed} or {@code result=collapsed}</li>
+     *   <li>{@code konnect.payment-details.coalescing.in-flight} - lookups currently in flight</li>
+     * </ul>
+     *
+     * @param coalescer the payment details coalescer
+     * @return a MeterBinder for the coalescer
+     */
+    @Bean
+    @ConditionalOnBean(PaymentDetailsCoalescer.class)
+    @ConditionalOnMissingBean(name = "konnectPaymentDetailsCoalescerMetrics")
+    public MeterBinder konnectPaymentDetailsCoalescerMetrics(PaymentDetailsCoalescer coalescer) {
+        return registry -> {
+            FunctionCounter.builder("konnect.payment-details.coalescing.calls", coalescer, PaymentDetailsCoalescer::getExecutedCount)
+                    .description("Payment details calls handled by the coalescer")
+                    .tag("result", "executed")
+                    .register(registry);
+            FunctionCounter.builder("konnect.payment-details.coalescing.calls", coalescer, PaymentDetailsCoalescer::getCollapsedCount)
+                    .description("Payment details calls handled by the coalescer")
+                    .tag("result", "collapsed")
+                    .register(registry);
+            Gauge.builder("konnect.payment-details.coalescing.in-flight", coalescer, PaymentDetailsCoalescer::getInFlightCount)
+                    .description("Payment details requests currently in flight")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Creates the binder registering the metrics of the payment details hedger:
+     * <ul>
+     *   <li>{@code konnect.payment-details.hedging.hedges} - hedges sent, tagged {@code result=won} when they answered
+     *   first, {@code result=lost} otherwise</li>
+     *   <li>{@code konnect.payment-details.hedging.budget.exhausted} - slow lookups not hedged because the budget was exhausted</li>
+     *   <li>{@code konnect.payment-details.hedging.delay} - time after which lookups are hedged, 0 while too few latencies are known</li>
+     * </ul>
+     *
+     * @param hedger the payment details hedger
+     * @return a MeterBinder for the hedger
+     */
+    @Bean
+    @ConditionalOnBean(PaymentDetailsHedger.class)
+    @ConditionalOnMissingBean(name = "konnectPaymentDetailsHedgerMetrics")
+    public MeterBinder konnectPaymentDetailsHedgerMetrics(PaymentDetailsHedger hedger) {
+        return registry -> {
+            FunctionCounter.builder("konnect.payment-details.hedging.hedges", hedger, PaymentDetailsHedger::getWonCount)
+                    .description("Hedged payment details requests")
+                    .tag("result", "won")
+                    .register(registry);
+            FunctionCounter.builder("konnect.payment-details.hedging.hedges", hedger, h -> h.getHedgedCount() - h.getWonCount())
+                    .description("Hedged payment details requests")
+                    .tag("result", "lost")
+                    .register(registry);
+            FunctionCounter.builder("konnect.payment-details.hedging.budget.exhausted", hedger, PaymentDetailsHedger::getExhaustedCount)
+                    .description("Slow payment details requests not hedged because the hedging budget was exhausted")
+                    .register(registry);
+            TimeGauge.builder("konnect.payment-details.hedging.delay", hedger, TimeUnit.NANOSECONDS, h -> {
+                        Duration delay = h.getDelay();
+                        return delay != null ? delay.toNanos() : 0;
+                    })
+                    .description("Time after which payment details requests are hedged")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Creates the binder registering the metrics of the payment details fallback:
+     * <ul>
+     *   <li>{@code konnect.payment-details.stale-fallback.calls} - lookups failed while Konnect was unavailable, tagged
+     *   {@code result=served} when the last known details were returned, {@code result=missed} otherwise</li>
+     *   <li>{@code konnect.payment-details.stale-fallback.size} - payments whose last known details are kept</li>
+     * </ul>
+     *
+     * @param fallback the payment details fallback
+     * @return a MeterBinder for the fallback
+     */
+    @Bean
+    @ConditionalOnBean(PaymentDetailsFallback.class)
+    @ConditionalOnMissingBean(name = "konnectPaymentDetailsFallbackMetrics")
+    public MeterBinder konnectPaymentDetailsFallbackMetrics(PaymentDetailsFallback fallback) {
+        return registry -> {
+            FunctionCounter.builder("konnect.payment-details.stale-fallback.calls", fallback, PaymentDetailsFallback::getServedCount)
+                    .description("Payment details lookups failed while the Konnect API was unavailable")
+                    .tag("result", "served")
+                    .register(registry);
+            FunctionCounter.builder("konnect.payment-details.stale-fallback.calls", fallback, PaymentDetailsFallback::getMissedCount)
+                    .description("Payment details lookups failed while the Konnect API was unavailable")
+                    .tag("result", "missed")
+                    .register(registry);
+            Gauge.builder("konnect.payment-details.stale-fallback.size", fallback, PaymentDetailsFallback::getSize)
+                    .description("Payments whose last known details are kept")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Creates the binder registering the metrics of the payment details cache, following Micrometer's cache conventions
+     * with the tag {@code cache=konnect.payment-details}:
+     * <ul>
+     *   <li>{@code cache.gets} - lookups, tagged {@code result=hit} or {@code result=miss}</li>
+     *   <li>{@code cache.evictions} - entries removed because they expired or the cache was full</li>
+     *   <li>{@code cache.size} - approximate number of cached payments</li>
+     * </ul>
+     *
+     * @param cache the payment details cache
+     * @return a MeterBinder for the cache
+     */
+    @Bean
+    @ConditionalOnBean(PaymentDetailsCache.class)
+    @ConditionalOnMissingBean(name = "konnectPaymentDetailsCacheMetrics")
+    public MeterBinder konnectPaymentDetailsCacheMetrics(PaymentDetailsCache cache) {
+        return registry -> {
+            FunctionCounter.builder("cache.gets", cache, PaymentDetailsCache::getHitCount)
+                    .description("Payment details lookups served by the cache")
+                    .tags("cache", PAYMENT_DETAILS_CACHE_NAME, "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", cache, PaymentDetailsCache::getMissCount)
+                    .description("Payment details lookups served by the cache")
+                    .tags("cache", PAYMENT_DETAILS_CACHE_NAME, "result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("cache.evictions", cache, PaymentDetailsCache::getEvictionCount)
+                    .description("Payment details removed from the cache")
+                    .tag("cache", PAYMENT_DETAILS_CACHE_NAME)
+                    .register(registry);
+            Gauge.builder("cache.size", cache, PaymentDetailsCache::getSize)
+                    .description("Payment details currently cached")
+                    .tag("cache", PAYMENT_DETAILS_CACHE_NAME)
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Creates the binder registering the metrics of the webhook queue:
+     * <ul>
+     *   <li>{@code konnect.webhook.queue.depth} - webhooks waiting to be processed</li>
+     *   <li>{@code konnect.webhook.queue.lag} - how long the oldest queued webhook has been waiting</li>
+     *   <li>{@code konnect.webhook.queue.submissions} - submitted webhooks, tagged {@code result=accepted}, {@code rejected} or {@code dropped}</li>
+     *   <li>{@code konnect.webhook.queue.processed} - processed webhooks, tagged {@code result=success} or {@code result=failure}</li>
+     * </ul>
+     *
+     * @param queue the webhook queue
+     * @return a MeterBinder for the webhook queue
+     */
+    @Bean
+    @ConditionalOnBean(KonnectWebhookQueue.class)
+    @ConditionalOnMissingBean(name = "konnectWebhookQueueMetrics")
+    public MeterBinder konnectWebhookQueueMetrics(KonnectWebhookQueue queue) {
+        return registry -> {
+            Gauge.builder("konnect.webhook.queue.depth", queue, KonnectWebhookQueue::getQueueDepth)
+                    .description("Webhooks waiting to be processed")
+                    .register(registry);
+            TimeGauge.builder("konnect.webhook.queue.lag", queue, TimeUnit.MILLISECONDS, q -> q.getLag().toMillis())
+                    .description("Time the oldest queued webhook has been waiting")
+                    .register(registry);
+            FunctionCounter.builder("konnect.webhook.queue.submissions", queue, KonnectWebhookQueue::getAcceptedCount)
+                    .description("Webhooks submitted to the queue")
+                    .tag("result", "accepted")
+                    .register(registry);
+            FunctionCounter.builder("konnect.webhook.queue.submissions", queue, KonnectWebhookQueue::getRejectedCount)
+                    .description("Webhooks submitted to the queue")
+                    .tag("result", "rejected")
+                    .register(registry);
+            FunctionCounter.builder("konnect.webhook.queue.submissions", queue, KonnectWebhookQueue::getDroppedCount)
+                    .description("Webhooks submitted to the queue")
+                    .tag("result", "dropped")
+                    .register(registry);
+            FunctionCounter.builder("konnect.webhook.queue.processed", queue, KonnectWebhookQueue::getProcessedCount)
+                    .description("Webhooks processed by the queue workers")
+                    .tag("result", "success")
+                    .register(registry);
+            FunctionCounter.builder("konnect.webhook.queue.processed", queue, KonnectWebhookQueue::getFailedCount)
+                    .description("Webhooks processed by the queue workers")
+                    .tag("result", "failure")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Creates the binder registering the metrics of webhook deduplication:
+     * <ul>
+     *   <li>{@code konnect.webhook.deduplication.duplicates} - suppressed webhooks, tagged {@code reason=handled}
+     *   for payments already handled or {@code reason=in-flight} for concurrent duplicates</li>
+     *   <li>{@code konnect.webhook.deduplication.size} - payments remembered by the store</li>
+     * </ul>
+     *
+     * @param handler the webhook handler
+     * @param store   the webhook deduplication store
+     * @return a MeterBinder for webhook deduplication
+     */
+    @Bean
+    @ConditionalOnBean({KonnectWebhookHandler.class, WebhookDeduplicationStore.class})
+    @ConditionalOnMissingBean(name = "konnectWebhookDeduplicationMetrics")
+    public MeterBinder konnectWebhookDeduplicationMetrics(KonnectWebhookHandler handler, WebhookDeduplicationStore store) {
+        return registry -> {
+            FunctionCounter.builder("konnect.webhook.deduplication.duplicates", handler, KonnectWebhookHandler::getSuppressedCount)
+                    .description("Duplicate webhooks suppressed by the webhook handler")
+                    .tag("reason", "handled")
+                    .register(registry);
+            FunctionCounter.builder("konnect.webhook.deduplication.duplicates", handler, KonnectWebhookHandler::getCollapsedCount)
+                    .description("Duplicate webhooks suppressed by the webhook handler")
+                    .tag("reason", "in-flight")
+                    .register(registry);
+            Gauge.builder("konnect.webhook.deduplication.size", store, WebhookDeduplicationStore::getSize)
+                    .description("Handled payments remembered by the deduplication store")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Creates the binder registering the metrics of the payment poller:
+     * <ul>
+     *   <li>{@code konnect.payment.poller.tracked} - payments whose status is being polled</li>
+     *   <li>{@code konnect.payment.poller.polls} - polls, tagged {@code result=success} or {@code result=failure}</li>
+     *   <li>{@code konnect.payment.poller.untracked} - payments no longer tracked, tagged {@code reason=settled}
+     *   when they completed or expired or {@code reason=lifespan} when their lifespan passed</li>
+     * </ul>
+     *
+     * @param poller the payment poller
+     * @return a MeterBinder for the payment poller
+     */
+    @Bean
+    @ConditionalOnBean(KonnectPaymentPoller.class)
+    @ConditionalOnMissingBean(name = "konnectPaymentPollerMetrics")
+    public MeterBinder konnectPaymentPollerMetrics(KonnectPaymentPoller poller) {
+        return registry -> {
+            Gauge.builder("konnect.payment.poller.tracked", poller, KonnectPaymentPoller::getTrackedCount)
+                    .description("Payments whose status is being polled")
+                    .register(registry);
+            FunctionCounter.builder("konnect.payment.poller.polls", poller, KonnectPaymentPoller::getPollCount)
+                    .description("Status polls of pending payments")
+                    .tag("result", "success")
+                    .register(registry);
+            FunctionCounter.builder("konnect.payment.poller.polls", poller, KonnectPaymentPoller::getFailedPollCount)
+                    .description("Status polls of pending payments")
+                    .tag("result", "failure")
+                    .register(registry);
+            FunctionCounter.builder("konnect.payment.poller.untracked", poller, KonnectPaymentPoller::getSettledCount)
+                    .description("Payments no longer polled")
+                    .tag("reason", "settled")
+                    .register(registry);
+            FunctionCounter.builder("konnect.payment.poller.untracked", poller, KonnectPaymentPoller::getAbandonedCount)
+                    .description("Payments no longer polled")
+                    .tag("reason", "lifespan")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Creates the binder registering the metrics of the payment status broadcaster:
+     * <ul>
+     *   <li>{@code konnect.sse.subscribers} - open payment status streams</li>
+     * </ul>
+     *
+     * @param broadcaster the payment status broadcaster
+     * @return a MeterBinder for the payment status broadcaster
+     */
+    @Bean
+    @ConditionalOnBean(PaymentStatusBroadcaster.class)
+    @ConditionalOnMissingBean(name = "konnectPaymentStatusBroadcasterMetrics")
+    public MeterBinder konnectPaymentStatusBroadcasterMetrics(PaymentStatusBroadcaster broadcaster) {
+        return registry -> Gauge.builder("konnect.sse.subscribers", broadcaster, PaymentStatusBroadcaster::getSubscriberCount)
+                .description("Open payment status streams")
+                .register(registry);
+    }
+
+    /**
+     * Bridges the events of the Resilience4j {@code konnect-api} retry to Micrometer.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(RetryRegistry.class)
+    @ConditionalOnBean(RetryRegistry.class)
+    static class KonnectRetryMetricsConfiguration {
+
+        /**
+         * Creates the binder registering the metrics of the {@code konnect-api} retry:
+         * <ul>
+         *   <li>{@code konnect.api.retries} - calls to the Konnect API retried after a failed attempt</li>
+         * </ul>
+         *
+         * @param retryRegistry the Resilience4j retry registry
+         * @return a MeterBinder for the {@code konnect-api} retry
+         */
+        @Bean
+        @ConditionalOnMissingBean(name = "konnectRetryMetrics")
+        public MeterBinder konnectRetryMetrics(RetryRegistry retryRegistry) {
+            return registry -> {
+                Counter retries = Counter.builder("konnect.api.retries")
+                        .description("Calls to the Konnect API retried after a failed attempt")
+                        .register(registry);
+                retryRegistry.retry(RESILIENCE_CONFIG_NAME).getEventPublisher().onRetry(event -> retries.increment());
+            };
+        }
+    }
+
+    /**
+     * Bridges the events of the Resilience4j {@code konnect-api} rate limiter to Micrometer.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(RateLimiterRegistry.class)
+    @ConditionalOnBean(RateLimiterRegistry.class)
+    static class KonnectRateLimiterMetricsConfiguration {
+
+        /**
+         * Creates the binder registering the metrics of the {@code konnect-api} rate limiter:
+         * <ul>
+         *   <li>{@code konnect.api.rate-limiter.rejections} - calls to the Konnect API rejected for lack of permits</li>
+         * </ul>
+         *
+         * @param rateLimiterRegistry the Resilience4j rate limiter registry
+         * @return a MeterBinder for the {@code konnect-api} rate limiter
+         */
+        @Bean
+        @ConditionalOnMissingBean(name = "konnectRateLimiterMetrics")
+        public MeterBinder konnectRateLimiterMetrics(RateLimiterRegistry rateLimiterRegistry) {
+            return registry -> {
+                Counter rejections = Counter.builder("konnect.api.rate-limiter.rejections")
+                        .description("Calls to the Konnect API rejected by the rate limiter")
+                        .register(registry);
+                rateLimiterRegistry.rateLimiter(RESILIENCE_CONFIG_NAME).getEventPublisher().onFailure(event -> rejections.increment());
+            };
+        }
+    }
+
+    /**
+     * Bridges the state of the Resilience4j {@code konnect-api} circuit breaker to Micrometer.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(CircuitBreakerRegistry.class)
+    @ConditionalOnBean(CircuitBreakerRegistry.class)
+    static class KonnectCircuitBreakerMetricsConfiguration {
+
+        /**
+         * Creates the binder registering the metrics of the {@code konnect-api} circuit breaker:
+         * <ul>
+         *   <li>{@code konnect.api.circuit-breaker.state} - 1 for the current state of the circuit breaker, 0 for the
+         *   others, tagged with the {@code state}</li>
+         *   <li>{@code konnect.api.circuit-breaker.not-permitted} - calls to the Konnect API rejected while the circuit
+         *   breaker was open</li>
+         * </ul>
+         *
+         * @param circuitBreakerRegistry the Resilience4j circuit breaker registry
+         * @return a MeterBinder for the {@code konnect-api} circuit breaker
+         */
+        @Bean
+        @ConditionalOnMissingBean(name = "konnectCircuitBreakerMetrics")
+        public MeterBinder konnectCircuitBreakerMetrics(CircuitBreakerRegistry circuitBreakerRegistry) {
+            return registry -> {
+                CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_CONFIG_NAME);
+                for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+                    Gauge.builder("konnect.api.circuit-breaker.state", circuitBreaker, c -> c.getState() == state ? 1 : 0)
+                            .description("State of the circuit breaker of the Konnect API")
+                            .tag("state", state.name().toLowerCase())
+                            .register(registry);
+                }
+                Counter notPermitted = Counter.builder("konnect.api.circuit-breaker.not-permitted")
+                        .description("Calls to the Konnect API rejected by the open circuit breaker")
+                        .register(registry);
+                circuitBreaker.getEventPublisher().onCallNotPermitted(event -> notPermitted.increment());
+            };
+        }
+    }
+}
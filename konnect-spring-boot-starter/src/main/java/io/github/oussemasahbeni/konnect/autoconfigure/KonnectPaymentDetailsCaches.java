@@ -0,0 +1,72 @@
+package io.github.oussemasahbeni.konnect.autoconfigure;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.util.ClassUtils;
+
+import io.github.oussemasahbeni.konnect.core.CaffeinePaymentDetailsCache;
+import io.github.oussemasahbeni.konnect.core.ConcurrentMapPaymentDetailsCache;
+import io.github.oussemasahbeni.konnect.core.PaymentDetailsCache;
+import io.github.oussemasahbeni.konnect.core.PaymentDetailsCachePolicy;
+
+/**
+ * Creates the {@link PaymentDetailsCache} described by {@code konnect.api.payment-details.cache}:
+ * backed by Caffeine when it is on the classpath, by a {@link java.util.concurrent.ConcurrentHashMap} otherwise.
+ */
+final class KonnectPaymentDetailsCaches {
+
+    private static final boolean CAFFEINE_PRESENT = ClassUtils.isPresent(
+            "com.github.benmanes.caffeine.cache.Caffeine",
+            KonnectPaymentDetailsCaches.class.getClassLoader());
+
+    private KonnectPaymentDetailsCaches() {
+    }
+
+    /**
+     * Creates the cache described by the given properties.
+     *
+     * @param properties the Konnect configuration properties
+     * @return a new payment details cache
+     */
+    static PaymentDetailsCache create(KonnectProperties properties) {
+        KonnectProperties.KonnectPaymentDetailsCache cache = properties.paymentDetails().cache();
+        PaymentDetailsCachePolicy policy = new PaymentDetailsCachePolicy(
+                cache.terminalTimeToLive(),
+                cache.pendingTimeToLive(),
+                Duration.ofMinutes(properties.defaults().lifespan()),
+                Clock.systemUTC());
+        return create(policy, cache.maximumSize());
+    }
+
+    /**
+     * Creates the cache of the last known details of completed and expired payments, described by
+     * {@code konnect.api.payment-details.stale-fallback}. Pending payments are not kept.
+     *
+     * @param properties the Konnect configuration properties
+     * @return a new payment details cache
+     */
+    static PaymentDetailsCache createLastKnown(KonnectProperties properties) {
+        KonnectProperties.KonnectStaleFallback staleFallback = properties.paymentDetails().staleFallback();
+        PaymentDetailsCachePolicy policy = new PaymentDetailsCachePolicy(
+                staleFallback.timeToLive(),
+                Duration.ZERO,
+                Duration.ofMinutes(properties.defaults().lifespan()),
+                Clock.systemUTC());
+        return create(policy, staleFallback.maximumSize());
+    }
+
+    private static PaymentDetailsCache create(PaymentDetailsCachePolicy policy, long maximumSize) {
+        if (CAFFEINE_PRESENT) {
+            return Caffeine.create(policy, maximumSize);
+        }
+        return new ConcurrentMapPaymentDetailsCache(policy, maximumSize);
+    }
+
+    private static final class Caffeine {
+
+        static PaymentDetailsCache create(PaymentDetailsCachePolicy policy, long maximumSize) {
+            return new CaffeinePaymentDetailsCache(policy, maximumSize);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.oussemasahbeni.konnect.autoconfigure;
+
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.oussemasahbeni.konnect.core.KonnectTemplate;
+import io.github.oussemasahbeni.konnect.core.PaymentStatusBroadcaster;
+import io.github.oussemasahbeni.konnect.web.KonnectPaymentStatusController;
+import io.github.oussemasahbeni.konnect.web.ReactiveKonnectPaymentStatusController;
+import reactor.core.publisher.Flux;
+
+/**
+ * Spring Boot auto-configuration of the Server-Sent Events endpoint streaming payment status changes to browsers.
+ * This configuration is activated when {@code konnect.api.sse.enabled} is {@code true}.
+ *
+ * <p>The auto-configuration will create the following beans:
+ * <ul>
+ *   <li>{@link PaymentStatusBroadcaster} - Fan-out registry of the open streams, notified of every webhook and poll</li>
+ *   <li>{@link KonnectPaymentStatusController} - The endpoint of Spring MVC applications</li>
+ *   <li>{@link ReactiveKonnectPaymentStatusController} - The endpoint of Spring WebFlux applications</li>
+ * </ul>
+ *
+ * <p>All beans are created with {@code @ConditionalOnMissingBean} to allow for custom implementations.
+ */
+@AutoConfiguration(after = KonnectAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "konnect.api.sse", name = "enabled", havingValue = "true")
+@ConditionalOnBean(KonnectTemplate.class)
+public class KonnectPaymentStatusAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(KonnectPaymentStatusAutoConfiguration.class);
+
+    /**
+     * Creates the broadcaster pushing payment status changes to the open streams.
+     * The open streams are closed when the application context shuts down.
+     *
+     * @param konnectTemplate the KonnectTemplate fetching the current status of newly subscribed payments, bypassing the cache
+     * @param properties      the Konnect configuration properties
+     * @return a PaymentStatusBroadcaster instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public PaymentStatusBroadcaster konnectPaymentStatusBroadcaster(KonnectTemplate konnectTemplate, KonnectProperties properties) {
+        KonnectProperties.KonnectSse sse = properties.sse();
+        log.info("Initializing Konnect payment status stream at {} (heartbeat: {}, idle timeout: {})",
+                sse.path(), sse.heartbeatInterval(), sse.idleTimeout());
+        return new PaymentStatusBroadcaster(konnectTemplate::refreshPaymentDetails, sse.heartbeatInterval(), sse.idleTimeout());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletPaymentStatusConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        KonnectPaymentStatusController konnectPaymentStatusController(PaymentStatusBroadcaster broadcaster) {
+            return new KonnectPaymentStatusController(broadcaster);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @ConditionalOnClass(Flux.class)
+    static class ReactivePaymentStatusConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        ReactiveKonnectPaymentStatusController reactiveKonnectPaymentStatusController(PaymentStatusBroadcaster broadcaster) {
+            return new ReactiveKonnectPaymentStatusController(broadcaster);
+        }
+    }
+}
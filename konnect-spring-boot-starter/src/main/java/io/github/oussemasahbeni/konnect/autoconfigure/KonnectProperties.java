@@ -1,17 +1,29 @@
 package io.github.oussemasahbeni.konnect.autoconfigure;
 
 
+import io.github.oussemasahbeni.konnect.client.KonnectOperation;
+import io.github.oussemasahbeni.konnect.core.KonnectWebhookQueue;
 import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentMethod;
 import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentType;
 import io.github.oussemasahbeni.konnect.model.enums.KonnectTheme;
 import io.github.oussemasahbeni.konnect.model.enums.KonnectToken;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import org.hibernate.validator.constraints.URL;
+import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.validation.annotation.Validated;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Configuration properties for Konnect payment defaults
@@ -34,9 +46,193 @@ public record KonnectProperties(
         String webhookUrl,
 
         @DefaultValue
-        KonnectPaymentDefaults defaults
+        KonnectPaymentDefaults defaults,
+
+        @Valid
+        @DefaultValue
+        KonnectHttp http,
+
+        @Valid
+        @DefaultValue
+        KonnectOperations operations,
+
+        @Valid
+        @DefaultValue
+        KonnectPaymentDetails paymentDetails,
+
+        @Valid
+        @DefaultValue
+        KonnectWebhook webhook,
+
+        @Valid
+        @DefaultValue
+        KonnectPolling polling,
+
+        @Valid
+        @DefaultValue
+        KonnectSse sse,
+
+        @Valid
+        @DefaultValue
+        KonnectConcurrency concurrency,
+
+        @Valid
+        @DefaultValue
+        KonnectRetry retry,
+
+        @Valid
+        @DefaultValue
+        KonnectBulkhead bulkhead,
+
+        @Valid
+        @DefaultValue
+        KonnectScheduling scheduling,
+
+        @Valid
+        @DefaultValue
+        KonnectTenancy tenancy
 ) {
 
+    public KonnectProperties {
+        operations = operations != null ? operations : new KonnectOperations(null, null);
+    }
+
+    /**
+     * Creates the properties of a tenant, calling Konnect with its own API key and receiver wallet while sharing
+     * every other setting with these properties.
+     *
+     * @param key              the API key of the tenant
+     * @param receiverWalletId the wallet receiving the payments of the tenant, or null to use the shared one
+     * @param webhookUrl       the webhook notified of the payments of the tenant, or null to use the shared one
+     * @param defaults         the payment defaults of the tenant, or null to use the shared ones
+     * @return the properties of the tenant
+     */
+    public KonnectProperties forTenant(String key, String receiverWalletId, String webhookUrl,
+                                       KonnectPaymentDefaults defaults) {
+        return new KonnectProperties(baseUrl, key,
+                receiverWalletId != null ? receiverWalletId : this.receiverWalletId,
+                webhookUrl != null ? webhookUrl : this.webhookUrl,
+                defaults != null ? defaults : this.defaults,
+                http, operations, paymentDetails, webhook, polling, sse, concurrency, retry, bulkhead, scheduling, tenancy);
+    }
+
+    /**
+     * Gets the read timeout of the given operation, falling back to {@code konnect.api.http.read-timeout}.
+     *
+     * @param operation the operation
+     * @return the maximum time to wait for a response of the operation
+     */
+    public Duration readTimeout(KonnectOperation operation) {
+        Duration readTimeout = operations.get(operation).readTimeout();
+        return readTimeout != null ? readTimeout : http.readTimeout();
+    }
+
+    /**
+     * Gets the default deadline of the calls of the given operation, {@code konnect.api.operations.<name>.deadline}.
+     *
+     * @param operation the operation
+     * @return the maximum time a call may take, retries included, or null if calls are not bounded
+     */
+    public Duration deadline(KonnectOperation operation) {
+        return operations.get(operation).deadline();
+    }
+
+    /**
+     * Gets the maximum adaptive concurrency limit of the given operation, falling back to
+     * {@code konnect.api.concurrency.max-limit}.
+     *
+     * @param operation the operation
+     * @return the highest number of requests of the operation allowed in flight
+     */
+    public int maxConcurrency(KonnectOperation operation) {
+        Integer maxConcurrency = operations.get(operation).maxConcurrency();
+        return maxConcurrency != null ? maxConcurrency : concurrency.maxLimit();
+    }
+
+    /**
+     * Gets the size of the bulkhead of the given operation, falling back to
+     * {@code konnect.api.bulkhead.max-concurrent-calls}.
+     *
+     * @param operation the operation
+     * @return the highest number of calls of the operation allowed in flight
+     */
+    public int maxConcurrentCalls(KonnectOperation operation) {
+        Integer maxConcurrentCalls = operations.get(operation).maxConcurrentCalls();
+        return maxConcurrentCalls != null ? maxConcurrentCalls : bulkhead.maxConcurrentCalls();
+    }
+
+    /**
+     * Gets how long a call of the given operation may wait for room in its bulkhead, falling back to
+     * {@code konnect.api.bulkhead.max-wait}.
+     *
+     * @param operation the operation
+     * @return the longest wait before the call is rejected
+     */
+    public Duration maxWait(KonnectOperation operation) {
+        Duration maxWait = operations.get(operation).maxWait();
+        return maxWait != null ? maxWait : bulkhead.maxWait();
+    }
+
+    /**
+     * Gets the size of the connection pool dedicated to the given operation, falling back to the size of its bulkhead
+     * when bulkheads are enabled, or else to {@code konnect.api.http.max-connections}.
+     *
+     * @param operation the operation
+     * @return the maximum number of pooled connections of the operation
+     */
+    public int maxConnections(KonnectOperation operation) {
+        Integer maxConnections = operations.get(operation).maxConnections();
+        if (maxConnections != null) {
+            return maxConnections;
+        }
+        return bulkhead.enabled() ? maxConcurrentCalls(operation) : http.maxConnections();
+    }
+
+    /**
+     * Gets the connect timeout of the given operation, falling back to {@code konnect.api.http.connect-timeout}.
+     *
+     * @param operation the operation
+     * @return the maximum time to establish a connection for the operation
+     */
+    public Duration connectTimeout(KonnectOperation operation) {
+        Duration connectTimeout = operations.get(operation).connectTimeout();
+        return connectTimeout != null ? connectTimeout : http.connectTimeout();
+    }
+
+    /**
+     * Tells whether the given operation gets an HTTP client and a connection pool of its own: when bulkheads are
+     * enabled, or when it overrides the connect timeout or the pool size.
+     *
+     * @param operation the operation
+     * @return true if the operation does not share the HTTP client of the other operations
+     */
+    public boolean hasOwnTransport(KonnectOperation operation) {
+        return bulkhead.enabled() || operations.get(operation).overridesTransport();
+    }
+
+    /**
+     * Tells whether failed calls of the given operation are retried by the {@code konnect-api} retry,
+     * {@code konnect.api.operations.<name>.retry}, true by default.
+     *
+     * @param operation the operation
+     * @return false if failed calls of the operation are never retried
+     */
+    public boolean retryEnabled(KonnectOperation operation) {
+        return !Boolean.FALSE.equals(operations.get(operation).retry());
+    }
+
+    /**
+     * Gets the longest {@code Retry-After} delay the retry waits for on the given operation, falling back to
+     * {@code konnect.api.retry.max-retry-after}.
+     *
+     * @param operation the operation
+     * @return the longest delay requested by Konnect that the retry waits for
+     */
+    public Duration maxRetryAfter(KonnectOperation operation) {
+        Duration maxRetryAfter = operations.get(operation).maxRetryAfter();
+        return maxRetryAfter != null ? maxRetryAfter : retry.maxRetryAfter();
+    }
+
     public record KonnectPaymentDefaults(
             @DefaultValue("TND")
             KonnectToken konnectToken,
@@ -54,4 +250,657 @@ public record KonnectProperties(
     ) {
     }
 
+    /**
+     * HTTP transport settings shared by every call made to the Konnect API.
+     *
+     * @param transport                the HTTP client implementation backing the Konnect RestClient
+     * @param version                  the preferred HTTP protocol version, used by the {@code JDK} transport
+     * @param connectTimeout           the maximum time to establish a connection
+     * @param readTimeout              the default maximum time to wait for a response
+     * @param maxConnections           the maximum number of pooled connections, used by the {@code APACHE} transport
+     * @param connectionRequestTimeout the maximum time to wait for a pooled connection, used by the {@code APACHE} transport
+     * @param evictIdleAfter           the time after which idle pooled connections are closed, used by the {@code APACHE} transport
+     * @param keepAlive                the maximum time a pooled connection is kept alive, used by the {@code APACHE} transport
+     */
+    public record KonnectHttp(
+            @NotNull
+            @DefaultValue("JDK")
+            Transport transport,
+            @NotNull
+            @DefaultValue("HTTP_2")
+            HttpClient.Version version,
+            @NotNull
+            @DurationMin(millis = 1)
+            @DefaultValue("5s")
+            Duration connectTimeout,
+            @NotNull
+            @DurationMin(millis = 1)
+            @DefaultValue("30s")
+            Duration readTimeout,
+            @Positive
+            @DefaultValue("200")
+            int maxConnections,
+            @NotNull
+            @DefaultValue("5s")
+            Duration connectionRequestTimeout,
+            @NotNull
+            @DefaultValue("30s")
+            Duration evictIdleAfter,
+            @NotNull
+            @DefaultValue("60s")
+            Duration keepAlive
+    ) {
+
+        /**
+         * The HTTP client implementations that can back the Konnect RestClient.
+         */
+        public enum Transport {
+
+            /** JDK {@link HttpClient}, multiplexing requests over HTTP/2 when the server supports it */
+            JDK,
+
+            /** Apache HttpClient 5 with a pooled connection manager, requires {@code httpclient5} on the classpath */
+            APACHE,
+
+            /** {@link java.net.HttpURLConnection}, without connection pool tuning */
+            SIMPLE
+        }
+    }
+
+    /**
+     * Per-operation settings, bound under {@code konnect.api.operations.<name>}.
+     *
+     * @param initPayment the settings of the {@code init-payment} operation
+     * @param getPayment  the settings of the {@code get-payment} operation
+     */
+    public record KonnectOperations(
+            @Valid
+            @DefaultValue
+            KonnectOperationSettings initPayment,
+            @Valid
+            @DefaultValue
+            KonnectOperationSettings getPayment
+    ) {
+
+        public KonnectOperations {
+            initPayment = initPayment != null ? initPayment : KonnectOperationSettings.NONE;
+            getPayment = getPayment != null ? getPayment : KonnectOperationSettings.NONE;
+        }
+
+        /**
+         * Gets the settings of the given operation.
+         *
+         * @param operation the operation
+         * @return the settings of the operation
+         */
+        public KonnectOperationSettings get(KonnectOperation operation) {
+            return switch (operation) {
+                case INIT_PAYMENT -> initPayment;
+                case GET_PAYMENT -> getPayment;
+            };
+        }
+    }
+
+    /**
+     * Settings applied to a single Konnect API operation.
+     * Unset values fall back to the shared {@link KonnectHttp}, {@link KonnectBulkhead} and {@link KonnectRetry}
+     * settings. An operation overriding the connect timeout or the pool size gets an HTTP client of its own.
+     *
+     * @param readTimeout        the maximum time to wait for a response of this operation
+     * @param maxConcurrency     the highest adaptive concurrency limit of this operation
+     * @param deadline           the maximum time a call of this operation may take, retries included, when the
+     *                           caller set no {@link io.github.oussemasahbeni.konnect.client.KonnectDeadline}
+     * @param maxConcurrentCalls the size of the bulkhead of this operation
+     * @param maxWait            how long a call of this operation may wait for room in its bulkhead
+     * @param maxConnections     the size of the connection pool of this operation, used by the {@code APACHE} transport
+     * @param connectTimeout     the maximum time to establish a connection for this operation
+     * @param retry              whether failed calls of this operation are retried by the {@code konnect-api} retry,
+     *                           e.g. false for an operation that must never be sent twice
+     * @param maxRetryAfter      the longest {@code Retry-After} delay the retry waits for on this operation
+     */
+    public record KonnectOperationSettings(
+            @DurationMin(millis = 1)
+            Duration readTimeout,
+            @Positive
+            Integer maxConcurrency,
+            @DurationMin(millis = 1)
+            Duration deadline,
+            @Positive
+            Integer maxConcurrentCalls,
+            Duration maxWait,
+            @Positive
+            Integer maxConnections,
+            @DurationMin(millis = 1)
+            Duration connectTimeout,
+            Boolean retry,
+            Duration maxRetryAfter
+    ) {
+
+        /** The settings of an operation overriding none of the shared ones */
+        static final KonnectOperationSettings NONE =
+                new KonnectOperationSettings(null, null, null, null, null, null, null, null, null);
+
+        public KonnectOperationSettings {
+            if (maxWait != null && maxWait.isNegative()) {
+                throw new IllegalArgumentException("The max-wait of an operation must not be negative: " + maxWait);
+            }
+            if (maxRetryAfter != null && maxRetryAfter.isNegative()) {
+                throw new IllegalArgumentException("The max-retry-after of an operation must not be negative: " + maxRetryAfter);
+            }
+        }
+
+        /**
+         * Tells whether this operation gets an HTTP client of its own even without bulkheads, because it overrides a
+         * setting of the client itself.
+         *
+         * @return true if the connect timeout or the connection pool size is overridden
+         */
+        boolean overridesTransport() {
+            return connectTimeout != null || maxConnections != null;
+        }
+    }
+
+    /**
+     * Optional features applied to payment details lookups, bound under {@code konnect.api.payment-details}.
+     *
+     * @param coalescing    the single-flight coalescing of concurrent lookups
+     * @param cache         the status-aware cache of payment details
+     * @param bulk          the bulk lookups of many payments
+     * @param hedging       the hedging of slow lookups
+     * @param staleFallback the last known details served while the Konnect API is unavailable
+     */
+    public record KonnectPaymentDetails(
+            @Valid
+            @DefaultValue
+            KonnectCoalescing coalescing,
+            @Valid
+            @DefaultValue
+            KonnectPaymentDetailsCache cache,
+            @Valid
+            @DefaultValue
+            KonnectBulk bulk,
+            @Valid
+            @DefaultValue
+            KonnectHedging hedging,
+            @Valid
+            @DefaultValue
+            KonnectStaleFallback staleFallback
+    ) {
+    }
+
+    /**
+     * Single-flight coalescing of concurrent lookups for the same payment reference.
+     *
+     * @param enabled whether concurrent lookups for the same reference share a single API call
+     */
+    public record KonnectCoalescing(
+            @DefaultValue("false")
+            boolean enabled
+    ) {
+    }
+
+    /**
+     * Status-aware cache of payment details.
+     * Pending payments are never served past the end of their lifespan, their expiration date or else
+     * {@code konnect.api.defaults.lifespan} minutes after their creation.
+     *
+     * @param enabled            whether payment details are cached
+     * @param terminalTimeToLive how long completed and expired payments are kept
+     * @param pendingTimeToLive  how long pending payments are kept at most
+     * @param maximumSize        the maximum number of cached payments
+     */
+    public record KonnectPaymentDetailsCache(
+            @DefaultValue("false")
+            boolean enabled,
+            @NotNull
+            @DefaultValue("1h")
+            Duration terminalTimeToLive,
+            @NotNull
+            @DefaultValue("5s")
+            Duration pendingTimeToLive,
+            @Positive
+            @DefaultValue("10000")
+            long maximumSize
+    ) {
+    }
+
+    /**
+     * Bulk lookups of many payments, run in parallel on virtual threads.
+     *
+     * @param parallelism the maximum number of lookups in flight for a single bulk request
+     */
+    public record KonnectBulk(
+            @Positive
+            @DefaultValue("8")
+            int parallelism
+    ) {
+    }
+
+    /**
+     * Hedging of slow payment details lookups: a lookup slower than a percentile of recent latencies is sent a
+     * second time, and the first response wins.
+     *
+     * @param enabled     whether slow lookups are hedged
+     * @param percentile  the percentile of recent latencies after which a lookup is hedged
+     * @param minDelay    the minimum time to wait before hedging a lookup
+     * @param minSamples  the number of latencies to record over the window before hedging
+     * @param budgetRatio the maximum number of hedges per lookup, capping the extra load sent to Konnect
+     * @param window      the sliding window over which latencies, lookups and hedges are counted
+     */
+    public record KonnectHedging(
+            @DefaultValue("false")
+            boolean enabled,
+            @DecimalMin("0.5")
+            @DecimalMax("1.0")
+            @DefaultValue("0.95")
+            double percentile,
+            @NotNull
+            @DefaultValue("20ms")
+            Duration minDelay,
+            @Positive
+            @DefaultValue("100")
+            int minSamples,
+            @DecimalMin("0.0")
+            @DecimalMax("1.0")
+            @DefaultValue("0.05")
+            double budgetRatio,
+            @NotNull
+            @DefaultValue("60s")
+            Duration window
+    ) {
+    }
+
+    /**
+     * Degraded mode of payment details lookups: while the {@code konnect-api} circuit breaker is open, completed and
+     * expired payments are served from their last known details, as stale lookups.
+     *
+     * @param enabled     whether the last known details are served while the circuit breaker is open
+     * @param timeToLive  how long the last known details of a payment are kept
+     * @param maximumSize the maximum number of payments whose details are kept
+     */
+    public record KonnectStaleFallback(
+            @DefaultValue("false")
+            boolean enabled,
+            @NotNull
+            @DefaultValue("24h")
+            Duration timeToLive,
+            @Positive
+            @DefaultValue("10000")
+            long maximumSize
+    ) {
+    }
+
+    /**
+     * Webhook processing settings, bound under {@code konnect.api.webhook}.
+     *
+     * @param queue         the asynchronous ingestion of webhooks
+     * @param deduplication the suppression of duplicate webhooks
+     */
+    public record KonnectWebhook(
+            @Valid
+            @DefaultValue
+            KonnectWebhookQueueSettings queue,
+            @Valid
+            @DefaultValue
+            KonnectWebhookDeduplication deduplication
+    ) {
+    }
+
+    /**
+     * Asynchronous ingestion of webhooks through a bounded queue.
+     *
+     * @param enabled         whether the {@link KonnectWebhookQueue} is created
+     * @param capacity        the maximum number of queued webhooks
+     * @param overflowPolicy  what happens to a webhook submitted while the queue is full
+     * @param workers         the number of workers processing queued webhooks
+     * @param shutdownTimeout how long the queued webhooks may take to be processed on shutdown
+     */
+    public record KonnectWebhookQueueSettings(
+            @DefaultValue("false")
+            boolean enabled,
+            @Positive
+            @DefaultValue("1000")
+            int capacity,
+            @NotNull
+            @DefaultValue("REJECT")
+            KonnectWebhookQueue.OverflowPolicy overflowPolicy,
+            @Positive
+            @DefaultValue("4")
+            int workers,
+            @NotNull
+            @DefaultValue("10s")
+            Duration shutdownTimeout
+    ) {
+    }
+
+    /**
+     * Suppression of duplicate webhooks, backed by an in-memory store unless a
+     * {@link io.github.oussemasahbeni.konnect.core.WebhookDeduplicationStore} bean is defined.
+     *
+     * @param enabled     whether duplicate webhooks are suppressed
+     * @param timeToLive  how long payments whose terminal status was handled are remembered
+     * @param maximumSize the maximum number of remembered payments
+     * @param stripes     the number of independently locked stripes of the in-memory store
+     */
+    public record KonnectWebhookDeduplication(
+            @DefaultValue("false")
+            boolean enabled,
+            @NotNull
+            @DefaultValue("24h")
+            Duration timeToLive,
+            @Positive
+            @DefaultValue("100000")
+            long maximumSize,
+            @Positive
+            @DefaultValue("16")
+            int stripes
+    ) {
+    }
+
+    /**
+     * Polling of the status of initiated payments, as a safety net for lost webhooks, bound under
+     * {@code konnect.api.polling}. Polls of a payment are spaced by an exponential backoff with jitter.
+     *
+     * @param enabled       whether payments initiated with the KonnectTemplate are polled
+     * @param initialDelay  the delay before the first poll
+     * @param maxDelay      the maximum delay between two polls
+     * @param multiplier    the factor applied to the delay after each poll
+     * @param jitter        the maximum fraction of each delay randomly removed, between 0 and 1
+     * @param tickDuration  the precision of the timing wheel scheduling the polls
+     * @param ticksPerWheel the number of buckets of the timing wheel
+     * @param parallelism   the maximum number of polls in flight
+     */
+    public record KonnectPolling(
+            @DefaultValue("false")
+            boolean enabled,
+            @NotNull
+            @DefaultValue("10s")
+            Duration initialDelay,
+            @NotNull
+            @DefaultValue("5m")
+            Duration maxDelay,
+            @DecimalMin("1.0")
+            @DefaultValue("2.0")
+            double multiplier,
+            @DecimalMin(value = "0.0", inclusive = false)
+            @DecimalMax("1.0")
+            @DefaultValue("0.5")
+            double jitter,
+            @NotNull
+            @DefaultValue("100ms")
+            Duration tickDuration,
+            @Positive
+            @DefaultValue("512")
+            int ticksPerWheel,
+            @Positive
+            @DefaultValue("8")
+            int parallelism
+    ) {
+    }
+
+    /**
+     * Server-Sent Events endpoint streaming payment status changes to browsers, bound under {@code konnect.api.sse}.
+     *
+     * @param enabled           whether the endpoint is exposed
+     * @param path              the path of the endpoint, with a {@code {paymentRef}} variable
+     * @param heartbeatInterval the interval between two heartbeats sent to keep idle streams open
+     * @param idleTimeout       how long a stream may receive no status change before it is closed
+     */
+    public record KonnectSse(
+            @DefaultValue("false")
+            boolean enabled,
+            @NotBlank
+            @DefaultValue("/konnect/payments/{paymentRef}/events")
+            String path,
+            @NotNull
+            @DefaultValue("15s")
+            Duration heartbeatInterval,
+            @NotNull
+            @DefaultValue("10m")
+            Duration idleTimeout
+    ) {
+    }
+
+    /**
+     * Limiting of the requests in flight to the Konnect API, bound under {@code konnect.api.concurrency}.
+     * In {@code ADAPTIVE} mode, each operation gets its own limit, adjusted from the observed latency and from
+     * {@code 429} and {@code 5xx} responses, between {@code min-limit} and {@code max-limit} or
+     * {@code konnect.api.operations.<name>.max-concurrency}.
+     *
+     * @param mode         how requests in flight are limited
+     * @param algorithm    the algorithm adjusting the limit in {@code ADAPTIVE} mode
+     * @param initialLimit the limit of each operation before any request completed
+     * @param minLimit     the lowest limit of each operation
+     * @param maxLimit     the highest limit of each operation
+     * @param backoffRatio the factor applied to the limit after a throttled or failed request
+     * @param timeout      the latency above which the {@code AIMD} algorithm handles a request as failed
+     * @param maxWait      how long a request may wait for the limit of its operation before being rejected
+     */
+    public record KonnectConcurrency(
+            @NotNull
+            @DefaultValue("STATIC")
+            Mode mode,
+            @NotNull
+            @DefaultValue("GRADIENT")
+            Algorithm algorithm,
+            @Positive
+            @DefaultValue("10")
+            int initialLimit,
+            @Positive
+            @DefaultValue("1")
+            int minLimit,
+            @Positive
+            @DefaultValue("100")
+            int maxLimit,
+            @DecimalMin(value = "0.0", inclusive = false)
+            @DecimalMax(value = "1.0", inclusive = false)
+            @DefaultValue("0.9")
+            double backoffRatio,
+            @NotNull
+            @DefaultValue("5s")
+            Duration timeout,
+            @NotNull
+            @DefaultValue("0s")
+            Duration maxWait
+    ) {
+
+        /**
+         * The ways requests in flight to the Konnect API are limited.
+         */
+        public enum Mode {
+
+            /** Only the {@code konnect-api} Resilience4j rate limiter, when configured */
+            STATIC,
+
+            /** A concurrency limit per operation adapting to the latency and errors of the Konnect API */
+            ADAPTIVE
+        }
+
+        /**
+         * The algorithms adjusting the concurrency limit in {@code ADAPTIVE} mode.
+         */
+        public enum Algorithm {
+
+            /** Additive increase after successful requests, multiplicative decrease after failed or slow ones */
+            AIMD,
+
+            /** Shrinks the limit as latency rises above its long-term average, before errors occur */
+            GRADIENT
+        }
+    }
+
+    /**
+     * Safeguards of the Resilience4j {@code konnect-api} retry, bound under {@code konnect.api.retry}.
+     *
+     * @param budget        the cap on retries relative to the requests sent
+     * @param maxRetryAfter the longest {@code Retry-After} delay the retry waits for, calls asked to wait longer
+     *                      are not retried
+     */
+    public record KonnectRetry(
+            @Valid
+            @DefaultValue
+            KonnectRetryBudgetSettings budget,
+            @NotNull
+            @DefaultValue("30s")
+            Duration maxRetryAfter
+    ) {
+    }
+
+    /**
+     * Retry budget capping retries to a fraction of the requests sent over a sliding window.
+     *
+     * @param enabled             whether retries are capped
+     * @param ratio               the maximum number of retries per request sent
+     * @param minRetriesPerSecond the number of retries per second allowed regardless of the requests sent
+     * @param window              the sliding window over which requests and retries are counted
+     */
+    public record KonnectRetryBudgetSettings(
+            @DefaultValue("true")
+            boolean enabled,
+            @DecimalMin("0.0")
+            @DefaultValue("0.1")
+            double ratio,
+            @PositiveOrZero
+            @DefaultValue("1")
+            int minRetriesPerSecond,
+            @NotNull
+            @DefaultValue("10s")
+            Duration window
+    ) {
+    }
+
+    /**
+     * Bulkheads isolating the calls of each operation, bound under {@code konnect.api.bulkhead}.
+     * When enabled, each operation gets its own connection pool and a semaphore bounding its calls in flight,
+     * so that a burst of {@code get-payment} lookups cannot starve {@code init-payment} calls.
+     * Sizes and waits can be overridden per operation under {@code konnect.api.operations.<name>}.
+     *
+     * @param enabled            whether calls are isolated per operation
+     * @param maxConcurrentCalls the number of calls of each operation allowed in flight
+     * @param maxWait            how long a call may wait for room in the bulkhead of its operation before being rejected
+     */
+    public record KonnectBulkhead(
+            @DefaultValue("false")
+            boolean enabled,
+            @Positive
+            @DefaultValue("25")
+            int maxConcurrentCalls,
+            @NotNull
+            @DefaultValue("0s")
+            Duration maxWait
+    ) {
+    }
+
+    /**
+     * Priority-aware scheduling of the calls to the Konnect API, bound under {@code konnect.api.scheduling}.
+     * When enabled, calls share {@code max-concurrent-calls} slots, handed out to the highest
+     * {@link io.github.oussemasahbeni.konnect.client.KonnectPriority priority} first. Lower priorities only use the
+     * share of the slots, and of the Konnect rate limit quota, left to them; once the quota left falls below what is
+     * reserved for higher priorities, they wait for the quota to reset.
+     *
+     * @param enabled            whether calls are scheduled by priority
+     * @param maxConcurrentCalls the number of calls allowed in flight, all priorities together
+     * @param webhookShare       the share of the slots and of the quota webhook lookups may use
+     * @param backgroundShare    the share of the slots and of the quota polls and bulk lookups may use
+     * @param maxWait            how long a call may wait for a slot before being rejected
+     * @param starvationTimeout  how long a call may wait before being served like an interactive call
+     * @param throttleBackoff    how long lower priorities wait after a throttled response that does not tell when
+     *                           the quota resets
+     */
+    public record KonnectScheduling(
+            @DefaultValue("false")
+            boolean enabled,
+            @Positive
+            @DefaultValue("20")
+            int maxConcurrentCalls,
+            @DecimalMin(value = "0.0", inclusive = false)
+            @DecimalMax("1.0")
+            @DefaultValue("0.8")
+            double webhookShare,
+            @DecimalMin(value = "0.0", inclusive = false)
+            @DecimalMax("1.0")
+            @DefaultValue("0.5")
+            double backgroundShare,
+            @NotNull
+            @DefaultValue("2s")
+            Duration maxWait,
+            @NotNull
+            @DefaultValue("500ms")
+            Duration starvationTimeout,
+            @NotNull
+            @DefaultValue("1s")
+            Duration throttleBackoff
+    ) {
+    }
+
+    /**
+     * Templates calling Konnect on behalf of many merchants, bound under {@code konnect.api.tenancy}.
+     * When enabled, a {@link io.github.oussemasahbeni.konnect.core.KonnectTemplateRegistry} creates the template of
+     * each tenant the first time it is asked for, and forgets the least recently used tenants beyond
+     * {@code max-tenants}. Every tenant shares the HTTP client and connection pools of the starter.
+     *
+     * @param enabled    whether the template registry is created
+     * @param maxTenants the number of tenants whose template is kept at most
+     * @param rateLimit  the rate limit applied to the calls of each tenant
+     * @param tenants    the tenants known from the configuration, by id, when no
+     *                   {@link io.github.oussemasahbeni.konnect.core.KonnectTenantResolver} bean is defined
+     */
+    public record KonnectTenancy(
+            @DefaultValue("false")
+            boolean enabled,
+            @Positive
+            @DefaultValue("1000")
+            int maxTenants,
+            @Valid
+            @DefaultValue
+            KonnectTenantRateLimit rateLimit,
+            Map<String, @Valid KonnectTenantSettings> tenants
+    ) {
+
+        public KonnectTenancy {
+            tenants = tenants != null ? Map.copyOf(tenants) : Map.of();
+        }
+    }
+
+    /**
+     * The rate limit partition of each tenant, bound under {@code konnect.api.tenancy.rate-limit}. Each tenant gets
+     * {@code limit-for-period} calls per {@code limit-refresh-period}, so that one merchant cannot use up the capacity
+     * shared with the others.
+     *
+     * @param limitForPeriod     the number of calls a tenant may send per period, unlimited if absent
+     * @param limitRefreshPeriod the period after which the calls of each tenant are counted anew
+     * @param maxWait            how long a call may wait for the next period before being rejected
+     */
+    public record KonnectTenantRateLimit(
+            @Positive
+            Integer limitForPeriod,
+            @NotNull
+            @DurationMin(millis = 1)
+            @DefaultValue("1s")
+            Duration limitRefreshPeriod,
+            @NotNull
+            @DefaultValue("0s")
+            Duration maxWait
+    ) {
+    }
+
+    /**
+     * A tenant known from the configuration, bound under {@code konnect.api.tenancy.tenants.<id>}.
+     *
+     * @param key              the API key of the tenant
+     * @param receiverWalletId the wallet receiving the payments of the tenant, {@code konnect.api.receiver-wallet-id}
+     *                         if absent
+     * @param webhookUrl       the webhook notified of the payments of the tenant, {@code konnect.api.webhook-url}
+     *                         if absent
+     * @param defaults         the payment defaults of the tenant, replacing {@code konnect.api.defaults} as a whole
+     *                         when present
+     */
+    public record KonnectTenantSettings(
+            @NotBlank(message = "Konnect tenant API key cannot be blank")
+            String key,
+            String receiverWalletId,
+            String webhookUrl,
+            KonnectPaymentDefaults defaults
+    ) {
+    }
 }
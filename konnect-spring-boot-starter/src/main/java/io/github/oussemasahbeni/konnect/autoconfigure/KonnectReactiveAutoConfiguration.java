@@ -0,0 +1,139 @@
+package io.github.oussemasahbeni.konnect.autoconfigure;
+
+
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.oussemasahbeni.konnect.client.ReactiveKonnectClient;
+import io.github.oussemasahbeni.konnect.core.ReactiveKonnectTemplate;
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Spring Boot auto-configuration for the reactive Konnect integration.
+ * This configuration is activated when Spring WebFlux and Reactor Netty are on the classpath
+ * and the property {@code konnect.api.key} is present.
+ *
+ * <p>The auto-configuration will create the following beans:
+ * <ul>
+ *   <li>{@link ConnectionProvider} - Reactor Netty connection pool tuned with the {@code konnect.api.http.*} properties</li>
+ *   <li>{@link WebClient} - Pre-configured reactive HTTP client with authentication and base URL</li>
+ *   <li>{@link ReactiveKonnectClient} - Low-level reactive API client</li>
+ *   <li>{@link ReactiveKonnectTemplate} - High-level reactive template for common operations</li>
+ * </ul>
+ *
+ * <p>All beans are created with {@code @ConditionalOnMissingBean} to allow for custom implementations.
+ *
+ * @see KonnectProperties
+ * @see ReactiveKonnectTemplate
+ */
+@AutoConfiguration(after = KonnectAutoConfiguration.class)
+@ConditionalOnClass({WebClient.class, HttpClient.class})
+@EnableConfigurationProperties(KonnectProperties.class)
+@ConditionalOnProperty(prefix = "konnect.api", name = "key")
+public class KonnectReactiveAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(KonnectReactiveAutoConfiguration.class);
+
+    private final KonnectProperties properties;
+
+    /**
+     * Constructs the auto-configuration with the specified properties.
+     *
+     * @param properties the Konnect configuration properties
+     */
+    public KonnectReactiveAutoConfiguration(KonnectProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Creates the Reactor Netty connection pool used by the Konnect WebClient.
+     * The pool is disposed when the application context shuts down.
+     *
+     * @return a connection provider sized and evicted according to {@code konnect.api.http.*}
+     */
+    @Bean(name = "konnectConnectionProvider", destroyMethod = "dispose")
+    @ConditionalOnMissingBean(name = "konnectConnectionProvider")
+    ConnectionProvider konnectConnectionProvider() {
+        KonnectProperties.KonnectHttp http = properties.http();
+        return ConnectionProvider.builder("konnect")
+                .maxConnections(http.maxConnections())
+                .pendingAcquireTimeout(http.connectionRequestTimeout())
+                .maxIdleTime(http.evictIdleAfter())
+                .maxLifeTime(http.keepAlive())
+                .evictInBackground(http.evictIdleAfter())
+                .build();
+    }
+
+    /**
+     * Creates a pre-configured WebClient for making reactive requests to the Konnect API.
+     * The client is configured with:
+     * <ul>
+     *   <li>Base URL pointing to the Konnect API</li>
+     *   <li>Authentication header with the API key</li>
+     *   <li>Default content type set to application/json</li>
+     *   <li>The pooled Reactor Netty connector and its connection and read timeouts</li>
+     * </ul>
+     *
+     * @param konnectConnectionProvider the Reactor Netty connection pool
+     * @return a configured WebClient for Konnect API communication
+     */
+    @Bean(name = "konnectWebClient")
+    @ConditionalOnMissingBean(name = "konnectWebClient")
+    WebClient konnectWebClient(ConnectionProvider konnectConnectionProvider) {
+        log.info("Initializing Konnect WebClient with base URL: {}", properties.baseUrl());
+
+        KonnectProperties.KonnectHttp http = properties.http();
+        HttpClient httpClient = HttpClient.create(konnectConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(http.connectTimeout().toMillis()))
+                .responseTimeout(http.readTimeout());
+
+        return WebClient.builder()
+                .baseUrl(properties.baseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader("x-api-key", properties.key())
+                .defaultHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                .build();
+    }
+
+    /**
+     * Creates the ReactiveKonnectClient bean for low-level reactive API communication.
+     *
+     * @param konnectWebClient the pre-configured WebClient
+     * @param objectMapper     the ObjectMapper for error handling
+     * @return a ReactiveKonnectClient instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ReactiveKonnectClient reactiveKonnectClient(WebClient konnectWebClient, ObjectMapper objectMapper) {
+        log.info("Initializing ReactiveKonnectClient implementation.");
+        return new ReactiveKonnectClient(konnectWebClient, properties, objectMapper);
+    }
+
+    /**
+     * Creates the ReactiveKonnectTemplate bean for high-level reactive API operations.
+     *
+     * @param reactiveKonnectClient the reactive HTTP client
+     * @param konnectProperties     the configuration properties with defaults
+     * @return a ReactiveKonnectTemplate instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ReactiveKonnectTemplate reactiveKonnectTemplate(ReactiveKonnectClient reactiveKonnectClient, KonnectProperties konnectProperties) {
+        return new ReactiveKonnectTemplate(reactiveKonnectClient, konnectProperties);
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.oussemasahbeni.konnect.autoconfigure;
+
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.Order;
+
+import io.github.oussemasahbeni.konnect.client.KonnectInterceptorOrder;
+import io.github.oussemasahbeni.konnect.client.KonnectOperation;
+import io.github.oussemasahbeni.konnect.client.KonnectRetryBudget;
+import io.github.resilience4j.common.retry.configuration.RetryConfigCustomizer;
+
+/**
+ * Spring Boot auto-configuration preventing the Resilience4j {@code konnect-api} retry from causing retry storms.
+ * This configuration is activated when Resilience4j is on the classpath and the property {@code konnect.api.key}
+ * is present.
+ *
+ * <p>The auto-configuration will create the following beans:
+ * <ul>
+ *   <li>{@link KonnectRetryBudget} - Caps retries to a fraction of the requests sent, unless
+ *   {@code konnect.api.retry.budget.enabled} is {@code false}</li>
+ *   <li>{@link KonnectRetryConfigCustomizer} - Applies the budget and the {@code Retry-After} delays to the
+ *   {@code konnect-api} retry instance configured under {@code resilience4j.retry.instances}</li>
+ * </ul>
+ *
+ * <p>All beans are created with {@code @ConditionalOnMissingBean} to allow for custom implementations.
+ *
+ * @see KonnectRetryExceptionPredicate
+ */
+@AutoConfiguration(beforeName = "io.github.resilience4j.springboot3.retry.autoconfigure.RetryAutoConfiguration")
+@EnableConfigurationProperties(KonnectProperties.class)
+@ConditionalOnClass(RetryConfigCustomizer.class)
+@ConditionalOnProperty(prefix = "konnect.api", name = "key")
+public class KonnectRetryAutoConfiguration {
+
+    /**
+     * Creates the budget capping the retries of calls to the Konnect API, counting the requests sent by the
+     * Konnect RestClient. Created unless {@code konnect.api.retry.budget.enabled} is {@code false}.
+     *
+     * @param properties the Konnect configuration properties
+     * @return a KonnectRetryBudget instance
+     */
+    @Bean
+    @Qualifier("konnectRestClientInterceptor")
+    @Order(KonnectInterceptorOrder.RETRY_BUDGET)
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "konnect.api.retry.budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public KonnectRetryBudget konnectRetryBudget(KonnectProperties properties) {
+        KonnectProperties.KonnectRetryBudgetSettings budget = properties.retry().budget();
+        return new KonnectRetryBudget(budget.ratio(), budget.minRetriesPerSecond(), budget.window(), Clock.systemUTC());
+    }
+
+    /**
+     * Creates the customizer applying the retry budget, the delays requested by Konnect and the retry settings of
+     * each operation to the {@code konnect-api} retry.
+     *
+     * @param properties  the Konnect configuration properties
+     * @param retryBudget the optional retry budget
+     * @return a KonnectRetryConfigCustomizer instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "konnectRetryConfigCustomizer")
+    public RetryConfigCustomizer konnectRetryConfigCustomizer(KonnectProperties properties,
+                                                              ObjectProvider<KonnectRetryBudget> retryBudget) {
+        Map<KonnectOperation, Duration> operationMaxRetryAfter = new EnumMap<>(KonnectOperation.class);
+        Set<KonnectOperation> notRetried = EnumSet.noneOf(KonnectOperation.class);
+        for (KonnectOperation operation : KonnectOperation.values()) {
+            operationMaxRetryAfter.put(operation, properties.maxRetryAfter(operation));
+            if (!properties.retryEnabled(operation)) {
+                notRetried.add(operation);
+            }
+        }
+        return new KonnectRetryConfigCustomizer(retryBudget.getIfAvailable(), properties.retry().maxRetryAfter(),
+                operationMaxRetryAfter, notRetried);
+    }
+}
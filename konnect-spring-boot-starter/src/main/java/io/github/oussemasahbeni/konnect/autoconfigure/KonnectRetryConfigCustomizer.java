@@ -0,0 +1,146 @@
+package io.github.oussemasahbeni.konnect.autoconfigure;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import io.github.oussemasahbeni.konnect.client.KonnectDeadline;
+import io.github.oussemasahbeni.konnect.client.KonnectOperation;
+import io.github.oussemasahbeni.konnect.client.KonnectRetryBudget;
+import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
+import io.github.oussemasahbeni.konnect.exception.KonnectDeadlineExceededException;
+import io.github.oussemasahbeni.konnect.exception.KonnectTransportException;
+import io.github.resilience4j.common.retry.configuration.RetryConfigCustomizer;
+import io.github.resilience4j.core.IntervalBiFunction;
+import io.github.resilience4j.retry.RetryConfig;
+
+/**
+ * Customizes the Resilience4j {@code konnect-api} retry configured under {@code resilience4j.retry.instances.konnect-api}
+ * to prevent retry storms:
+ * <ul>
+ *   <li>A failed call is only retried while the {@link KonnectRetryBudget} has tokens left, on top of the configured
+ *   retry exception predicate.</li>
+ *   <li>The next attempt waits at least the delay Konnect asked for in the {@code Retry-After} or rate limit headers
+ *   of the error response, see {@link KonnectApiException#getRetryAfter()}, instead of the configured wait duration
+ *   when it is longer.</li>
+ *   <li>A call is not retried when Konnect asks to wait longer than {@code konnect.api.retry.max-retry-after},
+ *   or than the {@code max-retry-after} of its operation.</li>
+ *   <li>A call of an operation configured with {@code konnect.api.operations.<name>.retry=false} is never retried.</li>
+ *   <li>A call is not retried once its {@link KonnectDeadline} is reached, or when Konnect asks to wait past it.</li>
+ * </ul>
+ *
+ * <p>The operation of a failed call is read from its {@link KonnectApiException}, {@link KonnectTransportException}
+ * or {@link KonnectDeadlineExceededException}, so the settings of each operation apply to the blocking, non-blocking
+ * and reactive templates alike.
+ *
+ * <p>The customization wraps the predicate and interval configured by the properties, which it reads by building
+ * the configuration before changing it.
+ */
+public class KonnectRetryConfigCustomizer implements RetryConfigCustomizer {
+
+    private static final String RESILIENCE_CONFIG_NAME = "konnect-api";
+
+    private final KonnectRetryBudget retryBudget;
+
+    private final Duration maxRetryAfter;
+
+    private final Map<KonnectOperation, Duration> operationMaxRetryAfter;
+
+    private final Set<KonnectOperation> notRetried;
+
+    /**
+     * Constructs a new KonnectRetryConfigCustomizer applying the same settings to every operation.
+     *
+     * @param retryBudget   the budget capping retries, or null to retry without budget
+     * @param maxRetryAfter the longest delay requested by Konnect that the retry waits for
+     */
+    public KonnectRetryConfigCustomizer(KonnectRetryBudget retryBudget, Duration maxRetryAfter) {
+        this(retryBudget, maxRetryAfter, Map.of(), Set.of());
+    }
+
+    /**
+     * Constructs a new KonnectRetryConfigCustomizer with per-operation settings.
+     *
+     * @param retryBudget            the budget capping retries, or null to retry without budget
+     * @param maxRetryAfter          the longest delay requested by Konnect that the retry waits for
+     * @param operationMaxRetryAfter the longest delay the retry waits for on each operation overriding it
+     * @param notRetried             the operations whose failed calls are never retried
+     */
+    public KonnectRetryConfigCustomizer(KonnectRetryBudget retryBudget, Duration maxRetryAfter,
+                                        Map<KonnectOperation, Duration> operationMaxRetryAfter,
+                                        Set<KonnectOperation> notRetried) {
+        this.retryBudget = retryBudget;
+        this.maxRetryAfter = maxRetryAfter;
+        this.operationMaxRetryAfter = new EnumMap<>(KonnectOperation.class);
+        this.operationMaxRetryAfter.putAll(operationMaxRetryAfter);
+        this.notRetried = EnumSet.noneOf(KonnectOperation.class);
+        this.notRetried.addAll(notRetried);
+    }
+
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void customize(RetryConfig.Builder rawBuilder) {
+        RetryConfig.Builder<Object> builder = rawBuilder;
+        RetryConfig configured = builder.build();
+        Predicate<Throwable> exceptionPredicate = configured.getExceptionPredicate();
+        IntervalBiFunction<Object> interval = configured.getIntervalBiFunction();
+        builder.retryOnException(throwable -> {
+            KonnectOperation operation = operation(throwable);
+            return !notRetried.contains(operation)
+                    && exceptionPredicate.test(throwable)
+                    && !exceedsMaxRetryAfter(throwable, operation)
+                    && !exceedsDeadline(throwable)
+                    && (retryBudget == null || retryBudget.allowsRetry());
+        });
+        // The configured retry exceptions are part of the predicate read above, they would otherwise bypass it
+        builder.retryExceptions();
+        // Only invoked when the call is about to be retried
+        builder.intervalBiFunction((attempt, result) -> {
+            if (retryBudget != null) {
+                retryBudget.recordRetry();
+            }
+            long intervalMillis = interval.apply(attempt, result);
+            Duration retryAfter = result.isLeft() ? retryAfter(result.getLeft()) : null;
+            return retryAfter != null ? Math.max(intervalMillis, retryAfter.toMillis()) : intervalMillis;
+        });
+    }
+
+    @Override
+    public String name() {
+        return RESILIENCE_CONFIG_NAME;
+    }
+
+    private boolean exceedsMaxRetryAfter(Throwable throwable, KonnectOperation operation) {
+        Duration retryAfter = retryAfter(throwable);
+        if (retryAfter == null) {
+            return false;
+        }
+        Duration max = operation != null ? operationMaxRetryAfter.getOrDefault(operation, maxRetryAfter) : maxRetryAfter;
+        return retryAfter.compareTo(max) > 0;
+    }
+
+    private static boolean exceedsDeadline(Throwable throwable) {
+        KonnectDeadline deadline = KonnectDeadline.current();
+        if (deadline == null) {
+            return false;
+        }
+        Duration retryAfter = retryAfter(throwable);
+        return deadline.isExpired() || retryAfter != null && retryAfter.compareTo(deadline.remaining()) >= 0;
+    }
+
+    private static KonnectOperation operation(Throwable throwable) {
+        return switch (throwable) {
+            case KonnectApiException e -> e.getOperation();
+            case KonnectTransportException e -> e.getOperation();
+            case KonnectDeadlineExceededException e -> e.getKonnectOperation();
+            default -> null;
+        };
+    }
+
+    private static Duration retryAfter(Throwable throwable) {
+        return throwable instanceof KonnectApiException e ? e.getRetryAfter() : null;
+    }
+}
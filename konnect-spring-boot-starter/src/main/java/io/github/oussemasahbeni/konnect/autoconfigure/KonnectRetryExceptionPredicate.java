@@ -3,8 +3,12 @@ package io.github.oussemasahbeni.konnect.autoconfigure;
 import java.util.function.Predicate;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.util.ClassUtils;
 
 import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
+import io.github.oussemasahbeni.konnect.exception.KonnectDeadlineExceededException;
+import io.github.oussemasahbeni.konnect.exception.KonnectRejectedException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 
 /**
  * Custom exception predicate for Resilience4j retry mechanism.
@@ -14,7 +18,14 @@ import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
  * <p>The retry strategy follows best practices:
  * <ul>
  *   <li><strong>Retry on 5xx server errors</strong> - These are typically transient issues on the server side</li>
- *   <li><strong>Do NOT retry on 4xx client errors</strong> - These indicate problems with the request that won't be resolved by retrying</li>
+ *   <li><strong>Retry on 429 responses carrying a delay</strong> - Konnect tells when the request may be retried, see {@link KonnectApiException#getRetryAfter()}</li>
+ *   <li><strong>Do NOT retry on other 4xx client errors</strong> - These indicate problems with the request that won't be resolved by retrying</li>
+ *   <li><strong>Do NOT retry once the deadline is exceeded</strong> - The caller no longer waits for the result</li>
+ *   <li><strong>Do NOT retry calls rejected by the open circuit breaker</strong> - They must fail fast</li>
+ *   <li><strong>Do NOT retry calls rejected by a full bulkhead</strong> - They would only queue behind the calls filling it</li>
+ *   <li><strong>Do NOT retry calls rejected by the concurrency limit</strong> - Konnect is already given all the calls it can take</li>
+ *   <li><strong>Do NOT retry calls rejected by the priority scheduler</strong> - They gave way to more urgent calls</li>
+ *   <li><strong>Do NOT retry calls rejected by the rate limit of their tenant</strong> - The tenant used up its calls</li>
  *   <li><strong>Retry on other network issues</strong> - Connectivity problems, timeouts, etc.</li>
  * </ul>
  * 
@@ -28,8 +39,13 @@ import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
  * </pre>
  * 
  * @see io.github.oussemasahbeni.konnect.exception.KonnectApiException
+ * @see KonnectRetryConfigCustomizer
  */
 public class KonnectRetryExceptionPredicate implements Predicate<Throwable> {
+
+    private static final boolean CIRCUIT_BREAKER_PRESENT = ClassUtils.isPresent(
+            "io.github.resilience4j.circuitbreaker.CallNotPermittedException",
+            KonnectRetryExceptionPredicate.class.getClassLoader());
     
     /**
      * Tests whether the given throwable should trigger a retry attempt.
@@ -39,12 +55,24 @@ public class KonnectRetryExceptionPredicate implements Predicate<Throwable> {
      */
     @Override
     public boolean test(Throwable throwable) {
+        if (throwable instanceof KonnectDeadlineExceededException || throwable instanceof KonnectRejectedException
+                || isCallNotPermitted(throwable)) {
+            return false;
+        }
         if (throwable instanceof KonnectApiException e) {
-            // Do NOT retry on client errors (4xx), as they won't succeed.
+            // Retry throttled calls once Konnect said when; the KonnectRetryConfigCustomizer waits that long.
+            if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS.value() && e.getRetryAfter() != null) {
+                return true;
+            }
+            // Do NOT retry on other client errors (4xx), as they won't succeed.
             // Only retry on server errors (5xx).
             return HttpStatus.valueOf(e.getStatusCode()).is5xxServerError();
         }
         // Retry on other potential transient network issues.
         return true;
     }
+
+    private static boolean isCallNotPermitted(Throwable throwable) {
+        return CIRCUIT_BREAKER_PRESENT && throwable instanceof CallNotPermittedException;
+    }
 }
\ No newline at end of file
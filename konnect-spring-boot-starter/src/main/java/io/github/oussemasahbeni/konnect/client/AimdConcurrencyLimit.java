@@ -0,0 +1,58 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import java.time.Duration;
+
+/**
+ * Additive increase / multiplicative decrease {@link KonnectConcurrencyLimit}.
+ * The limit grows by one after each successful request sent while at least half of the limit was in use, and is
+ * multiplied by the backoff ratio after each dropped request or request slower than the timeout.
+ */
+public class AimdConcurrencyLimit implements KonnectConcurrencyLimit {
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double backoffRatio;
+
+    private final long timeoutNanos;
+
+    private volatile int limit;
+
+    /**
+     * Constructs a new AimdConcurrencyLimit.
+     *
+     * @param initialLimit the limit before any request completed
+     * @param minLimit     the lowest limit
+     * @param maxLimit     the highest limit
+     * @param backoffRatio the factor applied to the limit after a dropped request, between 0 and 1
+     * @param timeout      the latency above which a request is handled as dropped
+     */
+    public AimdConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio, Duration timeout) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= maxLimit");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.timeoutNanos = timeout.toNanos();
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (dropped || rttNanos > timeoutNanos) {
+            limit = Math.max(minLimit, (int) (limit * backoffRatio));
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+}
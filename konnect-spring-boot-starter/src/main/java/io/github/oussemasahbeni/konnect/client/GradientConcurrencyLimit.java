@@ -0,0 +1,86 @@
+package io.github.oussemasahbeni.konnect.client;
+
+/**
+ * Latency gradient {@link KonnectConcurrencyLimit}, in the spirit of TCP Vegas.
+ * It compares the latency of each request with a long-term average latency: while they match, the limit grows by a
+ * queue allowance of the square root of the limit; when requests get slower, queueing is building up on the Konnect
+ * side and the limit shrinks in proportion, by half at most. Dropped requests multiply the limit by the backoff ratio.
+ *
+ * <p>The limit does not grow while less than half of it is in use, so that a quiet period does not let a burst
+ * through, and the new limit is smoothed with the previous one.
+ */
+public class GradientConcurrencyLimit implements KonnectConcurrencyLimit {
+
+    private static final double RTT_TOLERANCE = 1.5;
+
+    private static final double SMOOTHING = 0.2;
+
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double backoffRatio;
+
+    private double estimatedLimit;
+
+    private double longRttNanos;
+
+    private volatile int limit;
+
+    /**
+     * Constructs a new GradientConcurrencyLimit.
+     *
+     * @param initialLimit the limit before any request completed
+     * @param minLimit     the lowest limit
+     * @param maxLimit     the highest limit
+     * @param backoffRatio the factor applied to the limit after a dropped request, between 0 and 1
+     */
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= maxLimit");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.estimatedLimit = limit;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (dropped) {
+            update(estimatedLimit * backoffRatio);
+            return;
+        }
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) / LONG_WINDOW;
+        }
+        // Let the long-term latency follow a lasting latency drop faster than the average would
+        if (longRttNanos > rttNanos * 2.0) {
+            longRttNanos *= 0.95;
+        }
+        if (inFlight * 2 < estimatedLimit) {
+            return;
+        }
+        double gradient = Math.clamp(RTT_TOLERANCE * longRttNanos / Math.max(rttNanos, 1), 0.5, 1.0);
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        update(estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+    }
+
+    private void update(double newLimit) {
+        estimatedLimit = Math.clamp(newLimit, minLimit, maxLimit);
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
+import io.github.oussemasahbeni.konnect.exception.KonnectErrorResponse;
+import io.github.oussemasahbeni.konnect.exception.KonnectTransportException;
+
+/**
+ * Maps Konnect API error responses to {@link KonnectApiException}s, and network failures to
+ * {@link KonnectTransportException}s, both carrying the operation of the failed request.
+ * Shared by the blocking and non-blocking clients so that every client reports errors the same way.
+ *
+ * <p>The delay before retrying is read from the {@code Retry-After} header, in seconds or as an HTTP date, and
+ * otherwise from the {@code RateLimit-Reset} or {@code X-RateLimit-Reset} header of throttled responses, in seconds
+ * or as an epoch timestamp. The rate limit headers of every response also tell the {@link KonnectPriorityScheduler}
+ * how much of the quota is left.
+ */
+final class KonnectApiErrors {
+
+    private static final String RETRY_AFTER = "Retry-After";
+
+    private static final String[] RATE_LIMIT_RESET = {"RateLimit-Reset", "X-RateLimit-Reset"};
+
+    private static final String[] RATE_LIMIT_REMAINING = {"RateLimit-Remaining", "X-RateLimit-Remaining"};
+
+    private static final String[] RATE_LIMIT_LIMIT = {"RateLimit-Limit", "X-RateLimit-Limit"};
+
+    /** Rate limit reset values above this are epoch seconds rather than delays */
+    private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+
+    private KonnectApiErrors() {
+    }
+
+    /**
+     * Creates the exception describing an error response.
+     *
+     * @param objectMapper The ObjectMapper to parse the error response.
+     * @param operation    The operation of the failed request.
+     * @param statusCode   The HTTP status code of the response.
+     * @param headers      The lookup of the first value of a response header by name.
+     * @param bodyBytes    The raw response body, possibly empty.
+     * @return the exception to throw
+     */
+    static KonnectApiException toException(ObjectMapper objectMapper, KonnectOperation operation, HttpStatusCode statusCode,
+                                           Function<String, String> headers, byte[] bodyBytes) {
+        Duration retryAfter = retryAfter(statusCode, headers, Instant.now());
+        if (bodyBytes == null || bodyBytes.length == 0) {
+            String msg = "Konnect API Error: No response body (status: " + statusCode + ")";
+            return new KonnectApiException(msg, statusCode.value(), null, null, retryAfter, operation);
+        }
+        try {
+            KonnectErrorResponse errorBody = objectMapper.readValue(bodyBytes, KonnectErrorResponse.class);
+            String message = "Konnect API Error: " + errorBody.errors().getFirst().message();
+            return new KonnectApiException(message, statusCode.value(), errorBody, null, retryAfter, operation);
+        } catch (IOException e) {
+            return unreadable(operation, statusCode, headers, e);
+        }
+    }
+
+    /**
+     * Creates the exception describing an error response whose body could not be read.
+     *
+     * @param operation  The operation of the failed request.
+     * @param statusCode The HTTP status code of the response.
+     * @param headers    The lookup of the first value of a response header by name.
+     * @param cause      The failure that prevented reading the body.
+     * @return the exception to throw
+     */
+    static KonnectApiException unreadable(KonnectOperation operation, HttpStatusCode statusCode,
+                                          Function<String, String> headers, Throwable cause) {
+        String msg = "Konnect API Error: Unable to parse error response (status: " + statusCode + ")";
+        return new KonnectApiException(msg, statusCode.value(), null, cause,
+                retryAfter(statusCode, headers, Instant.now()), operation);
+    }
+
+    /**
+     * Creates the exception describing a request that failed before a response was received.
+     *
+     * @param operation The operation of the failed request.
+     * @param cause     The network failure.
+     * @return the exception to throw
+     */
+    static KonnectTransportException transportFailure(KonnectOperation operation, Throwable cause) {
+        String msg = "I/O error on Konnect operation " + operation.getValue() + ": " + cause.getMessage();
+        return new KonnectTransportException(msg, operation, cause);
+    }
+
+    /**
+     * Reads the delay the API asks to wait before retrying from the headers of an error response.
+     *
+     * @param statusCode The HTTP status code of the response.
+     * @param headers    The lookup of the first value of a response header by name.
+     * @param now        The current time, to turn dates into delays.
+     * @return the delay before retrying, or null if the response does not specify one
+     */
+    static Duration retryAfter(HttpStatusCode statusCode, Function<String, String> headers, Instant now) {
+        String retryAfter = headers.apply(RETRY_AFTER);
+        if (retryAfter != null) {
+            return parseRetryAfter(retryAfter.trim(), now);
+        }
+        boolean throttled = statusCode.value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                || "0".equals(firstHeader(headers, RATE_LIMIT_REMAINING));
+        return throttled ? rateLimitReset(headers, now) : null;
+    }
+
+    /**
+     * Reads the share of the rate limit quota left from the headers of a response.
+     *
+     * @param headers The lookup of the first value of a response header by name.
+     * @return the remaining requests divided by the quota, between 0 and 1, or null if the response does not tell
+     */
+    static Double rateLimitRemaining(Function<String, String> headers) {
+        String remaining = firstHeader(headers, RATE_LIMIT_REMAINING);
+        String limit = firstHeader(headers, RATE_LIMIT_LIMIT);
+        if (remaining == null || limit == null) {
+            return null;
+        }
+        try {
+            // RateLimit-Limit may carry a quota policy after the limit, e.g. "100, 100;w=60"
+            long quota = Long.parseLong(limit.split("[,;]", 2)[0].trim());
+            long left = Long.parseLong(remaining.trim());
+            return quota > 0 ? Math.clamp((double) left / quota, 0.0, 1.0) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the delay until the rate limit quota is reset from the headers of a response.
+     *
+     * @param headers The lookup of the first value of a response header by name.
+     * @param now     The current time, to turn timestamps into delays.
+     * @return the delay until the reset, or null if the response does not specify one
+     */
+    static Duration rateLimitReset(Function<String, String> headers, Instant now) {
+        String reset = firstHeader(headers, RATE_LIMIT_RESET);
+        if (reset == null) {
+            return null;
+        }
+        try {
+            long value = Long.parseLong(reset.trim());
+            Duration delay = value > EPOCH_SECONDS_THRESHOLD
+                    ? Duration.between(now, Instant.ofEpochSecond(value))
+                    : Duration.ofSeconds(value);
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Duration parseRetryAfter(String value, Instant now) {
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+            // Not delta-seconds, expect an HTTP date
+        }
+        try {
+            Duration delay = Duration.between(now, ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String firstHeader(Function<String, String> headers, String[] names) {
+        for (String name : names) {
+            String value = headers.apply(name);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
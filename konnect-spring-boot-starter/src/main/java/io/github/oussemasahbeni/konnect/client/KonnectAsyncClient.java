@@ -0,0 +1,181 @@
+package io.github.oussemasahbeni.konnect.client;
+
+
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriBuilderFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.oussemasahbeni.konnect.autoconfigure.KonnectProperties;
+import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
+import io.github.oussemasahbeni.konnect.exception.KonnectTransportException;
+import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentRequest;
+import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentResponse;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+
+/**
+ * Non-blocking counterpart of {@link KonnectClient}, built on the JDK {@link HttpClient}.
+ * Every call returns immediately with a {@link CompletableFuture}; no thread is parked while
+ * the request is in flight, so a single node can fan out thousands of concurrent calls.
+ *
+ * <p>Error responses are mapped exactly like {@link KonnectClient} does: the returned future
+ * completes exceptionally with a {@link KonnectApiException}. Network failures complete it with a
+ * {@link KonnectTransportException}.
+ *
+ * <p>Cancelling a returned future aborts the underlying HTTP exchange.
+ *
+ * @see io.github.oussemasahbeni.konnect.core.KonnectAsyncTemplate
+ */
+public class KonnectAsyncClient {
+
+    private static final String API_KEY_HEADER = "x-api-key";
+
+    private final HttpClient httpClient;
+    private final UriBuilderFactory uriBuilderFactory;
+    private final String apiKey;
+    private final Map<KonnectOperation, Duration> readTimeouts = new EnumMap<>(KonnectOperation.class);
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+
+    /**
+     * Constructs a new KonnectAsyncClient.
+     *
+     * @param httpClient        The JDK HttpClient used to send the requests
+     * @param konnectProperties The configuration properties providing the base URL, API key and read timeouts
+     * @param objectMapper      The ObjectMapper for JSON processing and error handling
+     * @param executor          The default executor running response decoding and dependent stages
+     */
+    public KonnectAsyncClient(HttpClient httpClient, KonnectProperties konnectProperties, ObjectMapper objectMapper, Executor executor) {
+        this.httpClient = httpClient;
+        this.uriBuilderFactory = new DefaultUriBuilderFactory(konnectProperties.baseUrl());
+        this.apiKey = konnectProperties.key();
+        for (KonnectOperation operation : KonnectOperation.values()) {
+            this.readTimeouts.put(operation, konnectProperties.readTimeout(operation));
+        }
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+    }
+
+    /**
+     * Calls the Konnect API to initiate a new payment.
+     *
+     * @param paymentRequest The payment request object.
+     * @return A future completed with the payment URL and reference.
+     */
+    public CompletableFuture<InitKonnectPaymentResponse> initiatePayment(InitKonnectPaymentRequest paymentRequest) {
+        return initiatePayment(paymentRequest, executor);
+    }
+
+    /**
+     * Calls the Konnect API to initiate a new payment.
+     *
+     * @param paymentRequest The payment request object.
+     * @param executor       The executor running response decoding and dependent stages.
+     * @return A future completed with the payment URL and reference.
+     */
+    public CompletableFuture<InitKonnectPaymentResponse> initiatePayment(InitKonnectPaymentRequest paymentRequest, Executor executor) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(paymentRequest);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new UncheckedIOException(e));
+        }
+        HttpRequest request = newRequest(KonnectOperation.INIT_PAYMENT, "/payments/init-payment")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        return exchange(KonnectOperation.INIT_PAYMENT, request, InitKonnectPaymentResponse.class, executor);
+    }
+
+    /**
+     * Get payment details for a given payment reference.
+     *
+     * @param paymentRef The reference of the payment to retrieve details for.
+     * @return A future completed with the details of the payment, or with a {@link KonnectApiException}.
+     */
+    public CompletableFuture<PaymentResponse> getPaymentDetails(String paymentRef) {
+        return getPaymentDetails(paymentRef, executor);
+    }
+
+    /**
+     * Get payment details for a given payment reference.
+     *
+     * @param paymentRef The reference of the payment to retrieve details for.
+     * @param executor   The executor running response decoding and dependent stages.
+     * @return A future completed with the details of the payment, or with a {@link KonnectApiException}.
+     */
+    public CompletableFuture<PaymentResponse> getPaymentDetails(String paymentRef, Executor executor) {
+        HttpRequest request = newRequest(KonnectOperation.GET_PAYMENT, "/payments/" + paymentRef)
+                .GET()
+                .build();
+        return exchange(KonnectOperation.GET_PAYMENT, request, PaymentResponse.class, executor);
+    }
+
+    private HttpRequest.Builder newRequest(KonnectOperation operation, String path) {
+        URI uri = uriBuilderFactory.expand(path);
+        return HttpRequest.newBuilder(uri)
+                .timeout(readTimeouts.get(operation))
+                .header(API_KEY_HEADER, apiKey)
+                .header(CONTENT_TYPE, APPLICATION_JSON_VALUE);
+    }
+
+    private <T> CompletableFuture<T> exchange(KonnectOperation operation, HttpRequest request, Class<T> responseType,
+                                              Executor executor) {
+        CompletableFuture<HttpResponse<byte[]>> exchange = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        // Complete a future owned by this client, so that decoding runs on the given executor, and cancel the
+        // exchange when it is cancelled: cancelling the future of the JDK HttpClient aborts the request
+        CompletableFuture<T> result = new CompletableFuture<>();
+        exchange.whenCompleteAsync((response, failure) -> {
+            if (failure != null) {
+                Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                result.completeExceptionally(cause instanceof IOException
+                        ? KonnectApiErrors.transportFailure(operation, cause)
+                        : cause);
+                return;
+            }
+            try {
+                result.complete(decode(operation, response, responseType));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }, executor);
+        result.whenComplete((response, failure) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private <T> T decode(KonnectOperation operation, HttpResponse<byte[]> response, Class<T> responseType) {
+        HttpStatusCode statusCode = HttpStatusCode.valueOf(response.statusCode());
+        if (statusCode.isError()) {
+            throw KonnectApiErrors.toException(objectMapper, operation, statusCode,
+                    name -> response.headers().firstValue(name).orElse(null), response.body());
+        }
+        if (response.body().length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(response.body(), responseType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
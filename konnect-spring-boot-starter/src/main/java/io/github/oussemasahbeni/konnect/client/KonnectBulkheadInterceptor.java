@@ -0,0 +1,137 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import io.github.oussemasahbeni.konnect.exception.KonnectBulkheadFullException;
+
+/**
+ * {@link ClientHttpRequestInterceptor} isolating the requests of each {@link KonnectOperation} in its own bulkhead,
+ * so that a reconciliation job or a webhook storm looking up payments cannot starve checkouts initiating them.
+ *
+ * <p>Each bulkhead is a fair {@link Semaphore} bounding the requests of its operation in flight. Waiting for a permit
+ * parks the calling thread without pinning virtual threads. A request finding its bulkhead full waits in line up to
+ * the configured maximum of its operation, or until its {@link KonnectDeadline} if sooner, then fails with a
+ * {@link KonnectBulkheadFullException} without being sent. Requests that do not target a known operation are not
+ * isolated.
+ */
+public class KonnectBulkheadInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Map<KonnectOperation, Bulkhead> bulkheads = new EnumMap<>(KonnectOperation.class);
+
+    /**
+     * Constructs a new KonnectBulkheadInterceptor.
+     *
+     * @param maxConcurrentCalls the size of the bulkhead of each operation, operations without a size are not isolated
+     * @param maxWait            how long a request of each operation may wait for room in its bulkhead, none if absent
+     */
+    public KonnectBulkheadInterceptor(Map<KonnectOperation, Integer> maxConcurrentCalls, Map<KonnectOperation, Duration> maxWait) {
+        maxConcurrentCalls.forEach((operation, size) ->
+                bulkheads.put(operation, new Bulkhead(size, maxWait.getOrDefault(operation, Duration.ZERO))));
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        KonnectOperation operation = KonnectOperation.resolve(request.getMethod(), request.getURI());
+        Bulkhead bulkhead = operation != null ? bulkheads.get(operation) : null;
+        if (bulkhead == null) {
+            return execution.execute(request, body);
+        }
+        KonnectDeadline deadline = KonnectDeadline.current();
+        long waitNanos = deadline != null
+                ? Math.min(bulkhead.maxWaitNanos, deadline.remaining().toNanos())
+                : bulkhead.maxWaitNanos;
+        bulkhead.acquire(operation, waitNanos);
+        try {
+            return execution.execute(request, body);
+        } finally {
+            bulkhead.permits.release();
+        }
+    }
+
+    /**
+     * Gets the size of the bulkhead of the given operation.
+     *
+     * @param operation the operation
+     * @return the number of requests allowed in flight, or 0 if the operation is not isolated
+     */
+    public int getMaxConcurrentCalls(KonnectOperation operation) {
+        Bulkhead bulkhead = bulkheads.get(operation);
+        return bulkhead != null ? bulkhead.maxConcurrentCalls : 0;
+    }
+
+    /**
+     * Gets the number of requests of the given operation currently in flight.
+     *
+     * @param operation the operation
+     * @return the number of requests holding a permit of the bulkhead
+     */
+    public int getInFlight(KonnectOperation operation) {
+        Bulkhead bulkhead = bulkheads.get(operation);
+        return bulkhead != null ? bulkhead.maxConcurrentCalls - bulkhead.permits.availablePermits() : 0;
+    }
+
+    /**
+     * Gets the number of requests of the given operation waiting for room in its bulkhead.
+     *
+     * @param operation the operation
+     * @return the approximate number of waiting requests
+     */
+    public int getQueued(KonnectOperation operation) {
+        Bulkhead bulkhead = bulkheads.get(operation);
+        return bulkhead != null ? bulkhead.permits.getQueueLength() : 0;
+    }
+
+    /**
+     * Gets the number of requests of the given operation rejected since startup.
+     *
+     * @param operation the operation
+     * @return the number of rejected requests
+     */
+    public long getRejectedCount(KonnectOperation operation) {
+        Bulkhead bulkhead = bulkheads.get(operation);
+        return bulkhead != null ? bulkhead.rejected.sum() : 0;
+    }
+
+    /**
+     * The permits of a single operation.
+     */
+    private static final class Bulkhead {
+
+        private final int maxConcurrentCalls;
+
+        private final long maxWaitNanos;
+
+        private final Semaphore permits;
+
+        private final LongAdder rejected = new LongAdder();
+
+        private Bulkhead(int maxConcurrentCalls, Duration maxWait) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            this.maxWaitNanos = maxWait.toNanos();
+            this.permits = new Semaphore(maxConcurrentCalls, true);
+        }
+
+        void acquire(KonnectOperation operation, long waitNanos) throws IOException {
+            try {
+                if (!permits.tryAcquire(Math.max(0, waitNanos), TimeUnit.NANOSECONDS)) {
+                    rejected.increment();
+                    throw new KonnectBulkheadFullException(operation.getValue(), maxConcurrentCalls);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the Konnect bulkhead", e);
+            }
+        }
+    }
+}
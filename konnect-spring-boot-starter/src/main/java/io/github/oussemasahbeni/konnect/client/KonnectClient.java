@@ -1,20 +1,39 @@
 package io.github.oussemasahbeni.konnect.client;
 
 
+import static io.github.oussemasahbeni.konnect.core.KonnectObservationDocumentation.HighCardinalityKeyNames.PAYMENT_REF;
+import static io.github.oussemasahbeni.konnect.core.KonnectObservationDocumentation.LowCardinalityKeyNames.OPERATION;
+import static io.github.oussemasahbeni.konnect.core.KonnectObservationDocumentation.LowCardinalityKeyNames.RETRY_ATTEMPT;
+import static io.github.oussemasahbeni.konnect.core.KonnectObservationDocumentation.LowCardinalityKeyNames.STATUS;
+
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.util.StreamUtils;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.github.oussemasahbeni.konnect.core.KonnectObservationDocumentation;
 import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
-import io.github.oussemasahbeni.konnect.exception.KonnectErrorResponse;
+import io.github.oussemasahbeni.konnect.exception.KonnectDeadlineExceededException;
+import io.github.oussemasahbeni.konnect.exception.KonnectTransportException;
+import io.github.oussemasahbeni.konnect.jfr.KonnectApiCallEvent;
 import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentRequest;
 import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentResponse;
 import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 
 /**
  * Low-level HTTP client for communicating with the Konnect Payment Gateway API.
@@ -29,13 +48,37 @@ import io.github.oussemasahbeni.konnect.model.PaymentResponse;
  *   <li>HTTP error status code handling</li>
  *   <li>Konnect-specific error response parsing</li>
  * </ul>
+ *
+ * <p>When Resilience4j is enabled, every call goes through the {@code konnect-api} rate limiter and retry,
+ * so only requests actually sent to Konnect consume rate limiter permits. Each attempt also goes through the
+ * {@code konnect-api} circuit breaker, which fails calls fast with a
+ * {@link io.github.resilience4j.circuitbreaker.CallNotPermittedException} while it is open.
+ *
+ * <p>Each request is wrapped in a {@link KonnectObservationDocumentation#CLIENT} observation, a child of the current
+ * observation, typically the one of the {@link io.github.oussemasahbeni.konnect.core.KonnectTemplate} call. Since the
+ * Resilience4j retry invokes the client again on the calling thread, each attempt gets its own observation under the
+ * same parent, tagged with its attempt number. Each request also emits a {@link KonnectApiCallEvent} to the
+ * JDK Flight Recorder.
+ *
+ * <p>Requests sent while a {@link KonnectDeadline} is in scope get a read timeout cut to the remaining time, and fail
+ * with a {@link KonnectDeadlineExceededException} once it is reached. Other network failures are thrown as a
+ * {@link KonnectTransportException}. Like the {@link KonnectApiException}s of error responses, both carry the
+ * operation of the request.
  * 
  * @see io.github.oussemasahbeni.konnect.core.KonnectTemplate
  */
 public class KonnectClient {
 
+    private static final String RESILIENCE_CONFIG_NAME = "konnect-api";
+
+    private static final String ATTEMPTS_KEY = KonnectClient.class.getName() + ".attempts";
+
     private final RestClient restClient;
 
+    private final Map<KonnectOperation, RestClient.ResponseSpec.ErrorHandler> errorHandlers = new EnumMap<>(KonnectOperation.class);
+
+    private final ObservationRegistry observationRegistry;
+
     /**
      * Constructs a new KonnectClient with the provided RestClient and ObjectMapper.
      * The RestClient should be pre-configured with the Konnect API base URL and authentication headers.
@@ -44,9 +87,22 @@ public class KonnectClient {
      * @param objectMapper The ObjectMapper for JSON processing and error handling
      */
     public KonnectClient(RestClient konnectRestClient, ObjectMapper objectMapper) {
-        this.restClient = konnectRestClient.mutate()
-                .defaultStatusHandler(HttpStatusCode::isError, (request, response) -> handleApiError(objectMapper, response))
-                .build();
+        this(konnectRestClient, objectMapper, ObservationRegistry.NOOP);
+    }
+
+    /**
+     * Constructs a new KonnectClient recording an observation of each request in the given registry.
+     *
+     * @param konnectRestClient   A pre-configured RestClient with base URL and authentication
+     * @param objectMapper        The ObjectMapper for JSON processing and error handling
+     * @param observationRegistry The registry recording the observation of each request
+     */
+    public KonnectClient(RestClient konnectRestClient, ObjectMapper objectMapper, ObservationRegistry observationRegistry) {
+        this.restClient = konnectRestClient;
+        for (KonnectOperation operation : KonnectOperation.values()) {
+            this.errorHandlers.put(operation, (request, response) -> handleApiError(objectMapper, operation, response));
+        }
+        this.observationRegistry = observationRegistry;
     }
 
 
@@ -56,12 +112,16 @@ public class KonnectClient {
      * @param paymentRequest The payment request object.
      * @return The response from the Konnect API, containing the payment URL and reference.
      */
+    @CircuitBreaker(name = RESILIENCE_CONFIG_NAME)
+    @RateLimiter(name = RESILIENCE_CONFIG_NAME)
+    @Retry(name = RESILIENCE_CONFIG_NAME)
     public InitKonnectPaymentResponse initiatePayment(InitKonnectPaymentRequest paymentRequest) {
-        return restClient.post()
+        return observe(KonnectOperation.INIT_PAYMENT, KonnectObservationDocumentation.NONE, () -> restClient.post()
                 .uri("/payments/init-payment")
                 .body(paymentRequest)
                 .retrieve()
-                .body(InitKonnectPaymentResponse.class);
+                .onStatus(HttpStatusCode::isError, errorHandlers.get(KonnectOperation.INIT_PAYMENT))
+                .toEntity(InitKonnectPaymentResponse.class));
 
     }
 
@@ -74,39 +134,118 @@ public class KonnectClient {
      * @return PaymentResponse containing the details of the payment.
      * @throws KonnectApiException if the API call fails or returns an error status.
      */
+    @CircuitBreaker(name = RESILIENCE_CONFIG_NAME)
+    @RateLimiter(name = RESILIENCE_CONFIG_NAME)
+    @Retry(name = RESILIENCE_CONFIG_NAME)
     public PaymentResponse getPaymentDetails(String paymentRef) {
-        return restClient.get()
+        return observe(KonnectOperation.GET_PAYMENT, paymentRef, () -> restClient.get()
                 .uri("/payments/" + paymentRef)
                 .retrieve()
-                .body(PaymentResponse.class);
+                .onStatus(HttpStatusCode::isError, errorHandlers.get(KonnectOperation.GET_PAYMENT))
+                .toEntity(PaymentResponse.class));
 
 
     }
 
 
+    /**
+     * Sends a request within a {@link KonnectObservationDocumentation#CLIENT} observation and a {@link KonnectApiCallEvent}.
+     *
+     * @param operation  The targeted operation.
+     * @param paymentRef The reference of the targeted payment, or {@link KonnectObservationDocumentation#NONE}.
+     * @param exchange   The exchange sending the request.
+     * @return The body of the response.
+     */
+    private <T> T observe(KonnectOperation operation, String paymentRef, Supplier<ResponseEntity<T>> exchange) {
+        Observation observation = KonnectObservationDocumentation.CLIENT.observation(observationRegistry)
+                .contextualName("konnect " + operation.getValue() + " request")
+                .lowCardinalityKeyValue(OPERATION.withValue(operation.getValue()))
+                .lowCardinalityKeyValue(RETRY_ATTEMPT.withValue(String.valueOf(nextAttempt())))
+                .highCardinalityKeyValue(PAYMENT_REF.withValue(paymentRef))
+                .start();
+        KonnectApiCallEvent event = new KonnectApiCallEvent();
+        event.begin();
+        int statusCode = 0;
+        long payloadSize = -1;
+        try (Observation.Scope ignored = observation.openScope()) {
+            ResponseEntity<T> response = exchange.get();
+            statusCode = response.getStatusCode().value();
+            payloadSize = response.getHeaders().getContentLength();
+            observation.lowCardinalityKeyValue(STATUS.withValue(String.valueOf(statusCode)));
+            return response.getBody();
+        } catch (KonnectApiException e) {
+            statusCode = e.getStatusCode();
+            observation.lowCardinalityKeyValue(STATUS.withValue(String.valueOf(statusCode)));
+            observation.error(e);
+            throw e;
+        } catch (RuntimeException e) {
+            RuntimeException failure = mapFailure(operation, e);
+            observation.lowCardinalityKeyValue(STATUS.withValue("IO_ERROR"));
+            observation.error(failure);
+            throw failure;
+        } finally {
+            observation.stop();
+            event.record(operation.getValue(), paymentRef, statusCode, payloadSize);
+        }
+    }
+
+    /**
+     * Reports a request that failed because the {@link KonnectDeadline} in scope was reached, typically on the read
+     * timeout cut to the remaining time, as a {@link KonnectDeadlineExceededException}, and other network failures
+     * as a {@link KonnectTransportException}, so that both carry the operation of the request.
+     *
+     * @param operation The targeted operation.
+     * @param failure   The failure of the request.
+     * @return the failure to throw
+     */
+    private static RuntimeException mapFailure(KonnectOperation operation, RuntimeException failure) {
+        if (failure instanceof KonnectDeadlineExceededException || failure instanceof KonnectTransportException) {
+            return failure;
+        }
+        KonnectDeadline deadline = KonnectDeadline.current();
+        if (deadline != null && deadline.isExpired()) {
+            return new KonnectDeadlineExceededException(operation, failure);
+        }
+        if (failure instanceof ResourceAccessException) {
+            return KonnectApiErrors.transportFailure(operation, failure.getCause() != null ? failure.getCause() : failure);
+        }
+        return failure;
+    }
+
+    /**
+     * Counts the requests sent within the current observation, so that the successive retry attempts
+     * of the same call are numbered from 1.
+     *
+     * @return the number of the attempt about to be sent
+     */
+    private int nextAttempt() {
+        Observation parent = observationRegistry.getCurrentObservation();
+        if (parent == null || parent.isNoop()) {
+            return 1;
+        }
+        AtomicInteger attempts = parent.getContext().computeIfAbsent(ATTEMPTS_KEY, key -> new AtomicInteger());
+        return attempts.incrementAndGet();
+    }
+
     /**
      * Handles API errors by reading the response body and throwing a KonnectApiException.
+     * The {@code Retry-After} and rate limit headers of the response are kept on the exception, so that the
+     * {@code konnect-api} retry waits as long as Konnect asks.
      *
      * @param objectMapper The ObjectMapper to parse the error response.
+     * @param operation    The operation of the failed request.
      * @param response     The ClientHttpResponse containing the error details.
      * @throws IOException if there is an error reading the response body.
      */
-    private static void handleApiError(ObjectMapper objectMapper, ClientHttpResponse response) throws IOException {
+    private static void handleApiError(ObjectMapper objectMapper, KonnectOperation operation, ClientHttpResponse response)
+            throws IOException {
+        byte[] bodyBytes;
         try {
-            byte[] bodyBytes = StreamUtils.copyToByteArray(response.getBody());
-            if (bodyBytes.length == 0) {
-                String msg = "Konnect API Error: No response body (status: " + response.getStatusCode() + ")";
-                throw new KonnectApiException(msg, response.getStatusCode().value());
-            }
-
-            KonnectErrorResponse errorBody = objectMapper.readValue(bodyBytes, KonnectErrorResponse.class);
-            String message = "Konnect API Error: " + errorBody.errors().getFirst().message();
-            throw new KonnectApiException(message, response.getStatusCode().value(), errorBody);
+            bodyBytes = StreamUtils.copyToByteArray(response.getBody());
         } catch (IOException e) {
-            String msg = "Konnect API Error: Unable to parse error response (status: " + response.getStatusCode() + ")";
-            throw new KonnectApiException(msg, response.getStatusCode().value(), null, e);
+            throw KonnectApiErrors.unreadable(operation, response.getStatusCode(), response.getHeaders()::getFirst, e);
         }
+        throw KonnectApiErrors.toException(objectMapper, operation, response.getStatusCode(),
+                response.getHeaders()::getFirst, bodyBytes);
     }
-
-
 }
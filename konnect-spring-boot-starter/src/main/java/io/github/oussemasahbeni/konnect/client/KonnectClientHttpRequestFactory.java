@@ -0,0 +1,122 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import io.github.oussemasahbeni.konnect.exception.KonnectDeadlineExceededException;
+
+/**
+ * {@link ClientHttpRequestFactory} used by the Konnect {@link org.springframework.web.client.RestClient}.
+ * It routes each request to a request factory dedicated to the targeted {@link KonnectOperation},
+ * so that every endpoint can have its own timeouts, sharing a single underlying HTTP client and its connection pool,
+ * or when bulkheads are enabled, using an HTTP client of its own.
+ *
+ * <p>When a {@link KonnectDeadline} is in scope, requests are created with a read timeout cut to the time left before
+ * the deadline, and requests past the deadline fail with a {@link KonnectDeadlineExceededException} without being sent.
+ *
+ * <p>The factory owns the underlying HTTP client and releases it when {@link #close()} is called,
+ * which Spring does automatically when the factory is registered as a bean.
+ *
+ * @see KonnectOperation
+ */
+public class KonnectClientHttpRequestFactory implements ClientHttpRequestFactory, AutoCloseable {
+
+    private final ClientHttpRequestFactory defaultRequestFactory;
+
+    private final Map<KonnectOperation, ClientHttpRequestFactory> operationRequestFactories;
+
+    private final AutoCloseable transport;
+
+    private final Function<KonnectOperation, Duration> readTimeouts;
+
+    private final BiFunction<KonnectOperation, Duration, ClientHttpRequestFactory> requestFactoryWithReadTimeout;
+
+    /**
+     * Constructs a new KonnectClientHttpRequestFactory whose read timeouts are not cut by deadlines.
+     *
+     * @param defaultRequestFactory     the factory used for requests that do not target a known operation
+     * @param operationRequestFactories the factories dedicated to each operation
+     * @param transport                 the underlying HTTP client to release on close, may be null
+     */
+    public KonnectClientHttpRequestFactory(ClientHttpRequestFactory defaultRequestFactory,
+                                           Map<KonnectOperation, ClientHttpRequestFactory> operationRequestFactories,
+                                           AutoCloseable transport) {
+        this(defaultRequestFactory, operationRequestFactories, transport, null, null);
+    }
+
+    /**
+     * Constructs a new KonnectClientHttpRequestFactory cutting the read timeout of requests sent under a deadline.
+     *
+     * @param defaultRequestFactory         the factory used for requests that do not target a known operation
+     * @param operationRequestFactories     the factories dedicated to each operation
+     * @param transport                     the underlying HTTP clients to release on close, may be null
+     * @param readTimeouts                  the read timeout of each operation, called with null for unknown requests
+     * @param requestFactoryWithReadTimeout creates a factory sharing the underlying HTTP client of the given operation,
+     *                                      null for unknown requests, with the given read timeout
+     */
+    public KonnectClientHttpRequestFactory(ClientHttpRequestFactory defaultRequestFactory,
+                                           Map<KonnectOperation, ClientHttpRequestFactory> operationRequestFactories,
+                                           AutoCloseable transport,
+                                           Function<KonnectOperation, Duration> readTimeouts,
+                                           BiFunction<KonnectOperation, Duration, ClientHttpRequestFactory> requestFactoryWithReadTimeout) {
+        this.defaultRequestFactory = defaultRequestFactory;
+        this.operationRequestFactories = operationRequestFactories.isEmpty()
+                ? Map.of()
+                : new EnumMap<>(operationRequestFactories);
+        this.transport = transport;
+        this.readTimeouts = readTimeouts;
+        this.requestFactoryWithReadTimeout = requestFactoryWithReadTimeout;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        KonnectOperation operation = KonnectOperation.resolve(httpMethod, uri);
+        KonnectDeadline deadline = KonnectDeadline.current();
+        if (deadline != null) {
+            Duration remaining = deadline.remaining();
+            if (remaining.isZero()) {
+                throw operation != null
+                        ? new KonnectDeadlineExceededException(operation)
+                        : new KonnectDeadlineExceededException(uri.getPath());
+            }
+            if (requestFactoryWithReadTimeout != null && remaining.compareTo(readTimeouts.apply(operation)) < 0) {
+                return requestFactoryWithReadTimeout.apply(operation, remaining).createRequest(uri, httpMethod);
+            }
+        }
+        return getRequestFactory(operation).createRequest(uri, httpMethod);
+    }
+
+    /**
+     * Gets the request factory used for the given operation.
+     *
+     * @param operation the operation, or null for requests that do not target a known endpoint
+     * @return the request factory dedicated to the operation, or the default one
+     */
+    public ClientHttpRequestFactory getRequestFactory(KonnectOperation operation) {
+        if (operation == null) {
+            return defaultRequestFactory;
+        }
+        return operationRequestFactories.getOrDefault(operation, defaultRequestFactory);
+    }
+
+    /**
+     * Releases the underlying HTTP clients and their pooled connections.
+     *
+     * @throws Exception if the underlying client cannot be closed
+     */
+    @Override
+    public void close() throws Exception {
+        if (transport != null) {
+            transport.close();
+        }
+    }
+}
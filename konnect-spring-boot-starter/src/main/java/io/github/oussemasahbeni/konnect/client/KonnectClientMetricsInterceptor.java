@@ -0,0 +1,104 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link ClientHttpRequestInterceptor} timing every request sent to the Konnect API with a Micrometer {@link Timer}
+ * named {@code konnect.api.requests}, published with a percentile histogram.
+ *
+ * <p>Each HTTP exchange is recorded once, so a call retried by Resilience4j is recorded once per attempt.
+ * Timers are tagged with:
+ * <ul>
+ *   <li>{@code operation} - the targeted {@link KonnectOperation}, e.g. {@code init-payment}</li>
+ *   <li>{@code status} - the HTTP status code, or {@code IO_ERROR} when no response was received</li>
+ *   <li>{@code outcome} - {@code SUCCESS}, {@code CLIENT_ERROR}, {@code SERVER_ERROR} or another status series</li>
+ *   <li>{@code exception} - the simple class name of the exception thrown by the exchange, or {@code none}</li>
+ * </ul>
+ *
+ * <p>Requests that do not target a known operation are not recorded.
+ */
+public class KonnectClientMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    /** The name of the timer recording requests sent to the Konnect API */
+    public static final String METRIC_NAME = "konnect.api.requests";
+
+    private static final String NONE = "none";
+
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final Meter.MeterProvider<Timer> timers;
+
+    /**
+     * Constructs a new KonnectClientMetricsInterceptor.
+     *
+     * @param registry the registry the timers are registered to
+     */
+    public KonnectClientMetricsInterceptor(MeterRegistry registry) {
+        this.timers = Timer.builder(METRIC_NAME)
+                .description("Requests sent to the Konnect API")
+                .publishPercentileHistogram()
+                .withRegistry(registry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        KonnectOperation operation = KonnectOperation.resolve(request.getMethod(), request.getURI());
+        if (operation == null) {
+            return execution.execute(request, body);
+        }
+        long startedAt = System.nanoTime();
+        ClientHttpResponse response = null;
+        Throwable failure = null;
+        try {
+            response = execution.execute(request, body);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            timers.withTags(tags(operation, response, failure))
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Tags tags(KonnectOperation operation, ClientHttpResponse response, Throwable failure) {
+        String status = "IO_ERROR";
+        String outcome = UNKNOWN;
+        if (response != null) {
+            try {
+                int statusCode = response.getStatusCode().value();
+                status = String.valueOf(statusCode);
+                outcome = outcome(HttpStatus.Series.resolve(statusCode));
+            } catch (IOException e) {
+                status = UNKNOWN;
+            }
+        }
+        String exception = failure != null ? failure.getClass().getSimpleName() : NONE;
+        return Tags.of("operation", operation.getValue(), "status", status, "outcome", outcome, "exception", exception);
+    }
+
+    private static String outcome(HttpStatus.Series series) {
+        if (series == null) {
+            return UNKNOWN;
+        }
+        return switch (series) {
+            case INFORMATIONAL -> "INFORMATIONAL";
+            case SUCCESSFUL -> "SUCCESS";
+            case REDIRECTION -> "REDIRECTION";
+            case CLIENT_ERROR -> "CLIENT_ERROR";
+            case SERVER_ERROR -> "SERVER_ERROR";
+        };
+    }
+}
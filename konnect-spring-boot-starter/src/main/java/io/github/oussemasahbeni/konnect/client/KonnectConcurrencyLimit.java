@@ -0,0 +1,29 @@
+package io.github.oussemasahbeni.konnect.client;
+
+/**
+ * Algorithm adjusting the number of requests allowed in flight to the Konnect API from the latency and the outcome
+ * of the requests that completed, used by the {@link KonnectConcurrencyLimitInterceptor}.
+ * Implementations are thread-safe.
+ *
+ * @see AimdConcurrencyLimit
+ * @see GradientConcurrencyLimit
+ */
+public interface KonnectConcurrencyLimit {
+
+    /**
+     * Gets the number of requests currently allowed in flight.
+     *
+     * @return the current limit, at least 1
+     */
+    int getLimit();
+
+    /**
+     * Updates the limit with a completed request.
+     *
+     * @param rttNanos the time the request took, in nanoseconds
+     * @param inFlight the number of requests that were in flight when the request was sent, itself included
+     * @param dropped  whether the request was throttled or failed, i.e. answered with {@code 429} or {@code 5xx}
+     *                 or without a response
+     */
+    void onSample(long rttNanos, int inFlight, boolean dropped);
+}
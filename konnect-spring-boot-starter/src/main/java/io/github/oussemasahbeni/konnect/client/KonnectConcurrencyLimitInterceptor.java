@@ -0,0 +1,165 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import io.github.oussemasahbeni.konnect.exception.KonnectConcurrencyLimitException;
+
+/**
+ * {@link ClientHttpRequestInterceptor} bounding the number of requests in flight to the Konnect API with a
+ * {@link KonnectConcurrencyLimit} that adapts to the observed latency and to {@code 429} and {@code 5xx} responses.
+ *
+ * <p>Each {@link KonnectOperation} has its own limit and in-flight count, so a slow {@code get-payment} burst cannot
+ * starve {@code init-payment} calls. A request exceeding the limit of its operation waits up to the configured
+ * maximum, or until its {@link KonnectDeadline} if sooner, for another request to complete, then fails with a {@link KonnectConcurrencyLimitException} without being
+ * sent. Requests that do not target a known operation are not limited.
+ */
+public class KonnectConcurrencyLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Map<KonnectOperation, Partition> partitions;
+
+    private final long maxWaitNanos;
+
+    /**
+     * Constructs a new KonnectConcurrencyLimitInterceptor.
+     *
+     * @param limits  the limit of each operation, operations without a limit are not limited
+     * @param maxWait how long a request may wait for the limit of its operation before being rejected
+     */
+    public KonnectConcurrencyLimitInterceptor(Map<KonnectOperation, ? extends KonnectConcurrencyLimit> limits, Duration maxWait) {
+        this.partitions = new EnumMap<>(KonnectOperation.class);
+        limits.forEach((operation, limit) -> partitions.put(operation, new Partition(limit)));
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        KonnectOperation operation = KonnectOperation.resolve(request.getMethod(), request.getURI());
+        Partition partition = operation != null ? partitions.get(operation) : null;
+        if (partition == null) {
+            return execution.execute(request, body);
+        }
+        KonnectDeadline deadline = KonnectDeadline.current();
+        long waitNanos = deadline != null ? Math.min(maxWaitNanos, deadline.remaining().toNanos()) : maxWaitNanos;
+        int inFlight = partition.acquire(operation, waitNanos);
+        long startedAt = System.nanoTime();
+        boolean dropped = true;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            dropped = isDropped(response);
+            return response;
+        } finally {
+            partition.release(System.nanoTime() - startedAt, inFlight, dropped);
+        }
+    }
+
+    /**
+     * Gets the current concurrency limit of the given operation.
+     *
+     * @param operation the operation
+     * @return the number of requests allowed in flight, or 0 if the operation is not limited
+     */
+    public int getLimit(KonnectOperation operation) {
+        Partition partition = partitions.get(operation);
+        return partition != null ? partition.limit.getLimit() : 0;
+    }
+
+    /**
+     * Gets the number of requests of the given operation currently in flight.
+     *
+     * @param operation the operation
+     * @return the number of requests in flight
+     */
+    public int getInFlight(KonnectOperation operation) {
+        Partition partition = partitions.get(operation);
+        return partition != null ? partition.inFlight() : 0;
+    }
+
+    /**
+     * Gets the number of requests of the given operation rejected since startup.
+     *
+     * @param operation the operation
+     * @return the number of rejected requests
+     */
+    public long getRejectedCount(KonnectOperation operation) {
+        Partition partition = partitions.get(operation);
+        return partition != null ? partition.rejected.sum() : 0;
+    }
+
+    private static boolean isDropped(ClientHttpResponse response) throws IOException {
+        int statusCode = response.getStatusCode().value();
+        return statusCode == HttpStatus.TOO_MANY_REQUESTS.value() || statusCode >= 500;
+    }
+
+    /**
+     * The limit and the requests in flight of a single operation.
+     */
+    private static final class Partition {
+
+        private final KonnectConcurrencyLimit limit;
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Condition released = lock.newCondition();
+
+        private final LongAdder rejected = new LongAdder();
+
+        private int inFlight;
+
+        private Partition(KonnectConcurrencyLimit limit) {
+            this.limit = limit;
+        }
+
+        int acquire(KonnectOperation operation, long maxWaitNanos) throws IOException {
+            lock.lock();
+            try {
+                long remainingNanos = maxWaitNanos;
+                while (inFlight >= limit.getLimit()) {
+                    if (remainingNanos <= 0) {
+                        rejected.increment();
+                        throw new KonnectConcurrencyLimitException(operation.getValue(), limit.getLimit());
+                    }
+                    remainingNanos = released.awaitNanos(remainingNanos);
+                }
+                return ++inFlight;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the Konnect concurrency limit", e);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void release(long rttNanos, int inFlightAtStart, boolean dropped) {
+            limit.onSample(rttNanos, inFlightAtStart, dropped);
+            lock.lock();
+            try {
+                inFlight--;
+                // The limit may have grown by more than the released permit
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int inFlight() {
+            lock.lock();
+            try {
+                return inFlight;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * A point in time by which a call to the Konnect API must complete, retries included.
+ *
+ * <p>A deadline is put in scope of the current thread with {@link #call(Supplier)}. While it is in scope, each request
+ * sent by the {@link KonnectClient} gets a read timeout cut to the remaining time, the {@code konnect-api} retry stops
+ * once the deadline is reached, and requests sent past it fail with a
+ * {@link io.github.oussemasahbeni.konnect.exception.KonnectDeadlineExceededException}. Nested scopes keep the earliest
+ * deadline, so a callee can shorten the deadline of its caller but never extend it.
+ * <p>
+ * Example:
+ * PaymentResponse details = KonnectDeadline.after(Duration.ofSeconds(3)).call(() -> template.getPaymentDetails(ref));
+ */
+public final class KonnectDeadline {
+
+    private static final ThreadLocal<KonnectDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+
+    private KonnectDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Creates a deadline the given time from now.
+     *
+     * @param timeout the time left to complete the call
+     * @return a new deadline
+     */
+    public static KonnectDeadline after(Duration timeout) {
+        return new KonnectDeadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * Gets the deadline in scope of the current thread.
+     *
+     * @return the current deadline, or null if calls are not bounded
+     */
+    public static KonnectDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Gets the time left before this deadline.
+     *
+     * @return the remaining time, {@link Duration#ZERO} once the deadline is reached
+     */
+    public Duration remaining() {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        return remainingNanos > 0 ? Duration.ofNanos(remainingNanos) : Duration.ZERO;
+    }
+
+    /**
+     * Tells whether this deadline is reached.
+     *
+     * @return true if no time is left
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Runs an action with this deadline in scope of the current thread, or with the deadline already in scope
+     * if it is earlier.
+     *
+     * @param action the action calling the Konnect API
+     * @param <T>    the type of the result of the action
+     * @return the result of the action
+     */
+    public <T> T call(Supplier<T> action) {
+        KonnectDeadline enclosing = CURRENT.get();
+        CURRENT.set(enclosing != null && enclosing.deadlineNanos - deadlineNanos < 0 ? enclosing : this);
+        try {
+            return action.get();
+        } finally {
+            if (enclosing != null) {
+                CURRENT.set(enclosing);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.oussemasahbeni.konnect.client;
+
+/**
+ * The order of the interceptors applied to the requests sent by the Konnect RestClient, from the outermost to the
+ * innermost, as used with {@link org.springframework.core.annotation.Order @Order}.
+ *
+ * <p>Interceptors that queue or reject requests come first, so that a request waiting in one of them holds no permit
+ * of the interceptors after it: a background request waiting for the priority scheduler must not hold a bulkhead
+ * permit or a concurrency limit slot an interactive request is waiting for. The metrics come last, so they time the
+ * exchange with Konnect rather than the time spent waiting. Interceptors without an order run after all of these.
+ */
+public final class KonnectInterceptorOrder {
+
+    /** The rate limit partition of a tenant, see {@link KonnectTenantRateLimiter} */
+    public static final int TENANT_RATE_LIMITER = 100;
+
+    /** The scheduling of the requests by priority, see {@link KonnectPriorityScheduler} */
+    public static final int PRIORITY_SCHEDULER = 200;
+
+    /** The bulkhead of each operation, see {@link KonnectBulkheadInterceptor} */
+    public static final int BULKHEAD = 300;
+
+    /** The adaptive concurrency limit of each operation, see {@link KonnectConcurrencyLimitInterceptor} */
+    public static final int CONCURRENCY_LIMIT = 400;
+
+    /** The retry budget counting the requests sent, see {@link KonnectRetryBudget} */
+    public static final int RETRY_BUDGET = 500;
+
+    /** The timing of each request, see {@link KonnectClientMetricsInterceptor} */
+    public static final int METRICS = 600;
+
+    private KonnectInterceptorOrder() {
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import java.net.URI;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ * Enumerates the Konnect API operations performed by the starter.
+ * Operations are used to apply per-endpoint settings (such as read timeouts)
+ * to the outgoing HTTP requests.
+ *
+ * @see KonnectClientHttpRequestFactory
+ */
+public enum KonnectOperation {
+
+    /** {@code POST /payments/init-payment} */
+    INIT_PAYMENT("init-payment"),
+
+    /** {@code GET /payments/{paymentRef}} */
+    GET_PAYMENT("get-payment");
+
+    private static final String PAYMENTS_PATH = "/payments/";
+
+    private static final String INIT_PAYMENT_PATH = PAYMENTS_PATH + "init-payment";
+
+    private final String value;
+
+    /**
+     * Constructs a KonnectOperation with the specified value.
+     *
+     * @param value the name of the operation as used in configuration properties
+     */
+    KonnectOperation(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the name of this operation as used in configuration properties.
+     *
+     * @return the operation name, e.g. {@code init-payment}
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Resolves the operation targeted by an outgoing request.
+     *
+     * @param method the HTTP method of the request
+     * @param uri    the fully expanded request URI
+     * @return the matching operation, or null if the request does not target a known endpoint
+     */
+    public static KonnectOperation resolve(HttpMethod method, URI uri) {
+        String path = uri.getPath();
+        if (path == null) {
+            return null;
+        }
+        if (HttpMethod.POST.equals(method) && path.endsWith(INIT_PAYMENT_PATH)) {
+            return INIT_PAYMENT;
+        }
+        if (HttpMethod.GET.equals(method) && path.contains(PAYMENTS_PATH)) {
+            return GET_PAYMENT;
+        }
+        return null;
+    }
+}
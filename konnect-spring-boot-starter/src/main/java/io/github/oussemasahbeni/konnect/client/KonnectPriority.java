@@ -0,0 +1,85 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import java.util.function.Supplier;
+
+/**
+ * The priority of a call to the Konnect API, from the highest to the lowest.
+ *
+ * <p>A priority is put in scope of the current thread with {@link #call(Supplier)}. While it is in scope, each request
+ * sent by the {@link KonnectClient} is scheduled with that priority by the {@link KonnectPriorityScheduler}, when
+ * enabled. Unlike deadlines, nested scopes replace the priority of their caller. Calls made without a priority in scope
+ * are {@link #INTERACTIVE}, except the lookups of webhooks, which are {@link #WEBHOOK}, and polls and bulk lookups,
+ * which are {@link #BACKGROUND}.
+ * <p>
+ * Example:
+ * KonnectPriority.BACKGROUND.call(() -> template.getPaymentDetails(ref));
+ */
+public enum KonnectPriority {
+
+    /** Calls a customer is waiting for, such as checkouts */
+    INTERACTIVE("interactive"),
+
+    /** Lookups verifying incoming webhooks */
+    WEBHOOK("webhook"),
+
+    /** Polls, reconciliations and other calls nobody is waiting for */
+    BACKGROUND("background");
+
+    private static final ThreadLocal<KonnectPriority> CURRENT = new ThreadLocal<>();
+
+    private final String value;
+
+    KonnectPriority(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the value of this priority, as used in metric tags.
+     *
+     * @return the value, e.g. {@code background}
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the priority in scope of the current thread.
+     *
+     * @return the current priority, or null if none is in scope
+     */
+    public static KonnectPriority current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Gets the priority in scope of the current thread, or the given one if none is in scope.
+     *
+     * @param defaultPriority the priority of calls made without a priority in scope
+     * @return the current priority, or the default one
+     */
+    public static KonnectPriority currentOr(KonnectPriority defaultPriority) {
+        KonnectPriority current = CURRENT.get();
+        return current != null ? current : defaultPriority;
+    }
+
+    /**
+     * Runs an action with this priority in scope of the current thread.
+     *
+     * @param action the action calling the Konnect API
+     * @param <T>    the type of the result of the action
+     * @return the result of the action
+     */
+    public <T> T call(Supplier<T> action) {
+        KonnectPriority enclosing = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (enclosing != null) {
+                CURRENT.set(enclosing);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
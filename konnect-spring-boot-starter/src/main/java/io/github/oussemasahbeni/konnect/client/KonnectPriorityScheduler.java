@@ -0,0 +1,360 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import io.github.oussemasahbeni.konnect.exception.KonnectPriorityRejectedException;
+
+/**
+ * {@link ClientHttpRequestInterceptor} scheduling the requests sent to the Konnect API by {@link KonnectPriority}.
+ *
+ * <p>Requests share a fixed number of slots. A free slot always goes to the waiting request of the highest priority,
+ * and to the longest waiting one among equals. Lower priorities only use their share of the slots: a background
+ * request waits while more than that share is in flight, leaving the remaining slots to interactive requests.
+ *
+ * <p>The rate limit headers of every response tell how much of the Konnect quota is left. Once it falls below the
+ * share reserved for higher priorities, lower priorities wait for the quota to reset, so polls back off before
+ * checkouts do. A {@code 429} response makes every priority but {@link KonnectPriority#INTERACTIVE} wait until
+ * Konnect allows new requests.
+ *
+ * <p>A request waiting longer than the starvation timeout is served like an interactive one, ahead of the requests
+ * that arrived after it, though it still waits for the quota to reset. A request waits up to the configured maximum,
+ * or until its {@link KonnectDeadline} if sooner, then fails with a {@link KonnectPriorityRejectedException} without
+ * being sent. Waiting parks the calling thread without pinning virtual threads.
+ */
+public class KonnectPriorityScheduler implements ClientHttpRequestInterceptor {
+
+    private static final KonnectPriority[] PRIORITIES = KonnectPriority.values();
+
+    private final int maxConcurrentCalls;
+
+    private final Map<KonnectPriority, Double> shares;
+
+    private final int[] limits = new int[PRIORITIES.length];
+
+    private final long maxWaitNanos;
+
+    private final long starvationNanos;
+
+    private final long throttleBackoffNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition changed = lock.newCondition();
+
+    private final List<Waiter> waiters = new ArrayList<>();
+
+    private final int[] inFlight = new int[PRIORITIES.length];
+
+    private final int[] queued = new int[PRIORITIES.length];
+
+    /** The {@link System#nanoTime()} until which each priority waits for the quota to reset, 0 if it does not */
+    private final long[] pausedUntil = new long[PRIORITIES.length];
+
+    private final LongAdder[] rejected = new LongAdder[PRIORITIES.length];
+
+    private final LongAdder promoted = new LongAdder();
+
+    private int totalInFlight;
+
+    private long sequence;
+
+    private volatile double quotaRemaining = Double.NaN;
+
+    /**
+     * Constructs a new KonnectPriorityScheduler.
+     *
+     * @param maxConcurrentCalls the number of requests allowed in flight, all priorities together
+     * @param shares             the share of the slots and of the quota each priority may use, 1 if absent
+     * @param maxWait            how long a request may wait for a slot before being rejected
+     * @param starvationTimeout  how long a request may wait before being served like an interactive one
+     * @param throttleBackoff    how long lower priorities wait after a throttled response not telling when to retry
+     */
+    public KonnectPriorityScheduler(int maxConcurrentCalls, Map<KonnectPriority, Double> shares, Duration maxWait,
+                                    Duration starvationTimeout, Duration throttleBackoff) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.shares = new EnumMap<>(KonnectPriority.class);
+        for (KonnectPriority priority : PRIORITIES) {
+            double share = priority == KonnectPriority.INTERACTIVE ? 1.0 : shares.getOrDefault(priority, 1.0);
+            this.shares.put(priority, share);
+            this.limits[priority.ordinal()] = Math.max(1, (int) Math.ceil(maxConcurrentCalls * share));
+            this.rejected[priority.ordinal()] = new LongAdder();
+        }
+        this.maxWaitNanos = maxWait.toNanos();
+        this.starvationNanos = starvationTimeout.toNanos();
+        this.throttleBackoffNanos = throttleBackoff.toNanos();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        KonnectPriority priority = KonnectPriority.currentOr(KonnectPriority.INTERACTIVE);
+        KonnectDeadline deadline = KonnectDeadline.current();
+        long waitNanos = deadline != null ? Math.min(maxWaitNanos, deadline.remaining().toNanos()) : maxWaitNanos;
+        acquire(priority, waitNanos);
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            onResponse(response);
+            return response;
+        } finally {
+            release(priority);
+        }
+    }
+
+    /**
+     * Gets the number of requests allowed in flight, all priorities together.
+     *
+     * @return the number of slots
+     */
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    /**
+     * Gets the number of requests of the given priority allowed in flight while the others leave their slots free.
+     *
+     * @param priority the priority
+     * @return the share of the slots of the priority
+     */
+    public int getLimit(KonnectPriority priority) {
+        return limits[priority.ordinal()];
+    }
+
+    /**
+     * Gets the number of requests of the given priority currently in flight.
+     *
+     * @param priority the priority
+     * @return the number of requests holding a slot
+     */
+    public int getInFlight(KonnectPriority priority) {
+        lock.lock();
+        try {
+            return inFlight[priority.ordinal()];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of requests of the given priority waiting for a slot.
+     *
+     * @param priority the priority
+     * @return the number of waiting requests
+     */
+    public int getQueued(KonnectPriority priority) {
+        lock.lock();
+        try {
+            return queued[priority.ordinal()];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tells whether requests of the given priority currently wait for the rate limit quota to reset.
+     *
+     * @param priority the priority
+     * @return true if requests of the priority are held back
+     */
+    public boolean isPaused(KonnectPriority priority) {
+        lock.lock();
+        try {
+            return isPaused(priority, System.nanoTime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of requests of the given priority rejected since startup.
+     *
+     * @param priority the priority
+     * @return the number of rejected requests
+     */
+    public long getRejectedCount(KonnectPriority priority) {
+        return rejected[priority.ordinal()].sum();
+    }
+
+    /**
+     * Gets the number of requests served like interactive ones after waiting past the starvation timeout, since startup.
+     *
+     * @return the number of promoted requests
+     */
+    public long getPromotedCount() {
+        return promoted.sum();
+    }
+
+    /**
+     * Gets the share of the rate limit quota left, as last reported by Konnect.
+     *
+     * @return the remaining requests divided by the quota, or {@link Double#NaN} if Konnect did not tell
+     */
+    public double getQuotaRemaining() {
+        return quotaRemaining;
+    }
+
+    private void acquire(KonnectPriority priority, long waitNanos) throws IOException {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            Waiter waiter = new Waiter(priority, now, sequence++);
+            waiters.add(waiter);
+            queued[priority.ordinal()]++;
+            try {
+                long deadlineNanos = now + waitNanos;
+                while (next(now) != waiter) {
+                    long remainingNanos = deadlineNanos - now;
+                    if (remainingNanos <= 0) {
+                        rejected[priority.ordinal()].increment();
+                        throw new KonnectPriorityRejectedException(priority.getValue());
+                    }
+                    changed.awaitNanos(Math.min(remainingNanos, nextChange(waiter, now)));
+                    now = System.nanoTime();
+                }
+                if (priority != KonnectPriority.INTERACTIVE && waiter.isStarving(now)) {
+                    promoted.increment();
+                }
+                inFlight[priority.ordinal()]++;
+                totalInFlight++;
+            } finally {
+                waiters.remove(waiter);
+                queued[priority.ordinal()]--;
+                // Another waiter may be next, or may use the slot this one gave up
+                changed.signalAll();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the Konnect priority scheduler", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(KonnectPriority priority) {
+        lock.lock();
+        try {
+            inFlight[priority.ordinal()]--;
+            totalInFlight--;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Pauses the priorities the quota left is no longer enough for, and resumes the others.
+     */
+    private void onResponse(ClientHttpResponse response) throws IOException {
+        boolean throttled = response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        Double remaining = KonnectApiErrors.rateLimitRemaining(response.getHeaders()::getFirst);
+        if (!throttled && remaining == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        Duration reset = throttled
+                ? KonnectApiErrors.retryAfter(response.getStatusCode(), response.getHeaders()::getFirst, now)
+                : KonnectApiErrors.rateLimitReset(response.getHeaders()::getFirst, now);
+        long resumeAt = System.nanoTime() + (reset != null ? reset.toNanos() : throttleBackoffNanos);
+        lock.lock();
+        try {
+            if (remaining != null) {
+                quotaRemaining = remaining;
+            }
+            for (KonnectPriority priority : PRIORITIES) {
+                if (priority == KonnectPriority.INTERACTIVE) {
+                    continue;
+                }
+                int index = priority.ordinal();
+                if (throttled) {
+                    pausedUntil[index] = pausedUntil[index] != 0 && pausedUntil[index] - resumeAt > 0 ? pausedUntil[index] : resumeAt;
+                } else {
+                    pausedUntil[index] = remaining < 1.0 - shares.get(priority) ? resumeAt : 0;
+                }
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the waiter the next slot goes to: the eligible waiter of the highest priority, starving waiters counting
+     * as interactive, and the longest waiting one among equals. Must be called while holding the lock.
+     *
+     * @param now the current {@link System#nanoTime()}
+     * @return the next waiter, or null if none may take a slot
+     */
+    private Waiter next(long now) {
+        Waiter next = null;
+        for (Waiter waiter : waiters) {
+            KonnectPriority effective = waiter.effectivePriority(now);
+            if (isPaused(waiter.priority, now) || totalInFlight >= limits[effective.ordinal()]) {
+                continue;
+            }
+            if (next == null || effective.ordinal() < next.effectivePriority(now).ordinal()
+                    || effective == next.effectivePriority(now) && waiter.sequence < next.sequence) {
+                next = waiter;
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Gets how long a waiter may sleep before it may become next without being signalled: when it starts starving,
+     * or when the quota pause of its priority ends.
+     */
+    private long nextChange(Waiter waiter, long now) {
+        long nanos = Long.MAX_VALUE;
+        if (!waiter.isStarving(now)) {
+            nanos = waiter.enqueuedAt + starvationNanos - now;
+        }
+        if (isPaused(waiter.priority, now)) {
+            nanos = Math.min(nanos, pausedUntil[waiter.priority.ordinal()] - now);
+        }
+        return Math.max(1, nanos);
+    }
+
+    private boolean isPaused(KonnectPriority priority, long now) {
+        long until = pausedUntil[priority.ordinal()];
+        return until != 0 && until - now > 0;
+    }
+
+    /**
+     * A request waiting for a slot.
+     */
+    private final class Waiter {
+
+        private final KonnectPriority priority;
+
+        private final long enqueuedAt;
+
+        private final long sequence;
+
+        private Waiter(KonnectPriority priority, long enqueuedAt, long sequence) {
+            this.priority = priority;
+            this.enqueuedAt = enqueuedAt;
+            this.sequence = sequence;
+        }
+
+        boolean isStarving(long now) {
+            return now - enqueuedAt >= starvationNanos;
+        }
+
+        KonnectPriority effectivePriority(long now) {
+            return isStarving(now) ? KonnectPriority.INTERACTIVE : priority;
+        }
+    }
+}
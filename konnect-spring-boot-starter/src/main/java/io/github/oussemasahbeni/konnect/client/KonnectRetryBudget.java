@@ -0,0 +1,136 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Retry budget capping the retries of calls to the Konnect API to a fraction of the requests sent over a sliding
+ * window, so that a degraded Konnect API does not get its load multiplied by the retry count of every instance.
+ *
+ * <p>The budget works as a token bucket whose tokens expire: each request sent deposits {@code ratio} tokens and each
+ * retry withdraws one, over the last {@code window}. A floor of {@code minRetriesPerSecond} lets applications with
+ * little traffic still retry. The window is made of one-second buckets, recycled as time passes.
+ *
+ * <p>As a {@link ClientHttpRequestInterceptor} of the Konnect RestClient, the budget counts the requests sent to known
+ * operations; the {@code konnect-api} retry asks it whether a failed call {@linkplain #allowsRetry() may be retried}
+ * and {@linkplain #recordRetry() records} each retry.
+ */
+public class KonnectRetryBudget implements ClientHttpRequestInterceptor {
+
+    private final double ratio;
+
+    private final int minRetriesPerSecond;
+
+    private final Clock clock;
+
+    private final long[] bucketSeconds;
+
+    private final long[] requests;
+
+    private final long[] retries;
+
+    private final LongAdder exhausted = new LongAdder();
+
+    /**
+     * Constructs a new KonnectRetryBudget.
+     *
+     * @param ratio               the maximum number of retries per request sent, e.g. {@code 0.1} for 10%
+     * @param minRetriesPerSecond the number of retries per second allowed regardless of the requests sent
+     * @param window              the period over which requests and retries are counted, at least one second
+     * @param clock               the clock giving the current time
+     */
+    public KonnectRetryBudget(double ratio, int minRetriesPerSecond, Duration window, Clock clock) {
+        int buckets = (int) Math.max(1, window.toSeconds());
+        this.ratio = ratio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.clock = clock;
+        this.bucketSeconds = new long[buckets];
+        this.requests = new long[buckets];
+        this.retries = new long[buckets];
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (KonnectOperation.resolve(request.getMethod(), request.getURI()) != null) {
+            recordRequest();
+        }
+        return execution.execute(request, body);
+    }
+
+    /**
+     * Records a request sent to the Konnect API, depositing {@code ratio} tokens in the budget.
+     */
+    public synchronized void recordRequest() {
+        requests[bucket()]++;
+    }
+
+    /**
+     * Tells whether the budget has a token left for a retry, without withdrawing it.
+     * A refusal is counted as an exhaustion of the budget.
+     *
+     * @return true if a failed call may be retried
+     */
+    public boolean allowsRetry() {
+        if (getRemaining() >= 1) {
+            return true;
+        }
+        exhausted.increment();
+        return false;
+    }
+
+    /**
+     * Records a retry, withdrawing a token from the budget.
+     */
+    public synchronized void recordRetry() {
+        retries[bucket()]++;
+    }
+
+    /**
+     * Gets the number of retries currently left in the budget.
+     *
+     * @return the number of tokens in the budget, possibly fractional or negative after concurrent retries
+     */
+    public synchronized double getRemaining() {
+        long now = clock.millis() / 1000;
+        long windowRequests = 0;
+        long windowRetries = 0;
+        for (int i = 0; i < bucketSeconds.length; i++) {
+            if (now - bucketSeconds[i] < bucketSeconds.length) {
+                windowRequests += requests[i];
+                windowRetries += retries[i];
+            }
+        }
+        return (double) minRetriesPerSecond * bucketSeconds.length + ratio * windowRequests - windowRetries;
+    }
+
+    /**
+     * Gets the number of failed calls not retried because the budget was exhausted, since startup.
+     *
+     * @return the number of exhaustions
+     */
+    public long getExhaustedCount() {
+        return exhausted.sum();
+    }
+
+    /**
+     * Gets the bucket of the current second, resetting it if it last held an older second.
+     * Must be called while holding the lock.
+     */
+    private int bucket() {
+        long now = clock.millis() / 1000;
+        int index = (int) (now % bucketSeconds.length);
+        if (bucketSeconds[index] != now) {
+            bucketSeconds[index] = now;
+            requests[index] = 0;
+            retries[index] = 0;
+        }
+        return index;
+    }
+}
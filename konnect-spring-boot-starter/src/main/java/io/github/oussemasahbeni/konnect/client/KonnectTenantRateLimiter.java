@@ -0,0 +1,155 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import io.github.oussemasahbeni.konnect.exception.KonnectTenantRateLimitedException;
+
+/**
+ * {@link ClientHttpRequestInterceptor} giving the requests of a single tenant a rate limit partition of their own, so
+ * that a merchant sending a burst of lookups cannot use up the capacity shared with the other merchants.
+ *
+ * <p>The tenant may send {@code limitForPeriod} requests per period. Once they are used, a request reserves a call of
+ * a later period and waits for it, provided that it comes within the configured maximum wait, or before its
+ * {@link KonnectDeadline} if sooner; otherwise it fails at once with a {@link KonnectTenantRateLimitedException}
+ * without being sent. Waiting parks the calling thread without pinning virtual threads.
+ */
+public class KonnectTenantRateLimiter implements ClientHttpRequestInterceptor {
+
+    private final String tenant;
+
+    private final int limitForPeriod;
+
+    private final long periodNanos;
+
+    private final long maxWaitNanos;
+
+    private final long origin = System.nanoTime();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private long cycle;
+
+    /** The calls left in the current cycle, negative once calls of later cycles are reserved */
+    private long permits;
+
+    /**
+     * Constructs a new KonnectTenantRateLimiter.
+     *
+     * @param tenant             the id of the tenant whose requests are limited
+     * @param limitForPeriod     the number of requests the tenant may send per period
+     * @param limitRefreshPeriod the period after which the requests of the tenant are counted anew
+     * @param maxWait            how long a request may wait for a later period before being rejected
+     */
+    public KonnectTenantRateLimiter(String tenant, int limitForPeriod, Duration limitRefreshPeriod, Duration maxWait) {
+        this.tenant = tenant;
+        this.limitForPeriod = limitForPeriod;
+        this.periodNanos = limitRefreshPeriod.toNanos();
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = limitForPeriod;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        KonnectDeadline deadline = KonnectDeadline.current();
+        long waitNanos = deadline != null ? Math.min(maxWaitNanos, deadline.remaining().toNanos()) : maxWaitNanos;
+        acquire(waitNanos);
+        return execution.execute(request, body);
+    }
+
+    /**
+     * Gets the id of the tenant whose requests are limited.
+     *
+     * @return the id of the tenant
+     */
+    public String getTenant() {
+        return tenant;
+    }
+
+    /**
+     * Gets the number of requests the tenant may send per period.
+     *
+     * @return the limit of the partition
+     */
+    public int getLimitForPeriod() {
+        return limitForPeriod;
+    }
+
+    /**
+     * Gets the number of requests the tenant may still send in the current period.
+     *
+     * @return the calls left, negative when calls of later periods are reserved
+     */
+    public long getAvailablePermits() {
+        lock.lock();
+        try {
+            refresh(System.nanoTime());
+            return permits;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of requests of the tenant rejected since the partition was created.
+     *
+     * @return the number of rejected requests
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private void acquire(long waitNanos) throws IOException {
+        long now = System.nanoTime();
+        long nanosToWait;
+        lock.lock();
+        try {
+            refresh(now);
+            if (permits > 0) {
+                permits--;
+                return;
+            }
+            // The call is served in the first cycle whose permits are not reserved yet
+            long cyclesAhead = 1 + (-permits) / limitForPeriod;
+            nanosToWait = origin + (cycle + cyclesAhead) * periodNanos - now;
+            if (nanosToWait > waitNanos) {
+                rejected.increment();
+                throw new KonnectTenantRateLimitedException(tenant, limitForPeriod);
+            }
+            permits--;
+        } finally {
+            lock.unlock();
+        }
+        long waitUntil = now + nanosToWait;
+        for (long remaining = nanosToWait; remaining > 0; remaining = waitUntil - System.nanoTime()) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the Konnect rate limit of tenant " + tenant);
+            }
+        }
+    }
+
+    /**
+     * Adds the permits of the cycles elapsed since the last call, up to a full period. Must be called while holding
+     * the lock.
+     */
+    private void refresh(long now) {
+        long currentCycle = (now - origin) / periodNanos;
+        if (currentCycle > cycle) {
+            long elapsed = currentCycle - cycle;
+            permits = Math.min(permits + elapsed * limitForPeriod, limitForPeriod);
+            cycle = currentCycle;
+        }
+    }
+}
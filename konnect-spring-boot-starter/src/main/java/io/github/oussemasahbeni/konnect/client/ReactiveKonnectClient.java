@@ -0,0 +1,134 @@
+package io.github.oussemasahbeni.konnect.client;
+
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.oussemasahbeni.konnect.autoconfigure.KonnectProperties;
+import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
+import io.github.oussemasahbeni.konnect.exception.KonnectTransportException;
+import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentRequest;
+import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentResponse;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+
+/**
+ * Reactive counterpart of {@link KonnectClient}, built on {@link WebClient}.
+ * Every operation returns a cold {@link Mono}: nothing is sent until it is subscribed,
+ * and every new subscription sends a new request.
+ *
+ * <p>Error responses are mapped exactly like {@link KonnectClient} does: the returned
+ * {@link Mono} terminates with a {@link KonnectApiException}. Network failures terminate it with a
+ * {@link KonnectTransportException}.
+ *
+ * @see io.github.oussemasahbeni.konnect.core.ReactiveKonnectTemplate
+ */
+public class ReactiveKonnectClient {
+
+    private static final boolean REACTOR_NETTY_PRESENT = ClassUtils.isPresent(
+            "reactor.netty.http.client.HttpClientRequest", ReactiveKonnectClient.class.getClassLoader());
+
+    private final WebClient webClient;
+    private final Map<KonnectOperation, Consumer<ClientHttpRequest>> readTimeouts = new EnumMap<>(KonnectOperation.class);
+    private final Map<KonnectOperation, Function<ClientResponse, Mono<? extends Throwable>>> errorHandlers =
+            new EnumMap<>(KonnectOperation.class);
+
+    /**
+     * Constructs a new ReactiveKonnectClient with the provided WebClient and ObjectMapper.
+     * The WebClient should be pre-configured with the Konnect API base URL and authentication headers.
+     *
+     * @param konnectWebClient  A pre-configured WebClient with base URL and authentication
+     * @param konnectProperties The configuration properties providing the per-operation read timeouts
+     * @param objectMapper      The ObjectMapper for error handling
+     */
+    public ReactiveKonnectClient(WebClient konnectWebClient, KonnectProperties konnectProperties, ObjectMapper objectMapper) {
+        this.webClient = konnectWebClient;
+        for (KonnectOperation operation : KonnectOperation.values()) {
+            this.readTimeouts.put(operation, readTimeout(konnectProperties.readTimeout(operation)));
+            this.errorHandlers.put(operation, response -> handleApiError(objectMapper, operation, response));
+        }
+    }
+
+    /**
+     * Calls the Konnect API to initiate a new payment.
+     *
+     * @param paymentRequest The payment request object.
+     * @return A Mono emitting the payment URL and reference.
+     */
+    public Mono<InitKonnectPaymentResponse> initiatePayment(InitKonnectPaymentRequest paymentRequest) {
+        return webClient.post()
+                .uri("/payments/init-payment")
+                .httpRequest(readTimeouts.get(KonnectOperation.INIT_PAYMENT))
+                .bodyValue(paymentRequest)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, errorHandlers.get(KonnectOperation.INIT_PAYMENT))
+                .bodyToMono(InitKonnectPaymentResponse.class)
+                .onErrorMap(WebClientRequestException.class,
+                        e -> KonnectApiErrors.transportFailure(KonnectOperation.INIT_PAYMENT, e));
+    }
+
+    /**
+     * Get payment details for a given payment reference.
+     *
+     * @param paymentRef The reference of the payment to retrieve details for.
+     * @return A Mono emitting the details of the payment, or terminating with a {@link KonnectApiException}.
+     */
+    public Mono<PaymentResponse> getPaymentDetails(String paymentRef) {
+        return webClient.get()
+                .uri("/payments/" + paymentRef)
+                .httpRequest(readTimeouts.get(KonnectOperation.GET_PAYMENT))
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, errorHandlers.get(KonnectOperation.GET_PAYMENT))
+                .bodyToMono(PaymentResponse.class)
+                .onErrorMap(WebClientRequestException.class,
+                        e -> KonnectApiErrors.transportFailure(KonnectOperation.GET_PAYMENT, e));
+    }
+
+    private static Consumer<ClientHttpRequest> readTimeout(Duration readTimeout) {
+        return request -> {
+            if (REACTOR_NETTY_PRESENT) {
+                ReactorNetty.applyResponseTimeout(request, readTimeout);
+            }
+        };
+    }
+
+    /**
+     * Maps an error response to a {@link KonnectApiException}, like {@link KonnectClient} does.
+     *
+     * @param objectMapper The ObjectMapper to parse the error response.
+     * @param operation    The operation of the failed request.
+     * @param response     The ClientResponse containing the error details.
+     * @return a Mono terminating with the exception
+     */
+    private static Mono<KonnectApiException> handleApiError(ObjectMapper objectMapper, KonnectOperation operation,
+                                                            ClientResponse response) {
+        Function<String, String> headers = response.headers().asHttpHeaders()::getFirst;
+        return response.bodyToMono(byte[].class)
+                .defaultIfEmpty(new byte[0])
+                .map(bodyBytes -> KonnectApiErrors.toException(objectMapper, operation, response.statusCode(), headers, bodyBytes))
+                .onErrorResume(e -> !(e instanceof KonnectApiException),
+                        e -> Mono.just(KonnectApiErrors.unreadable(operation, response.statusCode(), headers, e)));
+    }
+
+    private static final class ReactorNetty {
+
+        static void applyResponseTimeout(ClientHttpRequest request, Duration readTimeout) {
+            if (request.getNativeRequest() instanceof HttpClientRequest nettyRequest) {
+                nettyRequest.responseTimeout(readTimeout);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+
+/**
+ * {@link PaymentDetailsCache} backed by Caffeine.
+ * The cache is bounded by size with Caffeine's W-TinyLFU eviction, each entry expires after the time-to-live
+ * given by the {@link PaymentDetailsCachePolicy} when it was written, and hit/miss statistics are recorded.
+ */
+public class CaffeinePaymentDetailsCache implements PaymentDetailsCache {
+
+    private final PaymentDetailsCachePolicy policy;
+    private final Cache<PaymentRef, PaymentResponse> cache;
+
+    /**
+     * Constructs a new CaffeinePaymentDetailsCache.
+     *
+     * @param policy      the policy deciding how long entries are kept
+     * @param maximumSize the maximum number of entries
+     */
+    public CaffeinePaymentDetailsCache(PaymentDetailsCachePolicy policy, long maximumSize) {
+        this.policy = policy;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<PaymentRef, PaymentResponse>writing((paymentRef, response) -> policy.timeToLive(response)))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public PaymentResponse get(PaymentRef paymentRef) {
+        return cache.getIfPresent(paymentRef);
+    }
+
+    @Override
+    public void put(PaymentRef paymentRef, PaymentResponse response) {
+        if (policy.timeToLive(response).isPositive()) {
+            cache.put(paymentRef, response);
+        } else {
+            cache.invalidate(paymentRef);
+        }
+    }
+
+    @Override
+    public void invalidate(PaymentRef paymentRef) {
+        cache.invalidate(paymentRef);
+    }
+
+    @Override
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
+}
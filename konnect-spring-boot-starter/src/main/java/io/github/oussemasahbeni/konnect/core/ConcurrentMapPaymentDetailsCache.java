@@ -0,0 +1,108 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+
+/**
+ * {@link PaymentDetailsCache} backed by a {@link ConcurrentHashMap}, used when Caffeine is not on the classpath.
+ * Expired entries are removed when they are read, or when the cache is full. Once full, new entries are
+ * not cached until some expire: unlike {@link CaffeinePaymentDetailsCache}, no live entry is ever evicted.
+ */
+public class ConcurrentMapPaymentDetailsCache implements PaymentDetailsCache {
+
+    private final PaymentDetailsCachePolicy policy;
+    private final long maximumSize;
+    private final ConcurrentMap<PaymentRef, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a new ConcurrentMapPaymentDetailsCache.
+     *
+     * @param policy      the policy deciding how long entries are kept
+     * @param maximumSize the maximum number of entries
+     */
+    public ConcurrentMapPaymentDetailsCache(PaymentDetailsCachePolicy policy, long maximumSize) {
+        this.policy = policy;
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public PaymentResponse get(PaymentRef paymentRef) {
+        Entry entry = entries.get(paymentRef);
+        if (entry != null && entry.isExpired(System.nanoTime())) {
+            if (entries.remove(paymentRef, entry)) {
+                evictions.increment();
+            }
+            entry = null;
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.response();
+    }
+
+    @Override
+    public void put(PaymentRef paymentRef, PaymentResponse response) {
+        long timeToLive = policy.timeToLive(response).toNanos();
+        if (timeToLive <= 0) {
+            entries.remove(paymentRef);
+            return;
+        }
+        if (entries.size() >= maximumSize && !entries.containsKey(paymentRef)) {
+            removeExpired();
+            if (entries.size() >= maximumSize) {
+                return;
+            }
+        }
+        entries.put(paymentRef, new Entry(response, System.nanoTime() + timeToLive));
+    }
+
+    @Override
+    public void invalidate(PaymentRef paymentRef) {
+        entries.remove(paymentRef);
+    }
+
+    @Override
+    public long getSize() {
+        return entries.size();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private void removeExpired() {
+        long now = System.nanoTime();
+        entries.forEach((paymentRef, entry) -> {
+            if (entry.isExpired(now) && entries.remove(paymentRef, entry)) {
+                evictions.increment();
+            }
+        });
+    }
+
+    private record Entry(PaymentResponse response, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
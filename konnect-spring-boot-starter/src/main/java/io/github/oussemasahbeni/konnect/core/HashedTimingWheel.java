@@ -0,0 +1,116 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * A hashed timing wheel: tasks are hashed by their deadline into a fixed ring of buckets, one per tick.
+ * Scheduling is O(1) whatever the number of pending tasks, at the cost of firing tasks with up to one tick of delay.
+ * Deadlines further than a full turn of the wheel are kept in their bucket with a number of remaining rounds.
+ *
+ * <p>{@link #schedule(Object, long)} may be called from any thread; new tasks are handed over through a lock-free
+ * queue. {@link #expire(long, Consumer)} must always be called from the same thread, which owns the buckets.
+ *
+ * @param <T> the type of the scheduled tasks
+ */
+final class HashedTimingWheel<T> {
+
+    private final long tickNanos;
+    private final long startedAt;
+    private final int mask;
+    private final ArrayDeque<Timeout<T>>[] buckets;
+    private final Queue<Timeout<T>> added = new ConcurrentLinkedQueue<>();
+
+    private long tick;
+
+    /**
+     * Constructs a new HashedTimingWheel.
+     *
+     * @param tickDuration the duration of a tick, the precision of the wheel
+     * @param ticksPerWheel the number of buckets, rounded up to a power of two
+     * @param startedAt    the {@link System#nanoTime()} of the first tick
+     */
+    @SuppressWarnings("unchecked")
+    HashedTimingWheel(Duration tickDuration, int ticksPerWheel, long startedAt) {
+        int size = ticksPerWheel <= 1 ? 1 : Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        this.tickNanos = tickDuration.toNanos();
+        this.startedAt = startedAt;
+        this.mask = size - 1;
+        this.buckets = new ArrayDeque[size];
+        for (int i = 0; i < size; i++) {
+            this.buckets[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Schedules a task.
+     *
+     * @param task     the task
+     * @param deadline the {@link System#nanoTime()} at which the task is due
+     */
+    void schedule(T task, long deadline) {
+        added.add(new Timeout<>(task, deadline));
+    }
+
+    /**
+     * Advances the wheel up to the given time, passing every task that became due to the consumer.
+     *
+     * @param now      the current {@link System#nanoTime()}
+     * @param consumer the consumer receiving the due tasks
+     */
+    void expire(long now, Consumer<T> consumer) {
+        long lastTick = (now - startedAt) / tickNanos;
+        while (tick <= lastTick) {
+            transferAddedTimeouts();
+            Iterator<Timeout<T>> iterator = buckets[(int) (tick & mask)].iterator();
+            while (iterator.hasNext()) {
+                Timeout<T> timeout = iterator.next();
+                if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                } else {
+                    iterator.remove();
+                    consumer.accept(timeout.task);
+                }
+            }
+            tick++;
+        }
+    }
+
+    /**
+     * Gets the {@link System#nanoTime()} at which the next tick is due.
+     *
+     * @return the start of the next tick
+     */
+    long nextTickAt() {
+        return startedAt + tick * tickNanos;
+    }
+
+    private void transferAddedTimeouts() {
+        Timeout<T> timeout;
+        while ((timeout = added.poll()) != null) {
+            long deadlineTick = Math.max(ceilDiv(timeout.deadline - startedAt, tickNanos), tick);
+            timeout.remainingRounds = (deadlineTick - tick) / buckets.length;
+            buckets[(int) (deadlineTick & mask)].add(timeout);
+        }
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return dividend <= 0 ? 0 : (dividend + divisor - 1) / divisor;
+    }
+
+    private static final class Timeout<T> {
+
+        private final T task;
+        private final long deadline;
+        private long remainingRounds;
+
+        Timeout(T task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+
+/**
+ * {@link WebhookDeduplicationStore} keeping handled payments in memory for a fixed time-to-live.
+ *
+ * <p>Entries are spread over a power-of-two number of stripes by the hash of their {@link PaymentRef}, each stripe
+ * guarded by its own lock, so webhooks for different payments rarely contend. Since every entry lives for the same
+ * time, each stripe keeps its entries in insertion order: expired entries are always at its head and are purged on
+ * every write. When a stripe is full, its oldest entry is evicted.
+ */
+public class InMemoryWebhookDeduplicationStore implements WebhookDeduplicationStore {
+
+    private final long timeToLive;
+    private final int stripeCapacity;
+    private final Clock clock;
+    private final Stripe[] stripes;
+
+    /**
+     * Constructs a new InMemoryWebhookDeduplicationStore.
+     *
+     * @param timeToLive  how long handled payments are remembered
+     * @param maximumSize the maximum number of remembered payments
+     * @param stripes     the number of independently locked stripes, rounded up to a power of two
+     * @param clock       the clock giving the current time
+     */
+    public InMemoryWebhookDeduplicationStore(Duration timeToLive, long maximumSize, int stripes, Clock clock) {
+        int stripeCount = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.timeToLive = timeToLive.toMillis();
+        this.stripeCapacity = (int) Math.max(1, Math.min(Integer.MAX_VALUE, maximumSize / stripeCount));
+        this.clock = clock;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public PaymentResponse getHandled(PaymentRef paymentRef) {
+        Stripe stripe = stripeOf(paymentRef);
+        long now = clock.millis();
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(paymentRef);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired(now)) {
+                stripe.entries.remove(paymentRef);
+                return null;
+            }
+            return entry.response();
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void markHandled(PaymentRef paymentRef, PaymentResponse response) {
+        Stripe stripe = stripeOf(paymentRef);
+        long now = clock.millis();
+        stripe.lock.lock();
+        try {
+            stripe.removeExpired(now);
+            // Re-inserting moves the entry to the tail, keeping the stripe ordered by expiry
+            stripe.entries.remove(paymentRef);
+            stripe.entries.put(paymentRef, new Entry(response, now + timeToLive));
+            if (stripe.entries.size() > stripeCapacity) {
+                Iterator<PaymentRef> oldest = stripe.entries.keySet().iterator();
+                oldest.next();
+                oldest.remove();
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public long getSize() {
+        long size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeOf(PaymentRef paymentRef) {
+        return stripes[paymentRef.hashCode() & (stripes.length - 1)];
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<PaymentRef, Entry> entries = new LinkedHashMap<>();
+
+        void removeExpired(long now) {
+            Iterator<Map.Entry<PaymentRef, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext() && iterator.next().getValue().isExpired(now)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private record Entry(PaymentResponse response, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package io.github.oussemasahbeni.konnect.core;
+
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.github.oussemasahbeni.konnect.autoconfigure.KonnectProperties;
+import io.github.oussemasahbeni.konnect.client.KonnectAsyncClient;
+import io.github.oussemasahbeni.konnect.exception.InvalidPaymentReferenceException;
+import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
+import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentRequest;
+import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentResponse;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import static io.github.oussemasahbeni.konnect.core.KonnectObservationDocumentation.HighCardinalityKeyNames.ORDER_ID;
+import static io.github.oussemasahbeni.konnect.core.KonnectObservationDocumentation.HighCardinalityKeyNames.PAYMENT_REF;
+import static io.github.oussemasahbeni.konnect.core.KonnectObservationDocumentation.LowCardinalityKeyNames.OPERATION;
+import static io.github.oussemasahbeni.konnect.core.KonnectObservationDocumentation.LowCardinalityKeyNames.STATUS;
+
+/**
+ * Non-blocking counterpart of {@link KonnectTemplate}.
+ * It applies the same configured defaults as {@link KonnectTemplate}, but every operation returns a
+ * {@link CompletableFuture} instead of blocking the calling thread.
+ *
+ * <p>Overloads accepting an {@link Executor} let callers choose where the response is decoded and dependent stages
+ * run. When the {@code konnect-api} Resilience4j retry or rate limiter applies, the returned future is the one of
+ * Resilience4j, so cancelling it does not abort the HTTP exchange in flight, which still ends within the read
+ * timeout of its operation. Call the {@link KonnectAsyncClient} directly to cancel exchanges.
+ *
+ * <p>Each call is wrapped in a {@link KonnectObservationDocumentation#TEMPLATE} observation, started on the calling
+ * thread as a child of its current observation and stopped when the returned future completes.
+ */
+public class KonnectAsyncTemplate {
+
+
+    private static final String RESILIENCE_CONFIG_NAME = "konnect-api";
+
+
+    private final KonnectAsyncClient konnectAsyncClient;
+    private final KonnectProperties konnectProperties;
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * Constructs a new KonnectAsyncTemplate with the specified client and properties.
+     * This constructor is typically called by Spring's auto-configuration.
+     *
+     * @param konnectAsyncClient The non-blocking HTTP client for making API calls to Konnect
+     * @param konnectProperties  The configuration properties containing defaults and API settings
+     */
+    public KonnectAsyncTemplate(KonnectAsyncClient konnectAsyncClient, KonnectProperties konnectProperties) {
+        this(konnectAsyncClient, konnectProperties, ObservationRegistry.NOOP);
+    }
+
+    /**
+     * Constructs a new KonnectAsyncTemplate recording an observation of each call in the given registry.
+     *
+     * @param konnectAsyncClient  The non-blocking HTTP client for making API calls to Konnect
+     * @param konnectProperties   The configuration properties containing defaults and API settings
+     * @param observationRegistry The registry recording the observations of each call
+     */
+    public KonnectAsyncTemplate(KonnectAsyncClient konnectAsyncClient, KonnectProperties konnectProperties,
+                                ObservationRegistry observationRegistry) {
+        this.konnectAsyncClient = konnectAsyncClient;
+        this.konnectProperties = konnectProperties;
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * Initiates a payment with the minimum required information, using all configured defaults.
+     *
+     * @param amount The payment amount.
+     * @return A future completed with the response from the Konnect API.
+     */
+    @RateLimiter(name = RESILIENCE_CONFIG_NAME)
+    @Retry(name = RESILIENCE_CONFIG_NAME)
+    public CompletableFuture<InitKonnectPaymentResponse> initiatePayment(BigDecimal amount) {
+        return initiatePayment(amount, null);
+    }
+
+    /**
+     * Initiates a payment, allowing for custom overrides of the default configuration.
+     *
+     * @param amount     The payment amount.
+     * @param customizer A consumer function that receives a pre-configured builder to allow for overrides.
+     * @return A future completed with the response from the Konnect API.
+     */
+    @RateLimiter(name = RESILIENCE_CONFIG_NAME)
+    @Retry(name = RESILIENCE_CONFIG_NAME)
+    public CompletableFuture<InitKonnectPaymentResponse> initiatePayment(BigDecimal amount, Consumer<InitKonnectPaymentRequest.Builder> customizer) {
+        InitKonnectPaymentRequest finalRequest = KonnectPaymentRequests.create(konnectProperties, amount, customizer);
+        return observeInitiatePayment(finalRequest, () -> konnectAsyncClient.initiatePayment(finalRequest));
+    }
+
+    /**
+     * Initiates a payment, allowing for custom overrides of the default configuration.
+     *
+     * @param amount     The payment amount.
+     * @param customizer A consumer function that receives a pre-configured builder to allow for overrides.
+     * @param executor   The executor running response decoding and dependent stages.
+     * @return A future completed with the response from the Konnect API.
+     */
+    @RateLimiter(name = RESILIENCE_CONFIG_NAME)
+    @Retry(name = RESILIENCE_CONFIG_NAME)
+    public CompletableFuture<InitKonnectPaymentResponse> initiatePayment(BigDecimal amount, Consumer<InitKonnectPaymentRequest.Builder> customizer,
+                                                                         Executor executor) {
+        InitKonnectPaymentRequest finalRequest = KonnectPaymentRequests.create(konnectProperties, amount, customizer);
+        return observeInitiatePayment(finalRequest, () -> konnectAsyncClient.initiatePayment(finalRequest, executor));
+    }
+
+    /**
+     * Get payment details for a given payment reference.
+     * An invalid reference completes the returned future with an {@link InvalidPaymentReferenceException}
+     * without calling the Konnect API.
+     *
+     * @param paymentRef The reference of the payment to retrieve details for.
+     * @return A future completed with the details of the payment, or with a {@link KonnectApiException}.
+     */
+    @RateLimiter(name = RESILIENCE_CONFIG_NAME)
+    @Retry(name = RESILIENCE_CONFIG_NAME)
+    public CompletableFuture<PaymentResponse> getPaymentDetails(String paymentRef) {
+        if (!PaymentRefValidator.validate(paymentRef)) {
+            return CompletableFuture.failedFuture(new InvalidPaymentReferenceException("Invalid payment reference format", paymentRef));
+        }
+        return observeGetPaymentDetails(paymentRef, () -> konnectAsyncClient.getPaymentDetails(paymentRef));
+    }
+
+    /**
+     * Get payment details for a given payment reference.
+     * An invalid reference completes the returned future with an {@link InvalidPaymentReferenceException}
+     * without calling the Konnect API.
+     *
+     * @param paymentRef The reference of the payment to retrieve details for.
+     * @param executor   The executor running response decoding and dependent stages.
+     * @return A future completed with the details of the payment, or with a {@link KonnectApiException}.
+     */
+    @RateLimiter(name = RESILIENCE_CONFIG_NAME)
+    @Retry(name = RESILIENCE_CONFIG_NAME)
+    public CompletableFuture<PaymentResponse> getPaymentDetails(String paymentRef, Executor executor) {
+        if (!PaymentRefValidator.validate(paymentRef)) {
+            return CompletableFuture.failedFuture(new InvalidPaymentReferenceException("Invalid payment reference format", paymentRef));
+        }
+        return observeGetPaymentDetails(paymentRef, () -> konnectAsyncClient.getPaymentDetails(paymentRef, executor));
+    }
+
+    private CompletableFuture<InitKonnectPaymentResponse> observeInitiatePayment(InitKonnectPaymentRequest request,
+                                                                                  Supplier<CompletableFuture<InitKonnectPaymentResponse>> call) {
+        Observation observation = KonnectObservationDocumentation.TEMPLATE.observation(observationRegistry)
+                .contextualName("konnect init-payment")
+                .lowCardinalityKeyValue(OPERATION.withValue("init-payment"))
+                .lowCardinalityKeyValue(STATUS.withValue(KonnectObservationDocumentation.NONE))
+                .highCardinalityKeyValue(ORDER_ID.withValue(request.getOrderId() != null
+                        ? request.getOrderId() : KonnectObservationDocumentation.NONE));
+        return observe(observation, call, (o, response) -> {
+            if (response != null && response.paymentRef() != null) {
+                o.highCardinalityKeyValue(PAYMENT_REF.withValue(response.paymentRef()));
+            }
+        });
+    }
+
+    private CompletableFuture<PaymentResponse> observeGetPaymentDetails(String paymentRef,
+                                                                        Supplier<CompletableFuture<PaymentResponse>> call) {
+        Observation observation = KonnectObservationDocumentation.TEMPLATE.observation(observationRegistry)
+                .contextualName("konnect get-payment")
+                .lowCardinalityKeyValue(OPERATION.withValue("get-payment"))
+                .lowCardinalityKeyValue(STATUS.withValue(KonnectObservationDocumentation.NONE))
+                .highCardinalityKeyValue(PAYMENT_REF.withValue(paymentRef));
+        return observe(observation, call, (o, paymentDetails) ->
+                o.lowCardinalityKeyValue(STATUS.withValue(KonnectObservationDocumentation.paymentStatus(paymentDetails))));
+    }
+
+    /**
+     * Starts the observation, sends the call within its scope, and stops it when the call completes.
+     * The future of the call is returned as is, so that cancelling it aborts the HTTP exchange unless Resilience4j
+     * decorates it.
+     */
+    private static <T> CompletableFuture<T> observe(Observation observation, Supplier<CompletableFuture<T>> call,
+                                                    BiConsumer<Observation, T> onResult) {
+        observation.start();
+        CompletableFuture<T> future;
+        try (Observation.Scope ignored = observation.openScope()) {
+            future = call.get();
+        } catch (RuntimeException e) {
+            observation.error(e);
+            observation.stop();
+            throw e;
+        }
+        future.whenComplete((result, failure) -> {
+            if (failure != null) {
+                observation.error(failure);
+            } else {
+                onResult.accept(observation, result);
+            }
+            observation.stop();
+        });
+        return future;
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.model.KonnectPayment;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Documents the Micrometer {@link io.micrometer.observation.Observation}s recorded by the starter.
+ * They nest as follows: a webhook observation contains the template observation of its lookup, which contains
+ * one client observation per request sent to Konnect, that is one per Resilience4j retry attempt.
+ *
+ * @see KonnectTemplate
+ * @see KonnectWebhookHandler
+ * @see io.github.oussemasahbeni.konnect.client.KonnectClient
+ */
+public enum KonnectObservationDocumentation implements ObservationDocumentation {
+
+    /**
+     * A call to the {@link KonnectTemplate} or the {@link KonnectAsyncTemplate}.
+     */
+    TEMPLATE {
+        @Override
+        public String getName() {
+            return "konnect.template";
+        }
+
+        @Override
+        public KeyName[] getLowCardinalityKeyNames() {
+            return new KeyName[]{LowCardinalityKeyNames.OPERATION, LowCardinalityKeyNames.STATUS};
+        }
+
+        @Override
+        public KeyName[] getHighCardinalityKeyNames() {
+            return new KeyName[]{HighCardinalityKeyNames.PAYMENT_REF, HighCardinalityKeyNames.ORDER_ID};
+        }
+    },
+
+    /**
+     * A single HTTP request sent to the Konnect API by the {@link io.github.oussemasahbeni.konnect.client.KonnectClient}.
+     */
+    CLIENT {
+        @Override
+        public String getName() {
+            return "konnect.client";
+        }
+
+        @Override
+        public KeyName[] getLowCardinalityKeyNames() {
+            return new KeyName[]{LowCardinalityKeyNames.OPERATION, LowCardinalityKeyNames.STATUS,
+                    LowCardinalityKeyNames.RETRY_ATTEMPT};
+        }
+
+        @Override
+        public KeyName[] getHighCardinalityKeyNames() {
+            return new KeyName[]{HighCardinalityKeyNames.PAYMENT_REF};
+        }
+    },
+
+    /**
+     * The processing of a webhook, or of a poll, by the {@link KonnectWebhookHandler}.
+     */
+    WEBHOOK {
+        @Override
+        public String getName() {
+            return "konnect.webhook";
+        }
+
+        @Override
+        public KeyName[] getLowCardinalityKeyNames() {
+            return new KeyName[]{LowCardinalityKeyNames.OPERATION, LowCardinalityKeyNames.STATUS};
+        }
+
+        @Override
+        public KeyName[] getHighCardinalityKeyNames() {
+            return new KeyName[]{HighCardinalityKeyNames.PAYMENT_REF};
+        }
+    };
+
+    /** The value of key names whose value is not known */
+    public static final String NONE = "none";
+
+    /**
+     * Gets the value of the {@link LowCardinalityKeyNames#STATUS} key of the given payment details.
+     *
+     * @param paymentDetails the payment details, may be null
+     * @return the status of the payment, or {@link #NONE}
+     */
+    static String paymentStatus(PaymentResponse paymentDetails) {
+        KonnectPayment payment = paymentDetails != null ? paymentDetails.payment() : null;
+        return payment != null && payment.status() != null ? payment.status().getValue() : NONE;
+    }
+
+    /**
+     * Key names with a bounded set of values, added to spans and metrics.
+     */
+    public enum LowCardinalityKeyNames implements KeyName {
+
+        /** The operation, e.g. {@code init-payment}, {@code get-payment} or {@code process-webhook} */
+        OPERATION {
+            @Override
+            public String asString() {
+                return "konnect.operation";
+            }
+        },
+
+        /** The payment status for template and webhook observations, the HTTP status code for client observations */
+        STATUS {
+            @Override
+            public String asString() {
+                return "konnect.status";
+            }
+        },
+
+        /** The number of the request among the attempts of the same call, starting at 1 */
+        RETRY_ATTEMPT {
+            @Override
+            public String asString() {
+                return "konnect.retry.attempt";
+            }
+        }
+    }
+
+    /**
+     * Key names with an unbounded set of values, only added to spans.
+     */
+    public enum HighCardinalityKeyNames implements KeyName {
+
+        /** The reference of the payment */
+        PAYMENT_REF {
+            @Override
+            public String asString() {
+                return "konnect.payment.ref";
+            }
+        },
+
+        /** The order id of an initiated payment */
+        ORDER_ID {
+            @Override
+            public String asString() {
+                return "konnect.order.id";
+            }
+        }
+    }
+}
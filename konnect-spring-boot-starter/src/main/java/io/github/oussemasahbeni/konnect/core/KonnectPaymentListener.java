@@ -0,0 +1,24 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+
+/**
+ * Callback notified with the authoritative details of a payment each time a webhook for it has been processed,
+ * including the polls of the {@link KonnectPaymentPoller}.
+ * Declare listeners as Spring beans: the auto-configuration registers every {@code KonnectPaymentListener}
+ * bean with the {@link KonnectWebhookHandler}, in {@link org.springframework.core.annotation.Order} order.
+ *
+ * <p>Listeners are invoked on the thread processing the webhook: the caller of
+ * {@link KonnectWebhookHandler#processWebhook(String)}, or a worker of the {@link KonnectWebhookQueue}.
+ * An exception thrown by a listener is logged and does not prevent the other listeners from being notified.
+ */
+@FunctionalInterface
+public interface KonnectPaymentListener {
+
+    /**
+     * Called with the payment details fetched from the Konnect API for a webhook.
+     *
+     * @param paymentResponse the authoritative payment details
+     */
+    void onPayment(PaymentResponse paymentResponse);
+}
@@ -0,0 +1,268 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.oussemasahbeni.konnect.client.KonnectPriority;
+import io.github.oussemasahbeni.konnect.exception.InvalidPaymentReferenceException;
+import io.github.oussemasahbeni.konnect.model.KonnectPayment;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus;
+
+/**
+ * Polls the status of pending payments, as a safety net for lost webhooks.
+ *
+ * <p>Tracked payments are scheduled on a {@link HashedTimingWheel} driven by a single thread, so tracking hundreds of
+ * thousands of payments costs one small entry each and no thread. Polls are spaced by a {@link PaymentPollingBackoff};
+ * due polls run on virtual threads, at most {@code parallelism} at a time. A payment stops being tracked once a poll
+ * reports it {@link KonnectPaymentStatus#COMPLETED} or {@link KonnectPaymentStatus#EXPIRED}, or once its lifespan has
+ * passed: the last poll is made at the end of its lifespan. As a {@link KonnectPaymentListener}, the poller also stops
+ * tracking a payment as soon as a webhook reports such a status, without waiting for its next poll.
+ *
+ * <p>Each poll goes through the given loader, typically {@link KonnectWebhookHandler#processWebhook(String)}, so that
+ * poll results reach the {@link KonnectPaymentListener}s exactly like webhooks. Polls run as
+ * {@link KonnectPriority#BACKGROUND} calls, so that they give way to checkouts.
+ */
+public class KonnectPaymentPoller implements KonnectPaymentListener, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(KonnectPaymentPoller.class);
+
+    private final PaymentDetailsLoader loader;
+    private final PaymentPollingBackoff backoff;
+    private final HashedTimingWheel<TrackedPayment> wheel;
+    private final ConcurrentMap<PaymentRef, TrackedPayment> tracked = new ConcurrentHashMap<>();
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Thread ticker;
+
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder failedPolls = new LongAdder();
+    private final LongAdder settled = new LongAdder();
+    private final LongAdder abandoned = new LongAdder();
+
+    private volatile boolean running = true;
+
+    /**
+     * Constructs a new KonnectPaymentPoller and starts its timing wheel.
+     *
+     * @param loader        the loader polling the details of a payment
+     * @param backoff       the backoff between the polls of a payment
+     * @param tickDuration  the precision of the timing wheel
+     * @param ticksPerWheel the number of buckets of the timing wheel
+     * @param parallelism   the maximum number of polls in flight
+     */
+    public KonnectPaymentPoller(PaymentDetailsLoader loader, PaymentPollingBackoff backoff, Duration tickDuration,
+                                int ticksPerWheel, int parallelism) {
+        this.loader = loader;
+        this.backoff = backoff;
+        this.wheel = new HashedTimingWheel<>(tickDuration, ticksPerWheel, System.nanoTime());
+        this.permits = new Semaphore(parallelism);
+        this.ticker = Thread.ofPlatform().name("konnect-payment-poller").daemon().start(this::tick);
+    }
+
+    /**
+     * Starts polling the status of a payment until it completes, expires, or its lifespan passes.
+     * Tracking a payment that is already tracked has no effect.
+     *
+     * @param paymentRef the payment reference
+     * @param lifespan   the lifespan of the payment, counted from now
+     * @return {@code true} if the payment is now tracked, {@code false} if it already was or the poller is closed
+     * @throws InvalidPaymentReferenceException if the ref has an invalid format
+     */
+    public boolean track(String paymentRef, Duration lifespan) {
+        PaymentRef key = PaymentRef.parse(paymentRef);
+        if (!running) {
+            return false;
+        }
+        long now = System.nanoTime();
+        TrackedPayment payment = new TrackedPayment(key, paymentRef, now + lifespan.toNanos());
+        if (tracked.putIfAbsent(key, payment) != null) {
+            return false;
+        }
+        scheduleNextPoll(payment, now);
+        return true;
+    }
+
+    /**
+     * Stops polling the status of a payment.
+     *
+     * @param paymentRef the payment reference
+     * @return {@code true} if the payment was tracked
+     * @throws InvalidPaymentReferenceException if the ref has an invalid format
+     */
+    public boolean untrack(String paymentRef) {
+        return tracked.remove(PaymentRef.parse(paymentRef)) != null;
+    }
+
+    /**
+     * Stops tracking a payment once it completed or expired, whether a webhook or a poll reported it.
+     *
+     * @param paymentResponse the authoritative payment details
+     */
+    @Override
+    public void onPayment(PaymentResponse paymentResponse) {
+        KonnectPayment payment = paymentResponse.payment();
+        if (!isSettled(payment) || !PaymentRefValidator.validate(payment.id())) {
+            return;
+        }
+        if (tracked.remove(PaymentRef.parse(payment.id())) != null) {
+            settled.increment();
+        }
+    }
+
+    /**
+     * Gets the number of payments whose status is being polled.
+     *
+     * @return the number of tracked payments
+     */
+    public int getTrackedCount() {
+        return tracked.size();
+    }
+
+    /**
+     * Gets the number of successful polls.
+     *
+     * @return the number of polls
+     */
+    public long getPollCount() {
+        return polls.sum();
+    }
+
+    /**
+     * Gets the number of failed polls.
+     *
+     * @return the number of failed polls
+     */
+    public long getFailedPollCount() {
+        return failedPolls.sum();
+    }
+
+    /**
+     * Gets the number of payments no longer tracked because they completed or expired.
+     *
+     * @return the number of settled payments
+     */
+    public long getSettledCount() {
+        return settled.sum();
+    }
+
+    /**
+     * Gets the number of payments no longer tracked because their lifespan passed while they were still pending.
+     *
+     * @return the number of abandoned payments
+     */
+    public long getAbandonedCount() {
+        return abandoned.sum();
+    }
+
+    /**
+     * Stops the timing wheel and cancels the polls in flight. Tracked payments are forgotten.
+     */
+    @Override
+    public void close() {
+        running = false;
+        ticker.interrupt();
+        executor.shutdownNow();
+        tracked.clear();
+    }
+
+    private void tick() {
+        while (running) {
+            long sleep = wheel.nextTickAt() - System.nanoTime();
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                continue;
+            }
+            wheel.expire(System.nanoTime(), this::dispatch);
+        }
+    }
+
+    private void dispatch(TrackedPayment payment) {
+        if (tracked.get(payment.key()) != payment) {
+            return;
+        }
+        try {
+            executor.execute(() -> poll(payment));
+        } catch (RuntimeException e) {
+            // The executor rejects new polls once the poller is closed
+            log.debug("Poll of payment_ref {} was not started", payment.paymentRef(), e);
+        }
+    }
+
+    private void poll(TrackedPayment payment) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            return;
+        }
+        PaymentResponse response = null;
+        try {
+            response = KonnectPriority.BACKGROUND.call(() -> loader.load(payment.paymentRef()));
+            polls.increment();
+        } catch (RuntimeException e) {
+            failedPolls.increment();
+            log.warn("Failed to poll the status of payment_ref: {}", payment.paymentRef(), e);
+        } finally {
+            permits.release();
+        }
+
+        long now = System.nanoTime();
+        if (response != null && isSettled(response.payment())) {
+            if (tracked.remove(payment.key(), payment)) {
+                settled.increment();
+            }
+        } else if (now - payment.deadline() >= 0) {
+            if (tracked.remove(payment.key(), payment)) {
+                abandoned.increment();
+                log.info("Stopped polling payment_ref {}: its lifespan has passed", payment.paymentRef());
+            }
+        } else if (running && tracked.get(payment.key()) == payment) {
+            payment.attempts++;
+            scheduleNextPoll(payment, now);
+        }
+    }
+
+    private void scheduleNextPoll(TrackedPayment payment, long now) {
+        long pollAt = now + backoff.delayNanos(payment.attempts);
+        wheel.schedule(payment, pollAt - payment.deadline() < 0 ? pollAt : payment.deadline());
+    }
+
+    private static boolean isSettled(KonnectPayment payment) {
+        return payment != null && payment.status() != null && payment.status().isTerminal();
+    }
+
+    private static final class TrackedPayment {
+
+        private final PaymentRef key;
+        private final String paymentRef;
+        private final long deadline;
+        private int attempts;
+
+        TrackedPayment(PaymentRef key, String paymentRef, long deadline) {
+            this.key = key;
+            this.paymentRef = paymentRef;
+            this.deadline = deadline;
+        }
+
+        PaymentRef key() {
+            return key;
+        }
+
+        String paymentRef() {
+            return paymentRef;
+        }
+
+        long deadline() {
+            return deadline;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
+import io.github.oussemasahbeni.konnect.autoconfigure.KonnectProperties;
+import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentRequest;
+
+/**
+ * Builds payment initiation requests by merging runtime data with the configured defaults.
+ * Shared by the blocking and asynchronous templates so they always send the same request.
+ */
+final class KonnectPaymentRequests {
+
+    private KonnectPaymentRequests() {
+    }
+
+    /**
+     * Creates a payment initiation request from the configured defaults and the given overrides.
+     *
+     * @param konnectProperties The configuration properties containing the defaults.
+     * @param amount            The payment amount.
+     * @param customizer        A consumer receiving the pre-configured builder to allow for overrides, may be null.
+     * @return the request to send to the Konnect API
+     */
+    static InitKonnectPaymentRequest create(KonnectProperties konnectProperties, BigDecimal amount,
+                                            Consumer<InitKonnectPaymentRequest.Builder> customizer) {
+        InitKonnectPaymentRequest.Builder builder = new InitKonnectPaymentRequest.Builder();
+
+        builder.amount(amount);
+
+        KonnectProperties.KonnectPaymentDefaults defaults = konnectProperties.defaults();
+        builder.receiverWalletId(konnectProperties.receiverWalletId());
+        builder.webhook(konnectProperties.webhookUrl());
+        builder.token(defaults.konnectToken());
+        builder.type(defaults.type());
+        builder.lifespan(defaults.lifespan());
+        builder.checkoutForm(defaults.checkoutForm());
+        builder.acceptedPaymentMethods(defaults.acceptedKonnectPaymentMethods());
+        builder.theme(defaults.konnectTheme());
+        builder.addPaymentFeesToAmount(defaults.addPaymentFeesToAmount());
+
+        if (customizer != null) {
+            customizer.accept(builder);
+        }
+
+        return builder.build();
+    }
+}
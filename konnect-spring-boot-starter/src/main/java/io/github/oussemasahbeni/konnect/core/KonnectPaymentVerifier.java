@@ -1,6 +1,7 @@
 package io.github.oussemasahbeni.konnect.core;
 
 import io.github.oussemasahbeni.konnect.exception.PaymentVerificationException;
+import io.github.oussemasahbeni.konnect.jfr.KonnectVerificationEvent;
 import io.github.oussemasahbeni.konnect.model.KonnectPayment;
 import io.github.oussemasahbeni.konnect.model.PaymentResponse;
 import io.github.oussemasahbeni.konnect.model.enums.KonnectToken;
@@ -13,6 +14,7 @@ import static io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus.
 
 /**
  * A dedicated service that implements Konnect's best practices for verifying a payment's integrity.
+ * Each verification emits a {@link KonnectVerificationEvent} to the JDK Flight Recorder.
  */
 public class KonnectPaymentVerifier {
 
@@ -39,6 +41,21 @@ public class KonnectPaymentVerifier {
         Objects.requireNonNull(paymentResponse, "PaymentResponse cannot be null.");
         Objects.requireNonNull(expectedAmount, "Expected amount cannot be null.");
 
+        KonnectVerificationEvent event = new KonnectVerificationEvent();
+        event.begin();
+        String paymentRef = paymentResponse.payment() != null ? paymentResponse.payment().id() : null;
+        try {
+            KonnectPayment.Transaction transaction = doVerify(paymentResponse, expectedAmount, expectedCurrency);
+            event.record(paymentRef, true, null);
+            return transaction;
+        } catch (PaymentVerificationException e) {
+            event.record(paymentRef, false, e.getMessage());
+            throw e;
+        }
+    }
+
+    private static KonnectPayment.Transaction doVerify(PaymentResponse paymentResponse, BigDecimal expectedAmount, KonnectToken expectedCurrency) {
+
         // Verify the overall payment status is 'completed'.
         if (!COMPLETED.equals(paymentResponse.payment().status())) {
             throw new PaymentVerificationException("Payment status is '" + paymentResponse.payment().status() + "', not 'completed'.");
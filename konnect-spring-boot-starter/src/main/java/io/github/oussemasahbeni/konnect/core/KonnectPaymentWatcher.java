@@ -0,0 +1,157 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import io.github.oussemasahbeni.konnect.exception.InvalidPaymentReferenceException;
+import io.github.oussemasahbeni.konnect.model.KonnectPayment;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+
+/**
+ * Lets callers wait for a payment to complete or expire, without polling the Konnect API themselves.
+ *
+ * <p>Waiters for the same payment share a single watch, held in a concurrent registry keyed by {@link PaymentRef}.
+ * When the first waiter arrives, the payment details are fetched once; if the payment is still pending, the watch
+ * is completed by the next terminal status seen by this {@link KonnectPaymentListener}, that is by a webhook
+ * processed with the {@link KonnectWebhookHandler} or a poll of the {@link KonnectPaymentPoller}. A watch is
+ * discarded once its payment settles or its last waiter times out.
+ */
+public class KonnectPaymentWatcher implements KonnectPaymentListener, AutoCloseable {
+
+    private final PaymentDetailsLoader loader;
+    private final ConcurrentMap<PaymentRef, Watch> watches = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Constructs a new KonnectPaymentWatcher.
+     *
+     * @param loader the loader fetching the details of a payment when it starts being watched
+     */
+    public KonnectPaymentWatcher(PaymentDetailsLoader loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Waits for a payment to complete or expire.
+     *
+     * @param paymentRef the payment reference
+     * @param timeout    the maximum time to wait
+     * @return the details of the settled payment, or the latest known details if the timeout elapsed first,
+     * {@code null} if none were fetched yet
+     * @throws InvalidPaymentReferenceException if the ref has an invalid format
+     * @throws io.github.oussemasahbeni.konnect.exception.KonnectApiException if fetching the details fails
+     */
+    public PaymentResponse awaitCompletion(String paymentRef, Duration timeout) {
+        try {
+            return awaitCompletionAsync(paymentRef, timeout).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a future completed when a payment completes or expires, like {@link #awaitCompletion(String, Duration)}.
+     *
+     * @param paymentRef the payment reference
+     * @param timeout    the maximum time to wait
+     * @return a future completed with the details of the settled payment, or the latest known details if the timeout
+     * elapsed first, or completed exceptionally if fetching the details fails
+     * @throws InvalidPaymentReferenceException if the ref has an invalid format
+     */
+    public CompletableFuture<PaymentResponse> awaitCompletionAsync(String paymentRef, Duration timeout) {
+        PaymentRef key = PaymentRef.parse(paymentRef);
+        Watch watch = watches.compute(key, (ref, existing) -> {
+            Watch joined = existing != null ? existing : new Watch();
+            joined.waiters++;
+            return joined;
+        });
+        if (watch.fetched.compareAndSet(false, true)) {
+            executor.execute(() -> fetch(key, paymentRef, watch));
+        }
+
+        CompletableFuture<PaymentResponse> waiter = watch.completion.thenApply(Function.identity())
+                .completeOnTimeout(null, timeout.toNanos(), TimeUnit.NANOSECONDS);
+        return waiter.whenComplete((response, error) -> leave(key, watch))
+                .thenApply(response -> response != null ? response : watch.latest);
+    }
+
+    /**
+     * Completes the waiters of the given payment if its status is terminal.
+     *
+     * @param paymentResponse the authoritative payment details
+     */
+    @Override
+    public void onPayment(PaymentResponse paymentResponse) {
+        KonnectPayment payment = paymentResponse.payment();
+        if (payment == null || !PaymentRefValidator.validate(payment.id())) {
+            return;
+        }
+        PaymentRef key = PaymentRef.parse(payment.id());
+        Watch watch = watches.get(key);
+        if (watch != null) {
+            update(key, watch, paymentResponse);
+        }
+    }
+
+    /**
+     * Gets the number of payments being watched.
+     *
+     * @return the number of watched payments
+     */
+    public int getWatchedCount() {
+        return watches.size();
+    }
+
+    /**
+     * Stops fetching payment details. Current waiters still complete on their timeout.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void fetch(PaymentRef key, String paymentRef, Watch watch) {
+        try {
+            update(key, watch, loader.load(paymentRef));
+        } catch (RuntimeException e) {
+            watches.remove(key, watch);
+            watch.completion.completeExceptionally(e);
+        }
+    }
+
+    private void update(PaymentRef key, Watch watch, PaymentResponse response) {
+        watch.latest = response;
+        KonnectPayment payment = response.payment();
+        if (payment != null && payment.status() != null && payment.status().isTerminal()) {
+            watches.remove(key, watch);
+            watch.completion.complete(response);
+        }
+    }
+
+    private void leave(PaymentRef key, Watch watch) {
+        watches.computeIfPresent(key, (ref, existing) -> existing == watch && --existing.waiters == 0 ? null : existing);
+    }
+
+    private static final class Watch {
+
+        private final CompletableFuture<PaymentResponse> completion = new CompletableFuture<>();
+
+        private final AtomicBoolean fetched = new AtomicBoolean();
+
+        /** Guarded by the registry: only updated within its compute methods */
+        private int waiters;
+
+        private volatile PaymentResponse latest;
+    }
+}
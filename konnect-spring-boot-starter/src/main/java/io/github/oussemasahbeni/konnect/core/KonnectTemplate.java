@@ -2,31 +2,59 @@ package io.github.oussemasahbeni.konnect.core;
 
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import io.github.oussemasahbeni.konnect.autoconfigure.KonnectProperties;
 import io.github.oussemasahbeni.konnect.client.KonnectClient;
+import io.github.oussemasahbeni.konnect.client.KonnectDeadline;
+import io.github.oussemasahbeni.konnect.client.KonnectOperation;
+import io.github.oussemasahbeni.konnect.client.KonnectPriority;
 import io.github.oussemasahbeni.konnect.exception.InvalidPaymentReferenceException;
 import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
 import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentRequest;
 import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentResponse;
 import io.github.oussemasahbeni.konnect.model.PaymentResponse;
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
-import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import static io.github.oussemasahbeni.konnect.core.KonnectObservationDocumentation.HighCardinalityKeyNames.ORDER_ID;
+import static io.github.oussemasahbeni.konnect.core.KonnectObservationDocumentation.HighCardinalityKeyNames.PAYMENT_REF;
+import static io.github.oussemasahbeni.konnect.core.KonnectObservationDocumentation.LowCardinalityKeyNames.OPERATION;
+import static io.github.oussemasahbeni.konnect.core.KonnectObservationDocumentation.LowCardinalityKeyNames.STATUS;
 
 /**
  * A high-level template for interacting with the Konnect API.
  * This class handles the merging of runtime data with configured defaults,
  * providing a simplified API for common operations.
+ *
+ * <p>The {@code konnect-api} Resilience4j rate limiter and retry are applied by {@link KonnectClient},
+ * around each call actually sent to Konnect.
+ *
+ * <p>Each call is wrapped in a {@link KonnectObservationDocumentation#TEMPLATE} observation, the parent of the
+ * observations of the requests sent to Konnect during the call.
+ *
+ * <p>Calls run within the {@link KonnectDeadline} in scope of the caller, or else within the default deadline of
+ * their operation, {@code konnect.api.operations.<name>.deadline}, which bounds the whole call, retries included.
+ *
+ * <p>Calls run with the {@link KonnectPriority} in scope of the caller, or else as {@link KonnectPriority#INTERACTIVE}
+ * calls; bulk lookups run as {@link KonnectPriority#BACKGROUND} calls by default.
  */
 public class KonnectTemplate {
 
 
-    private static final String RESILIENCE_CONFIG_NAME = "konnect-api";
-
-
     private final KonnectClient konnectClient;
     private final KonnectProperties konnectProperties;
+    private final PaymentDetailsLoader paymentDetailsLoader;
+    private final KonnectPaymentPoller paymentPoller;
+    private final ObservationRegistry observationRegistry;
+    private final PaymentDetailsFallback paymentDetailsFallback;
+    private final Map<KonnectOperation, Duration> deadlines = new EnumMap<>(KonnectOperation.class);
 
     /**
      * Constructs a new KonnectTemplate with the specified client and properties.
@@ -36,8 +64,73 @@ public class KonnectTemplate {
      * @param konnectProperties The configuration properties containing defaults and API settings
      */
     public KonnectTemplate(KonnectClient konnectClient, KonnectProperties konnectProperties) {
+        this(konnectClient, konnectProperties, konnectClient::getPaymentDetails);
+    }
+
+    /**
+     * Constructs a new KonnectTemplate fetching payment details through the given loader.
+     * This constructor is typically called by Spring's auto-configuration to apply the
+     * features enabled under {@code konnect.api.payment-details}.
+     *
+     * @param konnectClient        The HTTP client for making API calls to Konnect
+     * @param konnectProperties    The configuration properties containing defaults and API settings
+     * @param paymentDetailsLoader The loader fetching payment details once their reference is validated
+     */
+    public KonnectTemplate(KonnectClient konnectClient, KonnectProperties konnectProperties, PaymentDetailsLoader paymentDetailsLoader) {
+        this(konnectClient, konnectProperties, paymentDetailsLoader, null);
+    }
+
+    /**
+     * Constructs a new KonnectTemplate fetching payment details through the given loader, and registering
+     * every initiated payment with the given poller.
+     *
+     * @param konnectClient        The HTTP client for making API calls to Konnect
+     * @param konnectProperties    The configuration properties containing defaults and API settings
+     * @param paymentDetailsLoader The loader fetching payment details once their reference is validated
+     * @param paymentPoller        The poller tracking the status of initiated payments, may be null
+     */
+    public KonnectTemplate(KonnectClient konnectClient, KonnectProperties konnectProperties,
+                           PaymentDetailsLoader paymentDetailsLoader, KonnectPaymentPoller paymentPoller) {
+        this(konnectClient, konnectProperties, paymentDetailsLoader, paymentPoller, ObservationRegistry.NOOP);
+    }
+
+    /**
+     * Constructs a new KonnectTemplate recording an observation of each call in the given registry.
+     *
+     * @param konnectClient        The HTTP client for making API calls to Konnect
+     * @param konnectProperties    The configuration properties containing defaults and API settings
+     * @param paymentDetailsLoader The loader fetching payment details once their reference is validated
+     * @param paymentPoller        The poller tracking the status of initiated payments, may be null
+     * @param observationRegistry  The registry recording the observations of each call
+     */
+    public KonnectTemplate(KonnectClient konnectClient, KonnectProperties konnectProperties,
+                           PaymentDetailsLoader paymentDetailsLoader, KonnectPaymentPoller paymentPoller,
+                           ObservationRegistry observationRegistry) {
+        this(konnectClient, konnectProperties, paymentDetailsLoader, paymentPoller, observationRegistry, null);
+    }
+
+    /**
+     * Constructs a new KonnectTemplate serving the last known details of settled payments while Konnect is unavailable.
+     *
+     * @param konnectClient          The HTTP client for making API calls to Konnect
+     * @param konnectProperties      The configuration properties containing defaults and API settings
+     * @param paymentDetailsLoader   The loader fetching payment details once their reference is validated
+     * @param paymentPoller          The poller tracking the status of initiated payments, may be null
+     * @param observationRegistry    The registry recording the observations of each call
+     * @param paymentDetailsFallback The fallback to the last known payment details, may be null
+     */
+    public KonnectTemplate(KonnectClient konnectClient, KonnectProperties konnectProperties,
+                           PaymentDetailsLoader paymentDetailsLoader, KonnectPaymentPoller paymentPoller,
+                           ObservationRegistry observationRegistry, PaymentDetailsFallback paymentDetailsFallback) {
         this.konnectClient = konnectClient;
         this.konnectProperties = konnectProperties;
+        this.paymentDetailsLoader = paymentDetailsLoader;
+        this.paymentPoller = paymentPoller;
+        this.observationRegistry = observationRegistry;
+        this.paymentDetailsFallback = paymentDetailsFallback;
+        for (KonnectOperation operation : KonnectOperation.values()) {
+            this.deadlines.put(operation, konnectProperties.deadline(operation));
+        }
     }
 
     /**
@@ -46,8 +139,6 @@ public class KonnectTemplate {
      * @param amount The payment amount.
      * @return The response from the Konnect API.
      */
-    @RateLimiter(name = RESILIENCE_CONFIG_NAME)
-    @Retry(name = RESILIENCE_CONFIG_NAME)
     public InitKonnectPaymentResponse initiatePayment(BigDecimal amount) {
         return initiatePayment(amount, null);
     }
@@ -56,23 +147,133 @@ public class KonnectTemplate {
     /**
      * Get payment details for a given payment reference.
      * This method fetches the payment details from the Konnect API using the provided payment reference.
+     * When the stale fallback is enabled, the last known details of a completed or expired payment are returned
+     * while Konnect is unavailable; use {@link #lookupPaymentDetails(String)} to tell them apart.
      *
      * @param paymentRef The reference of the payment to retrieve details for.
      * @return PaymentResponse containing the details of the payment.
      * @throws KonnectApiException if the API call fails or returns an error status.
      */
-    @RateLimiter(name = RESILIENCE_CONFIG_NAME)
-    @Retry(name = RESILIENCE_CONFIG_NAME)
     public PaymentResponse getPaymentDetails(String paymentRef) {
+        return lookupPaymentDetails(paymentRef).response();
+    }
+
+    /**
+     * Get payment details for a given payment reference, like {@link #getPaymentDetails(String)}, telling whether
+     * they are the last known details served by the stale fallback while Konnect is unavailable.
+     *
+     * @param paymentRef The reference of the payment to retrieve details for.
+     * @return PaymentDetailsLookup containing the details of the payment and whether they are stale.
+     * @throws KonnectApiException if the API call fails or returns an error status.
+     */
+    public PaymentDetailsLookup lookupPaymentDetails(String paymentRef) {
+        return lookup(paymentRef, ref -> paymentDetailsFallback != null
+                ? paymentDetailsFallback.load(ref, paymentDetailsLoader)
+                : PaymentDetailsLookup.fresh(paymentDetailsLoader.load(ref)));
+    }
+
+    /**
+     * Get payment details for a given payment reference straight from the Konnect API, bypassing the payment details
+     * cache, whose entry is replaced with the fetched details.
+     * This is how the status of a payment is verified after a change, for example when a webhook is received:
+     * a cached pending status must not hide the transition that triggered the webhook. For the same reason, the
+     * last known details are never served: the call fails while Konnect is unavailable.
+     *
+     * @param paymentRef The reference of the payment to retrieve details for.
+     * @return PaymentResponse containing the details of the payment.
+     * @throws KonnectApiException if the API call fails or returns an error status.
+     */
+    public PaymentResponse refreshPaymentDetails(String paymentRef) {
+        return lookup(paymentRef, ref -> {
+            PaymentResponse response = paymentDetailsLoader.reload(ref);
+            return PaymentDetailsLookup.fresh(paymentDetailsFallback != null
+                    ? paymentDetailsFallback.remember(ref, response) : response);
+        }).response();
+    }
 
+    private PaymentDetailsLookup lookup(String paymentRef, Function<String, PaymentDetailsLookup> lookup) {
         if (!PaymentRefValidator.validate(paymentRef)) {
             throw new InvalidPaymentReferenceException("Invalid payment reference format", paymentRef);
         }
-        return konnectClient.getPaymentDetails(paymentRef);
+        Observation observation = KonnectObservationDocumentation.TEMPLATE.observation(observationRegistry)
+                .contextualName("konnect get-payment")
+                .lowCardinalityKeyValue(OPERATION.withValue("get-payment"))
+                .lowCardinalityKeyValue(STATUS.withValue(KonnectObservationDocumentation.NONE))
+                .highCardinalityKeyValue(PAYMENT_REF.withValue(paymentRef));
+        return withinDeadline(KonnectOperation.GET_PAYMENT, () -> observation.observe(() -> {
+            PaymentDetailsLookup paymentDetails = lookup.apply(paymentRef);
+            observation.lowCardinalityKeyValue(STATUS.withValue(KonnectObservationDocumentation.paymentStatus(paymentDetails.response())));
+            return paymentDetails;
+        }));
+    }
+
+    /**
+     * Get payment details for a given payment reference, within the given deadline.
+     * Each attempt waits for a response at most until the deadline, and the call is not retried past it.
+     * <p>
+     * Example:
+     * template.getPaymentDetails(paymentRef, KonnectDeadline.after(Duration.ofSeconds(3)));
+     *
+     * @param paymentRef The reference of the payment to retrieve details for.
+     * @param deadline   The time by which the call must complete, retries included.
+     * @return PaymentResponse containing the details of the payment.
+     * @throws io.github.oussemasahbeni.konnect.exception.KonnectDeadlineExceededException if the deadline is reached.
+     */
+    public PaymentResponse getPaymentDetails(String paymentRef, KonnectDeadline deadline) {
+        return deadline.call(() -> getPaymentDetails(paymentRef));
+    }
+
+    /**
+     * Get payment details for a given payment reference, with the given priority.
+     * When priority scheduling is enabled, lower priorities give way to higher ones as Konnect nears its capacity.
+     * <p>
+     * Example:
+     * template.getPaymentDetails(paymentRef, KonnectPriority.BACKGROUND);
+     *
+     * @param paymentRef The reference of the payment to retrieve details for.
+     * @param priority   The priority of the call.
+     * @return PaymentResponse containing the details of the payment.
+     * @throws io.github.oussemasahbeni.konnect.exception.KonnectPriorityRejectedException if no capacity is left to the priority.
+     */
+    public PaymentResponse getPaymentDetails(String paymentRef, KonnectPriority priority) {
+        return priority.call(() -> getPaymentDetails(paymentRef));
+    }
+
+    /**
+     * Get payment details for many payment references, running up to
+     * {@code konnect.api.payment-details.bulk.parallelism} lookups in parallel on virtual threads.
+     * Each result is passed to the consumer as soon as it is available; the consumer is never invoked concurrently.
+     * Lookups run within the {@link KonnectDeadline} in scope of the caller, and with its priority,
+     * {@link KonnectPriority#BACKGROUND} if none.
+     * A failed lookup, including an invalid reference, is reported as a failed {@link PaymentDetailsResult}
+     * and does not abort the others.
+     *
+     * @param paymentRefs The references of the payments to retrieve details for.
+     * @param consumer    The consumer receiving one result per reference, in completion order.
+     */
+    public void getPaymentDetails(Iterable<String> paymentRefs, Consumer<PaymentDetailsResult> consumer) {
+        bulkLoader().load(paymentRefs, consumer);
+    }
+
+    /**
+     * Get payment details for a stream of payment references, like {@link #getPaymentDetails(Iterable, Consumer)}.
+     * Lookups start when the returned stream is consumed, and closing it cancels the remaining lookups.
+     * Lookups run within the {@link KonnectDeadline} in scope of the caller, and with its priority,
+     * {@link KonnectPriority#BACKGROUND} if none.
+     * <p>
+     * Example:
+     * try (Stream&lt;PaymentDetailsResult&gt; results = template.streamPaymentDetails(refs)) { results.forEach(this::reconcile); }
+     *
+     * @param paymentRefs The references of the payments to retrieve details for.
+     * @return A stream of results, one per reference, in completion order.
+     */
+    public Stream<PaymentDetailsResult> streamPaymentDetails(Stream<String> paymentRefs) {
+        return bulkLoader().stream(paymentRefs);
     }
 
     /**
      * Initiates a payment, allowing for custom overrides of the default configuration.
+     * When the payment poller is enabled, the payment is tracked until it completes, expires or its lifespan passes.
      *
      * @param amount     The payment amount.
      * @param customizer A consumer function that receives a pre-configured builder to allow for overrides.
@@ -81,29 +282,49 @@ public class KonnectTemplate {
      * Example:
      * template.initiatePayment(new BigDecimal("100"), builder -> builder.theme(KonnectTheme.LIGHT));
      */
-    @RateLimiter(name = RESILIENCE_CONFIG_NAME)
-    @Retry(name = RESILIENCE_CONFIG_NAME)
     public InitKonnectPaymentResponse initiatePayment(BigDecimal amount, Consumer<InitKonnectPaymentRequest.Builder> customizer) {
-        InitKonnectPaymentRequest.Builder builder = new InitKonnectPaymentRequest.Builder();
-
-        builder.amount(amount);
-
-        KonnectProperties.KonnectPaymentDefaults defaults = konnectProperties.defaults();
-        builder.receiverWalletId(konnectProperties.receiverWalletId());
-        builder.webhook(konnectProperties.webhookUrl());
-        builder.token(defaults.konnectToken());
-        builder.type(defaults.type());
-        builder.lifespan(defaults.lifespan());
-        builder.checkoutForm(defaults.checkoutForm());
-        builder.acceptedPaymentMethods(defaults.acceptedKonnectPaymentMethods());
-        builder.theme(defaults.konnectTheme());
-        builder.addPaymentFeesToAmount(defaults.addPaymentFeesToAmount());
-
-        if (customizer != null) {
-            customizer.accept(builder);
+        InitKonnectPaymentRequest finalRequest = KonnectPaymentRequests.create(konnectProperties, amount, customizer);
+        Observation observation = KonnectObservationDocumentation.TEMPLATE.observation(observationRegistry)
+                .contextualName("konnect init-payment")
+                .lowCardinalityKeyValue(OPERATION.withValue("init-payment"))
+                .lowCardinalityKeyValue(STATUS.withValue(KonnectObservationDocumentation.NONE))
+                .highCardinalityKeyValue(ORDER_ID.withValue(finalRequest.getOrderId() != null
+                        ? finalRequest.getOrderId() : KonnectObservationDocumentation.NONE));
+        return withinDeadline(KonnectOperation.INIT_PAYMENT, () -> observation.observe(() -> {
+            InitKonnectPaymentResponse response = konnectClient.initiatePayment(finalRequest);
+            if (response != null && response.paymentRef() != null) {
+                observation.highCardinalityKeyValue(PAYMENT_REF.withValue(response.paymentRef()));
+                if (paymentPoller != null) {
+                    Integer lifespan = finalRequest.getLifespan() != null ? finalRequest.getLifespan() : konnectProperties.defaults().lifespan();
+                    paymentPoller.track(response.paymentRef(), Duration.ofMinutes(lifespan));
+                }
+            }
+            return response;
+        }));
+    }
+
+    /**
+     * Runs a call within the deadline of the caller, or else within the default deadline of its operation.
+     *
+     * @param operation The operation of the call.
+     * @param call      The call.
+     * @return the result of the call
+     */
+    private <T> T withinDeadline(KonnectOperation operation, Supplier<T> call) {
+        Duration deadline = deadlines.get(operation);
+        if (deadline == null || KonnectDeadline.current() != null) {
+            return call.get();
         }
+        return KonnectDeadline.after(deadline).call(call);
+    }
 
-        InitKonnectPaymentRequest finalRequest = builder.build();
-        return konnectClient.initiatePayment(finalRequest);
+    private PaymentDetailsBulkLoader bulkLoader() {
+        // Lookups run on other threads, the deadline and the priority of the caller are carried over
+        KonnectDeadline deadline = KonnectDeadline.current();
+        KonnectPriority priority = KonnectPriority.currentOr(KonnectPriority.BACKGROUND);
+        return new PaymentDetailsBulkLoader(paymentRef -> deadline != null
+                ? deadline.call(() -> getPaymentDetails(paymentRef, priority))
+                : getPaymentDetails(paymentRef, priority),
+                konnectProperties.paymentDetails().bulk().parallelism());
     }
 }
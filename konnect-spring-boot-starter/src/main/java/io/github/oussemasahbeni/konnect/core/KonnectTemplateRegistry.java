@@ -0,0 +1,263 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+import org.springframework.web.client.RestClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.oussemasahbeni.konnect.autoconfigure.KonnectProperties;
+import io.github.oussemasahbeni.konnect.client.KonnectClient;
+import io.github.oussemasahbeni.konnect.client.KonnectTenantRateLimiter;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Registry of the {@link KonnectTemplate} of each tenant, for applications calling Konnect on behalf of many
+ * merchants, each with its own API key and receiver wallet.
+ *
+ * <p>Every tenant shares the Konnect RestClient of the application: its HTTP client and connection pools, its
+ * interceptors, and the {@code konnect-api} Resilience4j instances when the client is advised by them. A tenant only
+ * adds its own {@code x-api-key} header, its payment defaults and, when configured, a
+ * {@link KonnectTenantRateLimiter rate limit partition}, so thousands of merchants do not mean thousands of pools.
+ *
+ * <p>The template of a tenant is created the first time it is asked for, from the settings found by the
+ * {@link KonnectTenantResolver}, then kept for the next calls. Beyond the configured number of tenants, the least
+ * recently used one is evicted, and created anew if asked for again. The templates of tenants look payment details
+ * up directly: the caches, coalescing and hedging of the default {@link KonnectTemplate} are not shared, so that the
+ * payment details fetched with the key of a tenant are never served to another one.
+ *
+ * <p>Example:
+ * registry.getTemplate(merchantId).initiatePayment(amount);
+ */
+public class KonnectTemplateRegistry {
+
+    private static final String API_KEY_HEADER = "x-api-key";
+
+    private final RestClient konnectRestClient;
+    private final ObjectMapper objectMapper;
+    private final KonnectProperties konnectProperties;
+    private final KonnectTenantResolver tenantResolver;
+    private final int maxTenants;
+    private final KonnectProperties.KonnectTenantRateLimit rateLimit;
+    private final UnaryOperator<KonnectClient> clientDecorator;
+    private final ObservationRegistry observationRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** The templates by tenant id, in access order so that the eldest entry is the least recently used */
+    private final Map<String, Tenant> tenants = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Tenant> eldest) {
+            if (size() <= maxTenants) {
+                return false;
+            }
+            onEvicted(eldest.getValue());
+            return true;
+        }
+    };
+
+    private final LongAdder created = new LongAdder();
+
+    private final LongAdder evicted = new LongAdder();
+
+    /** The requests rejected by the rate limiters of evicted tenants */
+    private long evictedRateLimited;
+
+    /**
+     * Constructs a new KonnectTemplateRegistry without rate limit partitions.
+     *
+     * @param konnectRestClient The RestClient shared by every tenant
+     * @param objectMapper      The ObjectMapper for JSON processing and error handling
+     * @param konnectProperties The configuration properties the settings of each tenant override
+     * @param tenantResolver    The resolver finding the settings of each tenant
+     * @param maxTenants        The number of tenants whose template is kept at most
+     */
+    public KonnectTemplateRegistry(RestClient konnectRestClient, ObjectMapper objectMapper, KonnectProperties konnectProperties,
+                                   KonnectTenantResolver tenantResolver, int maxTenants) {
+        this(konnectRestClient, objectMapper, konnectProperties, tenantResolver, maxTenants, null,
+                UnaryOperator.identity(), ObservationRegistry.NOOP);
+    }
+
+    /**
+     * Constructs a new KonnectTemplateRegistry.
+     *
+     * @param konnectRestClient   The RestClient shared by every tenant
+     * @param objectMapper        The ObjectMapper for JSON processing and error handling
+     * @param konnectProperties   The configuration properties the settings of each tenant override
+     * @param tenantResolver      The resolver finding the settings of each tenant
+     * @param maxTenants          The number of tenants whose template is kept at most
+     * @param rateLimit           The rate limit partition of each tenant, or null if tenants are not limited
+     * @param clientDecorator     Decorates the client of each tenant, e.g. with the advice of the default client
+     * @param observationRegistry The registry recording the observations of each call
+     */
+    public KonnectTemplateRegistry(RestClient konnectRestClient, ObjectMapper objectMapper, KonnectProperties konnectProperties,
+                                   KonnectTenantResolver tenantResolver, int maxTenants,
+                                   KonnectProperties.KonnectTenantRateLimit rateLimit,
+                                   UnaryOperator<KonnectClient> clientDecorator, ObservationRegistry observationRegistry) {
+        this.konnectRestClient = konnectRestClient;
+        this.objectMapper = objectMapper;
+        this.konnectProperties = konnectProperties;
+        this.tenantResolver = tenantResolver;
+        this.maxTenants = maxTenants;
+        this.rateLimit = rateLimit != null && rateLimit.limitForPeriod() != null ? rateLimit : null;
+        this.clientDecorator = clientDecorator;
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * Gets the template calling Konnect on behalf of the given tenant, creating it if needed.
+     *
+     * @param tenantId the id of the tenant
+     * @return the template of the tenant
+     * @throws IllegalArgumentException if the tenant is unknown to the {@link KonnectTenantResolver}
+     */
+    public KonnectTemplate getTemplate(String tenantId) {
+        Tenant tenant = get(tenantId);
+        if (tenant != null) {
+            return tenant.template();
+        }
+        // Resolved without holding the lock, as resolvers may query a database
+        KonnectTenant settings = tenantResolver.resolve(tenantId);
+        if (settings == null) {
+            throw new IllegalArgumentException("Unknown Konnect tenant " + tenantId);
+        }
+        Tenant candidate = create(tenantId, settings);
+        lock.lock();
+        try {
+            Tenant existing = tenants.putIfAbsent(tenantId, candidate);
+            if (existing != null) {
+                return existing.template();
+            }
+            created.increment();
+            return candidate.template();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the rate limit partition of the given tenant.
+     *
+     * @param tenantId the id of the tenant
+     * @return the rate limiter of the tenant, or null if the tenant is not limited or its template was not created
+     */
+    public KonnectTenantRateLimiter getRateLimiter(String tenantId) {
+        Tenant tenant = get(tenantId);
+        return tenant != null ? tenant.rateLimiter() : null;
+    }
+
+    /**
+     * Evicts the template of the given tenant, e.g. after its API key was rotated. The template is created anew
+     * the next time it is asked for.
+     *
+     * @param tenantId the id of the tenant
+     */
+    public void evict(String tenantId) {
+        lock.lock();
+        try {
+            Tenant tenant = tenants.remove(tenantId);
+            if (tenant != null) {
+                onEvicted(tenant);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of tenants whose template is currently kept.
+     *
+     * @return the number of tenants
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return tenants.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of templates created since startup.
+     *
+     * @return the number of created templates
+     */
+    public long getCreatedCount() {
+        return created.sum();
+    }
+
+    /**
+     * Gets the number of templates evicted since startup.
+     *
+     * @return the number of evicted templates
+     */
+    public long getEvictedCount() {
+        return evicted.sum();
+    }
+
+    /**
+     * Gets the number of requests rejected by the rate limit partitions of every tenant since startup.
+     *
+     * @return the number of rate limited requests
+     */
+    public long getRateLimitedCount() {
+        lock.lock();
+        try {
+            long rateLimited = evictedRateLimited;
+            for (Tenant tenant : tenants.values()) {
+                if (tenant.rateLimiter() != null) {
+                    rateLimited += tenant.rateLimiter().getRejectedCount();
+                }
+            }
+            return rateLimited;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Tenant get(String tenantId) {
+        lock.lock();
+        try {
+            return tenants.get(tenantId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Tenant create(String tenantId, KonnectTenant settings) {
+        RestClient.Builder builder = konnectRestClient.mutate()
+                .defaultHeader(API_KEY_HEADER, settings.key());
+        KonnectTenantRateLimiter rateLimiter = null;
+        if (rateLimit != null) {
+            rateLimiter = new KonnectTenantRateLimiter(tenantId, rateLimit.limitForPeriod(),
+                    rateLimit.limitRefreshPeriod(), rateLimit.maxWait());
+            // First, see KonnectInterceptorOrder.TENANT_RATE_LIMITER: a request waiting for its tenant holds no slot
+            // of the shared interceptors
+            KonnectTenantRateLimiter first = rateLimiter;
+            builder.requestInterceptors(interceptors -> interceptors.addFirst(first));
+        }
+        KonnectClient client = clientDecorator.apply(new KonnectClient(builder.build(), objectMapper, observationRegistry));
+        KonnectProperties properties = konnectProperties.forTenant(settings.key(), settings.receiverWalletId(),
+                settings.webhookUrl(), settings.defaults());
+        KonnectTemplate template = new KonnectTemplate(client, properties, client::getPaymentDetails, null, observationRegistry);
+        return new Tenant(template, rateLimiter);
+    }
+
+    /**
+     * Must be called while holding the lock.
+     */
+    private void onEvicted(Tenant tenant) {
+        evicted.increment();
+        if (tenant.rateLimiter() != null) {
+            evictedRateLimited += tenant.rateLimiter().getRejectedCount();
+        }
+    }
+
+    private record Tenant(KonnectTemplate template, KonnectTenantRateLimiter rateLimiter) {
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.autoconfigure.KonnectProperties;
+
+/**
+ * A merchant calling Konnect with its own API key, through the template the {@link KonnectTemplateRegistry} creates
+ * for it. Settings left null fall back to the shared {@code konnect.api} ones.
+ *
+ * @param id               the id of the tenant, as passed to {@link KonnectTemplateRegistry#getTemplate(String)}
+ * @param key              the API key of the tenant, sent in the {@code x-api-key} header of its calls
+ * @param receiverWalletId the wallet receiving the payments of the tenant, or null to use the shared one
+ * @param webhookUrl       the webhook notified of the payments of the tenant, or null to use the shared one
+ * @param defaults         the payment defaults of the tenant, or null to use the shared ones
+ */
+public record KonnectTenant(
+        String id,
+        String key,
+        String receiverWalletId,
+        String webhookUrl,
+        KonnectProperties.KonnectPaymentDefaults defaults
+) {
+
+    public KonnectTenant {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Konnect tenant id cannot be blank");
+        }
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("Konnect API key of tenant " + id + " cannot be blank");
+        }
+    }
+}
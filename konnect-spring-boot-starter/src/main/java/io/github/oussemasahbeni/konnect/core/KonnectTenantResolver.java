@@ -0,0 +1,18 @@
+package io.github.oussemasahbeni.konnect.core;
+
+/**
+ * Strategy used by {@link KonnectTemplateRegistry} to find the settings of a tenant the first time its template is
+ * asked for, and again once it was evicted. The default resolver reads the tenants configured under
+ * {@code konnect.api.tenancy.tenants}; define a bean to load them from a database or a secret store instead.
+ */
+@FunctionalInterface
+public interface KonnectTenantResolver {
+
+    /**
+     * Resolves the settings of a tenant.
+     *
+     * @param tenantId the id of the tenant
+     * @return the tenant, or null if it is unknown
+     */
+    KonnectTenant resolve(String tenantId);
+}
@@ -1,19 +1,55 @@
 package io.github.oussemasahbeni.konnect.core;
 
+import io.github.oussemasahbeni.konnect.client.KonnectPriority;
+import io.github.oussemasahbeni.konnect.jfr.KonnectWebhookProcessedEvent;
+import io.github.oussemasahbeni.konnect.model.KonnectPayment;
 import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.github.oussemasahbeni.konnect.core.KonnectObservationDocumentation.HighCardinalityKeyNames.PAYMENT_REF;
+import static io.github.oussemasahbeni.konnect.core.KonnectObservationDocumentation.LowCardinalityKeyNames.OPERATION;
+import static io.github.oussemasahbeni.konnect.core.KonnectObservationDocumentation.LowCardinalityKeyNames.STATUS;
+
 /**
  * A service class dedicated to processing incoming webhooks from Konnect.
  * It follows the best practice of using the webhook's payment reference
  * to make a secure, authenticated API call to fetch the authoritative payment status.
+ * The status is always {@linkplain KonnectTemplate#refreshPaymentDetails(String) fetched from Konnect}, never from
+ * the payment details cache, which is refreshed with it.
+ * The fetched payment details are then passed to the registered {@link KonnectPaymentListener}s.
+ *
+ * <p>When a {@link WebhookDeduplicationStore} is given, duplicate webhooks are suppressed: a payment whose terminal
+ * status was already handled is not fetched again, and concurrent webhooks for the same payment share a single
+ * lookup, each waiting for it at most until its own {@link io.github.oussemasahbeni.konnect.client.KonnectDeadline}.
+ * In both cases, the listeners are only notified once. A payment is only remembered as handled once every
+ * listener was notified without failing, so that a listener failing on a completed payment is notified again by the
+ * next webhook for it.
+ *
+ * <p>Each webhook is processed within a {@link KonnectObservationDocumentation#WEBHOOK} observation, so the spans
+ * of the lookup and of the listeners are nested under it, and emits a {@link KonnectWebhookProcessedEvent} to the JDK
+ * Flight Recorder.
+ *
+ * <p>Lookups run as {@link KonnectPriority#WEBHOOK} calls, unless the caller put another priority in scope, like the
+ * {@link KonnectPaymentPoller} does for its polls.
+ *
+ * @see KonnectWebhookQueue
  */
 public class KonnectWebhookHandler {
 
     private static final Logger log = LoggerFactory.getLogger(KonnectWebhookHandler.class);
 
     private final KonnectTemplate konnectTemplate;
+    private final List<KonnectPaymentListener> listeners;
+    private final WebhookDeduplicationStore deduplicationStore;
+    private final PaymentDetailsCoalescer inFlight = new PaymentDetailsCoalescer();
+    private final LongAdder suppressed = new LongAdder();
+    private final ObservationRegistry observationRegistry;
 
     /**
      * Constructs a webhook handler.
@@ -21,7 +57,45 @@ public class KonnectWebhookHandler {
      * @param konnectTemplate The configured KonnectTemplate to make API calls.
      */
     public KonnectWebhookHandler(KonnectTemplate konnectTemplate) {
+        this(konnectTemplate, List.of());
+    }
+
+    /**
+     * Constructs a webhook handler notifying the given listeners.
+     *
+     * @param konnectTemplate The configured KonnectTemplate to make API calls.
+     * @param listeners       The listeners notified with the payment details of each processed webhook.
+     */
+    public KonnectWebhookHandler(KonnectTemplate konnectTemplate, List<KonnectPaymentListener> listeners) {
+        this(konnectTemplate, listeners, null);
+    }
+
+    /**
+     * Constructs a webhook handler notifying the given listeners and suppressing duplicate webhooks.
+     *
+     * @param konnectTemplate    The configured KonnectTemplate to make API calls.
+     * @param listeners          The listeners notified with the payment details of each processed webhook.
+     * @param deduplicationStore The store remembering handled payments, or {@code null} to process every webhook.
+     */
+    public KonnectWebhookHandler(KonnectTemplate konnectTemplate, List<KonnectPaymentListener> listeners,
+                                 WebhookDeduplicationStore deduplicationStore) {
+        this(konnectTemplate, listeners, deduplicationStore, ObservationRegistry.NOOP);
+    }
+
+    /**
+     * Constructs a webhook handler recording an observation of each processed webhook in the given registry.
+     *
+     * @param konnectTemplate     The configured KonnectTemplate to make API calls.
+     * @param listeners           The listeners notified with the payment details of each processed webhook.
+     * @param deduplicationStore  The store remembering handled payments, or {@code null} to process every webhook.
+     * @param observationRegistry The registry recording the observation of each processed webhook.
+     */
+    public KonnectWebhookHandler(KonnectTemplate konnectTemplate, List<KonnectPaymentListener> listeners,
+                                 WebhookDeduplicationStore deduplicationStore, ObservationRegistry observationRegistry) {
         this.konnectTemplate = konnectTemplate;
+        this.listeners = List.copyOf(listeners);
+        this.deduplicationStore = deduplicationStore;
+        this.observationRegistry = observationRegistry;
     }
 
     /**
@@ -29,6 +103,9 @@ public class KonnectWebhookHandler {
      * <p>
      * This method takes the untrusted payment reference from a webhook, validates its
      * format, and uses it to fetch the full, trusted payment details from the Konnect API.
+     * The registered listeners are notified before this method returns.
+     * <p>
+     * With deduplication, a duplicate webhook returns the details of the first one without notifying the listeners.
      *
      * @param paymentRef The payment_ref received from the webhook query parameter.
      * @return The full, verified PaymentResponse object.
@@ -36,9 +113,104 @@ public class KonnectWebhookHandler {
      * @throws io.github.oussemasahbeni.konnect.exception.InvalidPaymentReferenceException if the ref has an invalid format.
      */
     public PaymentResponse processWebhook(String paymentRef) {
+        Observation observation = KonnectObservationDocumentation.WEBHOOK.observation(observationRegistry)
+                .contextualName("konnect process-webhook")
+                .lowCardinalityKeyValue(OPERATION.withValue("process-webhook"))
+                .lowCardinalityKeyValue(STATUS.withValue(KonnectObservationDocumentation.NONE))
+                .highCardinalityKeyValue(PAYMENT_REF.withValue(String.valueOf(paymentRef)));
+        KonnectWebhookProcessedEvent event = new KonnectWebhookProcessedEvent();
+        event.begin();
+        try {
+            PaymentResponse paymentDetails = observation.observe(() -> {
+                PaymentResponse details = processDeduplicated(paymentRef);
+                observation.lowCardinalityKeyValue(STATUS.withValue(KonnectObservationDocumentation.paymentStatus(details)));
+                return details;
+            });
+            event.record(paymentRef, KonnectObservationDocumentation.paymentStatus(paymentDetails), null);
+            return paymentDetails;
+        } catch (RuntimeException e) {
+            event.record(paymentRef, null, e);
+            throw e;
+        }
+    }
+
+    private PaymentResponse processDeduplicated(String paymentRef) {
+        if (deduplicationStore == null) {
+            return process(paymentRef);
+        }
+        PaymentRef key = PaymentRef.parse(paymentRef);
+        PaymentResponse handled = deduplicationStore.getHandled(key);
+        if (handled != null) {
+            suppressed.increment();
+            log.info("Ignoring duplicate Konnect webhook for already handled payment_ref: {}", paymentRef);
+            return handled;
+        }
+        return inFlight.load(paymentRef, ref -> {
+            PaymentResponse paymentDetails = fetch(ref);
+            boolean notified = notifyListeners(ref, paymentDetails);
+            if (isTerminal(paymentDetails)) {
+                if (notified) {
+                    deduplicationStore.markHandled(key, paymentDetails);
+                } else {
+                    log.warn("Not marking payment_ref: {} as handled, its next webhook will notify the listeners again", ref);
+                }
+            }
+            return paymentDetails;
+        });
+    }
+
+    /**
+     * Gets the number of duplicate webhooks for payments whose terminal status was already handled.
+     *
+     * @return the number of suppressed webhooks
+     */
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    /**
+     * Gets the number of duplicate webhooks that shared the lookup of a concurrent webhook for the same payment.
+     *
+     * @return the number of collapsed webhooks
+     */
+    public long getCollapsedCount() {
+        return inFlight.getCollapsedCount();
+    }
+
+    private PaymentResponse process(String paymentRef) {
+        PaymentResponse paymentDetails = fetch(paymentRef);
+        notifyListeners(paymentRef, paymentDetails);
+        return paymentDetails;
+    }
+
+    private PaymentResponse fetch(String paymentRef) {
         log.info("Processing incoming Konnect webhook for payment_ref: {}", paymentRef);
-        PaymentResponse paymentDetails = konnectTemplate.getPaymentDetails(paymentRef);
+        PaymentResponse paymentDetails = KonnectPriority.currentOr(KonnectPriority.WEBHOOK)
+                .call(() -> konnectTemplate.refreshPaymentDetails(paymentRef));
         log.info("Successfully verified webhook. Payment '{}' has status: {}", paymentRef, paymentDetails.payment().status());
         return paymentDetails;
     }
+
+    private static boolean isTerminal(PaymentResponse paymentDetails) {
+        KonnectPayment payment = paymentDetails.payment();
+        return payment != null && payment.status() != null && payment.status().isTerminal();
+    }
+
+    /**
+     * Notifies every listener, even after one of them failed.
+     *
+     * @return true if no listener failed
+     */
+    private boolean notifyListeners(String paymentRef, PaymentResponse paymentDetails) {
+        boolean notified = true;
+        for (KonnectPaymentListener listener : listeners) {
+            try {
+                listener.onPayment(paymentDetails);
+            } catch (RuntimeException e) {
+                notified = false;
+                log.error("Payment listener {} failed for payment_ref: {}", listener, paymentRef, e);
+            }
+        }
+        return notified;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,275 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.oussemasahbeni.konnect.exception.InvalidPaymentReferenceException;
+import io.github.oussemasahbeni.konnect.exception.WebhookProcessingException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Asynchronous ingestion of Konnect webhooks.
+ * {@link #submit(String)} validates the payment reference and enqueues it into a bounded queue, so the webhook
+ * endpoint can acknowledge immediately; a fixed number of workers then process the queued references with the
+ * {@link KonnectWebhookHandler}, which fetches the payment details and notifies the {@link KonnectPaymentListener}s.
+ *
+ * <p>When the queue is full, the {@link OverflowPolicy} decides what happens to a new webhook. Failed lookups are
+ * logged and counted: Konnect, or the reconciliation process, is expected to send the webhook again.
+ *
+ * <p>On {@link #close()}, the queue stops accepting webhooks and its workers drain the pending ones for up to the
+ * configured shutdown timeout.
+ *
+ * <p>The observation current when a webhook is submitted, typically the one of the incoming HTTP request, is restored
+ * while the webhook is processed, so the trace of the request continues on the worker.
+ */
+public class KonnectWebhookQueue implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(KonnectWebhookQueue.class);
+
+    /** Error code of the {@link WebhookProcessingException} thrown when a webhook is rejected by a full queue */
+    public static final String QUEUE_FULL_ERROR_CODE = "WEBHOOK_QUEUE_FULL";
+
+    /**
+     * What happens to a webhook submitted while the queue is full.
+     */
+    public enum OverflowPolicy {
+
+        /** Reject the new webhook with a {@link WebhookProcessingException}, so Konnect retries it later */
+        REJECT,
+
+        /** Drop the oldest queued webhook to make room for the new one */
+        DROP_OLDEST,
+
+        /** Process the new webhook on the submitting thread, slowing the webhook endpoint down */
+        CALLER_RUNS
+    }
+
+    private final KonnectWebhookHandler webhookHandler;
+    private final BlockingQueue<Entry> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration shutdownTimeout;
+    private final List<Thread> workers;
+    private final ObservationRegistry observationRegistry;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean running = true;
+
+    /**
+     * Constructs a new KonnectWebhookQueue and starts its workers.
+     *
+     * @param webhookHandler  the handler processing each queued webhook
+     * @param capacity        the maximum number of queued webhooks
+     * @param overflowPolicy  what happens to a webhook submitted while the queue is full
+     * @param workers         the number of workers processing queued webhooks
+     * @param shutdownTimeout how long {@link #close()} waits for the pending webhooks to be processed
+     */
+    public KonnectWebhookQueue(KonnectWebhookHandler webhookHandler, int capacity, OverflowPolicy overflowPolicy,
+                               int workers, Duration shutdownTimeout) {
+        this(webhookHandler, capacity, overflowPolicy, workers, shutdownTimeout, ObservationRegistry.NOOP);
+    }
+
+    /**
+     * Constructs a new KonnectWebhookQueue and starts its workers, restoring the observation current when each
+     * webhook was submitted while it is processed.
+     *
+     * @param webhookHandler      the handler processing each queued webhook
+     * @param capacity            the maximum number of queued webhooks
+     * @param overflowPolicy      what happens to a webhook submitted while the queue is full
+     * @param workers             the number of workers processing queued webhooks
+     * @param shutdownTimeout     how long {@link #close()} waits for the pending webhooks to be processed
+     * @param observationRegistry the registry holding the observation current when a webhook is submitted
+     */
+    public KonnectWebhookQueue(KonnectWebhookHandler webhookHandler, int capacity, OverflowPolicy overflowPolicy,
+                               int workers, Duration shutdownTimeout, ObservationRegistry observationRegistry) {
+        this.webhookHandler = webhookHandler;
+        this.observationRegistry = observationRegistry;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.shutdownTimeout = shutdownTimeout;
+        this.workers = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            this.workers.add(Thread.ofPlatform().name("konnect-webhook-" + i).daemon().start(this::work));
+        }
+    }
+
+    /**
+     * Validates a webhook's payment reference and enqueues it for processing.
+     *
+     * @param paymentRef the payment_ref received from the webhook query parameter
+     * @return {@code true} if the webhook was queued, {@code false} if it was processed on the calling thread
+     * because the queue was full and the overflow policy is {@link OverflowPolicy#CALLER_RUNS}
+     * @throws InvalidPaymentReferenceException if the ref has an invalid format
+     * @throws WebhookProcessingException       with the {@link #QUEUE_FULL_ERROR_CODE} error code if the queue is
+     *                                          full and the overflow policy is {@link OverflowPolicy#REJECT}, or if
+     *                                          the queue is closed
+     */
+    public boolean submit(String paymentRef) {
+        if (!PaymentRefValidator.validate(paymentRef)) {
+            throw new InvalidPaymentReferenceException("Invalid payment reference format", paymentRef);
+        }
+        if (!running) {
+            rejected.increment();
+            throw new WebhookProcessingException("Webhook queue is closed", paymentRef, QUEUE_FULL_ERROR_CODE);
+        }
+        Entry entry = new Entry(paymentRef, System.nanoTime(), observationRegistry.getCurrentObservation());
+        if (queue.offer(entry)) {
+            accepted.increment();
+            return true;
+        }
+        return switch (overflowPolicy) {
+            case REJECT -> {
+                rejected.increment();
+                throw new WebhookProcessingException("Webhook queue is full", paymentRef, QUEUE_FULL_ERROR_CODE);
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(entry)) {
+                    Entry oldest = queue.poll();
+                    if (oldest != null) {
+                        dropped.increment();
+                        log.warn("Webhook queue is full, dropping webhook for payment_ref: {}", oldest.paymentRef());
+                    }
+                }
+                accepted.increment();
+                yield true;
+            }
+            case CALLER_RUNS -> {
+                process(entry);
+                yield false;
+            }
+        };
+    }
+
+    /**
+     * Gets the number of webhooks waiting to be processed.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Gets how long the oldest queued webhook has been waiting.
+     *
+     * @return the current processing lag, {@link Duration#ZERO} if the queue is empty
+     */
+    public Duration getLag() {
+        Entry oldest = queue.peek();
+        return oldest != null ? Duration.ofNanos(System.nanoTime() - oldest.enqueuedAt()) : Duration.ZERO;
+    }
+
+    /**
+     * Gets the number of webhooks accepted into the queue.
+     *
+     * @return the number of accepted webhooks
+     */
+    public long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    /**
+     * Gets the number of webhooks rejected because the queue was full or closed.
+     *
+     * @return the number of rejected webhooks
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Gets the number of queued webhooks dropped to make room for newer ones.
+     *
+     * @return the number of dropped webhooks
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Gets the number of webhooks processed successfully.
+     *
+     * @return the number of processed webhooks
+     */
+    public long getProcessedCount() {
+        return processed.sum();
+    }
+
+    /**
+     * Gets the number of webhooks whose processing failed.
+     *
+     * @return the number of failed webhooks
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Stops accepting webhooks and waits up to the shutdown timeout for the queued ones to be processed.
+     * Webhooks still queued after that are discarded.
+     */
+    @Override
+    public void close() {
+        running = false;
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        for (Thread worker : workers) {
+            try {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !worker.join(Duration.ofNanos(remaining))) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.forEach(Thread::interrupt);
+        if (!queue.isEmpty()) {
+            log.warn("Discarding {} queued webhooks on shutdown", queue.size());
+            queue.clear();
+        }
+    }
+
+    private void work() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry entry = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (entry != null) {
+                    process(entry);
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void process(Entry entry) {
+        try {
+            if (entry.parentObservation() != null) {
+                entry.parentObservation().scoped(() -> webhookHandler.processWebhook(entry.paymentRef()));
+            } else {
+                webhookHandler.processWebhook(entry.paymentRef());
+            }
+            processed.increment();
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.error("Failed to process queued webhook for payment_ref: {}", entry.paymentRef(), e);
+        }
+    }
+
+    private record Entry(String paymentRef, long enqueuedAt, Observation parentObservation) {
+    }
+}
@@ -0,0 +1,178 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Runs many payment details lookups in parallel on virtual threads, with at most {@code parallelism}
+ * lookups in flight at any time.
+ *
+ * <p>References are pulled from the input only as lookups complete, so large inputs such as database
+ * cursors are never buffered. Each lookup produces a {@link PaymentDetailsResult}: a failed lookup is
+ * reported as a failed result and never aborts the batch.
+ *
+ * <p>Lookups go through the given loader, so every request actually sent to Konnect still acquires a
+ * permit from the {@code konnect-api} rate limiter.
+ */
+public class PaymentDetailsBulkLoader {
+
+    private final PaymentDetailsLoader loader;
+    private final int parallelism;
+
+    /**
+     * Constructs a new PaymentDetailsBulkLoader.
+     *
+     * @param loader      the loader performing each lookup
+     * @param parallelism the maximum number of lookups in flight
+     */
+    public PaymentDetailsBulkLoader(PaymentDetailsLoader loader, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.loader = loader;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Looks up the given payments, passing each result to the consumer as soon as it is available.
+     * The consumer is never invoked concurrently. This method returns once every lookup has completed.
+     *
+     * @param paymentRefs the references of the payments to look up
+     * @param consumer    the consumer receiving the results, in completion order
+     * @throws IllegalStateException if the calling thread is interrupted; pending lookups are then cancelled
+     */
+    public void load(Iterable<String> paymentRefs, Consumer<PaymentDetailsResult> consumer) {
+        Semaphore permits = new Semaphore(parallelism);
+        ReentrantLock consumerLock = new ReentrantLock();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                for (String paymentRef : paymentRefs) {
+                    permits.acquire();
+                    executor.execute(() -> {
+                        try {
+                            PaymentDetailsResult result = load(paymentRef);
+                            consumerLock.lock();
+                            try {
+                                consumer.accept(result);
+                            } finally {
+                                consumerLock.unlock();
+                            }
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while looking up payment details", e);
+            }
+        }
+    }
+
+    /**
+     * Looks up the given payments lazily, returning the results in completion order.
+     * Lookups start when the returned stream is first consumed and run ahead of the consumer by at most
+     * {@code parallelism} results. Closing the stream cancels the remaining lookups.
+     *
+     * @param paymentRefs the references of the payments to look up
+     * @return a stream of results, one per reference
+     */
+    public Stream<PaymentDetailsResult> stream(Stream<String> paymentRefs) {
+        ResultIterator results = new ResultIterator(paymentRefs);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(results, Spliterator.NONNULL), false)
+                .onClose(results::close)
+                .onClose(paymentRefs::close);
+    }
+
+    private PaymentDetailsResult load(String paymentRef) {
+        try {
+            return PaymentDetailsResult.success(paymentRef, loader.load(paymentRef));
+        } catch (RuntimeException e) {
+            return PaymentDetailsResult.failure(paymentRef, e);
+        }
+    }
+
+    /**
+     * Iterates over the results produced by a {@link #load(Iterable, Consumer)} running on a virtual thread.
+     */
+    private final class ResultIterator implements Iterator<PaymentDetailsResult> {
+
+        private static final PaymentDetailsResult END = PaymentDetailsResult.success(null, null);
+
+        private final Stream<String> paymentRefs;
+        private final BlockingQueue<PaymentDetailsResult> results = new ArrayBlockingQueue<>(parallelism);
+        private volatile RuntimeException failure;
+        private Thread producer;
+        private PaymentDetailsResult next;
+
+        ResultIterator(Stream<String> paymentRefs) {
+            this.paymentRefs = paymentRefs;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                if (producer == null) {
+                    producer = Thread.ofVirtual().name("konnect-bulk-loader").start(this::produce);
+                }
+                try {
+                    next = results.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for payment details", e);
+                }
+            }
+            if (next == END && failure != null) {
+                throw failure;
+            }
+            return next != END;
+        }
+
+        @Override
+        public PaymentDetailsResult next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            PaymentDetailsResult result = next;
+            next = null;
+            return result;
+        }
+
+        void close() {
+            if (producer != null) {
+                producer.interrupt();
+            }
+        }
+
+        private void produce() {
+            try {
+                load(paymentRefs::iterator, this::put);
+            } catch (RuntimeException e) {
+                // The input failed, or close() interrupted the lookups
+                failure = e;
+            } finally {
+                put(END);
+            }
+        }
+
+        private void put(PaymentDetailsResult result) {
+            try {
+                results.put(result);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
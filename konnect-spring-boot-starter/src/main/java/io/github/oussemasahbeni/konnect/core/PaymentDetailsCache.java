@@ -0,0 +1,91 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+
+/**
+ * A bounded cache of payment details, keyed by {@link PaymentRef}.
+ * How long each entry is kept is decided by a {@link PaymentDetailsCachePolicy}, based on the payment status.
+ *
+ * @see CaffeinePaymentDetailsCache
+ * @see ConcurrentMapPaymentDetailsCache
+ */
+public interface PaymentDetailsCache {
+
+    /**
+     * Gets the cached details of a payment.
+     *
+     * @param paymentRef the payment reference
+     * @return the cached details, or {@code null} if none are cached or they have expired
+     */
+    PaymentResponse get(PaymentRef paymentRef);
+
+    /**
+     * Caches the details of a payment, unless the policy decides they must not be cached.
+     *
+     * @param paymentRef the payment reference
+     * @param response   the payment details
+     */
+    void put(PaymentRef paymentRef, PaymentResponse response);
+
+    /**
+     * Removes the cached details of a payment, if any.
+     *
+     * @param paymentRef the payment reference
+     */
+    void invalidate(PaymentRef paymentRef);
+
+    /**
+     * Gets the approximate number of cached entries.
+     *
+     * @return the number of entries
+     */
+    long getSize();
+
+    /**
+     * Gets the number of lookups served from the cache.
+     *
+     * @return the number of hits
+     */
+    long getHitCount();
+
+    /**
+     * Gets the number of lookups not found in the cache.
+     *
+     * @return the number of misses
+     */
+    long getMissCount();
+
+    /**
+     * Gets the number of entries removed because they expired or the cache was full.
+     *
+     * @return the number of evictions
+     */
+    long getEvictionCount();
+
+    /**
+     * Decorates a loader so that lookups are served from this cache when possible,
+     * and the loaded details are cached otherwise.
+     * {@linkplain PaymentDetailsLoader#reload(String) Reloads} always go to the delegate, and replace the cached
+     * details with the reloaded ones.
+     *
+     * @param delegate the loader performing the actual lookups
+     * @return a caching loader
+     */
+    default PaymentDetailsLoader decorate(PaymentDetailsLoader delegate) {
+        return new PaymentDetailsLoader() {
+
+            @Override
+            public PaymentResponse load(String paymentRef) {
+                PaymentResponse cached = get(PaymentRef.parse(paymentRef));
+                return cached != null ? cached : reload(paymentRef);
+            }
+
+            @Override
+            public PaymentResponse reload(String paymentRef) {
+                PaymentResponse response = delegate.load(paymentRef);
+                put(PaymentRef.parse(paymentRef), response);
+                return response;
+            }
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import io.github.oussemasahbeni.konnect.model.KonnectPayment;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus;
+
+/**
+ * Decides how long payment details may be served from a {@link PaymentDetailsCache}.
+ *
+ * <ul>
+ *   <li>Terminal payments ({@link KonnectPaymentStatus#COMPLETED} and {@link KonnectPaymentStatus#EXPIRED})
+ *   no longer change and are kept for the terminal time-to-live.</li>
+ *   <li>{@link KonnectPaymentStatus#PENDING} payments are kept for the pending time-to-live, but never past
+ *   the end of their lifespan, when Konnect may expire them. The end of the lifespan is the
+ *   {@linkplain KonnectPayment#expirationDate() expiration date} of the payment, or else the default lifespan
+ *   counted from its creation.</li>
+ *   <li>Responses without a payment or a status are not cached.</li>
+ * </ul>
+ */
+public class PaymentDetailsCachePolicy {
+
+    private final Duration terminalTimeToLive;
+    private final Duration pendingTimeToLive;
+    private final Duration lifespan;
+    private final Clock clock;
+
+    /**
+     * Constructs a new PaymentDetailsCachePolicy.
+     *
+     * @param terminalTimeToLive how long completed and expired payments are kept
+     * @param pendingTimeToLive  how long pending payments are kept at most
+     * @param lifespan           the lifespan of payments without expiration date, counted from their creation
+     * @param clock              the clock giving the current time
+     */
+    public PaymentDetailsCachePolicy(Duration terminalTimeToLive, Duration pendingTimeToLive, Duration lifespan, Clock clock) {
+        this.terminalTimeToLive = terminalTimeToLive;
+        this.pendingTimeToLive = pendingTimeToLive;
+        this.lifespan = lifespan;
+        this.clock = clock;
+    }
+
+    /**
+     * Gets how long the given payment details may be served from the cache, starting now.
+     *
+     * @param response the payment details
+     * @return the time-to-live of the response, {@link Duration#ZERO} if it must not be cached
+     */
+    public Duration timeToLive(PaymentResponse response) {
+        KonnectPayment payment = response != null ? response.payment() : null;
+        if (payment == null || payment.status() == null) {
+            return Duration.ZERO;
+        }
+        return switch (payment.status()) {
+            case COMPLETED, EXPIRED -> terminalTimeToLive;
+            case PENDING -> pendingTimeToLive(payment);
+        };
+    }
+
+    private Duration pendingTimeToLive(KonnectPayment payment) {
+        Instant endOfLifespan = endOfLifespan(payment);
+        if (endOfLifespan == null) {
+            return pendingTimeToLive;
+        }
+        Duration remaining = Duration.between(clock.instant(), endOfLifespan);
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(pendingTimeToLive) < 0 ? remaining : pendingTimeToLive;
+    }
+
+    private Instant endOfLifespan(KonnectPayment payment) {
+        if (payment.expirationDate() != null) {
+            return payment.expirationDate();
+        }
+        return payment.createdAt() != null ? payment.createdAt().plus(lifespan) : null;
+    }
+}
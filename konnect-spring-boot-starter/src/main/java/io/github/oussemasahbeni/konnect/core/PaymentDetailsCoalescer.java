@@ -0,0 +1,127 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.oussemasahbeni.konnect.client.KonnectDeadline;
+import io.github.oussemasahbeni.konnect.client.KonnectOperation;
+import io.github.oussemasahbeni.konnect.exception.KonnectDeadlineExceededException;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+
+/**
+ * Coalesces concurrent payment details lookups for the same payment reference.
+ * The first caller for a reference performs the lookup; callers arriving while it is in flight
+ * wait for it and receive the same {@link PaymentResponse}, or the same exception.
+ *
+ * <p>In-flight lookups are tracked in a {@link ConcurrentHashMap} keyed by {@link PaymentRef}, so callers
+ * for different references never contend on a shared lock. Once a lookup completes, the next caller for the
+ * same reference triggers a new one: nothing is cached.
+ *
+ * <p>A caller waiting for the lookup of another one still honors its own {@link KonnectDeadline}: once it is reached,
+ * the caller fails with a {@link KonnectDeadlineExceededException} while the lookup goes on for the others.
+ *
+ * @see KonnectTemplate#getPaymentDetails(String)
+ */
+public class PaymentDetailsCoalescer {
+
+    private final ConcurrentMap<PaymentRef, CompletableFuture<PaymentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executed = new LongAdder();
+
+    private final LongAdder collapsed = new LongAdder();
+
+    /**
+     * Decorates a loader so that concurrent lookups for the same reference are coalesced.
+     *
+     * @param delegate the loader performing the actual lookups
+     * @return a coalescing loader
+     */
+    public PaymentDetailsLoader decorate(PaymentDetailsLoader delegate) {
+        return paymentRef -> load(paymentRef, delegate);
+    }
+
+    /**
+     * Loads the details of a payment, sharing the result of an in-flight lookup for the same reference if any.
+     *
+     * @param paymentRef the payment reference
+     * @param loader     the loader performing the lookup when none is in flight
+     * @return the details of the payment
+     * @throws io.github.oussemasahbeni.konnect.exception.InvalidPaymentReferenceException if the reference is invalid
+     * @throws KonnectDeadlineExceededException if the deadline in scope is reached while waiting for another lookup
+     */
+    public PaymentResponse load(String paymentRef, PaymentDetailsLoader loader) {
+        PaymentRef key = PaymentRef.parse(paymentRef);
+        CompletableFuture<PaymentResponse> lookup = new CompletableFuture<>();
+        CompletableFuture<PaymentResponse> existing = inFlight.putIfAbsent(key, lookup);
+        if (existing != null) {
+            collapsed.increment();
+            return await(existing);
+        }
+
+        executed.increment();
+        try {
+            PaymentResponse response = loader.load(paymentRef);
+            lookup.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            lookup.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, lookup);
+        }
+    }
+
+    /**
+     * Gets the number of lookups actually performed.
+     *
+     * @return the number of lookups sent to the delegate loader
+     */
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * Gets the number of calls that were served by another caller's in-flight lookup.
+     *
+     * @return the number of collapsed calls
+     */
+    public long getCollapsedCount() {
+        return collapsed.sum();
+    }
+
+    /**
+     * Gets the number of lookups currently in flight.
+     *
+     * @return the number of distinct references being looked up
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private static PaymentResponse await(CompletableFuture<PaymentResponse> lookup) {
+        KonnectDeadline deadline = KonnectDeadline.current();
+        try {
+            return deadline != null
+                    ? lookup.get(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS)
+                    : lookup.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new KonnectDeadlineExceededException(KonnectOperation.GET_PAYMENT, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the payment details lookup in flight", e);
+        }
+    }
+}
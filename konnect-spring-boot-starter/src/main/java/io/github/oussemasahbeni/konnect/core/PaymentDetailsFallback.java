@@ -0,0 +1,112 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+
+/**
+ * Serves the last known details of completed and expired payments while the Konnect API is unavailable.
+ * Every lookup answered by Konnect is kept in a {@link PaymentDetailsCache} holding terminal payments only; when a
+ * lookup fails with an error telling that Konnect is unavailable, typically because the {@code konnect-api} circuit
+ * breaker is open, the last known details are returned instead, as a {@linkplain PaymentDetailsLookup#stale() stale}
+ * lookup.
+ *
+ * <p>Pending payments are never served this way, since their status may have changed in the meantime: their lookups
+ * keep failing until Konnect is back. Neither are {@linkplain KonnectTemplate#refreshPaymentDetails(String) refreshes}
+ * verifying a status, such as webhooks: they fail while Konnect is unavailable, so that they are delivered again.
+ *
+ * @see KonnectTemplate#lookupPaymentDetails(String)
+ */
+public class PaymentDetailsFallback {
+
+    private final PaymentDetailsCache lastKnown;
+
+    private final Predicate<Throwable> unavailable;
+
+    private final LongAdder served = new LongAdder();
+
+    private final LongAdder missed = new LongAdder();
+
+    /**
+     * Constructs a new PaymentDetailsFallback.
+     *
+     * @param lastKnown   the cache of the last known details, whose policy should only keep terminal payments
+     * @param unavailable tells whether a failed lookup means that the Konnect API is unavailable
+     */
+    public PaymentDetailsFallback(PaymentDetailsCache lastKnown, Predicate<Throwable> unavailable) {
+        this.lastKnown = lastKnown;
+        this.unavailable = unavailable;
+    }
+
+    /**
+     * Loads the details of a payment, falling back to its last known details if Konnect is unavailable.
+     *
+     * @param paymentRef the payment reference
+     * @param loader     the loader performing the lookup
+     * @return the details of the payment, stale when they are the last known ones
+     * @throws RuntimeException the failure of the lookup, if Konnect is available or the payment is not known
+     */
+    public PaymentDetailsLookup load(String paymentRef, PaymentDetailsLoader loader) {
+        PaymentRef key = PaymentRef.parse(paymentRef);
+        try {
+            return PaymentDetailsLookup.fresh(remember(key, loader.load(paymentRef)));
+        } catch (RuntimeException e) {
+            if (!unavailable.test(e)) {
+                throw e;
+            }
+            PaymentResponse response = lastKnown.get(key);
+            if (response == null) {
+                missed.increment();
+                throw e;
+            }
+            served.increment();
+            return PaymentDetailsLookup.lastKnown(response);
+        }
+    }
+
+    /**
+     * Keeps the details of a payment fetched from Konnect without this fallback, if it completed or expired.
+     *
+     * @param paymentRef the payment reference
+     * @param response   the details of the payment
+     * @return the given details
+     */
+    public PaymentResponse remember(String paymentRef, PaymentResponse response) {
+        return remember(PaymentRef.parse(paymentRef), response);
+    }
+
+    private PaymentResponse remember(PaymentRef key, PaymentResponse response) {
+        if (response != null) {
+            lastKnown.put(key, response);
+        }
+        return response;
+    }
+
+    /**
+     * Gets the number of lookups answered with the last known details, since startup.
+     *
+     * @return the number of stale responses served
+     */
+    public long getServedCount() {
+        return served.sum();
+    }
+
+    /**
+     * Gets the number of lookups that failed while Konnect was unavailable, for lack of known details.
+     *
+     * @return the number of lookups without fallback
+     */
+    public long getMissedCount() {
+        return missed.sum();
+    }
+
+    /**
+     * Gets the approximate number of payments whose details are known.
+     *
+     * @return the number of entries
+     */
+    public long getSize() {
+        return lastKnown.getSize();
+    }
+}
@@ -0,0 +1,447 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.oussemasahbeni.konnect.client.KonnectDeadline;
+import io.github.oussemasahbeni.konnect.client.KonnectPriority;
+import io.github.oussemasahbeni.konnect.exception.KonnectDeadlineExceededException;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Hedges payment details lookups to cut their tail latency.
+ * A lookup that has not answered once the configured percentile of recent latencies has elapsed is sent a second
+ * time; whichever attempt answers first is returned and the other one is cancelled. Looking up a payment is
+ * idempotent, so both attempts are safe to run.
+ *
+ * <p>Latencies of the successful attempts are tracked over a sliding window of one-second buckets, each holding a
+ * log-linear histogram with a precision of about 12%. Attempts that time out, and first attempts cancelled because
+ * their hedge answered first, are recorded with the time they had been running, so that slow lookups keep weighing on
+ * the percentile. No lookup is hedged before {@code minSamples} latencies have been recorded over the window.
+ *
+ * <p>Hedges are capped by a budget: at most {@code budgetRatio} hedges per lookup over the same window, so that
+ * hedging never adds more than that share of extra load on Konnect, even when its latency degrades as a whole.
+ *
+ * <p>Attempts run on virtual threads, within the {@link KonnectDeadline}, the {@link KonnectPriority} and the observation
+ * in scope of the caller.
+ * A failed attempt does not trigger a hedge: the lookup fails as soon as every attempt sent has failed, with the
+ * error of the first one.
+ *
+ * @see KonnectTemplate#getPaymentDetails(String)
+ */
+public class PaymentDetailsHedger implements AutoCloseable {
+
+    /** Sub-buckets per power of two of the histogram, giving a precision of 1/8 */
+    private static final int SUB_BUCKETS = 8;
+
+    /** Latencies are recorded in microseconds, up to 2^40 (about 12 days) */
+    private static final int HISTOGRAM_SIZE = (40 - 2) * SUB_BUCKETS;
+
+    private final double percentile;
+
+    private final long minDelayNanos;
+
+    private final int minSamples;
+
+    private final double budgetRatio;
+
+    private final ObservationRegistry observationRegistry;
+
+    private final Clock clock;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final long[] bucketSeconds;
+
+    private final long[][] bucketLatencies;
+
+    private final long[] bucketLookups;
+
+    private final long[] bucketHedges;
+
+    /** The sum of the histograms of the buckets still in the window */
+    private final long[] latencies = new long[HISTOGRAM_SIZE];
+
+    private long samples;
+
+    private final LongAdder hedged = new LongAdder();
+
+    private final LongAdder won = new LongAdder();
+
+    private final LongAdder exhausted = new LongAdder();
+
+    /**
+     * Constructs a new PaymentDetailsHedger.
+     *
+     * @param percentile          the percentile of recent latencies after which a lookup is hedged, e.g. {@code 0.95}
+     * @param minDelay            the minimum time to wait before hedging a lookup
+     * @param minSamples          the number of latencies to record over the window before hedging
+     * @param budgetRatio         the maximum number of hedges per lookup, e.g. {@code 0.05} for 5%
+     * @param window              the sliding window over which latencies, lookups and hedges are counted
+     * @param observationRegistry the registry of the observations the attempts run within
+     * @param clock               the clock giving the current time
+     */
+    public PaymentDetailsHedger(double percentile, Duration minDelay, int minSamples, double budgetRatio,
+                                Duration window, ObservationRegistry observationRegistry, Clock clock) {
+        int buckets = (int) Math.max(1, window.toSeconds());
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.minSamples = minSamples;
+        this.budgetRatio = budgetRatio;
+        this.observationRegistry = observationRegistry;
+        this.clock = clock;
+        this.bucketSeconds = new long[buckets];
+        this.bucketLatencies = new long[buckets][HISTOGRAM_SIZE];
+        this.bucketLookups = new long[buckets];
+        this.bucketHedges = new long[buckets];
+    }
+
+    /**
+     * Decorates a loader so that slow lookups are hedged.
+     *
+     * @param delegate the loader performing the actual lookups
+     * @return a hedging loader
+     */
+    public PaymentDetailsLoader decorate(PaymentDetailsLoader delegate) {
+        return paymentRef -> load(paymentRef, delegate);
+    }
+
+    /**
+     * Loads the details of a payment, sending a second lookup if the first one is slower than usual.
+     *
+     * @param paymentRef the payment reference
+     * @param loader     the loader performing each attempt
+     * @return the details of the payment, from the first attempt to answer
+     * @throws IllegalStateException if the calling thread is interrupted; the attempts are then cancelled
+     */
+    public PaymentResponse load(String paymentRef, PaymentDetailsLoader loader) {
+        Duration delay = getDelay();
+        recordLookup();
+        if (delay == null) {
+            long startedAt = System.nanoTime();
+            try {
+                PaymentResponse response = loader.load(paymentRef);
+                recordLatency(System.nanoTime() - startedAt);
+                return response;
+            } catch (RuntimeException e) {
+                if (isTimeout(e)) {
+                    recordLatency(System.nanoTime() - startedAt);
+                }
+                throw e;
+            }
+        }
+
+        HedgedLookup lookup = new HedgedLookup(paymentRef, loader);
+        Future<?> primary = lookup.send(false);
+        Future<?> hedge = null;
+        try {
+            try {
+                return lookup.result.get(delay.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (allowsHedge() && lookup.hedge()) {
+                    hedged.increment();
+                    hedge = lookup.send(true);
+                }
+            }
+            return lookup.result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while looking up payment details", e);
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Gets the time after which a lookup is currently hedged.
+     *
+     * @return the configured percentile of recent latencies, at least the minimum delay,
+     * or null while too few latencies have been recorded
+     */
+    public synchronized Duration getDelay() {
+        expireBuckets();
+        if (samples < minSamples || samples == 0) {
+            return null;
+        }
+        long rank = (long) Math.ceil(percentile * samples);
+        long seen = 0;
+        for (int i = 0; i < latencies.length; i++) {
+            seen += latencies[i];
+            if (seen >= rank) {
+                return Duration.ofNanos(Math.max(minDelayNanos, TimeUnit.MICROSECONDS.toNanos(upperBound(i))));
+            }
+        }
+        return Duration.ofNanos(Math.max(minDelayNanos, TimeUnit.MICROSECONDS.toNanos(upperBound(latencies.length - 1))));
+    }
+
+    /**
+     * Gets the number of hedges sent since startup.
+     *
+     * @return the number of lookups sent a second time
+     */
+    public long getHedgedCount() {
+        return hedged.sum();
+    }
+
+    /**
+     * Gets the number of hedges that answered before the lookup they hedged, since startup.
+     *
+     * @return the number of lookups served by their hedge
+     */
+    public long getWonCount() {
+        return won.sum();
+    }
+
+    /**
+     * Gets the number of slow lookups not hedged because the budget was exhausted, since startup.
+     *
+     * @return the number of exhaustions
+     */
+    public long getExhaustedCount() {
+        return exhausted.sum();
+    }
+
+    /**
+     * Stops the attempts still running. Lookups in progress then fail, unless an attempt already answered.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private synchronized void recordLookup() {
+        bucketLookups[bucket()]++;
+    }
+
+    private synchronized void recordLatency(long nanos) {
+        int index = index(TimeUnit.NANOSECONDS.toMicros(nanos));
+        bucketLatencies[bucket()][index]++;
+        latencies[index]++;
+        samples++;
+    }
+
+    /**
+     * Withdraws a hedge from the budget if one is left, counting an exhaustion otherwise.
+     */
+    private boolean allowsHedge() {
+        synchronized (this) {
+            expireBuckets();
+            long lookups = 0;
+            long hedges = 0;
+            for (int i = 0; i < bucketSeconds.length; i++) {
+                lookups += bucketLookups[i];
+                hedges += bucketHedges[i];
+            }
+            if (hedges + 1 <= budgetRatio * lookups) {
+                bucketHedges[bucket()]++;
+                return true;
+            }
+        }
+        exhausted.increment();
+        return false;
+    }
+
+    /**
+     * Gets the bucket of the current second, resetting it if it last held an older second.
+     * Must be called while holding the lock.
+     */
+    private int bucket() {
+        long now = clock.millis() / 1000;
+        int index = (int) (now % bucketSeconds.length);
+        if (bucketSeconds[index] != now) {
+            reset(index);
+            bucketSeconds[index] = now;
+        }
+        return index;
+    }
+
+    /**
+     * Resets the buckets that left the window, so that they no longer count in the histogram.
+     * Must be called while holding the lock.
+     */
+    private void expireBuckets() {
+        long now = clock.millis() / 1000;
+        for (int i = 0; i < bucketSeconds.length; i++) {
+            if (now - bucketSeconds[i] >= bucketSeconds.length) {
+                reset(i);
+            }
+        }
+    }
+
+    private void reset(int index) {
+        long[] histogram = bucketLatencies[index];
+        for (int i = 0; i < histogram.length; i++) {
+            if (histogram[i] != 0) {
+                latencies[i] -= histogram[i];
+                samples -= histogram[i];
+                histogram[i] = 0;
+            }
+        }
+        bucketLookups[index] = 0;
+        bucketHedges[index] = 0;
+    }
+
+    /**
+     * Tells whether an attempt failed because it ran out of time, as opposed to being cancelled.
+     */
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof KonnectDeadlineExceededException || cause instanceof SocketTimeoutException
+                    || cause instanceof HttpTimeoutException) {
+                return true;
+            }
+            if (cause instanceof InterruptedIOException) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the index of the histogram bucket of a latency: values below 8 have their own bucket, and each power
+     * of two above is split into 8 sub-buckets.
+     */
+    static int index(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) Math.max(0, micros);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int index = (exponent - 2) * SUB_BUCKETS + (int) ((micros >> (exponent - 3)) & (SUB_BUCKETS - 1));
+        return Math.min(index, HISTOGRAM_SIZE - 1);
+    }
+
+    /**
+     * Gets the highest latency, in microseconds, falling in the given histogram bucket.
+     */
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + 2;
+        int subBucket = index % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - 3)) - 1;
+    }
+
+    /**
+     * The attempts of a single lookup, completing its result with the first response, or with the first error
+     * once every attempt has failed.
+     */
+    private final class HedgedLookup {
+
+        private final CompletableFuture<PaymentResponse> result = new CompletableFuture<>();
+
+        private final String paymentRef;
+
+        private final PaymentDetailsLoader loader;
+
+        private final KonnectDeadline deadline = KonnectDeadline.current();
+
+        private final KonnectPriority priority = KonnectPriority.currentOr(KonnectPriority.INTERACTIVE);
+
+        private final Observation parentObservation = observationRegistry.getCurrentObservation();
+
+        private int running;
+
+        private Throwable failure;
+
+        private long primaryStartedAt;
+
+        /** Whether the latency of the first attempt was recorded, so that it is recorded once only */
+        private boolean primaryRecorded;
+
+        private HedgedLookup(String paymentRef, PaymentDetailsLoader loader) {
+            this.paymentRef = paymentRef;
+            this.loader = loader;
+        }
+
+        /**
+         * Registers a hedge, unless the lookup already completed, so that a failure of the first attempt waits
+         * for the hedge.
+         */
+        private synchronized boolean hedge() {
+            if (result.isDone()) {
+                return false;
+            }
+            running++;
+            return true;
+        }
+
+        private Future<?> send(boolean isHedge) {
+            long startedAt = System.nanoTime();
+            if (!isHedge) {
+                synchronized (this) {
+                    running++;
+                    primaryStartedAt = startedAt;
+                }
+            }
+            return executor.submit(() -> {
+                try (Observation.Scope ignored = parentObservation != null ? parentObservation.openScope() : null) {
+                    PaymentResponse response = priority.call(() -> deadline != null
+                            ? deadline.call(() -> loader.load(paymentRef))
+                            : loader.load(paymentRef));
+                    record(isHedge, startedAt);
+                    succeeded(response, isHedge);
+                } catch (RuntimeException | Error e) {
+                    if (isTimeout(e)) {
+                        record(isHedge, startedAt);
+                    }
+                    failed(e);
+                }
+            });
+        }
+
+        private synchronized void succeeded(PaymentResponse response, boolean isHedge) {
+            if (!result.isDone()) {
+                if (isHedge) {
+                    won.increment();
+                    // The first attempt is about to be cancelled, it took at least as long as it has been running
+                    record(false, primaryStartedAt);
+                }
+                result.complete(response);
+            }
+        }
+
+        private synchronized void record(boolean isHedge, long startedAt) {
+            if (!isHedge) {
+                if (primaryRecorded) {
+                    return;
+                }
+                primaryRecorded = true;
+            }
+            recordLatency(System.nanoTime() - startedAt);
+        }
+
+        private synchronized void failed(Throwable e) {
+            if (failure == null) {
+                failure = e;
+            }
+            if (--running == 0) {
+                result.completeExceptionally(failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+
+/**
+ * Strategy used by {@link KonnectTemplate} to fetch the details of a payment once its reference has been validated.
+ * The default loader calls {@link io.github.oussemasahbeni.konnect.client.KonnectClient#getPaymentDetails(String)};
+ * the auto-configuration decorates it with the optional features enabled under {@code konnect.api.payment-details}.
+ */
+@FunctionalInterface
+public interface PaymentDetailsLoader {
+
+    /**
+     * Loads the details of a payment.
+     *
+     * @param paymentRef the validated payment reference
+     * @return the details of the payment
+     * @throws io.github.oussemasahbeni.konnect.exception.KonnectApiException if the API call fails
+     */
+    PaymentResponse load(String paymentRef);
+
+    /**
+     * Loads the details of a payment from Konnect, bypassing any cache, to verify a status change such as a webhook.
+     * Caching loaders cache the reloaded details in place of the ones they held; other loaders just load them.
+     *
+     * @param paymentRef the validated payment reference
+     * @return the details of the payment
+     * @throws io.github.oussemasahbeni.konnect.exception.KonnectApiException if the API call fails
+     */
+    default PaymentResponse reload(String paymentRef) {
+        return load(paymentRef);
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+
+/**
+ * The details of a payment looked up with the {@link KonnectTemplate}, and whether Konnect answered the lookup.
+ *
+ * @param response The details of the payment
+ * @param stale    Whether the details were not fetched from Konnect but are the last known ones, served by the
+ *                 {@link PaymentDetailsFallback} while the Konnect API is unavailable
+ * @see KonnectTemplate#lookupPaymentDetails(String)
+ */
+public record PaymentDetailsLookup(PaymentResponse response, boolean stale) {
+
+    /**
+     * Creates the result of a lookup answered by Konnect, or by the payment details cache.
+     *
+     * @param response The details of the payment
+     * @return a lookup whose details are not stale
+     */
+    public static PaymentDetailsLookup fresh(PaymentResponse response) {
+        return new PaymentDetailsLookup(response, false);
+    }
+
+    /**
+     * Creates the result of a lookup answered with the last known details of a payment.
+     *
+     * @param response The last known details of the payment
+     * @return a lookup whose details are stale
+     */
+    public static PaymentDetailsLookup lastKnown(PaymentResponse response) {
+        return new PaymentDetailsLookup(response, true);
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+
+/**
+ * The outcome of a single lookup within a bulk payment details request.
+ * Exactly one of {@code response} and {@code error} is set.
+ *
+ * @param paymentRef The reference of the payment that was looked up
+ * @param response   The details of the payment, or {@code null} if the lookup failed
+ * @param error      The exception the lookup failed with, or {@code null} if it succeeded
+ * @see KonnectTemplate#getPaymentDetails(Iterable, java.util.function.Consumer)
+ */
+public record PaymentDetailsResult(String paymentRef, PaymentResponse response, RuntimeException error) {
+
+    /**
+     * Creates the result of a successful lookup.
+     *
+     * @param paymentRef The payment reference
+     * @param response   The details of the payment
+     * @return a successful result
+     */
+    public static PaymentDetailsResult success(String paymentRef, PaymentResponse response) {
+        return new PaymentDetailsResult(paymentRef, response, null);
+    }
+
+    /**
+     * Creates the result of a failed lookup.
+     *
+     * @param paymentRef The payment reference
+     * @param error      The exception the lookup failed with
+     * @return a failed result
+     */
+    public static PaymentDetailsResult failure(String paymentRef, RuntimeException error) {
+        return new PaymentDetailsResult(paymentRef, null, error);
+    }
+
+    /**
+     * Checks whether the lookup succeeded.
+     *
+     * @return {@code true} if the payment details were retrieved
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter between the status polls of a pending payment.
+ * The delay before poll {@code n} (starting at 0) is {@code initialDelay * multiplier^n}, capped at {@code maxDelay},
+ * then reduced by a random fraction of up to {@code jitter} so that payments initiated together are not polled together.
+ *
+ * @param initialDelay the delay before the first poll
+ * @param maxDelay     the maximum delay between two polls
+ * @param multiplier   the factor applied to the delay after each poll
+ * @param jitter       the maximum fraction of the delay randomly removed, between 0 and 1
+ */
+public record PaymentPollingBackoff(Duration initialDelay, Duration maxDelay, double multiplier, double jitter) {
+
+    /**
+     * Gets the delay before the given poll.
+     *
+     * @param attempt the number of polls already made
+     * @return the delay in nanoseconds
+     */
+    public long delayNanos(int attempt) {
+        double delay = Math.min(initialDelay.toNanos() * Math.pow(multiplier, attempt), maxDelay.toNanos());
+        if (jitter > 0) {
+            delay -= delay * jitter * ThreadLocalRandom.current().nextDouble();
+        }
+        return (long) delay;
+    }
+}
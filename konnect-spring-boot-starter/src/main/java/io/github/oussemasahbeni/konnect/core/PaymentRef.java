@@ -0,0 +1,98 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.exception.InvalidPaymentReferenceException;
+
+/**
+ * A Konnect payment reference, stored as the 12 bytes of its MongoDB ObjectID rather than as a 24-character String.
+ * The bytes are held in two primitives, so instances are small, and {@link #hashCode()} and {@link #equals(Object)}
+ * never look at characters. This makes {@code PaymentRef} a cheap key for caches, in-flight maps and dedup sets.
+ *
+ * <p>References are case-insensitive: {@code parse("68891E94...")} and {@code parse("68891e94...")} are equal,
+ * and {@link #toString()} always returns the lower-case form.
+ *
+ * @see PaymentRefValidator
+ */
+public final class PaymentRef {
+
+    /**
+     * The number of hexadecimal characters in a payment reference.
+     */
+    public static final int LENGTH = 24;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /** The first 8 bytes of the ObjectID */
+    private final long high;
+
+    /** The last 4 bytes of the ObjectID */
+    private final int low;
+
+    private PaymentRef(long high, int low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Parses a payment reference. Leading and trailing whitespace is ignored, like {@link PaymentRefValidator#validate(String)}.
+     *
+     * @param paymentRef the 24-character hexadecimal payment reference
+     * @return the parsed reference
+     * @throws InvalidPaymentReferenceException if the reference is not a valid payment reference
+     */
+    public static PaymentRef parse(String paymentRef) {
+        if (paymentRef == null) {
+            throw new InvalidPaymentReferenceException("Invalid payment reference format", null);
+        }
+        int start = PaymentRefValidator.start(paymentRef);
+        int end = PaymentRefValidator.end(paymentRef, start);
+        if (end - start != LENGTH) {
+            throw new InvalidPaymentReferenceException("Invalid payment reference format", paymentRef);
+        }
+        long high = 0;
+        for (int i = start; i < start + 16; i++) {
+            high = (high << 4) | digit(paymentRef, i);
+        }
+        int low = 0;
+        for (int i = start + 16; i < end; i++) {
+            low = (low << 4) | digit(paymentRef, i);
+        }
+        return new PaymentRef(high, low);
+    }
+
+    private static int digit(String paymentRef, int index) {
+        int digit = PaymentRefValidator.hexDigit(paymentRef.charAt(index));
+        if (digit < 0) {
+            throw new InvalidPaymentReferenceException("Invalid payment reference format", paymentRef);
+        }
+        return digit;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof PaymentRef other && high == other.high && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        // ObjectIDs start with a timestamp: mix every byte so that references created in the same second spread well
+        long hash = (high ^ (high >>> 29)) * 0x9E3779B97F4A7C15L + low;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * Gets the lower-case, 24-character hexadecimal form of this reference, as used by the Konnect API.
+     *
+     * @return the payment reference
+     */
+    @Override
+    public String toString() {
+        char[] chars = new char[LENGTH];
+        for (int i = 0; i < 16; i++) {
+            chars[i] = HEX_DIGITS[(int) (high >>> (60 - 4 * i)) & 0xF];
+        }
+        for (int i = 0; i < 8; i++) {
+            chars[16 + i] = HEX_DIGITS[(low >>> (28 - 4 * i)) & 0xF];
+        }
+        return new String(chars);
+    }
+}
@@ -22,20 +22,77 @@ public class PaymentRefValidator {
     /**
      * Validate payment reference format based on Konnect API specification
      * Konnect payment references are MongoDB ObjectIDs (24 character hex strings)
+     * Leading and trailing whitespace is ignored.
+     *
+     * <p>The reference is checked in a single pass, without allocating: this method is safe to call
+     * on every incoming request, including floods of junk references.
      *
      * @param paymentRef the payment reference to validate
      * @return true if the payment reference is valid, false otherwise
      */
     public static boolean validate(String paymentRef) {
-        if (paymentRef == null || paymentRef.trim().isBlank()) {
+        if (paymentRef == null) {
+            return false;
+        }
+        int start = start(paymentRef);
+        int end = end(paymentRef, start);
+        if (end - start != PaymentRef.LENGTH) {
             return false;
         }
+        for (int i = start; i < end; i++) {
+            if (hexDigit(paymentRef.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        paymentRef = paymentRef.trim();
+    /**
+     * Gets the index of the first character that is not whitespace, as defined by {@link String#trim()}.
+     *
+     * @param paymentRef the payment reference
+     * @return the start index of the trimmed reference
+     */
+    static int start(String paymentRef) {
+        int start = 0;
+        while (start < paymentRef.length() && paymentRef.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
 
-        if (paymentRef.length() != 24) {
-            return false;
+    /**
+     * Gets the index following the last character that is not whitespace, as defined by {@link String#trim()}.
+     *
+     * @param paymentRef the payment reference
+     * @param start      the start index of the trimmed reference
+     * @return the end index of the trimmed reference
+     */
+    static int end(String paymentRef, int start) {
+        int end = paymentRef.length();
+        while (end > start && paymentRef.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Gets the value of an ASCII hexadecimal digit.
+     * Unlike {@link Character#digit(char, int)}, non-ASCII digits are rejected.
+     *
+     * @param c the character
+     * @return the value of the digit, or {@code -1} if the character is not a hexadecimal digit
+     */
+    static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
         }
-        return paymentRef.matches("^[a-fA-F0-9]{24}$");
+        return -1;
     }
 }
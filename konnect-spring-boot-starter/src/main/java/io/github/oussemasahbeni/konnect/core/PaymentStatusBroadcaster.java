@@ -0,0 +1,206 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.oussemasahbeni.konnect.exception.InvalidPaymentReferenceException;
+import io.github.oussemasahbeni.konnect.model.KonnectPayment;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.oussemasahbeni.konnect.model.PaymentStatusEvent;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus;
+
+/**
+ * Fans the status changes of payments out to their {@link PaymentStatusSubscriber}s.
+ *
+ * <p>Subscriptions are held in a concurrent registry keyed by {@link PaymentRef}; an idle subscription holds no
+ * thread. When a payment is subscribed to, its current status is fetched on a virtual thread and sent to the new
+ * subscriber. Then, as a {@link KonnectPaymentListener}, the broadcaster pushes each status reported by a webhook or
+ * a poll to the subscribers that have not seen it yet, and closes the subscriptions once the payment settles.
+ *
+ * <p>A single scheduler sends heartbeats to every subscriber at a fixed interval, on virtual threads, and closes the
+ * subscriptions that received no status for longer than the idle timeout.
+ */
+public class PaymentStatusBroadcaster implements KonnectPaymentListener, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentStatusBroadcaster.class);
+
+    private final PaymentDetailsLoader loader;
+    private final long idleTimeout;
+    private final ConcurrentMap<PaymentRef, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("konnect-sse-heartbeat").daemon().factory());
+
+    /**
+     * Constructs a new PaymentStatusBroadcaster and starts sending heartbeats.
+     *
+     * @param loader            the loader fetching the current status of a payment when it is subscribed to
+     * @param heartbeatInterval the interval between two heartbeats
+     * @param idleTimeout       how long a subscription may receive no status before it is closed
+     */
+    public PaymentStatusBroadcaster(PaymentDetailsLoader loader, Duration heartbeatInterval, Duration idleTimeout) {
+        this.loader = loader;
+        this.idleTimeout = idleTimeout.toNanos();
+        long interval = heartbeatInterval.toNanos();
+        this.heartbeats.scheduleAtFixedRate(this::sendHeartbeats, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Subscribes to the status changes of a payment. The current status is sent to the subscriber as soon as
+     * it is fetched.
+     *
+     * @param paymentRef the payment reference
+     * @param subscriber the subscriber
+     * @return the subscription, to cancel when the connection is closed by the client
+     * @throws InvalidPaymentReferenceException if the ref has an invalid format
+     */
+    public Subscription subscribe(String paymentRef, PaymentStatusSubscriber subscriber) {
+        PaymentRef key = PaymentRef.parse(paymentRef);
+        Subscription subscription = new Subscription(key, subscriber);
+        subscriptions.compute(key, (ref, group) -> {
+            Set<Subscription> joined = group != null ? group : ConcurrentHashMap.newKeySet();
+            joined.add(subscription);
+            return joined;
+        });
+        subscriberCount.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                subscription.deliver(loader.load(paymentRef));
+            } catch (RuntimeException e) {
+                log.warn("Failed to fetch the status of payment_ref {} for a new subscriber", paymentRef, e);
+            }
+        });
+        return subscription;
+    }
+
+    /**
+     * Pushes the status of the given payment to its subscribers that have not seen it yet.
+     *
+     * @param paymentResponse the authoritative payment details
+     */
+    @Override
+    public void onPayment(PaymentResponse paymentResponse) {
+        KonnectPayment payment = paymentResponse.payment();
+        if (payment == null || !PaymentRefValidator.validate(payment.id())) {
+            return;
+        }
+        Set<Subscription> group = subscriptions.get(PaymentRef.parse(payment.id()));
+        if (group != null) {
+            for (Subscription subscription : group) {
+                subscription.deliver(paymentResponse);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of open subscriptions.
+     *
+     * @return the number of subscribers
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * Stops sending heartbeats and closes every subscription.
+     */
+    @Override
+    public void close() {
+        heartbeats.shutdownNow();
+        subscriptions.values().forEach(group -> group.forEach(Subscription::cancel));
+        executor.shutdownNow();
+    }
+
+    private void sendHeartbeats() {
+        long now = System.nanoTime();
+        for (Set<Subscription> group : subscriptions.values()) {
+            for (Subscription subscription : group) {
+                if (now - subscription.lastStatusAt > idleTimeout) {
+                    subscription.cancel();
+                } else {
+                    executor.execute(subscription::heartbeat);
+                }
+            }
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.paymentRef, (ref, group) -> {
+            group.remove(subscription);
+            return group.isEmpty() ? null : group;
+        });
+        subscriberCount.decrementAndGet();
+    }
+
+    /**
+     * A subscription to the status changes of a payment.
+     */
+    public final class Subscription {
+
+        private final PaymentRef paymentRef;
+        private final PaymentStatusSubscriber subscriber;
+        private final AtomicReference<KonnectPaymentStatus> lastStatus = new AtomicReference<>();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private volatile long lastStatusAt = System.nanoTime();
+
+        private Subscription(PaymentRef paymentRef, PaymentStatusSubscriber subscriber) {
+            this.paymentRef = paymentRef;
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * Cancels the subscription and closes the subscriber's connection. Cancelling twice has no effect.
+         */
+        public void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                remove(this);
+                subscriber.onComplete();
+            }
+        }
+
+        private void deliver(PaymentResponse response) {
+            KonnectPayment payment = response.payment();
+            if (cancelled.get() || payment == null || payment.status() == null
+                    || lastStatus.getAndSet(payment.status()) == payment.status()) {
+                return;
+            }
+            lastStatusAt = System.nanoTime();
+            try {
+                subscriber.onStatus(new PaymentStatusEvent(paymentRef.toString(), payment.status(), payment.updatedAt()));
+            } catch (IOException | RuntimeException e) {
+                log.debug("Closing broken status subscription for payment_ref {}", paymentRef, e);
+                cancel();
+                return;
+            }
+            if (payment.status().isTerminal()) {
+                cancel();
+            }
+        }
+
+        private void heartbeat() {
+            if (cancelled.get()) {
+                return;
+            }
+            try {
+                subscriber.onHeartbeat();
+            } catch (IOException | RuntimeException e) {
+                log.debug("Closing broken status subscription for payment_ref {}", paymentRef, e);
+                cancel();
+            }
+        }
+    }
+}
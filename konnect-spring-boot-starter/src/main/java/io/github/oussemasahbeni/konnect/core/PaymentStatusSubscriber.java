@@ -0,0 +1,33 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import java.io.IOException;
+
+import io.github.oussemasahbeni.konnect.model.PaymentStatusEvent;
+
+/**
+ * A connection subscribed to the status changes of a payment through the {@link PaymentStatusBroadcaster},
+ * typically a Server-Sent Events stream. A subscriber whose methods throw is unsubscribed.
+ */
+public interface PaymentStatusSubscriber {
+
+    /**
+     * Sends a status change of the payment.
+     *
+     * @param event the status change
+     * @throws IOException if the connection is broken
+     */
+    void onStatus(PaymentStatusEvent event) throws IOException;
+
+    /**
+     * Sends a heartbeat, keeping the idle connection open through proxies.
+     *
+     * @throws IOException if the connection is broken
+     */
+    void onHeartbeat() throws IOException;
+
+    /**
+     * Closes the connection, because the payment settled, the connection was idle for too long,
+     * or the application is shutting down.
+     */
+    void onComplete();
+}
@@ -0,0 +1,90 @@
+package io.github.oussemasahbeni.konnect.core;
+
+
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
+import io.github.oussemasahbeni.konnect.autoconfigure.KonnectProperties;
+import io.github.oussemasahbeni.konnect.client.ReactiveKonnectClient;
+import io.github.oussemasahbeni.konnect.exception.InvalidPaymentReferenceException;
+import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
+import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentRequest;
+import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentResponse;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.github.resilience4j.retry.annotation.Retry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link KonnectTemplate} for WebFlux applications.
+ * It applies the same configured defaults as {@link KonnectTemplate}, but every operation returns a
+ * cold {@link Mono} and never blocks.
+ *
+ * <p>The {@code konnect-api} Resilience4j rate limiter and retry apply exactly like on
+ * {@link KonnectTemplate}; with {@code resilience4j-reactor} on the classpath they are applied
+ * through the Reactor operators, so a retry re-subscribes and sends a new request.
+ */
+public class ReactiveKonnectTemplate {
+
+
+    private static final String RESILIENCE_CONFIG_NAME = "konnect-api";
+
+
+    private final ReactiveKonnectClient reactiveKonnectClient;
+    private final KonnectProperties konnectProperties;
+
+    /**
+     * Constructs a new ReactiveKonnectTemplate with the specified client and properties.
+     * This constructor is typically called by Spring's auto-configuration.
+     *
+     * @param reactiveKonnectClient The reactive HTTP client for making API calls to Konnect
+     * @param konnectProperties     The configuration properties containing defaults and API settings
+     */
+    public ReactiveKonnectTemplate(ReactiveKonnectClient reactiveKonnectClient, KonnectProperties konnectProperties) {
+        this.reactiveKonnectClient = reactiveKonnectClient;
+        this.konnectProperties = konnectProperties;
+    }
+
+    /**
+     * Initiates a payment with the minimum required information, using all configured defaults.
+     *
+     * @param amount The payment amount.
+     * @return A Mono emitting the response from the Konnect API.
+     */
+    @RateLimiter(name = RESILIENCE_CONFIG_NAME)
+    @Retry(name = RESILIENCE_CONFIG_NAME)
+    public Mono<InitKonnectPaymentResponse> initiatePayment(BigDecimal amount) {
+        return initiatePayment(amount, null);
+    }
+
+    /**
+     * Initiates a payment, allowing for custom overrides of the default configuration.
+     *
+     * @param amount     The payment amount.
+     * @param customizer A consumer function that receives a pre-configured builder to allow for overrides.
+     * @return A Mono emitting the response from the Konnect API.
+     */
+    @RateLimiter(name = RESILIENCE_CONFIG_NAME)
+    @Retry(name = RESILIENCE_CONFIG_NAME)
+    public Mono<InitKonnectPaymentResponse> initiatePayment(BigDecimal amount, Consumer<InitKonnectPaymentRequest.Builder> customizer) {
+        return Mono.fromSupplier(() -> KonnectPaymentRequests.create(konnectProperties, amount, customizer))
+                .flatMap(reactiveKonnectClient::initiatePayment);
+    }
+
+    /**
+     * Get payment details for a given payment reference.
+     * An invalid reference terminates the returned Mono with an {@link InvalidPaymentReferenceException}
+     * without calling the Konnect API.
+     *
+     * @param paymentRef The reference of the payment to retrieve details for.
+     * @return A Mono emitting the details of the payment, or terminating with a {@link KonnectApiException}.
+     */
+    @RateLimiter(name = RESILIENCE_CONFIG_NAME)
+    @Retry(name = RESILIENCE_CONFIG_NAME)
+    public Mono<PaymentResponse> getPaymentDetails(String paymentRef) {
+        if (!PaymentRefValidator.validate(paymentRef)) {
+            return Mono.error(new InvalidPaymentReferenceException("Invalid payment reference format", paymentRef));
+        }
+        return reactiveKonnectClient.getPaymentDetails(paymentRef);
+    }
+}
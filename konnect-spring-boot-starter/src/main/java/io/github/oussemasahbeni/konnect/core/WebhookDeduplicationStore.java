@@ -0,0 +1,39 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+
+/**
+ * Remembers the payments whose terminal status was already handled by the {@link KonnectWebhookHandler},
+ * so that duplicate webhooks for them are not processed again.
+ *
+ * <p>The default implementation, {@link InMemoryWebhookDeduplicationStore}, is local to the application instance.
+ * Implement this interface on top of a shared store (a database table, Redis, ...) to suppress duplicates
+ * delivered to different instances.
+ *
+ * @see InMemoryWebhookDeduplicationStore
+ */
+public interface WebhookDeduplicationStore {
+
+    /**
+     * Gets the details of a payment whose terminal status was already handled.
+     *
+     * @param paymentRef the payment reference
+     * @return the handled payment details, or {@code null} if the payment was not handled or has been forgotten
+     */
+    PaymentResponse getHandled(PaymentRef paymentRef);
+
+    /**
+     * Records that the terminal status of a payment was handled.
+     *
+     * @param paymentRef the payment reference
+     * @param response   the handled payment details
+     */
+    void markHandled(PaymentRef paymentRef, PaymentResponse response);
+
+    /**
+     * Gets the approximate number of remembered payments.
+     *
+     * @return the number of entries
+     */
+    long getSize();
+}
@@ -1,5 +1,9 @@
 package io.github.oussemasahbeni.konnect.exception;
 
+import java.time.Duration;
+
+import io.github.oussemasahbeni.konnect.client.KonnectOperation;
+
 /**
  * Exception thrown when the Konnect API returns an error response.
  * This is the base exception for all API-related errors including HTTP 4xx and 5xx responses.
@@ -9,6 +13,8 @@ package io.github.oussemasahbeni.konnect.exception;
  *   <li>The HTTP status code returned by the API</li>
  *   <li>The structured error response from Konnect (if available)</li>
  *   <li>A human-readable error message</li>
+ *   <li>The delay after which the request may be retried, from the {@code Retry-After} or rate limit headers (if sent)</li>
+ *   <li>The operation of the failed request, so that the {@code konnect-api} retry applies its settings</li>
  * </ul>
  * 
  * <p>Common scenarios that trigger this exception:
@@ -24,6 +30,8 @@ public class KonnectApiException extends RuntimeException {
 
     private final int statusCode;
     private final KonnectErrorResponse errorResponse;
+    private final Duration retryAfter;
+    private final KonnectOperation operation;
 
     /**
      * Constructs a new KonnectApiException with a message and status code.
@@ -35,6 +43,8 @@ public class KonnectApiException extends RuntimeException {
         super(message);
         this.statusCode = statusCode;
         this.errorResponse = null;
+        this.retryAfter = null;
+        this.operation = null;
     }
 
     /**
@@ -48,6 +58,8 @@ public class KonnectApiException extends RuntimeException {
         super(message);
         this.statusCode = statusCode;
         this.errorResponse = errorResponse;
+        this.retryAfter = null;
+        this.operation = null;
     }
 
     /**
@@ -59,9 +71,42 @@ public class KonnectApiException extends RuntimeException {
      * @param cause the underlying cause of this exception
      */
     public KonnectApiException(String message, int statusCode, KonnectErrorResponse errorResponse, Throwable cause) {
+        this(message, statusCode, errorResponse, cause, null);
+    }
+
+    /**
+     * Constructs a new KonnectApiException with a message, status code, error response, underlying cause,
+     * and the delay requested by the API before retrying.
+     *
+     * @param message the error message
+     * @param statusCode the HTTP status code returned by the API
+     * @param errorResponse the structured error response from the Konnect API
+     * @param cause the underlying cause of this exception
+     * @param retryAfter the delay after which the request may be retried, or null if the API did not send one
+     */
+    public KonnectApiException(String message, int statusCode, KonnectErrorResponse errorResponse, Throwable cause,
+                               Duration retryAfter) {
+        this(message, statusCode, errorResponse, cause, retryAfter, null);
+    }
+
+    /**
+     * Constructs a new KonnectApiException with a message, status code, error response, underlying cause,
+     * the delay requested by the API before retrying, and the operation of the failed request.
+     *
+     * @param message the error message
+     * @param statusCode the HTTP status code returned by the API
+     * @param errorResponse the structured error response from the Konnect API
+     * @param cause the underlying cause of this exception
+     * @param retryAfter the delay after which the request may be retried, or null if the API did not send one
+     * @param operation the operation of the failed request, or null if unknown
+     */
+    public KonnectApiException(String message, int statusCode, KonnectErrorResponse errorResponse, Throwable cause,
+                               Duration retryAfter, KonnectOperation operation) {
         super(message, cause);
         this.statusCode = statusCode;
         this.errorResponse = errorResponse;
+        this.retryAfter = retryAfter;
+        this.operation = operation;
     }
 
     /**
@@ -81,4 +126,23 @@ public class KonnectApiException extends RuntimeException {
     public int getStatusCode() {
         return statusCode;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the delay after which the request may be retried, as sent by the Konnect API in the {@code Retry-After}
+     * or rate limit reset header of the error response.
+     *
+     * @return the delay before retrying, or null if the API did not send one
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Gets the operation of the request the Konnect API failed.
+     *
+     * @return the operation, or null if unknown
+     */
+    public KonnectOperation getOperation() {
+        return operation;
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.oussemasahbeni.konnect.exception;
+
+/**
+ * Exception thrown when a request to the Konnect API is rejected before being sent, because the bulkhead of its
+ * operation is full and no room was made within {@code konnect.api.bulkhead.max-wait}.
+ *
+ * <p>The bulkhead is full of requests of the same operation, so rejections are not retried by the
+ * {@code konnect-api} Resilience4j retry: retrying would only queue more requests behind them.
+ *
+ * @see io.github.oussemasahbeni.konnect.client.KonnectBulkheadInterceptor
+ */
+public class KonnectBulkheadFullException extends KonnectRejectedException {
+
+    private final String operation;
+
+    private final int maxConcurrentCalls;
+
+    /**
+     * Constructs a new KonnectBulkheadFullException.
+     *
+     * @param operation          the operation of the rejected request, e.g. {@code init-payment}
+     * @param maxConcurrentCalls the size of the bulkhead of the operation
+     */
+    public KonnectBulkheadFullException(String operation, int maxConcurrentCalls) {
+        super("Bulkhead of " + maxConcurrentCalls + " concurrent calls full for Konnect operation " + operation);
+        this.operation = operation;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    /**
+     * Gets the operation of the rejected request.
+     *
+     * @return the operation, e.g. {@code init-payment}
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Gets the size of the bulkhead of the operation.
+     *
+     * @return the number of calls of the operation allowed in flight
+     */
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.oussemasahbeni.konnect.exception;
+
+/**
+ * Exception thrown when a request to the Konnect API is rejected before being sent, because the adaptive
+ * concurrency limit of its operation is reached and no request completed within {@code konnect.api.concurrency.max-wait}.
+ *
+ * <p>Rejections mean Konnect is already busy with the requests in flight, so they are not retried by the
+ * {@code konnect-api} Resilience4j retry: retrying would only add to the load the limit is shedding.
+ *
+ * @see io.github.oussemasahbeni.konnect.client.KonnectConcurrencyLimitInterceptor
+ */
+public class KonnectConcurrencyLimitException extends KonnectRejectedException {
+
+    private final String operation;
+
+    private final int limit;
+
+    /**
+     * Constructs a new KonnectConcurrencyLimitException.
+     *
+     * @param operation the operation of the rejected request, e.g. {@code init-payment}
+     * @param limit     the concurrency limit of the operation when the request was rejected
+     */
+    public KonnectConcurrencyLimitException(String operation, int limit) {
+        super("Concurrency limit of " + limit + " requests reached for Konnect operation " + operation);
+        this.operation = operation;
+        this.limit = limit;
+    }
+
+    /**
+     * Gets the operation of the rejected request.
+     *
+     * @return the operation, e.g. {@code init-payment}
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Gets the concurrency limit of the operation when the request was rejected.
+     *
+     * @return the concurrency limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+}
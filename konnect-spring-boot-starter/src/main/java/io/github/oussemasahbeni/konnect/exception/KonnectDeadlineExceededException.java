@@ -0,0 +1,84 @@
+package io.github.oussemasahbeni.konnect.exception;
+
+import io.github.oussemasahbeni.konnect.client.KonnectOperation;
+
+/**
+ * Exception thrown when a call to the Konnect API does not complete before its
+ * {@link io.github.oussemasahbeni.konnect.client.KonnectDeadline deadline}, either because a request would be sent
+ * past the deadline or because the response did not arrive in the remaining time.
+ *
+ * <p>Deadline failures are never retried by the {@code konnect-api} Resilience4j retry.
+ *
+ * @see io.github.oussemasahbeni.konnect.client.KonnectDeadline
+ */
+public class KonnectDeadlineExceededException extends RuntimeException {
+
+    private final String operation;
+
+    private final KonnectOperation konnectOperation;
+
+    /**
+     * Constructs a new KonnectDeadlineExceededException for a request that was not sent.
+     *
+     * @param operation the operation of the request, e.g. {@code get-payment}
+     */
+    public KonnectDeadlineExceededException(String operation) {
+        super("Deadline exceeded before sending Konnect operation " + operation);
+        this.operation = operation;
+        this.konnectOperation = null;
+    }
+
+    /**
+     * Constructs a new KonnectDeadlineExceededException for a request of a known operation that was not sent.
+     *
+     * @param operation the operation of the request
+     */
+    public KonnectDeadlineExceededException(KonnectOperation operation) {
+        super("Deadline exceeded before sending Konnect operation " + operation.getValue());
+        this.operation = operation.getValue();
+        this.konnectOperation = operation;
+    }
+
+    /**
+     * Constructs a new KonnectDeadlineExceededException for a request whose response did not arrive in time.
+     *
+     * @param operation the operation of the request, e.g. {@code get-payment}
+     * @param cause     the timeout of the request
+     */
+    public KonnectDeadlineExceededException(String operation, Throwable cause) {
+        super("Deadline exceeded while waiting for Konnect operation " + operation, cause);
+        this.operation = operation;
+        this.konnectOperation = null;
+    }
+
+    /**
+     * Constructs a new KonnectDeadlineExceededException for a request of a known operation whose response did not
+     * arrive in time.
+     *
+     * @param operation the operation of the request
+     * @param cause     the timeout of the request
+     */
+    public KonnectDeadlineExceededException(KonnectOperation operation, Throwable cause) {
+        super("Deadline exceeded while waiting for Konnect operation " + operation.getValue(), cause);
+        this.operation = operation.getValue();
+        this.konnectOperation = operation;
+    }
+
+    /**
+     * Gets the operation of the request that exceeded the deadline.
+     *
+     * @return the operation, e.g. {@code get-payment}
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Gets the operation of the request that exceeded the deadline.
+     *
+     * @return the operation, or null if the request did not target a known endpoint
+     */
+    public KonnectOperation getKonnectOperation() {
+        return konnectOperation;
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.oussemasahbeni.konnect.exception;
+
+/**
+ * Exception thrown when a request to the Konnect API is rejected before being sent, because no slot was left to its
+ * priority within {@code konnect.api.scheduling.max-wait}: higher priorities held the slots, or the rate limit quota
+ * left was reserved for them.
+ *
+ * <p>Rejected requests gave way to more urgent ones, so they are not retried by the {@code konnect-api}
+ * Resilience4j retry.
+ *
+ * @see io.github.oussemasahbeni.konnect.client.KonnectPriorityScheduler
+ */
+public class KonnectPriorityRejectedException extends KonnectRejectedException {
+
+    private final String priority;
+
+    /**
+     * Constructs a new KonnectPriorityRejectedException.
+     *
+     * @param priority the priority of the rejected request, e.g. {@code background}
+     */
+    public KonnectPriorityRejectedException(String priority) {
+        super("No Konnect API capacity left for a " + priority + " request");
+        this.priority = priority;
+    }
+
+    /**
+     * Gets the priority of the rejected request.
+     *
+     * @return the priority, e.g. {@code background}
+     */
+    public String getPriority() {
+        return priority;
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.oussemasahbeni.konnect.exception;
+
+/**
+ * Exception thrown when a request to the Konnect API is rejected before being sent, because the client itself is
+ * holding it back: a limit, a bulkhead or a scheduler had no room left for it.
+ *
+ * <p>Konnect never saw the request, so rejections are neither retried by the {@code konnect-api} Resilience4j retry,
+ * nor recorded as failures by its circuit breaker. Each cause of rejection has its own subclass.
+ *
+ * @see io.github.oussemasahbeni.konnect.autoconfigure.KonnectRetryExceptionPredicate
+ * @see io.github.oussemasahbeni.konnect.autoconfigure.KonnectCircuitBreakerExceptionPredicate
+ */
+public class KonnectRejectedException extends RuntimeException {
+
+    /**
+     * Constructs a new KonnectRejectedException.
+     *
+     * @param message the error message
+     */
+    public KonnectRejectedException(String message) {
+        super(message);
+    }
+}
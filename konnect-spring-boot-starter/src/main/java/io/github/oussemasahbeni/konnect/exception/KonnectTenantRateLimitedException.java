@@ -0,0 +1,47 @@
+package io.github.oussemasahbeni.konnect.exception;
+
+/**
+ * Exception thrown when a request to the Konnect API is rejected before being sent, because its tenant used up the
+ * calls of its rate limit partition and none was freed within {@code konnect.api.tenancy.rate-limit.max-wait}.
+ *
+ * <p>The tenant already sent as many calls as it may in the current period, so rejections are not retried by the
+ * {@code konnect-api} Resilience4j retry, nor recorded by its circuit breaker: Konnect itself did not fail.
+ *
+ * @see io.github.oussemasahbeni.konnect.client.KonnectTenantRateLimiter
+ */
+public class KonnectTenantRateLimitedException extends KonnectRejectedException {
+
+    private final String tenant;
+
+    private final int limitForPeriod;
+
+    /**
+     * Constructs a new KonnectTenantRateLimitedException.
+     *
+     * @param tenant         the id of the tenant of the rejected request
+     * @param limitForPeriod the number of calls the tenant may send per period
+     */
+    public KonnectTenantRateLimitedException(String tenant, int limitForPeriod) {
+        super("Rate limit of " + limitForPeriod + " calls per period reached for Konnect tenant " + tenant);
+        this.tenant = tenant;
+        this.limitForPeriod = limitForPeriod;
+    }
+
+    /**
+     * Gets the tenant of the rejected request.
+     *
+     * @return the id of the tenant
+     */
+    public String getTenant() {
+        return tenant;
+    }
+
+    /**
+     * Gets the number of calls the tenant may send per period.
+     *
+     * @return the limit of the rate limit partition of the tenant
+     */
+    public int getLimitForPeriod() {
+        return limitForPeriod;
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.oussemasahbeni.konnect.exception;
+
+import org.springframework.web.client.ResourceAccessException;
+
+import io.github.oussemasahbeni.konnect.client.KonnectOperation;
+
+/**
+ * Exception thrown when a request to the Konnect API fails before a response is received, because of a network
+ * issue such as a refused connection or a read timeout.
+ *
+ * <p>It is the {@link ResourceAccessException} the blocking client has always thrown, carrying the operation of the
+ * failed request so that the {@code konnect-api} Resilience4j retry applies the settings of that operation. The
+ * non-blocking and reactive clients report network issues with it as well.
+ */
+public class KonnectTransportException extends ResourceAccessException {
+
+    private final KonnectOperation operation;
+
+    /**
+     * Constructs a new KonnectTransportException.
+     *
+     * @param message   the error message
+     * @param operation the operation of the failed request
+     * @param cause     the network failure
+     */
+    public KonnectTransportException(String message, KonnectOperation operation, Throwable cause) {
+        super(message);
+        initCause(cause);
+        this.operation = operation;
+    }
+
+    /**
+     * Gets the operation of the failed request.
+     *
+     * @return the operation
+     */
+    public KonnectOperation getOperation() {
+        return operation;
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.oussemasahbeni.konnect.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event of a request sent to the Konnect API by the
+ * {@link io.github.oussemasahbeni.konnect.client.KonnectClient}, one per Resilience4j retry attempt.
+ * Its duration is the time spent waiting for the response.
+ */
+@Name("konnect.ApiCall")
+@Label("Konnect API Call")
+@Category({"Konnect", "API"})
+@Description("A request sent to the Konnect API")
+@StackTrace(false)
+public final class KonnectApiCallEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    @Description("The Konnect API operation, e.g. init-payment or get-payment")
+    String operation;
+
+    @Label("Payment Reference")
+    String paymentRef;
+
+    @Label("Status Code")
+    @Description("The HTTP status code of the response, 0 when no response was received")
+    int statusCode;
+
+    @Label("Payload Size")
+    @Description("The Content-Length of the response, -1 when unknown")
+    @DataAmount
+    long payloadSize;
+
+    /**
+     * Ends the event and commits it, when it is recorded.
+     *
+     * @param operation   the Konnect API operation
+     * @param paymentRef  the reference of the targeted payment, may be null
+     * @param statusCode  the HTTP status code of the response, 0 when no response was received
+     * @param payloadSize the Content-Length of the response, -1 when unknown
+     */
+    public void record(String operation, String paymentRef, int statusCode, long payloadSize) {
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.paymentRef = paymentRef;
+            this.statusCode = statusCode;
+            this.payloadSize = payloadSize;
+            commit();
+        }
+    }
+}
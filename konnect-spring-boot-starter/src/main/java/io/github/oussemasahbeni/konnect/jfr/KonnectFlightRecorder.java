@@ -0,0 +1,49 @@
+package io.github.oussemasahbeni.konnect.jfr;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+
+import jdk.jfr.Configuration;
+
+/**
+ * Entry point to the JDK Flight Recorder events emitted by the starter:
+ * {@code konnect.ApiCall}, {@code konnect.Retry}, {@code konnect.WebhookProcessed} and {@code konnect.Verification}.
+ *
+ * <p>Events are only populated and committed while a recording enables them, so they cost next to nothing otherwise.
+ * The bundled settings file {@value #SETTINGS_RESOURCE} enables all of them; it can be extracted from the jar and
+ * combined with the JDK settings, e.g. {@code -XX:StartFlightRecording:settings=default,konnect.jfc}, or loaded with
+ * {@link #configuration()} to start a recording programmatically.
+ */
+public final class KonnectFlightRecorder {
+
+    /** The classpath location of the bundled JFR settings file */
+    public static final String SETTINGS_RESOURCE = "jfr/konnect.jfc";
+
+    private KonnectFlightRecorder() {
+    }
+
+    /**
+     * Loads the bundled JFR settings enabling the Konnect events.
+     *
+     * @return the Konnect JFR configuration
+     * @throws UncheckedIOException if the settings file cannot be read or parsed
+     */
+    public static Configuration configuration() {
+        InputStream settings = KonnectFlightRecorder.class.getClassLoader().getResourceAsStream(SETTINGS_RESOURCE);
+        if (settings == null) {
+            throw new UncheckedIOException(new IOException("JFR settings not found: " + SETTINGS_RESOURCE));
+        }
+        try (Reader reader = new InputStreamReader(settings, StandardCharsets.UTF_8)) {
+            return Configuration.create(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ParseException e) {
+            throw new UncheckedIOException(new IOException("Invalid JFR settings: " + SETTINGS_RESOURCE, e));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.oussemasahbeni.konnect.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event of a call to the Konnect API about to be retried by the Resilience4j {@code konnect-api}
+ * retry after a failed attempt. It is an instant event, committed when the retry is scheduled.
+ */
+@Name("konnect.Retry")
+@Label("Konnect Retry")
+@Category({"Konnect", "API"})
+@Description("A call to the Konnect API retried after a failed attempt")
+@StackTrace(false)
+public final class KonnectRetryEvent extends jdk.jfr.Event {
+
+    @Label("Retry Name")
+    @Description("The name of the Resilience4j retry")
+    String retryName;
+
+    @Label("Attempt")
+    @Description("The number of retry attempts made so far")
+    int attempt;
+
+    @Label("Wait Interval")
+    @Description("The time waited before the next attempt")
+    @Timespan(Timespan.MILLISECONDS)
+    long waitInterval;
+
+    @Label("Failure")
+    @Description("The class of the exception that failed the previous attempt")
+    String failure;
+
+    /**
+     * Commits the event, when it is recorded.
+     *
+     * @param retryName    the name of the Resilience4j retry
+     * @param attempt      the number of retry attempts made so far
+     * @param waitInterval the time waited before the next attempt, in milliseconds
+     * @param failure      the exception that failed the previous attempt, may be null
+     */
+    public void record(String retryName, int attempt, long waitInterval, Throwable failure) {
+        if (shouldCommit()) {
+            this.retryName = retryName;
+            this.attempt = attempt;
+            this.waitInterval = waitInterval;
+            this.failure = failure != null ? failure.getClass().getName() : null;
+            commit();
+        }
+    }
+}
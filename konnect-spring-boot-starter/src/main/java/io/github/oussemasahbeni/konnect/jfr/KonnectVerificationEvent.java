@@ -0,0 +1,44 @@
+package io.github.oussemasahbeni.konnect.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event of a payment checked by the {@link io.github.oussemasahbeni.konnect.core.KonnectPaymentVerifier}.
+ */
+@Name("konnect.Verification")
+@Label("Konnect Verification")
+@Category({"Konnect", "Payments"})
+@Description("A payment checked by the Konnect payment verifier")
+@StackTrace(false)
+public final class KonnectVerificationEvent extends jdk.jfr.Event {
+
+    @Label("Payment Reference")
+    String paymentRef;
+
+    @Label("Verified")
+    boolean verified;
+
+    @Label("Reason")
+    @Description("Why the payment failed the verification, null when it was verified")
+    String reason;
+
+    /**
+     * Ends the event and commits it, when it is recorded.
+     *
+     * @param paymentRef the reference of the verified payment, may be null
+     * @param verified   whether the payment passed the verification
+     * @param reason     why the payment failed the verification, null when it was verified
+     */
+    public void record(String paymentRef, boolean verified, String reason) {
+        if (shouldCommit()) {
+            this.paymentRef = paymentRef;
+            this.verified = verified;
+            this.reason = reason;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.oussemasahbeni.konnect.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event of a webhook, or a poll, processed by the
+ * {@link io.github.oussemasahbeni.konnect.core.KonnectWebhookHandler}.
+ * Its duration covers the lookup of the payment details and the notification of the listeners.
+ */
+@Name("konnect.WebhookProcessed")
+@Label("Konnect Webhook Processed")
+@Category({"Konnect", "Webhooks"})
+@Description("A webhook processed by the Konnect webhook handler")
+@StackTrace(false)
+public final class KonnectWebhookProcessedEvent extends jdk.jfr.Event {
+
+    @Label("Payment Reference")
+    String paymentRef;
+
+    @Label("Payment Status")
+    @Description("The status of the payment, null when processing failed")
+    String paymentStatus;
+
+    @Label("Failure")
+    @Description("The class of the exception that failed the processing, null when it succeeded")
+    String failure;
+
+    /**
+     * Ends the event and commits it, when it is recorded.
+     *
+     * @param paymentRef    the payment reference received with the webhook
+     * @param paymentStatus the status of the payment, null when processing failed
+     * @param failure       the exception that failed the processing, null when it succeeded
+     */
+    public void record(String paymentRef, String paymentStatus, Throwable failure) {
+        if (shouldCommit()) {
+            this.paymentRef = paymentRef;
+            this.paymentStatus = paymentStatus;
+            this.failure = failure != null ? failure.getClass().getName() : null;
+            commit();
+        }
+    }
+}
@@ -34,6 +34,7 @@ import io.github.oussemasahbeni.konnect.model.enums.KonnectTransactionStatus;
  * @param createdAt The timestamp when the payment was created
  * @param updatedAt The timestamp when the payment was last updated
  * @param id The unique payment identifier
+ * @param expirationDate The time when the payment expires if it is still pending, at the end of its lifespan
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
 public record KonnectPayment(
@@ -52,9 +53,23 @@ public record KonnectPayment(
         @JsonProperty("webhook") String webhook,
         @JsonProperty("createdAt") Instant createdAt,
         @JsonProperty("updatedAt") Instant updatedAt,
-        @JsonProperty("id") String id
+        @JsonProperty("id") String id,
+        @JsonProperty("expirationDate") Instant expirationDate
 ) {
-    
+
+    /**
+     * Creates a payment whose expiration date is not known.
+     */
+    public KonnectPayment(List<Transaction> transactions, int failedTransactions, int successfulTransactions,
+                          List<KonnectPaymentMethod> acceptedKonnectPaymentMethods, BigDecimal amount,
+                          KonnectToken konnectToken, String orderId, KonnectPaymentType type, KonnectPaymentStatus status,
+                          Long convertedAmount, BigDecimal exchangeRate, PaymentDetails paymentDetails, String webhook,
+                          Instant createdAt, Instant updatedAt, String id) {
+        this(transactions, failedTransactions, successfulTransactions, acceptedKonnectPaymentMethods, amount,
+                konnectToken, orderId, type, status, convertedAmount, exchangeRate, paymentDetails, webhook, createdAt,
+                updatedAt, id, null);
+    }
+
     /**
      * Represents a single transaction within a payment.
      * Each payment can contain multiple transactions, and this record contains
@@ -0,0 +1,21 @@
+package io.github.oussemasahbeni.konnect.model;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus;
+
+/**
+ * Represents a change of the status of a payment, as pushed to the subscribers of its status.
+ * Only the status is exposed: the other payment details stay on the server.
+ *
+ * @param paymentRef The reference of the payment.
+ * @param status     The new status of the payment.
+ * @param updatedAt  The timestamp when the payment was last updated.
+ */
+public record PaymentStatusEvent(
+        @JsonProperty("paymentRef") String paymentRef,
+        @JsonProperty("status") KonnectPaymentStatus status,
+        @JsonProperty("updatedAt") Instant updatedAt) {
+}
@@ -37,4 +37,13 @@ public enum KonnectPaymentStatus {
     public String getValue() {
         return value;
     }
+
+    /**
+     * Checks whether this status is final: completed and expired payments never change again.
+     *
+     * @return true if the status is {@link #COMPLETED} or {@link #EXPIRED}
+     */
+    public boolean isTerminal() {
+        return this != PENDING;
+    }
 }
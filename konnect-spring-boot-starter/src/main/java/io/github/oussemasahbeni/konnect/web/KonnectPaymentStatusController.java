@@ -0,0 +1,73 @@
+package io.github.oussemasahbeni.konnect.web;
+
+import java.io.IOException;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.github.oussemasahbeni.konnect.core.PaymentStatusBroadcaster;
+import io.github.oussemasahbeni.konnect.core.PaymentStatusSubscriber;
+import io.github.oussemasahbeni.konnect.model.PaymentStatusEvent;
+
+/**
+ * Server-Sent Events endpoint streaming the status changes of a payment to browsers, for Spring MVC applications.
+ * Each connection receives the current status of the payment, then a {@code status} event per change, and is closed
+ * once the payment completes or expires. Streams are asynchronous: an idle connection holds no request thread.
+ *
+ * <p>Mapped to {@code konnect.api.sse.path}, {@code /konnect/payments/{paymentRef}/events} by default.
+ *
+ * @see PaymentStatusBroadcaster
+ */
+@RestController
+public class KonnectPaymentStatusController {
+
+    private final PaymentStatusBroadcaster broadcaster;
+
+    /**
+     * Constructs a new KonnectPaymentStatusController.
+     *
+     * @param broadcaster the broadcaster pushing status changes to the streams
+     */
+    public KonnectPaymentStatusController(PaymentStatusBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * Opens a stream of the status changes of a payment.
+     *
+     * @param paymentRef the payment reference
+     * @return the event stream
+     * @throws io.github.oussemasahbeni.konnect.exception.InvalidPaymentReferenceException if the ref has an invalid format
+     */
+    @GetMapping(path = "${konnect.api.sse.path:/konnect/payments/{paymentRef}/events}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter paymentStatus(@PathVariable("paymentRef") String paymentRef) {
+        // Idle streams are closed by the broadcaster, not by the servlet container
+        SseEmitter emitter = new SseEmitter(0L);
+        PaymentStatusBroadcaster.Subscription subscription = broadcaster.subscribe(paymentRef, new EmitterSubscriber(emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
+    }
+
+    private record EmitterSubscriber(SseEmitter emitter) implements PaymentStatusSubscriber {
+
+        @Override
+        public void onStatus(PaymentStatusEvent event) throws IOException {
+            emitter.send(SseEmitter.event().name("status").data(event, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void onHeartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        @Override
+        public void onComplete() {
+            emitter.complete();
+        }
+    }
+}
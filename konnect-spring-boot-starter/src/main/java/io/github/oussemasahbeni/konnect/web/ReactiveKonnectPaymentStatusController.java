@@ -0,0 +1,70 @@
+package io.github.oussemasahbeni.konnect.web;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.oussemasahbeni.konnect.core.PaymentStatusBroadcaster;
+import io.github.oussemasahbeni.konnect.core.PaymentStatusSubscriber;
+import io.github.oussemasahbeni.konnect.model.PaymentStatusEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * Server-Sent Events endpoint streaming the status changes of a payment to browsers, for Spring WebFlux applications.
+ * Behaves like {@link KonnectPaymentStatusController}, with non-blocking streams.
+ *
+ * <p>Mapped to {@code konnect.api.sse.path}, {@code /konnect/payments/{paymentRef}/events} by default.
+ *
+ * @see PaymentStatusBroadcaster
+ */
+@RestController
+public class ReactiveKonnectPaymentStatusController {
+
+    private final PaymentStatusBroadcaster broadcaster;
+
+    /**
+     * Constructs a new ReactiveKonnectPaymentStatusController.
+     *
+     * @param broadcaster the broadcaster pushing status changes to the streams
+     */
+    public ReactiveKonnectPaymentStatusController(PaymentStatusBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * Opens a stream of the status changes of a payment.
+     * The stream fails with an {@link io.github.oussemasahbeni.konnect.exception.InvalidPaymentReferenceException}
+     * if the ref has an invalid format.
+     *
+     * @param paymentRef the payment reference
+     * @return the event stream
+     */
+    @GetMapping(path = "${konnect.api.sse.path:/konnect/payments/{paymentRef}/events}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<PaymentStatusEvent>> paymentStatus(@PathVariable("paymentRef") String paymentRef) {
+        return Flux.create(sink -> {
+            PaymentStatusBroadcaster.Subscription subscription = broadcaster.subscribe(paymentRef, new SinkSubscriber(sink));
+            sink.onDispose(subscription::cancel);
+        });
+    }
+
+    private record SinkSubscriber(FluxSink<ServerSentEvent<PaymentStatusEvent>> sink) implements PaymentStatusSubscriber {
+
+        @Override
+        public void onStatus(PaymentStatusEvent event) {
+            sink.next(ServerSentEvent.builder(event).event("status").build());
+        }
+
+        @Override
+        public void onHeartbeat() {
+            sink.next(ServerSentEvent.<PaymentStatusEvent>builder().comment("heartbeat").build());
+        }
+
+        @Override
+        public void onComplete() {
+            sink.complete();
+        }
+    }
+}
@@ -1,11 +1,69 @@
 package io.github.oussemasahbeni.konnect.autoconfigure;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.oussemasahbeni.konnect.client.KonnectBulkheadInterceptor;
+import io.github.oussemasahbeni.konnect.client.KonnectClient;
+import io.github.oussemasahbeni.konnect.client.KonnectClientHttpRequestFactory;
+import io.github.oussemasahbeni.konnect.client.KonnectClientMetricsInterceptor;
+import io.github.oussemasahbeni.konnect.client.KonnectConcurrencyLimitInterceptor;
+import io.github.oussemasahbeni.konnect.client.KonnectOperation;
+import io.github.oussemasahbeni.konnect.client.KonnectPriority;
+import io.github.oussemasahbeni.konnect.client.KonnectPriorityScheduler;
+import io.github.oussemasahbeni.konnect.client.KonnectRetryBudget;
+import io.github.oussemasahbeni.konnect.core.CaffeinePaymentDetailsCache;
+import io.github.oussemasahbeni.konnect.core.InMemoryWebhookDeduplicationStore;
+import io.github.oussemasahbeni.konnect.core.KonnectAsyncTemplate;
+import io.github.oussemasahbeni.konnect.core.KonnectPaymentListener;
+import io.github.oussemasahbeni.konnect.core.KonnectPaymentPoller;
+import io.github.oussemasahbeni.konnect.core.KonnectPaymentWatcher;
+import io.github.oussemasahbeni.konnect.core.KonnectTemplate;
+import io.github.oussemasahbeni.konnect.core.KonnectTemplateRegistry;
+import io.github.oussemasahbeni.konnect.core.KonnectTenant;
+import io.github.oussemasahbeni.konnect.core.KonnectTenantResolver;
+import io.github.oussemasahbeni.konnect.core.KonnectWebhookHandler;
+import io.github.oussemasahbeni.konnect.core.KonnectWebhookQueue;
+import io.github.oussemasahbeni.konnect.core.PaymentDetailsCache;
+import io.github.oussemasahbeni.konnect.core.PaymentDetailsCoalescer;
+import io.github.oussemasahbeni.konnect.core.PaymentDetailsFallback;
+import io.github.oussemasahbeni.konnect.core.PaymentDetailsHedger;
+import io.github.oussemasahbeni.konnect.core.WebhookDeduplicationStore;
+import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
+import io.github.oussemasahbeni.konnect.exception.KonnectBulkheadFullException;
+import io.github.oussemasahbeni.konnect.exception.KonnectPriorityRejectedException;
+import io.github.oussemasahbeni.konnect.exception.KonnectTenantRateLimitedException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.springboot3.circuitbreaker.autoconfigure.CircuitBreakerAutoConfiguration;
+import io.github.resilience4j.springboot3.retry.autoconfigure.RetryAutoConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -61,4 +119,530 @@ class KonnectAutoConfigurationTest {
                 )
                 .run(context -> assertThat(context).hasFailed());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldUseJdkTransportByDefault() {
+        contextRunner
+                .run(context -> {
+                    KonnectClientHttpRequestFactory requestFactory = context.getBean(KonnectClientHttpRequestFactory.class);
+                    assertThat(requestFactory.getRequestFactory(KonnectOperation.GET_PAYMENT)).isInstanceOf(JdkClientHttpRequestFactory.class);
+                    assertThat(requestFactory.getRequestFactory(KonnectOperation.INIT_PAYMENT)).isInstanceOf(JdkClientHttpRequestFactory.class);
+                });
+    }
+
+    @Test
+    void shouldUseConfiguredTransport() {
+        contextRunner
+                .withPropertyValues("konnect.api.http.transport=apache")
+                .run(context -> assertThat(context.getBean(KonnectClientHttpRequestFactory.class).getRequestFactory(null))
+                        .isInstanceOf(HttpComponentsClientHttpRequestFactory.class));
+
+        contextRunner
+                .withPropertyValues("konnect.api.http.transport=simple")
+                .run(context -> assertThat(context.getBean(KonnectClientHttpRequestFactory.class).getRequestFactory(null))
+                        .isInstanceOf(SimpleClientHttpRequestFactory.class));
+    }
+
+    @Test
+    void shouldApplyPerOperationReadTimeout() {
+        contextRunner
+                .withPropertyValues(
+                        "konnect.api.http.read-timeout=20s",
+                        "konnect.api.operations.get-payment.read-timeout=2s"
+                )
+                .run(context -> {
+                    KonnectClientHttpRequestFactory requestFactory = context.getBean(KonnectClientHttpRequestFactory.class);
+                    assertThat(ReflectionTestUtils.getField(requestFactory.getRequestFactory(KonnectOperation.GET_PAYMENT), "readTimeout"))
+                            .isEqualTo(Duration.ofSeconds(2));
+                    assertThat(ReflectionTestUtils.getField(requestFactory.getRequestFactory(KonnectOperation.INIT_PAYMENT), "readTimeout"))
+                            .isEqualTo(Duration.ofSeconds(20));
+                });
+    }
+
+    @Test
+    void shouldGiveOperationsOverridingTheirConnectionSettingsAClientOfTheirOwn() {
+        contextRunner
+                .withPropertyValues(
+                        "konnect.api.http.connect-timeout=5s",
+                        "konnect.api.operations.get-payment.connect-timeout=1s"
+                )
+                .run(context -> {
+                    KonnectClientHttpRequestFactory requestFactory = context.getBean(KonnectClientHttpRequestFactory.class);
+                    HttpClient getPaymentClient = (HttpClient) ReflectionTestUtils.getField(
+                            requestFactory.getRequestFactory(KonnectOperation.GET_PAYMENT), "httpClient");
+                    HttpClient initPaymentClient = (HttpClient) ReflectionTestUtils.getField(
+                            requestFactory.getRequestFactory(KonnectOperation.INIT_PAYMENT), "httpClient");
+                    assertThat(getPaymentClient).isNotSameAs(initPaymentClient);
+                    assertThat(getPaymentClient.connectTimeout()).contains(Duration.ofSeconds(1));
+                    assertThat(initPaymentClient.connectTimeout()).contains(Duration.ofSeconds(5));
+                });
+
+        contextRunner
+                .withPropertyValues(
+                        "konnect.api.http.transport=apache",
+                        "konnect.api.operations.init-payment.max-connections=5"
+                )
+                .run(context -> {
+                    KonnectClientHttpRequestFactory requestFactory = context.getBean(KonnectClientHttpRequestFactory.class);
+                    assertThat(((HttpComponentsClientHttpRequestFactory) requestFactory.getRequestFactory(KonnectOperation.GET_PAYMENT)).getHttpClient())
+                            .isNotSameAs(((HttpComponentsClientHttpRequestFactory) requestFactory.getRequestFactory(KonnectOperation.INIT_PAYMENT)).getHttpClient());
+                    assertThat(((HttpComponentsClientHttpRequestFactory) requestFactory.getRequestFactory(KonnectOperation.GET_PAYMENT)).getHttpClient())
+                            .isSameAs(((HttpComponentsClientHttpRequestFactory) requestFactory.getRequestFactory(null)).getHttpClient());
+                });
+    }
+
+    @Test
+    void shouldFailWithInvalidHttpSettings() {
+        contextRunner
+                .withPropertyValues("konnect.api.http.max-connections=0")
+                .run(context -> assertThat(context).hasFailed());
+
+        contextRunner
+                .withPropertyValues("konnect.api.http.connect-timeout=0s")
+                .run(context -> assertThat(context).hasFailed());
+
+        contextRunner
+                .withPropertyValues("konnect.api.operations.get-payment.read-timeout=0s")
+                .run(context -> assertThat(context).hasFailed());
+
+        contextRunner
+                .withPropertyValues("konnect.api.operations.get-payment.max-wait=-1s")
+                .run(context -> assertThat(context).getFailure()
+                        .hasStackTraceContaining("The max-wait of an operation must not be negative"));
+
+        contextRunner
+                .withPropertyValues("konnect.api.operations.init-payment.max-retry-after=-1s")
+                .run(context -> assertThat(context).getFailure()
+                        .hasStackTraceContaining("The max-retry-after of an operation must not be negative"));
+    }
+
+    @Test
+    void shouldFallBackToTheSharedSettingsOfOperationsLeftUnset() {
+        KonnectProperties properties = KonnectPropertiesBuilder.konnectProperties()
+                .http(new KonnectProperties.KonnectHttp(KonnectProperties.KonnectHttp.Transport.JDK,
+                        HttpClient.Version.HTTP_2, Duration.ofSeconds(5), Duration.ofSeconds(30), 200,
+                        Duration.ofSeconds(5), Duration.ofSeconds(30), Duration.ofSeconds(60)))
+                .build();
+
+        assertThat(properties.readTimeout(KonnectOperation.GET_PAYMENT)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(properties.deadline(KonnectOperation.INIT_PAYMENT)).isNull();
+        assertThat(properties.retryEnabled(KonnectOperation.INIT_PAYMENT)).isTrue();
+    }
+
+    @Test
+    void shouldCreateTheAsyncHttpClientOnlyOnceUsedAndNeverInjectItByType() {
+        HttpClient applicationHttpClient = HttpClient.newHttpClient();
+        contextRunner
+                .withBean("applicationHttpClient", HttpClient.class, () -> applicationHttpClient)
+                .run(context -> {
+                    assertThat(context.getBeanFactory().containsSingleton("konnectAsyncHttpClient")).isFalse();
+                    assertThat(context.getBeanProvider(HttpClient.class).getObject()).isSameAs(applicationHttpClient);
+
+                    context.getBean(KonnectAsyncTemplate.class);
+                    assertThat(context.getBeanFactory().containsSingleton("konnectAsyncHttpClient")).isTrue();
+                    assertThat(context.getBean("konnectAsyncHttpClient")).isNotSameAs(applicationHttpClient);
+                });
+    }
+
+    @Test
+    void shouldTimeKonnectRequestsOnlyWhenMeterRegistryExists() {
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(KonnectMetricsAutoConfiguration.class))
+                .run(context -> assertThat(context).doesNotHaveBean(KonnectClientMetricsInterceptor.class));
+
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(KonnectMetricsAutoConfiguration.class))
+                .withBean(SimpleMeterRegistry.class)
+                .run(context -> {
+                    assertThat(context).hasSingleBean(KonnectClientMetricsInterceptor.class);
+                    RestClient.Builder builder = context.getBean("konnectRestClient", RestClient.class).mutate();
+                    builder.requestInterceptors(interceptors ->
+                            assertThat(interceptors).containsExactly(context.getBean(KonnectClientMetricsInterceptor.class)));
+                });
+    }
+
+    @Test
+    void shouldLimitConcurrencyPerOperationOnlyInAdaptiveMode() {
+        contextRunner
+                .run(context -> assertThat(context).doesNotHaveBean(KonnectConcurrencyLimitInterceptor.class));
+
+        contextRunner
+                .withPropertyValues(
+                        "konnect.api.concurrency.mode=adaptive",
+                        "konnect.api.concurrency.algorithm=aimd",
+                        "konnect.api.concurrency.initial-limit=20",
+                        "konnect.api.operations.init-payment.max-concurrency=5")
+                .run(context -> {
+                    KonnectConcurrencyLimitInterceptor interceptor = context.getBean(KonnectConcurrencyLimitInterceptor.class);
+                    assertThat(interceptor.getLimit(KonnectOperation.INIT_PAYMENT)).isEqualTo(5);
+                    assertThat(interceptor.getLimit(KonnectOperation.GET_PAYMENT)).isEqualTo(20);
+                    RestClient.Builder builder = context.getBean("konnectRestClient", RestClient.class).mutate();
+                    builder.requestInterceptors(interceptors -> assertThat(interceptors).containsExactly(interceptor));
+                });
+    }
+
+    @Test
+    void shouldIsolateOperationsInBulkheadsOnlyWhenEnabled() {
+        contextRunner
+                .withPropertyValues("konnect.api.http.transport=apache")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(KonnectBulkheadInterceptor.class);
+                    KonnectClientHttpRequestFactory requestFactory = context.getBean(KonnectClientHttpRequestFactory.class);
+                    assertThat(((HttpComponentsClientHttpRequestFactory) requestFactory.getRequestFactory(KonnectOperation.GET_PAYMENT)).getHttpClient())
+                            .isSameAs(((HttpComponentsClientHttpRequestFactory) requestFactory.getRequestFactory(KonnectOperation.INIT_PAYMENT)).getHttpClient());
+                });
+
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(KonnectMetricsAutoConfiguration.class))
+                .withBean(SimpleMeterRegistry.class)
+                .withPropertyValues(
+                        "konnect.api.http.transport=apache",
+                        "konnect.api.bulkhead.enabled=true",
+                        "konnect.api.bulkhead.max-concurrent-calls=10",
+                        "konnect.api.operations.init-payment.max-concurrent-calls=4")
+                .run(context -> {
+                    KonnectBulkheadInterceptor interceptor = context.getBean(KonnectBulkheadInterceptor.class);
+                    assertThat(interceptor.getMaxConcurrentCalls(KonnectOperation.INIT_PAYMENT)).isEqualTo(4);
+                    assertThat(interceptor.getMaxConcurrentCalls(KonnectOperation.GET_PAYMENT)).isEqualTo(10);
+                    KonnectClientHttpRequestFactory requestFactory = context.getBean(KonnectClientHttpRequestFactory.class);
+                    assertThat(((HttpComponentsClientHttpRequestFactory) requestFactory.getRequestFactory(KonnectOperation.GET_PAYMENT)).getHttpClient())
+                            .isNotSameAs(((HttpComponentsClientHttpRequestFactory) requestFactory.getRequestFactory(KonnectOperation.INIT_PAYMENT)).getHttpClient());
+
+                    MeterRegistry registry = context.getBean(MeterRegistry.class);
+                    context.getBean("konnectBulkheadMetrics", MeterBinder.class).bindTo(registry);
+                    assertThat(registry.get("konnect.api.bulkhead.max-concurrent-calls").tag("operation", "init-payment").gauge().value())
+                            .isEqualTo(4);
+                    assertThat(registry.get("konnect.api.bulkhead.rejections").tag("operation", "get-payment").functionCounter().count())
+                            .isZero();
+                });
+    }
+
+    @Test
+    void shouldSchedulePriorityCallsOnlyWhenEnabled() {
+        contextRunner
+                .run(context -> assertThat(context).doesNotHaveBean(KonnectPriorityScheduler.class));
+
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(KonnectMetricsAutoConfiguration.class))
+                .withBean(SimpleMeterRegistry.class)
+                .withPropertyValues(
+                        "konnect.api.scheduling.enabled=true",
+                        "konnect.api.scheduling.max-concurrent-calls=10",
+                        "konnect.api.scheduling.background-share=0.3")
+                .run(context -> {
+                    KonnectPriorityScheduler scheduler = context.getBean(KonnectPriorityScheduler.class);
+                    assertThat(scheduler.getLimit(KonnectPriority.INTERACTIVE)).isEqualTo(10);
+                    assertThat(scheduler.getLimit(KonnectPriority.WEBHOOK)).isEqualTo(8);
+                    assertThat(scheduler.getLimit(KonnectPriority.BACKGROUND)).isEqualTo(3);
+
+                    MeterRegistry registry = context.getBean(MeterRegistry.class);
+                    context.getBean("konnectPrioritySchedulerMetrics", MeterBinder.class).bindTo(registry);
+                    assertThat(registry.get("konnect.api.scheduling.queued").tag("priority", "background").gauge().value())
+                            .isZero();
+                });
+
+        contextRunner
+                .withPropertyValues("konnect.api.scheduling.background-share=0")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    void shouldCreateTemplateRegistryOnlyWhenTenancyEnabled() {
+        contextRunner
+                .run(context -> assertThat(context).doesNotHaveBean(KonnectTemplateRegistry.class));
+
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(KonnectMetricsAutoConfiguration.class))
+                .withBean(SimpleMeterRegistry.class)
+                .withPropertyValues(
+                        "konnect.api.tenancy.enabled=true",
+                        "konnect.api.tenancy.max-tenants=50",
+                        "konnect.api.tenancy.rate-limit.limit-for-period=10",
+                        "konnect.api.tenancy.tenants.merchant-a.key=key-a",
+                        "konnect.api.tenancy.tenants.merchant-a.receiver-wallet-id=wallet-a")
+                .run(context -> {
+                    KonnectTenant tenant = context.getBean(KonnectTenantResolver.class).resolve("merchant-a");
+                    assertThat(tenant.key()).isEqualTo("key-a");
+                    assertThat(tenant.receiverWalletId()).isEqualTo("wallet-a");
+                    assertThat(context.getBean(KonnectTenantResolver.class).resolve("merchant-b")).isNull();
+
+                    KonnectTemplateRegistry registry = context.getBean(KonnectTemplateRegistry.class);
+                    assertThat(registry.getTemplate("merchant-a")).isNotSameAs(context.getBean(KonnectTemplate.class));
+                    assertThat(registry.getRateLimiter("merchant-a").getLimitForPeriod()).isEqualTo(10);
+
+                    MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+                    context.getBean("konnectTemplateRegistryMetrics", MeterBinder.class).bindTo(meterRegistry);
+                    assertThat(meterRegistry.get("konnect.api.tenancy.tenants").gauge().value()).isEqualTo(1);
+                });
+
+        contextRunner
+                .withPropertyValues(
+                        "konnect.api.tenancy.enabled=true",
+                        "konnect.api.tenancy.tenants.merchant-a.key=")
+                .run(context -> assertThat(context).getFailure()
+                        .hasStackTraceContaining("Konnect tenant API key cannot be blank"));
+    }
+
+    @Test
+    void shouldAdviseTheClientOfEachTenantLikeTheKonnectClient() {
+        KonnectClient konnectClient = new KonnectClient(RestClient.create(), new ObjectMapper());
+        KonnectClient tenantClient = new KonnectClient(RestClient.create(), new ObjectMapper());
+        assertThat(KonnectAutoConfiguration.adviseLike(konnectClient).apply(tenantClient)).isSameAs(tenantClient);
+
+        AtomicInteger advised = new AtomicInteger();
+        ProxyFactory proxyFactory = new ProxyFactory(konnectClient);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            advised.incrementAndGet();
+            return null;
+        });
+        KonnectClient advisedClient = KonnectAutoConfiguration.adviseLike((KonnectClient) proxyFactory.getProxy())
+                .apply(tenantClient);
+
+        advisedClient.getPaymentDetails("68891e9415c9b9a0dae24829");
+        assertThat(advised.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldQueueRequestsInTheOuterInterceptorsAndTimeThemInTheInnermost() {
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(KonnectMetricsAutoConfiguration.class,
+                        KonnectRetryAutoConfiguration.class, RetryAutoConfiguration.class))
+                .withBean(SimpleMeterRegistry.class)
+                .withPropertyValues(
+                        "konnect.api.concurrency.mode=adaptive",
+                        "konnect.api.bulkhead.enabled=true",
+                        "konnect.api.scheduling.enabled=true",
+                        "konnect.api.tenancy.enabled=true",
+                        "konnect.api.tenancy.rate-limit.limit-for-period=10",
+                        "konnect.api.tenancy.tenants.merchant-a.key=key-a")
+                .run(context -> {
+                    List<ClientHttpRequestInterceptor> shared = List.of(
+                            context.getBean(KonnectPriorityScheduler.class),
+                            context.getBean(KonnectBulkheadInterceptor.class),
+                            context.getBean(KonnectConcurrencyLimitInterceptor.class),
+                            context.getBean(KonnectRetryBudget.class),
+                            context.getBean(KonnectClientMetricsInterceptor.class));
+                    context.getBean("konnectRestClient", RestClient.class).mutate()
+                            .requestInterceptors(interceptors -> assertThat(interceptors).containsExactlyElementsOf(shared));
+
+                    KonnectTemplateRegistry registry = context.getBean(KonnectTemplateRegistry.class);
+                    KonnectClient tenantClient = (KonnectClient) ReflectionTestUtils.getField(
+                            registry.getTemplate("merchant-a"), "konnectClient");
+                    List<ClientHttpRequestInterceptor> tenant = new ArrayList<>(shared);
+                    tenant.addFirst(registry.getRateLimiter("merchant-a"));
+                    ((RestClient) ReflectionTestUtils.getField(tenantClient, "restClient")).mutate()
+                            .requestInterceptors(interceptors -> assertThat(interceptors).containsExactlyElementsOf(tenant));
+                });
+    }
+
+    @Test
+    void shouldApplyRetryBudgetToTheKonnectRetry() {
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(KonnectRetryAutoConfiguration.class, RetryAutoConfiguration.class))
+                .withPropertyValues(
+                        "resilience4j.retry.instances.konnect-api.max-attempts=3",
+                        "konnect.api.retry.budget.min-retries-per-second=0")
+                .run(context -> {
+                    KonnectRetryBudget budget = context.getBean(KonnectRetryBudget.class);
+                    RestClient.Builder builder = context.getBean("konnectRestClient", RestClient.class).mutate();
+                    builder.requestInterceptors(interceptors -> assertThat(interceptors).containsExactly(budget));
+                    var exceptionPredicate = context.getBean(RetryRegistry.class).retry("konnect-api")
+                            .getRetryConfig().getExceptionPredicate();
+                    assertThat(exceptionPredicate.test(new KonnectApiException("Service unavailable", 503))).isFalse();
+                    assertThat(budget.getExhaustedCount()).isEqualTo(1);
+                });
+
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(KonnectRetryAutoConfiguration.class, RetryAutoConfiguration.class))
+                .withPropertyValues("konnect.api.retry.budget.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(KonnectRetryBudget.class));
+    }
+
+    @Test
+    void shouldProbeKonnectWithASingleCallAndServeStalePaymentsWhileTheCircuitIsOpen() {
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(KonnectCircuitBreakerAutoConfiguration.class,
+                        CircuitBreakerAutoConfiguration.class, KonnectMetricsAutoConfiguration.class))
+                .withBean(SimpleMeterRegistry.class)
+                .withPropertyValues(
+                        "resilience4j.circuitbreaker.instances.konnect-api.permitted-number-of-calls-in-half-open-state=10",
+                        "resilience4j.circuitbreaker.instances.konnect-api.record-failure-predicate="
+                                + KonnectCircuitBreakerExceptionPredicate.class.getName(),
+                        "konnect.api.payment-details.stale-fallback.enabled=true")
+                .run(context -> {
+                    CircuitBreaker circuitBreaker = context.getBean(CircuitBreakerRegistry.class).circuitBreaker("konnect-api");
+                    assertThat(circuitBreaker.getCircuitBreakerConfig().getPermittedNumberOfCallsInHalfOpenState()).isEqualTo(1);
+                    var recordPredicate = circuitBreaker.getCircuitBreakerConfig().getRecordExceptionPredicate();
+                    assertThat(recordPredicate.test(new KonnectApiException("Service unavailable", 503))).isTrue();
+                    assertThat(recordPredicate.test(new KonnectApiException("Not found", 404))).isFalse();
+                    assertThat(recordPredicate.test(new KonnectBulkheadFullException("init-payment", 10))).isFalse();
+                    assertThat(recordPredicate.test(new KonnectPriorityRejectedException("background"))).isFalse();
+                    assertThat(recordPredicate.test(new KonnectTenantRateLimitedException("merchant-a", 5))).isFalse();
+
+                    MeterRegistry registry = context.getBean(MeterRegistry.class);
+                    context.getBean("konnectCircuitBreakerMetrics", MeterBinder.class).bindTo(registry);
+                    circuitBreaker.transitionToOpenState();
+                    assertThat(context.getBean(PaymentDetailsFallback.class)
+                            .getMissedCount()).isZero();
+                    assertThat(registry.get("konnect.api.circuit-breaker.state").tag("state", "open").gauge().value())
+                            .isEqualTo(1);
+                    var notPermitted = CallNotPermittedException.createCallNotPermittedException(circuitBreaker);
+                    assertThat(new KonnectRetryExceptionPredicate().test(notPermitted)).isFalse();
+                });
+
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(KonnectCircuitBreakerAutoConfiguration.class))
+                .run(context -> assertThat(context).doesNotHaveBean(PaymentDetailsFallback.class));
+    }
+
+    @Test
+    void shouldBridgeResilienceEventsToMicrometer() {
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(KonnectMetricsAutoConfiguration.class))
+                .withBean(SimpleMeterRegistry.class)
+                .withBean(RetryRegistry.class, RetryRegistry::ofDefaults)
+                .withBean(RateLimiterRegistry.class, () -> RateLimiterRegistry.of(RateLimiterConfig.custom()
+                        .limitForPeriod(1)
+                        .limitRefreshPeriod(Duration.ofMinutes(1))
+                        .timeoutDuration(Duration.ZERO)
+                        .build()))
+                .run(context -> {
+                    MeterRegistry registry = context.getBean(MeterRegistry.class);
+                    context.getBean("konnectRetryMetrics", MeterBinder.class).bindTo(registry);
+                    context.getBean("konnectRateLimiterMetrics", MeterBinder.class).bindTo(registry);
+
+                    int[] attempts = {0};
+                    context.getBean(RetryRegistry.class).retry("konnect-api").executeSupplier(() -> {
+                        if (attempts[0]++ == 0) {
+                            throw new IllegalStateException("transient");
+                        }
+                        return "ok";
+                    });
+                    RateLimiter rateLimiter = context.getBean(RateLimiterRegistry.class).rateLimiter("konnect-api");
+                    rateLimiter.acquirePermission();
+                    rateLimiter.acquirePermission();
+
+                    assertThat(registry.get("konnect.api.retries").counter().count()).isEqualTo(1.0);
+                    assertThat(registry.get("konnect.api.rate-limiter.rejections").counter().count()).isEqualTo(1.0);
+                });
+    }
+
+    @Test
+    void shouldCoalescePaymentDetailsOnlyWhenEnabled() {
+        contextRunner
+                .run(context -> assertThat(context).doesNotHaveBean(PaymentDetailsCoalescer.class));
+
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(KonnectMetricsAutoConfiguration.class))
+                .withBean(SimpleMeterRegistry.class)
+                .withPropertyValues("konnect.api.payment-details.coalescing.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(PaymentDetailsCoalescer.class);
+                    MeterRegistry registry = context.getBean(MeterRegistry.class);
+                    context.getBean("konnectPaymentDetailsCoalescerMetrics", MeterBinder.class).bindTo(registry);
+                    assertThat(registry.get("konnect.payment-details.coalescing.calls").tag("result", "collapsed").functionCounter().count())
+                            .isZero();
+                });
+    }
+
+    @Test
+    void shouldHedgePaymentDetailsOnlyWhenEnabled() {
+        contextRunner
+                .run(context -> assertThat(context).doesNotHaveBean(PaymentDetailsHedger.class));
+
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(KonnectMetricsAutoConfiguration.class))
+                .withBean(SimpleMeterRegistry.class)
+                .withPropertyValues(
+                        "konnect.api.payment-details.hedging.enabled=true",
+                        "konnect.api.payment-details.hedging.percentile=0.99")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(PaymentDetailsHedger.class);
+                    MeterRegistry registry = context.getBean(MeterRegistry.class);
+                    context.getBean("konnectPaymentDetailsHedgerMetrics", MeterBinder.class).bindTo(registry);
+                    assertThat(registry.get("konnect.payment-details.hedging.hedges").tag("result", "won").functionCounter().count())
+                            .isZero();
+                    assertThat(registry.get("konnect.payment-details.hedging.delay").timeGauge().value()).isZero();
+                });
+
+        contextRunner
+                .withPropertyValues(
+                        "konnect.api.payment-details.hedging.enabled=true",
+                        "konnect.api.payment-details.hedging.budget-ratio=2")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    void shouldCachePaymentDetailsWithCaffeineWhenEnabled() {
+        contextRunner
+                .run(context -> assertThat(context).doesNotHaveBean(PaymentDetailsCache.class));
+
+        contextRunner
+                .withPropertyValues(
+                        "konnect.api.payment-details.cache.enabled=true",
+                        "konnect.api.payment-details.cache.pending-time-to-live=2s"
+                )
+                .run(context -> assertThat(context).getBean(PaymentDetailsCache.class)
+                        .isInstanceOf(CaffeinePaymentDetailsCache.class));
+    }
+
+    @Test
+    void shouldNotifyPaymentListenersAndCreateWebhookQueueWhenEnabled() {
+        contextRunner
+                .run(context -> assertThat(context).doesNotHaveBean(KonnectWebhookQueue.class));
+
+        contextRunner
+                .withBean(KonnectPaymentListener.class, () -> paymentResponse -> { })
+                .withPropertyValues(
+                        "konnect.api.webhook.queue.enabled=true",
+                        "konnect.api.webhook.queue.overflow-policy=drop-oldest",
+                        "konnect.api.webhook.queue.workers=2"
+                )
+                .run(context -> {
+                    assertThat(context).hasSingleBean(KonnectWebhookQueue.class);
+                    assertThat(ReflectionTestUtils.getField(context.getBean(KonnectWebhookHandler.class), "listeners"))
+                            .asInstanceOf(InstanceOfAssertFactories.LIST).hasSize(2)
+                            .contains(context.getBean(KonnectPaymentWatcher.class));
+                });
+    }
+
+    @Test
+    void shouldDeduplicateWebhooksOnlyWhenEnabled() {
+        contextRunner
+                .run(context -> assertThat(context).doesNotHaveBean(WebhookDeduplicationStore.class));
+
+        contextRunner
+                .withPropertyValues("konnect.api.webhook.deduplication.enabled=true")
+                .run(context -> {
+                    assertThat(context).getBean(WebhookDeduplicationStore.class)
+                            .isInstanceOf(InMemoryWebhookDeduplicationStore.class);
+                    assertThat(ReflectionTestUtils.getField(context.getBean(KonnectWebhookHandler.class), "deduplicationStore"))
+                            .isSameAs(context.getBean(WebhookDeduplicationStore.class));
+                });
+    }
+
+    @Test
+    void shouldPollInitiatedPaymentsOnlyWhenEnabled() {
+        contextRunner
+                .run(context -> assertThat(context).doesNotHaveBean(KonnectPaymentPoller.class));
+
+        contextRunner
+                .withPropertyValues(
+                        "konnect.api.polling.enabled=true",
+                        "konnect.api.polling.initial-delay=30s"
+                )
+                .run(context -> {
+                    assertThat(context).hasSingleBean(KonnectPaymentPoller.class);
+                    assertThat(ReflectionTestUtils.getField(context.getBean(KonnectTemplate.class), "paymentPoller"))
+                            .isSameAs(context.getBean(KonnectPaymentPoller.class));
+                });
+
+        contextRunner
+                .withPropertyValues(
+                        "konnect.api.polling.enabled=true",
+                        "konnect.api.polling.jitter=1.5"
+                )
+                .run(context -> assertThat(context).hasFailed());
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.oussemasahbeni.konnect.autoconfigure;
+
+
+import io.github.oussemasahbeni.konnect.core.KonnectWebhookHandler;
+import io.github.oussemasahbeni.konnect.core.PaymentStatusBroadcaster;
+import io.github.oussemasahbeni.konnect.web.KonnectPaymentStatusController;
+import io.github.oussemasahbeni.konnect.web.ReactiveKonnectPaymentStatusController;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+
+class KonnectPaymentStatusAutoConfigurationTest {
+
+    private static final AutoConfigurations CONFIGURATIONS = AutoConfigurations.of(
+            KonnectAutoConfiguration.class,
+            KonnectPaymentStatusAutoConfiguration.class,
+            RestClientAutoConfiguration.class,
+            JacksonAutoConfiguration.class);
+
+    private static final String[] PROPERTIES = {
+            "konnect.api.key=test-api-key-from-properties",
+            "konnect.api.receiver-wallet-id=test-wallet-id-from-properties"
+    };
+
+    @Test
+    void shouldNotExposeEndpointByDefault() {
+        new WebApplicationContextRunner()
+                .withConfiguration(CONFIGURATIONS)
+                .withPropertyValues(PROPERTIES)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(PaymentStatusBroadcaster.class);
+                    assertThat(context).doesNotHaveBean(KonnectPaymentStatusController.class);
+                });
+    }
+
+    @Test
+    void shouldExposeServletEndpointWhenEnabled() {
+        new WebApplicationContextRunner()
+                .withConfiguration(CONFIGURATIONS)
+                .withPropertyValues(PROPERTIES)
+                .withPropertyValues("konnect.api.sse.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(KonnectPaymentStatusController.class);
+                    assertThat(context).doesNotHaveBean(ReactiveKonnectPaymentStatusController.class);
+                    assertThat(ReflectionTestUtils.getField(context.getBean(KonnectWebhookHandler.class), "listeners"))
+                            .asInstanceOf(InstanceOfAssertFactories.LIST)
+                            .contains(context.getBean(PaymentStatusBroadcaster.class));
+                });
+    }
+
+    @Test
+    void shouldExposeReactiveEndpointWhenEnabled() {
+        new ReactiveWebApplicationContextRunner()
+                .withConfiguration(CONFIGURATIONS)
+                .withPropertyValues(PROPERTIES)
+                .withPropertyValues("konnect.api.sse.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ReactiveKonnectPaymentStatusController.class);
+                    assertThat(context).doesNotHaveBean(KonnectPaymentStatusController.class);
+                });
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.oussemasahbeni.konnect.autoconfigure;
+
+/**
+ * Builds {@link KonnectProperties} for tests, so that they only set the settings they exercise. Settings left unset
+ * are null, as when the properties are created without their defaults.
+ */
+public final class KonnectPropertiesBuilder {
+
+    private String baseUrl = "https://api.sandbox.konnect.network/api/v2/";
+    private String key = "dummy-key";
+    private String receiverWalletId = "wallet-id";
+    private String webhookUrl;
+    private KonnectProperties.KonnectPaymentDefaults defaults;
+    private KonnectProperties.KonnectHttp http;
+    private KonnectProperties.KonnectOperations operations;
+    private KonnectProperties.KonnectPaymentDetails paymentDetails;
+    private KonnectProperties.KonnectWebhook webhook;
+    private KonnectProperties.KonnectPolling polling;
+    private KonnectProperties.KonnectSse sse;
+    private KonnectProperties.KonnectConcurrency concurrency;
+    private KonnectProperties.KonnectRetry retry;
+    private KonnectProperties.KonnectBulkhead bulkhead;
+    private KonnectProperties.KonnectScheduling scheduling;
+    private KonnectProperties.KonnectTenancy tenancy;
+
+    private KonnectPropertiesBuilder() {
+    }
+
+    public static KonnectPropertiesBuilder konnectProperties() {
+        return new KonnectPropertiesBuilder();
+    }
+
+    public static KonnectPropertiesBuilder from(KonnectProperties properties) {
+        return konnectProperties()
+                .baseUrl(properties.baseUrl())
+                .key(properties.key())
+                .receiverWalletId(properties.receiverWalletId())
+                .webhookUrl(properties.webhookUrl())
+                .defaults(properties.defaults())
+                .http(properties.http())
+                .operations(properties.operations())
+                .paymentDetails(properties.paymentDetails())
+                .webhook(properties.webhook())
+                .polling(properties.polling())
+                .sse(properties.sse())
+                .concurrency(properties.concurrency())
+                .retry(properties.retry())
+                .bulkhead(properties.bulkhead())
+                .scheduling(properties.scheduling())
+                .tenancy(properties.tenancy());
+    }
+
+    public KonnectPropertiesBuilder baseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+        return this;
+    }
+
+    public KonnectPropertiesBuilder key(String key) {
+        this.key = key;
+        return this;
+    }
+
+    public KonnectPropertiesBuilder receiverWalletId(String receiverWalletId) {
+        this.receiverWalletId = receiverWalletId;
+        return this;
+    }
+
+    public KonnectPropertiesBuilder webhookUrl(String webhookUrl) {
+        this.webhookUrl = webhookUrl;
+        return this;
+    }
+
+    public KonnectPropertiesBuilder defaults(KonnectProperties.KonnectPaymentDefaults defaults) {
+        this.defaults = defaults;
+        return this;
+    }
+
+    public KonnectPropertiesBuilder http(KonnectProperties.KonnectHttp http) {
+        this.http = http;
+        return this;
+    }
+
+    public KonnectPropertiesBuilder operations(KonnectProperties.KonnectOperations operations) {
+        this.operations = operations;
+        return this;
+    }
+
+    public KonnectPropertiesBuilder paymentDetails(KonnectProperties.KonnectPaymentDetails paymentDetails) {
+        this.paymentDetails = paymentDetails;
+        return this;
+    }
+
+    public KonnectPropertiesBuilder webhook(KonnectProperties.KonnectWebhook webhook) {
+        this.webhook = webhook;
+        return this;
+    }
+
+    public KonnectPropertiesBuilder polling(KonnectProperties.KonnectPolling polling) {
+        this.polling = polling;
+        return this;
+    }
+
+    public KonnectPropertiesBuilder sse(KonnectProperties.KonnectSse sse) {
+        this.sse = sse;
+        return this;
+    }
+
+    public KonnectPropertiesBuilder concurrency(KonnectProperties.KonnectConcurrency concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public KonnectPropertiesBuilder retry(KonnectProperties.KonnectRetry retry) {
+        this.retry = retry;
+        return this;
+    }
+
+    public KonnectPropertiesBuilder bulkhead(KonnectProperties.KonnectBulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+        return this;
+    }
+
+    public KonnectPropertiesBuilder scheduling(KonnectProperties.KonnectScheduling scheduling) {
+        this.scheduling = scheduling;
+        return this;
+    }
+
+    public KonnectPropertiesBuilder tenancy(KonnectProperties.KonnectTenancy tenancy) {
+        this.tenancy = tenancy;
+        return this;
+    }
+
+    public KonnectProperties build() {
+        return new KonnectProperties(baseUrl, key, receiverWalletId, webhookUrl, defaults, http, operations,
+                paymentDetails, webhook, polling, sse, concurrency, retry, bulkhead, scheduling, tenancy);
+    }
+}
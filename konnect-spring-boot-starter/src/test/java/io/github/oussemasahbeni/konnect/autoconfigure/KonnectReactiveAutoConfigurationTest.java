@@ -0,0 +1,50 @@
+package io.github.oussemasahbeni.konnect.autoconfigure;
+
+
+import io.github.oussemasahbeni.konnect.client.ReactiveKonnectClient;
+import io.github.oussemasahbeni.konnect.core.ReactiveKonnectTemplate;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+
+class KonnectReactiveAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    KonnectReactiveAutoConfiguration.class,
+                    JacksonAutoConfiguration.class))
+            .withPropertyValues(
+                    "konnect.api.key=test-api-key-from-properties",
+                    "konnect.api.receiver-wallet-id=test-wallet-id-from-properties"
+            );
+
+    @Test
+    void shouldContainReactiveBeans() {
+        contextRunner
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ReactiveKonnectClient.class);
+                    assertThat(context).hasSingleBean(ReactiveKonnectTemplate.class);
+                    assertThat(context).hasBean("konnectWebClient");
+                });
+    }
+
+    @Test
+    void shouldBackOffWithoutWebFlux() {
+        contextRunner
+                .withClassLoader(new FilteredClassLoader(WebClient.class))
+                .run(context -> assertThat(context).doesNotHaveBean(ReactiveKonnectTemplate.class));
+    }
+
+    @Test
+    void shouldBackOffWithoutApiKey() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(KonnectReactiveAutoConfiguration.class))
+                .run(context -> assertThat(context).doesNotHaveBean(ReactiveKonnectClient.class));
+    }
+}
@@ -0,0 +1,253 @@
+package io.github.oussemasahbeni.konnect.autoconfigure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.oussemasahbeni.konnect.client.KonnectClient;
+import io.github.oussemasahbeni.konnect.client.KonnectDeadline;
+import io.github.oussemasahbeni.konnect.client.KonnectOperation;
+import io.github.oussemasahbeni.konnect.client.KonnectRetryBudget;
+import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
+import io.github.oussemasahbeni.konnect.exception.KonnectConcurrencyLimitException;
+import io.github.oussemasahbeni.konnect.exception.KonnectTransportException;
+import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentRequest;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.net.SocketTimeoutException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServiceUnavailable;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class KonnectRetryConfigCustomizerTest {
+
+    private static final String PAYMENT_REF = "68891e9415c9b9a0dae24829";
+
+    @Test
+    void throttledCall_shouldBeRetriedAfterTheRequestedDelay() {
+        // Arrange
+        Retry retry = retry(new KonnectRetryConfigCustomizer(null, Duration.ofSeconds(1)));
+        List<Duration> waits = new ArrayList<>();
+        retry.getEventPublisher().onRetry(event -> waits.add(event.getWaitInterval()));
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        String result = retry.executeSupplier(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw throttled(Duration.ofMillis(50));
+            }
+            return "ok";
+        });
+
+        // Assert
+        assertEquals("ok", result);
+        assertEquals(List.of(Duration.ofMillis(50)), waits);
+    }
+
+    @Test
+    void throttledCall_shouldNotBeRetriedWhenAskedToWaitTooLong() {
+        // Arrange
+        Retry retry = retry(new KonnectRetryConfigCustomizer(null, Duration.ofSeconds(1)));
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        assertThrows(KonnectApiException.class, () -> retry.executeSupplier(() -> {
+            attempts.incrementAndGet();
+            throw throttled(Duration.ofMinutes(5));
+        }));
+
+        // Assert
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void failedCall_shouldOnlyBeRetriedWithinTheBudget() {
+        // Arrange
+        KonnectRetryBudget budget = new KonnectRetryBudget(0.1, 0, Duration.ofSeconds(10), Clock.systemUTC());
+        for (int i = 0; i < 10; i++) {
+            budget.recordRequest();
+        }
+        Retry retry = retry(new KonnectRetryConfigCustomizer(budget, Duration.ofSeconds(1)));
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        assertThrows(KonnectApiException.class, () -> retry.executeSupplier(() -> {
+            attempts.incrementAndGet();
+            throw new KonnectApiException("Service unavailable", 503);
+        }));
+
+        // Assert
+        assertEquals(2, attempts.get(), "10 requests should fund a single retry");
+        assertEquals(1, budget.getExhaustedCount());
+    }
+
+    @Test
+    void failedCallOfAConfiguredRetryException_shouldOnlyBeRetriedWithinTheBudget() {
+        // Arrange
+        KonnectRetryBudget budget = new KonnectRetryBudget(0.1, 0, Duration.ofSeconds(10), Clock.systemUTC());
+        for (int i = 0; i < 10; i++) {
+            budget.recordRequest();
+        }
+        RetryConfig.Builder<Object> builder = RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(1))
+                .retryExceptions(KonnectApiException.class);
+        new KonnectRetryConfigCustomizer(budget, Duration.ofSeconds(1)).customize(builder);
+        Retry retry = Retry.of("konnect-api", builder.build());
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        assertThrows(KonnectApiException.class, () -> retry.executeSupplier(() -> {
+            attempts.incrementAndGet();
+            throw new KonnectApiException("Service unavailable", 503);
+        }));
+
+        // Assert
+        assertEquals(2, attempts.get(), "the retry exceptions should not bypass the budget");
+        assertEquals(1, budget.getExhaustedCount());
+    }
+
+    @Test
+    void failedCall_shouldNotBeRetriedPastItsDeadline() {
+        // Arrange
+        Retry retry = retry(new KonnectRetryConfigCustomizer(null, Duration.ofSeconds(1)));
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        assertThrows(KonnectApiException.class, () -> KonnectDeadline.after(Duration.ofMillis(100)).call(() ->
+                retry.executeSupplier(() -> {
+                    attempts.incrementAndGet();
+                    throw throttled(Duration.ofMillis(500));
+                })));
+
+        // Assert
+        assertEquals(1, attempts.get(), "a retry after the deadline should not be attempted");
+    }
+
+    @Test
+    void callRejectedByTheConcurrencyLimit_shouldNotBeRetried() {
+        // Arrange
+        Retry retry = retry(new KonnectRetryConfigCustomizer(null, Duration.ofSeconds(1)));
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        assertThrows(KonnectConcurrencyLimitException.class, () -> retry.executeSupplier(() -> {
+            attempts.incrementAndGet();
+            throw new KonnectConcurrencyLimitException("init-payment", 10);
+        }));
+
+        // Assert
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void failedCall_shouldFollowTheRetrySettingsOfItsOperation() {
+        // Arrange
+        RestClient.Builder builder = RestClient.builder().baseUrl("https://api.sandbox.konnect.network/api/v2");
+        MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        KonnectClient konnectClient = new KonnectClient(builder.build(), new ObjectMapper());
+        Retry retry = retry(new KonnectRetryConfigCustomizer(null, Duration.ofSeconds(1),
+                Map.of(KonnectOperation.GET_PAYMENT, Duration.ofMinutes(1)), Set.of(KonnectOperation.INIT_PAYMENT)));
+        server.expect(requestTo("https://api.sandbox.konnect.network/api/v2/payments/init-payment"))
+                .andRespond(withServiceUnavailable());
+        server.expect(requestTo("https://api.sandbox.konnect.network/api/v2/payments/" + PAYMENT_REF))
+                .andRespond(withServiceUnavailable().header("Retry-After", "0"));
+        server.expect(requestTo("https://api.sandbox.konnect.network/api/v2/payments/" + PAYMENT_REF))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        // Act & Assert
+        assertThrows(KonnectApiException.class,
+                () -> retry.executeSupplier(() -> konnectClient.initiatePayment(new InitKonnectPaymentRequest())));
+        assertNotNull(retry.executeSupplier(() -> konnectClient.getPaymentDetails(PAYMENT_REF)));
+        server.verify();
+    }
+
+    @Test
+    void networkFailure_shouldFollowTheRetrySettingsOfItsOperation() {
+        // Arrange
+        RestClient.Builder builder = RestClient.builder().baseUrl("https://api.sandbox.konnect.network/api/v2");
+        MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        KonnectClient konnectClient = new KonnectClient(builder.build(), new ObjectMapper());
+        Retry retry = retry(new KonnectRetryConfigCustomizer(null, Duration.ofSeconds(1), Map.of(),
+                Set.of(KonnectOperation.INIT_PAYMENT)));
+        server.expect(requestTo("https://api.sandbox.konnect.network/api/v2/payments/init-payment"))
+                .andRespond(withException(new SocketTimeoutException("Read timed out")));
+
+        // Act & Assert
+        KonnectTransportException failure = assertThrows(KonnectTransportException.class,
+                () -> retry.executeSupplier(() -> konnectClient.initiatePayment(new InitKonnectPaymentRequest())));
+        assertEquals(KonnectOperation.INIT_PAYMENT, failure.getOperation());
+        server.verify();
+    }
+
+    @Test
+    void asyncCall_shouldFollowTheRetrySettingsOfItsOperation() throws Exception {
+        // Arrange
+        Retry retry = retry(new KonnectRetryConfigCustomizer(null, Duration.ofSeconds(1), Map.of(),
+                Set.of(KonnectOperation.INIT_PAYMENT)));
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        AtomicInteger attempts = new AtomicInteger();
+
+        try {
+            // Act: the call fails on another thread than the one of the retry
+            CompletableFuture<Object> call = retry.executeCompletionStage(scheduler, () -> CompletableFuture.supplyAsync(() -> {
+                attempts.incrementAndGet();
+                throw new KonnectApiException("Service unavailable", 503, null, null, null, KonnectOperation.INIT_PAYMENT);
+            })).toCompletableFuture();
+
+            // Assert
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> call.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(KonnectApiException.class, failure.getCause());
+            assertEquals(1, attempts.get());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void throttledCall_shouldNotWaitLongerThanTheMaximumOfItsOperation() {
+        // Arrange
+        RestClient.Builder builder = RestClient.builder().baseUrl("https://api.sandbox.konnect.network/api/v2");
+        MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        KonnectClient konnectClient = new KonnectClient(builder.build(), new ObjectMapper());
+        Retry retry = retry(new KonnectRetryConfigCustomizer(null, Duration.ofMinutes(1),
+                Map.of(KonnectOperation.GET_PAYMENT, Duration.ofSeconds(1)), Set.of()));
+        server.expect(requestTo("https://api.sandbox.konnect.network/api/v2/payments/" + PAYMENT_REF))
+                .andRespond(withServiceUnavailable().header("Retry-After", "30"));
+
+        // Act & Assert
+        assertThrows(KonnectApiException.class,
+                () -> retry.executeSupplier(() -> konnectClient.getPaymentDetails(PAYMENT_REF)));
+        server.verify();
+    }
+
+    private static Retry retry(KonnectRetryConfigCustomizer customizer) {
+        RetryConfig.Builder<Object> builder = RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(1))
+                .retryOnException(new KonnectRetryExceptionPredicate());
+        customizer.customize(builder);
+        return Retry.of("konnect-api", builder.build());
+    }
+
+    private static KonnectApiException throttled(Duration retryAfter) {
+        return new KonnectApiException("Too many requests", 429, null, null, retryAfter);
+    }
+}
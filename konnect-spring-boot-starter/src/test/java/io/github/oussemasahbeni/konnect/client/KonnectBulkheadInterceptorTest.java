@@ -0,0 +1,153 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import io.github.oussemasahbeni.konnect.exception.KonnectBulkheadFullException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KonnectBulkheadInterceptorTest {
+
+    private static final URI GET_PAYMENT_URI = URI.create("https://api.sandbox.konnect.network/api/v2/payments/68891e9415c9b9a0dae24829");
+
+    private static final URI INIT_PAYMENT_URI = URI.create("https://api.sandbox.konnect.network/api/v2/payments/init-payment");
+
+    @Test
+    void intercept_shouldRejectRequestsOfAFullBulkheadWithoutAffectingOtherOperations() throws Exception {
+        // Arrange
+        KonnectBulkheadInterceptor interceptor = new KonnectBulkheadInterceptor(
+                Map.of(KonnectOperation.GET_PAYMENT, 1, KonnectOperation.INIT_PAYMENT, 1),
+                Map.of(KonnectOperation.GET_PAYMENT, Duration.ofMillis(20)));
+        CountDownLatch sent = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slowCall = CompletableFuture.runAsync(() -> {
+            try {
+                interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, GET_PAYMENT_URI), new byte[0], (request, body) -> {
+                    sent.countDown();
+                    await(release);
+                    return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertTrue(sent.await(5, TimeUnit.SECONDS));
+
+        // Act & Assert
+        KonnectBulkheadFullException exception = assertThrows(KonnectBulkheadFullException.class,
+                () -> interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, GET_PAYMENT_URI), new byte[0], ok()));
+        assertEquals("get-payment", exception.getOperation());
+        assertEquals(1, exception.getMaxConcurrentCalls());
+        assertEquals(1, interceptor.getRejectedCount(KonnectOperation.GET_PAYMENT));
+        assertEquals(1, interceptor.getInFlight(KonnectOperation.GET_PAYMENT));
+
+        interceptor.intercept(new MockClientHttpRequest(HttpMethod.POST, INIT_PAYMENT_URI), new byte[0], ok());
+        assertEquals(0, interceptor.getRejectedCount(KonnectOperation.INIT_PAYMENT));
+
+        release.countDown();
+        slowCall.get(5, TimeUnit.SECONDS);
+        assertEquals(0, interceptor.getInFlight(KonnectOperation.GET_PAYMENT));
+    }
+
+    @Test
+    void intercept_shouldQueueRequestsUntilAPermitIsReleased() throws Exception {
+        // Arrange
+        KonnectBulkheadInterceptor interceptor = new KonnectBulkheadInterceptor(
+                Map.of(KonnectOperation.GET_PAYMENT, 1), Map.of(KonnectOperation.GET_PAYMENT, Duration.ofSeconds(5)));
+        CountDownLatch sent = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slowCall = CompletableFuture.runAsync(() -> {
+            try {
+                interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, GET_PAYMENT_URI), new byte[0], (request, body) -> {
+                    sent.countDown();
+                    await(release);
+                    return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertTrue(sent.await(5, TimeUnit.SECONDS));
+
+        // Act
+        Thread queuedCall = Thread.ofVirtual().start(() -> {
+            try {
+                interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, GET_PAYMENT_URI), new byte[0], ok());
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        long waitUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (interceptor.getQueued(KonnectOperation.GET_PAYMENT) == 0 && System.nanoTime() < waitUntil) {
+            Thread.onSpinWait();
+        }
+        assertEquals(1, interceptor.getQueued(KonnectOperation.GET_PAYMENT));
+        release.countDown();
+
+        // Assert
+        assertTrue(queuedCall.join(Duration.ofSeconds(5)));
+        slowCall.get(5, TimeUnit.SECONDS);
+        assertEquals(0, interceptor.getRejectedCount(KonnectOperation.GET_PAYMENT));
+        assertEquals(0, interceptor.getQueued(KonnectOperation.GET_PAYMENT));
+    }
+
+    @Test
+    void intercept_shouldNotWaitPastTheDeadlineOfTheCall() throws Exception {
+        // Arrange
+        KonnectBulkheadInterceptor interceptor = new KonnectBulkheadInterceptor(
+                Map.of(KonnectOperation.GET_PAYMENT, 1), Map.of(KonnectOperation.GET_PAYMENT, Duration.ofSeconds(30)));
+        CountDownLatch sent = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slowCall = CompletableFuture.runAsync(() -> {
+            try {
+                interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, GET_PAYMENT_URI), new byte[0], (request, body) -> {
+                    sent.countDown();
+                    await(release);
+                    return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertTrue(sent.await(5, TimeUnit.SECONDS));
+
+        // Act & Assert
+        long startedAt = System.nanoTime();
+        assertThrows(KonnectBulkheadFullException.class, () -> KonnectDeadline.after(Duration.ofMillis(50)).call(() -> {
+            try {
+                return interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, GET_PAYMENT_URI), new byte[0], ok());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+        assertTrue(System.nanoTime() - startedAt < TimeUnit.SECONDS.toNanos(5), "the wait should be cut by the deadline");
+
+        release.countDown();
+        slowCall.get(5, TimeUnit.SECONDS);
+    }
+
+    private static ClientHttpRequestExecution ok() {
+        return (request, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
+import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentRequest;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.net.SocketTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class KonnectClientMetricsInterceptorTest {
+
+    private static final String PAYMENT_REF = "68891e9415c9b9a0dae24829";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private MockRestServiceServer server;
+
+    private KonnectClient konnectClient;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder()
+                .baseUrl("https://api.sandbox.konnect.network/api/v2")
+                .requestInterceptor(new KonnectClientMetricsInterceptor(registry));
+        server = MockRestServiceServer.bindTo(builder).build();
+        konnectClient = new KonnectClient(builder.build(), new ObjectMapper());
+    }
+
+    @Test
+    void successfulRequest_shouldBeTimedWithItsOperationAndStatus() {
+        // Arrange
+        server.expect(requestTo("https://api.sandbox.konnect.network/api/v2/payments/" + PAYMENT_REF))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        // Act
+        konnectClient.getPaymentDetails(PAYMENT_REF);
+
+        // Assert
+        Timer timer = registry.get(KonnectClientMetricsInterceptor.METRIC_NAME)
+                .tags("operation", "get-payment", "status", "200", "outcome", "SUCCESS", "exception", "none")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void serverError_shouldBeTimedWithServerErrorOutcome() {
+        // Arrange
+        server.expect(requestTo("https://api.sandbox.konnect.network/api/v2/payments/init-payment"))
+                .andRespond(withServerError());
+
+        // Act
+        assertThrows(KonnectApiException.class, () -> konnectClient.initiatePayment(new InitKonnectPaymentRequest()));
+
+        // Assert
+        Timer timer = registry.get(KonnectClientMetricsInterceptor.METRIC_NAME)
+                .tags("operation", "init-payment", "status", "500", "outcome", "SERVER_ERROR")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void ioError_shouldBeTimedWithExceptionType() {
+        // Arrange
+        server.expect(requestTo("https://api.sandbox.konnect.network/api/v2/payments/" + PAYMENT_REF))
+                .andRespond(withException(new SocketTimeoutException("Read timed out")));
+
+        // Act
+        assertThrows(ResourceAccessException.class, () -> konnectClient.getPaymentDetails(PAYMENT_REF));
+
+        // Assert
+        Timer timer = registry.get(KonnectClientMetricsInterceptor.METRIC_NAME)
+                .tags("operation", "get-payment", "status", "IO_ERROR", "exception", "SocketTimeoutException")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+}
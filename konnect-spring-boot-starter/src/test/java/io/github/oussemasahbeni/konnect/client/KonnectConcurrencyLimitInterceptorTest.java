@@ -0,0 +1,167 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import io.github.oussemasahbeni.konnect.exception.KonnectConcurrencyLimitException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KonnectConcurrencyLimitInterceptorTest {
+
+    private static final URI GET_PAYMENT_URI = URI.create("https://api.sandbox.konnect.network/api/v2/payments/68891e9415c9b9a0dae24829");
+
+    private static final URI INIT_PAYMENT_URI = URI.create("https://api.sandbox.konnect.network/api/v2/payments/init-payment");
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void aimd_shouldGrowUnderLoadAndBackOffOnDrops() {
+        // Arrange
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(10, 1, 12, 0.5, Duration.ofSeconds(1));
+
+        // Act & Assert
+        limit.onSample(10 * MILLIS, 1, false);
+        assertEquals(10, limit.getLimit(), "an idle limit should not grow");
+        limit.onSample(10 * MILLIS, 6, false);
+        limit.onSample(10 * MILLIS, 6, false);
+        limit.onSample(10 * MILLIS, 6, false);
+        assertEquals(12, limit.getLimit(), "the limit should not grow past its maximum");
+        limit.onSample(10 * MILLIS, 5, true);
+        assertEquals(6, limit.getLimit());
+        limit.onSample(2000 * MILLIS, 5, false);
+        assertEquals(3, limit.getLimit(), "a request slower than the timeout should count as dropped");
+    }
+
+    @Test
+    void gradient_shouldShrinkWhenLatencyRises() {
+        // Arrange
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 1, 100, 0.9);
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(10 * MILLIS, 20, false);
+        }
+        int steadyLimit = limit.getLimit();
+        assertTrue(steadyLimit > 20, "a steady latency under load should let the limit grow");
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(100 * MILLIS, steadyLimit, false);
+        }
+
+        // Assert
+        assertTrue(limit.getLimit() < steadyLimit / 2, "a rising latency should shrink the limit");
+    }
+
+    @Test
+    void intercept_shouldRejectRequestsAboveTheLimitOfTheirOperationOnly() throws Exception {
+        // Arrange
+        KonnectConcurrencyLimitInterceptor interceptor = new KonnectConcurrencyLimitInterceptor(Map.of(
+                KonnectOperation.GET_PAYMENT, new AimdConcurrencyLimit(1, 1, 1, 0.9, Duration.ofSeconds(1)),
+                KonnectOperation.INIT_PAYMENT, new AimdConcurrencyLimit(1, 1, 1, 0.9, Duration.ofSeconds(1))),
+                Duration.ZERO);
+        CountDownLatch sent = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slowCall = CompletableFuture.runAsync(() -> {
+            try {
+                interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, GET_PAYMENT_URI), new byte[0], (request, body) -> {
+                    sent.countDown();
+                    await(release);
+                    return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertTrue(sent.await(5, TimeUnit.SECONDS));
+
+        // Act & Assert
+        KonnectConcurrencyLimitException exception = assertThrows(KonnectConcurrencyLimitException.class,
+                () -> interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, GET_PAYMENT_URI), new byte[0], ok()));
+        assertEquals("get-payment", exception.getOperation());
+        assertEquals(1, interceptor.getRejectedCount(KonnectOperation.GET_PAYMENT));
+        assertEquals(1, interceptor.getInFlight(KonnectOperation.GET_PAYMENT));
+
+        interceptor.intercept(new MockClientHttpRequest(HttpMethod.POST, INIT_PAYMENT_URI), new byte[0], ok());
+        assertEquals(0, interceptor.getRejectedCount(KonnectOperation.INIT_PAYMENT));
+
+        release.countDown();
+        slowCall.get(5, TimeUnit.SECONDS);
+        assertEquals(0, interceptor.getInFlight(KonnectOperation.GET_PAYMENT));
+    }
+
+    @Test
+    void intercept_shouldWaitForARequestToCompleteWithinTheMaximumWait() throws Exception {
+        // Arrange
+        KonnectConcurrencyLimitInterceptor interceptor = new KonnectConcurrencyLimitInterceptor(Map.of(
+                KonnectOperation.GET_PAYMENT, new AimdConcurrencyLimit(1, 1, 1, 0.9, Duration.ofSeconds(1))),
+                Duration.ofSeconds(5));
+        CountDownLatch sent = new CountDownLatch(1);
+        CompletableFuture<Void> slowCall = CompletableFuture.runAsync(() -> {
+            try {
+                interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, GET_PAYMENT_URI), new byte[0], (request, body) -> {
+                    sent.countDown();
+                    sleep(100);
+                    return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertTrue(sent.await(5, TimeUnit.SECONDS));
+
+        // Act
+        interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, GET_PAYMENT_URI), new byte[0], ok());
+
+        // Assert
+        slowCall.get(5, TimeUnit.SECONDS);
+        assertEquals(0, interceptor.getRejectedCount(KonnectOperation.GET_PAYMENT));
+    }
+
+    @Test
+    void intercept_shouldLowerTheLimitOnThrottledResponses() throws Exception {
+        // Arrange
+        KonnectConcurrencyLimitInterceptor interceptor = new KonnectConcurrencyLimitInterceptor(Map.of(
+                KonnectOperation.GET_PAYMENT, new AimdConcurrencyLimit(10, 1, 10, 0.5, Duration.ofSeconds(1))),
+                Duration.ZERO);
+
+        // Act
+        interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, GET_PAYMENT_URI), new byte[0],
+                (request, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS));
+        interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, GET_PAYMENT_URI), new byte[0],
+                (request, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.SERVICE_UNAVAILABLE));
+
+        // Assert
+        assertEquals(2, interceptor.getLimit(KonnectOperation.GET_PAYMENT));
+        assertEquals(0, interceptor.getLimit(KonnectOperation.INIT_PAYMENT), "unconfigured operations should not be limited");
+    }
+
+    private static ClientHttpRequestExecution ok() {
+        return (request, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
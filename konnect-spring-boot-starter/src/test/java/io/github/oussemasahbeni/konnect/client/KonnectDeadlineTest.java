@@ -0,0 +1,84 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import io.github.oussemasahbeni.konnect.exception.KonnectDeadlineExceededException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KonnectDeadlineTest {
+
+    private static final URI GET_PAYMENT_URI = URI.create("https://api.sandbox.konnect.network/api/v2/payments/68891e9415c9b9a0dae24829");
+
+    private final List<Duration> readTimeouts = new ArrayList<>();
+
+    private final ClientHttpRequestFactory defaultFactory = (uri, method) -> new MockClientHttpRequest(method, uri);
+
+    private final KonnectClientHttpRequestFactory requestFactory = new KonnectClientHttpRequestFactory(defaultFactory,
+            Map.of(), null, operation -> Duration.ofSeconds(30), (operation, readTimeout) -> {
+        readTimeouts.add(readTimeout);
+        return defaultFactory;
+    });
+
+    @Test
+    void call_shouldKeepTheEarliestDeadlineInScope() {
+        // Arrange
+        KonnectDeadline outer = KonnectDeadline.after(Duration.ofSeconds(1));
+        KonnectDeadline inner = KonnectDeadline.after(Duration.ofSeconds(10));
+
+        // Act & Assert
+        assertNull(KonnectDeadline.current());
+        outer.call(() -> {
+            assertSame(outer, KonnectDeadline.current());
+            assertSame(outer, inner.call(KonnectDeadline::current), "an inner deadline should not extend the outer one");
+            assertNotSame(outer, KonnectDeadline.after(Duration.ofMillis(10)).call(KonnectDeadline::current));
+            assertSame(outer, KonnectDeadline.current());
+            return null;
+        });
+        assertNull(KonnectDeadline.current());
+    }
+
+    @Test
+    void createRequest_shouldCutTheReadTimeoutToTheRemainingTime() throws Exception {
+        // Act
+        requestFactory.createRequest(GET_PAYMENT_URI, HttpMethod.GET);
+        KonnectDeadline.after(Duration.ofSeconds(2)).call(() -> {
+            try {
+                return requestFactory.createRequest(GET_PAYMENT_URI, HttpMethod.GET);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        // Assert
+        assertEquals(1, readTimeouts.size(), "requests without deadline should keep their read timeout");
+        assertTrue(readTimeouts.getFirst().compareTo(Duration.ofSeconds(2)) <= 0);
+    }
+
+    @Test
+    void createRequest_shouldFailOnceTheDeadlineIsReached() {
+        // Act
+        KonnectDeadlineExceededException ex = assertThrows(KonnectDeadlineExceededException.class,
+                () -> KonnectDeadline.after(Duration.ZERO).call(() -> {
+                    try {
+                        return requestFactory.createRequest(GET_PAYMENT_URI, HttpMethod.GET);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+
+        // Assert
+        assertEquals("get-payment", ex.getOperation());
+        assertTrue(readTimeouts.isEmpty());
+    }
+}
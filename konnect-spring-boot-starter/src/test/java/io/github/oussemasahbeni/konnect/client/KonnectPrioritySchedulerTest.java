@@ -0,0 +1,187 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import io.github.oussemasahbeni.konnect.exception.KonnectPriorityRejectedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KonnectPrioritySchedulerTest {
+
+    private static final URI GET_PAYMENT_URI = URI.create("https://api.sandbox.konnect.network/api/v2/payments/68891e9415c9b9a0dae24829");
+
+    private static final Map<KonnectPriority, Double> SHARES = Map.of(KonnectPriority.WEBHOOK, 0.8, KonnectPriority.BACKGROUND, 0.5);
+
+    @Test
+    void intercept_shouldServeHigherPrioritiesFirst() throws Exception {
+        // Arrange
+        KonnectPriorityScheduler scheduler = new KonnectPriorityScheduler(1, SHARES, Duration.ofSeconds(5),
+                Duration.ofSeconds(30), Duration.ofSeconds(1));
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slowCall = hold(scheduler, KonnectPriority.INTERACTIVE, release);
+        List<KonnectPriority> served = new CopyOnWriteArrayList<>();
+
+        // Act
+        Thread background = send(scheduler, KonnectPriority.BACKGROUND, served);
+        awaitQueued(scheduler, KonnectPriority.BACKGROUND);
+        Thread webhook = send(scheduler, KonnectPriority.WEBHOOK, served);
+        awaitQueued(scheduler, KonnectPriority.WEBHOOK);
+        Thread interactive = send(scheduler, KonnectPriority.INTERACTIVE, served);
+        awaitQueued(scheduler, KonnectPriority.INTERACTIVE);
+        release.countDown();
+
+        // Assert
+        assertTrue(background.join(Duration.ofSeconds(5)));
+        assertTrue(webhook.join(Duration.ofSeconds(5)));
+        assertTrue(interactive.join(Duration.ofSeconds(5)));
+        slowCall.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(KonnectPriority.INTERACTIVE, KonnectPriority.WEBHOOK, KonnectPriority.BACKGROUND), served);
+    }
+
+    @Test
+    void intercept_shouldLeaveTheSlotsAboveTheirShareToHigherPriorities() throws Exception {
+        // Arrange
+        KonnectPriorityScheduler scheduler = new KonnectPriorityScheduler(2, SHARES, Duration.ZERO,
+                Duration.ofSeconds(30), Duration.ofSeconds(1));
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slowCall = hold(scheduler, KonnectPriority.BACKGROUND, release);
+
+        // Act & Assert
+        KonnectPriorityRejectedException exception = assertThrows(KonnectPriorityRejectedException.class,
+                () -> KonnectPriority.BACKGROUND.call(() -> intercept(scheduler, ok())));
+        assertEquals("background", exception.getPriority());
+        assertEquals(1, scheduler.getRejectedCount(KonnectPriority.BACKGROUND));
+        assertEquals(1, scheduler.getLimit(KonnectPriority.BACKGROUND));
+
+        intercept(scheduler, ok());
+        assertEquals(0, scheduler.getRejectedCount(KonnectPriority.INTERACTIVE));
+
+        release.countDown();
+        slowCall.get(5, TimeUnit.SECONDS);
+        assertEquals(0, scheduler.getInFlight(KonnectPriority.BACKGROUND));
+    }
+
+    @Test
+    void intercept_shouldServeStarvingRequestsAheadOfLaterOnes() throws Exception {
+        // Arrange
+        KonnectPriorityScheduler scheduler = new KonnectPriorityScheduler(1, SHARES, Duration.ofSeconds(5),
+                Duration.ofMillis(50), Duration.ofSeconds(1));
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slowCall = hold(scheduler, KonnectPriority.INTERACTIVE, release);
+        List<KonnectPriority> served = new CopyOnWriteArrayList<>();
+
+        // Act
+        Thread background = send(scheduler, KonnectPriority.BACKGROUND, served);
+        awaitQueued(scheduler, KonnectPriority.BACKGROUND);
+        Thread.sleep(100);
+        Thread interactive = send(scheduler, KonnectPriority.INTERACTIVE, served);
+        awaitQueued(scheduler, KonnectPriority.INTERACTIVE);
+        release.countDown();
+
+        // Assert
+        assertTrue(background.join(Duration.ofSeconds(5)));
+        assertTrue(interactive.join(Duration.ofSeconds(5)));
+        slowCall.get(5, TimeUnit.SECONDS);
+        assertEquals(KonnectPriority.BACKGROUND, served.getFirst());
+        assertEquals(1, scheduler.getPromotedCount());
+    }
+
+    @Test
+    void intercept_shouldHoldBackLowerPrioritiesWhenTheQuotaRunsLow() throws Exception {
+        // Arrange
+        KonnectPriorityScheduler scheduler = new KonnectPriorityScheduler(10, SHARES, Duration.ZERO,
+                Duration.ofSeconds(30), Duration.ofSeconds(1));
+
+        // Act
+        intercept(scheduler, (request, body) -> {
+            MockClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+            response.getHeaders().add("RateLimit-Limit", "100");
+            response.getHeaders().add("RateLimit-Remaining", "30");
+            response.getHeaders().add("RateLimit-Reset", "60");
+            return response;
+        });
+
+        // Assert
+        assertEquals(0.3, scheduler.getQuotaRemaining(), 1e-9);
+        assertTrue(scheduler.isPaused(KonnectPriority.BACKGROUND), "less than the half of the quota reserved to others is left");
+        assertFalse(scheduler.isPaused(KonnectPriority.WEBHOOK));
+        assertThrows(KonnectPriorityRejectedException.class,
+                () -> KonnectPriority.BACKGROUND.call(() -> intercept(scheduler, ok())));
+        KonnectPriority.WEBHOOK.call(() -> intercept(scheduler, ok()));
+
+        // Act: Konnect throttles
+        intercept(scheduler, (request, body) -> {
+            MockClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS);
+            response.getHeaders().add("Retry-After", "5");
+            return response;
+        });
+
+        // Assert
+        assertTrue(scheduler.isPaused(KonnectPriority.WEBHOOK));
+        assertFalse(scheduler.isPaused(KonnectPriority.INTERACTIVE));
+        intercept(scheduler, ok());
+    }
+
+    private static CompletableFuture<Void> hold(KonnectPriorityScheduler scheduler, KonnectPriority priority,
+                                                CountDownLatch release) throws InterruptedException {
+        CountDownLatch sent = new CountDownLatch(1);
+        CompletableFuture<Void> call = CompletableFuture.runAsync(() -> priority.call(() -> intercept(scheduler, (request, body) -> {
+            sent.countDown();
+            await(release);
+            return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+        })));
+        assertTrue(sent.await(5, TimeUnit.SECONDS));
+        return call;
+    }
+
+    private static Thread send(KonnectPriorityScheduler scheduler, KonnectPriority priority, List<KonnectPriority> served) {
+        return Thread.ofVirtual().start(() -> priority.call(() -> intercept(scheduler, (request, body) -> {
+            served.add(priority);
+            return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+        })));
+    }
+
+    private static void awaitQueued(KonnectPriorityScheduler scheduler, KonnectPriority priority) {
+        long waitUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.getQueued(priority) == 0 && System.nanoTime() < waitUntil) {
+            Thread.onSpinWait();
+        }
+        assertEquals(1, scheduler.getQueued(priority));
+    }
+
+    private static MockClientHttpResponse intercept(KonnectPriorityScheduler scheduler, ClientHttpRequestExecution execution) {
+        try {
+            return (MockClientHttpResponse) scheduler.intercept(new MockClientHttpRequest(HttpMethod.GET, GET_PAYMENT_URI),
+                    new byte[0], execution);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ClientHttpRequestExecution ok() {
+        return (request, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KonnectRetryBudgetTest {
+
+    private static final Instant NOW = Instant.parse("2025-08-01T10:00:00Z");
+
+    private final MutableClock clock = new MutableClock(NOW);
+
+    @Test
+    void allowsRetry_shouldCapRetriesToTheRatioOfRequests() {
+        // Arrange
+        KonnectRetryBudget budget = new KonnectRetryBudget(0.1, 0, Duration.ofSeconds(10), clock);
+        for (int i = 0; i < 20; i++) {
+            budget.recordRequest();
+        }
+
+        // Act & Assert
+        assertTrue(budget.allowsRetry());
+        budget.recordRetry();
+        assertTrue(budget.allowsRetry());
+        budget.recordRetry();
+        assertFalse(budget.allowsRetry(), "20 requests should fund 2 retries");
+        assertEquals(1, budget.getExhaustedCount());
+    }
+
+    @Test
+    void allowsRetry_shouldForgetRequestsAndRetriesOutsideTheWindow() {
+        // Arrange
+        KonnectRetryBudget budget = new KonnectRetryBudget(0.1, 1, Duration.ofSeconds(10), clock);
+        assertEquals(10, budget.getRemaining(), 0.001, "the floor should allow retries without traffic");
+        for (int i = 0; i < 10; i++) {
+            budget.recordRetry();
+        }
+        assertFalse(budget.allowsRetry());
+
+        // Act
+        clock.advance(Duration.ofSeconds(10));
+
+        // Assert
+        assertTrue(budget.allowsRetry());
+        assertEquals(10, budget.getRemaining(), 0.001);
+    }
+
+    @Test
+    void retryAfter_shouldReadDelaysAndDatesFromHeaders() {
+        // Act & Assert
+        assertEquals(Duration.ofSeconds(3), KonnectApiErrors.retryAfter(HttpStatus.SERVICE_UNAVAILABLE,
+                Map.of("Retry-After", "3")::get, NOW));
+        assertEquals(Duration.ofSeconds(90), KonnectApiErrors.retryAfter(HttpStatus.TOO_MANY_REQUESTS,
+                Map.of("Retry-After", "Fri, 01 Aug 2025 10:01:30 GMT")::get, NOW));
+        assertEquals(Duration.ofSeconds(20), KonnectApiErrors.retryAfter(HttpStatus.TOO_MANY_REQUESTS,
+                Map.of("X-RateLimit-Reset", "20")::get, NOW));
+        assertEquals(Duration.ofSeconds(30), KonnectApiErrors.retryAfter(HttpStatus.FORBIDDEN,
+                Map.of("RateLimit-Remaining", "0", "RateLimit-Reset", String.valueOf(NOW.getEpochSecond() + 30))::get, NOW));
+        assertNull(KonnectApiErrors.retryAfter(HttpStatus.SERVICE_UNAVAILABLE,
+                Map.of("X-RateLimit-Reset", "20")::get, NOW), "a reset without exhausted quota is no retry delay");
+        assertNull(KonnectApiErrors.retryAfter(HttpStatus.SERVICE_UNAVAILABLE,
+                Map.of("Retry-After", "soon")::get, NOW));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.oussemasahbeni.konnect.client;
+
+import io.github.oussemasahbeni.konnect.exception.KonnectTenantRateLimitedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KonnectTenantRateLimiterTest {
+
+    private static final URI GET_PAYMENT_URI = URI.create("https://api.sandbox.konnect.network/api/v2/payments/68891e9415c9b9a0dae24829");
+
+    @Test
+    void intercept_shouldRejectRequestsBeyondTheLimitOfThePeriod() throws IOException {
+        // Arrange
+        KonnectTenantRateLimiter rateLimiter = new KonnectTenantRateLimiter("merchant-a", 2, Duration.ofHours(1), Duration.ZERO);
+
+        // Act
+        intercept(rateLimiter);
+        intercept(rateLimiter);
+        KonnectTenantRateLimitedException exception = assertThrows(KonnectTenantRateLimitedException.class,
+                () -> intercept(rateLimiter));
+
+        // Assert
+        assertEquals("merchant-a", exception.getTenant());
+        assertEquals(2, exception.getLimitForPeriod());
+        assertEquals(0, rateLimiter.getAvailablePermits());
+        assertEquals(1, rateLimiter.getRejectedCount());
+    }
+
+    @Test
+    void intercept_shouldWaitForTheNextPeriodWithinTheMaximumWait() throws IOException {
+        // Arrange
+        KonnectTenantRateLimiter rateLimiter = new KonnectTenantRateLimiter("merchant-a", 1, Duration.ofMillis(50), Duration.ofSeconds(5));
+        intercept(rateLimiter);
+
+        // Act
+        long start = System.nanoTime();
+        intercept(rateLimiter);
+        intercept(rateLimiter);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Assert
+        assertTrue(elapsed.compareTo(Duration.ofMillis(50)) >= 0, "two more requests should span two more periods");
+        assertEquals(0, rateLimiter.getRejectedCount());
+    }
+
+    @Test
+    void intercept_shouldNotWaitPastTheDeadline() {
+        // Arrange
+        KonnectTenantRateLimiter rateLimiter = new KonnectTenantRateLimiter("merchant-a", 1, Duration.ofHours(1), Duration.ofHours(2));
+
+        // Act & Assert
+        assertThrows(KonnectTenantRateLimitedException.class, () -> KonnectDeadline.after(Duration.ofSeconds(1)).call(() -> {
+            try {
+                intercept(rateLimiter);
+                return intercept(rateLimiter);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+    }
+
+    private static MockClientHttpResponse intercept(KonnectTenantRateLimiter rateLimiter) throws IOException {
+        return (MockClientHttpResponse) rateLimiter.intercept(new MockClientHttpRequest(HttpMethod.GET, GET_PAYMENT_URI),
+                new byte[0], (request, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimingWheelTest {
+
+    private static final long TICK = Duration.ofMillis(100).toNanos();
+
+    private final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(Duration.ofMillis(100), 8, 0);
+
+    private final List<String> expired = new ArrayList<>();
+
+    @Test
+    void task_shouldExpireOnTheTickOfItsDeadline() {
+        // Arrange
+        wheel.schedule("task", 3 * TICK);
+
+        // Act & Assert
+        wheel.expire(2 * TICK, expired::add);
+        assertTrue(expired.isEmpty());
+        wheel.expire(3 * TICK, expired::add);
+        assertEquals(List.of("task"), expired);
+    }
+
+    @Test
+    void taskBeyondOneTurn_shouldWaitForItsRound() {
+        // Arrange
+        wheel.schedule("far", 19 * TICK);
+        wheel.schedule("near", 3 * TICK);
+
+        // Act & Assert
+        wheel.expire(18 * TICK, expired::add);
+        assertEquals(List.of("near"), expired);
+        wheel.expire(19 * TICK, expired::add);
+        assertEquals(List.of("near", "far"), expired);
+    }
+
+    @Test
+    void taskScheduledInThePast_shouldExpireOnTheNextTick() {
+        // Arrange
+        wheel.expire(5 * TICK, expired::add);
+        wheel.schedule("late", TICK);
+
+        // Act
+        wheel.expire(6 * TICK, expired::add);
+
+        // Assert
+        assertEquals(List.of("late"), expired);
+        assertEquals(7 * TICK, wheel.nextTickAt());
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static io.github.oussemasahbeni.konnect.core.PaymentDetailsCachePolicyTest.response;
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryWebhookDeduplicationStoreTest {
+
+    private static final PaymentRef KEY = PaymentRef.parse("68891e9415c9b9a0dae24829");
+
+    private static final PaymentRef OTHER_KEY = PaymentRef.parse("68891e9415c9b9a0dae2482a");
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-08-01T10:00:00Z"));
+
+    @Test
+    void handledPayment_shouldBeRememberedUntilItExpires() {
+        // Arrange
+        InMemoryWebhookDeduplicationStore store = new InMemoryWebhookDeduplicationStore(Duration.ofHours(1), 100, 4, clock);
+        PaymentResponse completed = response(KonnectPaymentStatus.COMPLETED, clock.instant());
+
+        // Act
+        store.markHandled(KEY, completed);
+
+        // Assert
+        assertSame(completed, store.getHandled(KEY));
+        assertNull(store.getHandled(OTHER_KEY));
+        clock.advance(Duration.ofHours(1));
+        assertNull(store.getHandled(KEY));
+        assertEquals(0, store.getSize());
+    }
+
+    @Test
+    void fullStripe_shouldEvictOldestEntry() {
+        // Arrange
+        InMemoryWebhookDeduplicationStore store = new InMemoryWebhookDeduplicationStore(Duration.ofHours(1), 1, 1, clock);
+        PaymentResponse completed = response(KonnectPaymentStatus.COMPLETED, clock.instant());
+
+        // Act
+        store.markHandled(KEY, completed);
+        store.markHandled(OTHER_KEY, completed);
+
+        // Assert
+        assertNull(store.getHandled(KEY));
+        assertSame(completed, store.getHandled(OTHER_KEY));
+        assertEquals(1, store.getSize());
+    }
+
+    @Test
+    void expiredEntries_shouldBePurgedOnWrite() {
+        // Arrange
+        InMemoryWebhookDeduplicationStore store = new InMemoryWebhookDeduplicationStore(Duration.ofMinutes(1), 100, 1, clock);
+        PaymentResponse completed = response(KonnectPaymentStatus.COMPLETED, clock.instant());
+        store.markHandled(KEY, completed);
+
+        // Act
+        clock.advance(Duration.ofMinutes(2));
+        store.markHandled(OTHER_KEY, completed);
+
+        // Assert
+        assertEquals(1, store.getSize());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.oussemasahbeni.konnect.autoconfigure.KonnectProperties;
+import io.github.oussemasahbeni.konnect.autoconfigure.KonnectPropertiesBuilder;
+import io.github.oussemasahbeni.konnect.client.KonnectClient;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class KonnectObservationTest {
+
+    private static final String PAYMENT_REF = "68891e9415c9b9a0dae24829";
+
+    private final List<Observation.Context> stopped = new CopyOnWriteArrayList<>();
+
+    private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    private MockRestServiceServer server;
+
+    private KonnectWebhookHandler webhookHandler;
+
+    @BeforeEach
+    void setUp() {
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        RestClient.Builder builder = RestClient.builder().baseUrl("https://api.sandbox.konnect.network/api/v2");
+        server = MockRestServiceServer.bindTo(builder).build();
+        KonnectClient konnectClient = new KonnectClient(builder.build(), new ObjectMapper(), observationRegistry);
+        // Emulates the @Retry aspect, which invokes the client again on the calling thread
+        Retry retry = Retry.of("konnect-api", RetryConfig.custom().maxAttempts(2).waitDuration(Duration.ofMillis(1)).build());
+        KonnectTemplate konnectTemplate = new KonnectTemplate(konnectClient, properties(),
+                ref -> retry.executeSupplier(() -> konnectClient.getPaymentDetails(ref)), null, observationRegistry);
+        webhookHandler = new KonnectWebhookHandler(konnectTemplate, List.of(), null, observationRegistry);
+    }
+
+    @Test
+    void processWebhook_shouldNestTemplateAndRetriedClientObservations() {
+        // Arrange
+        String url = "https://api.sandbox.konnect.network/api/v2/payments/" + PAYMENT_REF;
+        server.expect(requestTo(url)).andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        server.expect(requestTo(url)).andRespond(withSuccess("""
+                { "payment": { "id": "68891e9415c9b9a0dae24829", "status": "completed" } }
+                """, MediaType.APPLICATION_JSON));
+
+        // Act
+        webhookHandler.processWebhook(PAYMENT_REF);
+
+        // Assert
+        assertEquals(4, stopped.size());
+        Observation.Context firstAttempt = stopped.get(0);
+        Observation.Context secondAttempt = stopped.get(1);
+        Observation.Context template = stopped.get(2);
+        Observation.Context webhook = stopped.get(3);
+
+        assertEquals("konnect.client", firstAttempt.getName());
+        assertEquals("1", firstAttempt.getLowCardinalityKeyValue("konnect.retry.attempt").getValue());
+        assertEquals("503", firstAttempt.getLowCardinalityKeyValue("konnect.status").getValue());
+        assertEquals("2", secondAttempt.getLowCardinalityKeyValue("konnect.retry.attempt").getValue());
+        assertEquals("200", secondAttempt.getLowCardinalityKeyValue("konnect.status").getValue());
+        assertEquals(PAYMENT_REF, secondAttempt.getHighCardinalityKeyValue("konnect.payment.ref").getValue());
+        assertSame(template, firstAttempt.getParentObservation().getContextView());
+        assertSame(template, secondAttempt.getParentObservation().getContextView());
+
+        assertEquals("konnect.template", template.getName());
+        assertEquals("get-payment", template.getLowCardinalityKeyValue("konnect.operation").getValue());
+        assertEquals("completed", template.getLowCardinalityKeyValue("konnect.status").getValue());
+        assertSame(webhook, template.getParentObservation().getContextView());
+
+        assertEquals("konnect.webhook", webhook.getName());
+        assertEquals("completed", webhook.getLowCardinalityKeyValue("konnect.status").getValue());
+        assertEquals(PAYMENT_REF, webhook.getHighCardinalityKeyValue("konnect.payment.ref").getValue());
+        assertNull(webhook.getParentObservation());
+    }
+
+    private static KonnectProperties properties() {
+        return KonnectPropertiesBuilder.konnectProperties().build();
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static io.github.oussemasahbeni.konnect.core.PaymentDetailsCachePolicyTest.response;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KonnectPaymentPollerTest {
+
+    private static final String PAYMENT_REF = "68891e9415c9b9a0dae24829";
+
+    private static final PaymentPollingBackoff BACKOFF =
+            new PaymentPollingBackoff(Duration.ofMillis(10), Duration.ofMillis(40), 2.0, 0.5);
+
+    private final AtomicInteger polls = new AtomicInteger();
+
+    private KonnectPaymentPoller poller;
+
+    @AfterEach
+    void tearDown() {
+        poller.close();
+    }
+
+    @Test
+    void pendingPayment_shouldBePolledUntilItCompletes() throws InterruptedException {
+        // Arrange
+        poller = poller(ref -> response(polls.incrementAndGet() < 3 ? KonnectPaymentStatus.PENDING : KonnectPaymentStatus.COMPLETED, Instant.now()));
+
+        // Act
+        assertTrue(poller.track(PAYMENT_REF, Duration.ofMinutes(30)));
+        assertFalse(poller.track(PAYMENT_REF, Duration.ofMinutes(30)));
+
+        // Assert
+        awaitUntil(() -> poller.getSettledCount() == 1);
+        assertEquals(3, polls.get());
+        assertEquals(0, poller.getTrackedCount());
+    }
+
+    @Test
+    void pendingPayment_shouldBeDroppedOnceItsLifespanHasPassed() throws InterruptedException {
+        // Arrange
+        poller = poller(ref -> {
+            polls.incrementAndGet();
+            return response(KonnectPaymentStatus.PENDING, Instant.now());
+        });
+
+        // Act
+        poller.track(PAYMENT_REF, Duration.ofMillis(200));
+
+        // Assert
+        awaitUntil(() -> poller.getAbandonedCount() == 1);
+        assertTrue(polls.get() > 1);
+        assertEquals(0, poller.getTrackedCount());
+    }
+
+    @Test
+    void failedPoll_shouldBeRetried() throws InterruptedException {
+        // Arrange
+        poller = poller(ref -> {
+            if (polls.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            return response(KonnectPaymentStatus.EXPIRED, Instant.now());
+        });
+
+        // Act
+        poller.track(PAYMENT_REF, Duration.ofMinutes(30));
+
+        // Assert
+        awaitUntil(() -> poller.getSettledCount() == 1);
+        assertEquals(1, poller.getFailedPollCount());
+        assertEquals(1, poller.getPollCount());
+    }
+
+    @Test
+    void untrackedPayment_shouldNotBePolled() throws InterruptedException {
+        // Arrange
+        poller = poller(ref -> {
+            polls.incrementAndGet();
+            return new PaymentResponse(null);
+        });
+        poller.track(PAYMENT_REF, Duration.ofMinutes(30));
+
+        // Act
+        assertTrue(poller.untrack(PAYMENT_REF));
+        Thread.sleep(100);
+
+        // Assert
+        assertEquals(0, polls.get());
+    }
+
+    @Test
+    void paymentCompletedByAWebhook_shouldNotBePolledAgain() throws InterruptedException {
+        // Arrange
+        KonnectTemplate konnectTemplate = mock(KonnectTemplate.class);
+        when(konnectTemplate.refreshPaymentDetails(PAYMENT_REF)).thenReturn(response(KonnectPaymentStatus.COMPLETED, Instant.now()));
+        poller = new KonnectPaymentPoller(ref -> {
+            polls.incrementAndGet();
+            return response(KonnectPaymentStatus.PENDING, Instant.now());
+        }, new PaymentPollingBackoff(Duration.ofMillis(200), Duration.ofMillis(200), 1.0, 0.0), Duration.ofMillis(5), 64, 4);
+        KonnectWebhookHandler handler = new KonnectWebhookHandler(konnectTemplate, List.of(poller));
+        poller.track(PAYMENT_REF, Duration.ofMinutes(30));
+
+        // Act
+        handler.processWebhook(PAYMENT_REF);
+        Thread.sleep(400);
+
+        // Assert
+        assertEquals(0, polls.get());
+        assertEquals(0, poller.getTrackedCount());
+        assertEquals(1, poller.getSettledCount());
+    }
+
+    private static KonnectPaymentPoller poller(PaymentDetailsLoader loader) {
+        return new KonnectPaymentPoller(loader, BACKOFF, Duration.ofMillis(5), 64, 4);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.oussemasahbeni.konnect.core.PaymentDetailsCachePolicyTest.response;
+import static org.junit.jupiter.api.Assertions.*;
+
+class KonnectPaymentWatcherTest {
+
+    private static final String PAYMENT_REF = "68891e9415c9b9a0dae24829";
+
+    private static final int WAITERS = 8;
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    private KonnectPaymentWatcher watcher;
+
+    @AfterEach
+    void tearDown() {
+        watcher.close();
+    }
+
+    @Test
+    void completedPayment_shouldReturnImmediately() {
+        // Arrange
+        PaymentResponse completed = response(KonnectPaymentStatus.COMPLETED, Instant.now());
+        watcher = watcher(completed);
+
+        // Act
+        PaymentResponse response = watcher.awaitCompletion(PAYMENT_REF, Duration.ofSeconds(5));
+
+        // Assert
+        assertSame(completed, response);
+        assertEquals(0, watcher.getWatchedCount());
+    }
+
+    @Test
+    void pendingPayment_shouldWakeAllWaitersOnTerminalStatus() throws Exception {
+        // Arrange
+        watcher = watcher(response(KonnectPaymentStatus.PENDING, Instant.now()));
+        List<CompletableFuture<PaymentResponse>> waiters = new ArrayList<>();
+        for (int i = 0; i < WAITERS; i++) {
+            waiters.add(watcher.awaitCompletionAsync(PAYMENT_REF, Duration.ofSeconds(5)));
+        }
+        PaymentResponse completed = response(KonnectPaymentStatus.COMPLETED, Instant.now());
+        awaitLookup();
+
+        // Act
+        watcher.onPayment(response(KonnectPaymentStatus.PENDING, Instant.now()));
+        watcher.onPayment(completed);
+
+        // Assert
+        for (CompletableFuture<PaymentResponse> waiter : waiters) {
+            assertSame(completed, waiter.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, lookups.get());
+        assertEquals(0, watcher.getWatchedCount());
+    }
+
+    @Test
+    void pendingPayment_shouldReturnLatestDetailsOnTimeout() {
+        // Arrange
+        PaymentResponse pending = response(KonnectPaymentStatus.PENDING, Instant.now());
+        watcher = watcher(pending);
+
+        // Act
+        PaymentResponse response = watcher.awaitCompletion(PAYMENT_REF, Duration.ofMillis(100));
+
+        // Assert
+        assertSame(pending, response);
+        assertEquals(0, watcher.getWatchedCount());
+    }
+
+    @Test
+    void failedLookup_shouldFailWaiters() {
+        // Arrange
+        watcher = new KonnectPaymentWatcher(ref -> {
+            throw new KonnectApiException("Not found", 404);
+        });
+
+        // Act & Assert
+        assertThrows(KonnectApiException.class, () -> watcher.awaitCompletion(PAYMENT_REF, Duration.ofSeconds(5)));
+        assertEquals(0, watcher.getWatchedCount());
+    }
+
+    private void awaitLookup() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (lookups.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, lookups.get());
+    }
+
+    private KonnectPaymentWatcher watcher(PaymentResponse response) {
+        return new KonnectPaymentWatcher(ref -> {
+            lookups.incrementAndGet();
+            return response;
+        });
+    }
+}
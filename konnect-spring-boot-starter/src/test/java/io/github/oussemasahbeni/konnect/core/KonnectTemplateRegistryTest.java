@@ -0,0 +1,151 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.oussemasahbeni.konnect.autoconfigure.KonnectProperties;
+import io.github.oussemasahbeni.konnect.autoconfigure.KonnectPropertiesBuilder;
+import io.github.oussemasahbeni.konnect.exception.KonnectTenantRateLimitedException;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentType;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectTheme;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectToken;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class KonnectTemplateRegistryTest {
+
+    private static final String BASE_URL = "https://api.sandbox.konnect.network/api/v2";
+
+    private static final String PAYMENT_REF = "68891e9415c9b9a0dae24829";
+
+    private static final Map<String, KonnectTenant> TENANTS = Map.of(
+            "merchant-a", new KonnectTenant("merchant-a", "key-a", "wallet-a", null, null),
+            "merchant-b", new KonnectTenant("merchant-b", "key-b", "wallet-b", null, null),
+            "merchant-c", new KonnectTenant("merchant-c", "key-c", null, null, null));
+
+    private MockRestServiceServer server;
+
+    private RestClient restClient;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder()
+                .baseUrl(BASE_URL)
+                .defaultHeader("x-api-key", "shared-key");
+        server = MockRestServiceServer.bindTo(builder).build();
+        restClient = builder.build();
+    }
+
+    @Test
+    void getTemplate_shouldCallKonnectWithTheKeyAndWalletOfTheTenant() {
+        // Arrange
+        KonnectTemplateRegistry registry = new KonnectTemplateRegistry(restClient, new ObjectMapper(), properties(),
+                TENANTS::get, 10);
+        server.expect(requestTo(BASE_URL + "/payments/init-payment"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header("x-api-key", "key-a"))
+                .andExpect(jsonPath("$.receiverWalletId").value("wallet-a"))
+                .andRespond(withSuccess("{\"payUrl\":\"https://pay\",\"paymentRef\":\"" + PAYMENT_REF + "\"}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo(BASE_URL + "/payments/init-payment"))
+                .andExpect(header("x-api-key", "key-c"))
+                .andExpect(jsonPath("$.receiverWalletId").value("shared-wallet"))
+                .andRespond(withSuccess("{\"payUrl\":\"https://pay\",\"paymentRef\":\"" + PAYMENT_REF + "\"}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo(BASE_URL + "/payments/" + PAYMENT_REF))
+                .andExpect(header("x-api-key", "key-b"))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        // Act
+        registry.getTemplate("merchant-a").initiatePayment(BigDecimal.TEN);
+        registry.getTemplate("merchant-c").initiatePayment(BigDecimal.TEN);
+        registry.getTemplate("merchant-b").getPaymentDetails(PAYMENT_REF);
+
+        // Assert
+        server.verify();
+        assertSame(registry.getTemplate("merchant-a"), registry.getTemplate("merchant-a"));
+        assertEquals(3, registry.getCreatedCount());
+    }
+
+    @Test
+    void getTemplate_shouldEvictTheLeastRecentlyUsedTenant() {
+        // Arrange
+        KonnectTemplateRegistry registry = new KonnectTemplateRegistry(restClient, new ObjectMapper(), properties(),
+                TENANTS::get, 2);
+        KonnectTemplate merchantA = registry.getTemplate("merchant-a");
+        registry.getTemplate("merchant-b");
+
+        // Act
+        registry.getTemplate("merchant-a");
+        registry.getTemplate("merchant-c");
+
+        // Assert
+        assertEquals(2, registry.size());
+        assertEquals(1, registry.getEvictedCount());
+        assertSame(merchantA, registry.getTemplate("merchant-a"), "the most recently used tenant should be kept");
+        registry.getTemplate("merchant-b");
+        assertEquals(4, registry.getCreatedCount(), "the evicted tenant should be created anew");
+    }
+
+    @Test
+    void getTemplate_shouldRejectUnknownTenants() {
+        // Arrange
+        KonnectTemplateRegistry registry = new KonnectTemplateRegistry(restClient, new ObjectMapper(), properties(),
+                TENANTS::get, 10);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> registry.getTemplate("unknown"));
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void getTemplate_shouldRateLimitEachTenantInItsOwnPartition() {
+        // Arrange
+        KonnectTemplateRegistry registry = new KonnectTemplateRegistry(restClient, new ObjectMapper(), properties(),
+                TENANTS::get, 10, new KonnectProperties.KonnectTenantRateLimit(1, Duration.ofHours(1), Duration.ZERO),
+                UnaryOperator.identity(), ObservationRegistry.NOOP);
+        server.expect(requestTo(BASE_URL + "/payments/" + PAYMENT_REF))
+                .andExpect(header("x-api-key", "key-a"))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo(BASE_URL + "/payments/" + PAYMENT_REF))
+                .andExpect(header("x-api-key", "key-b"))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        // Act
+        registry.getTemplate("merchant-a").getPaymentDetails(PAYMENT_REF);
+        KonnectTenantRateLimitedException exception = assertThrows(KonnectTenantRateLimitedException.class,
+                () -> registry.getTemplate("merchant-a").getPaymentDetails(PAYMENT_REF));
+        registry.getTemplate("merchant-b").getPaymentDetails(PAYMENT_REF);
+
+        // Assert
+        server.verify();
+        assertEquals("merchant-a", exception.getTenant());
+        assertEquals(1, registry.getRateLimitedCount());
+        registry.evict("merchant-a");
+        assertEquals(1, registry.getRateLimitedCount(), "rejections of evicted tenants should still be counted");
+    }
+
+    private static KonnectProperties properties() {
+        return KonnectPropertiesBuilder.konnectProperties()
+                .baseUrl(BASE_URL + "/")
+                .key("shared-key")
+                .receiverWalletId("shared-wallet")
+                .defaults(new KonnectProperties.KonnectPaymentDefaults(KonnectToken.TND, KonnectPaymentType.IMMEDIATE,
+                        List.of(), 30, true, KonnectTheme.LIGHT, false))
+                .build();
+    }
+}
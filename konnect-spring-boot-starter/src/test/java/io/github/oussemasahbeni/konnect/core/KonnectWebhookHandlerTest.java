@@ -0,0 +1,168 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.autoconfigure.KonnectPropertiesBuilder;
+import io.github.oussemasahbeni.konnect.client.KonnectClient;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.oussemasahbeni.konnect.core.PaymentDetailsCachePolicyTest.response;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KonnectWebhookHandlerTest {
+
+    private static final String PAYMENT_REF = "68891e9415c9b9a0dae24829";
+
+    @Mock
+    private KonnectTemplate konnectTemplate;
+
+    private final AtomicInteger notifications = new AtomicInteger();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private KonnectWebhookHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new KonnectWebhookHandler(konnectTemplate, List.of(paymentResponse -> notifications.incrementAndGet()),
+                new InMemoryWebhookDeduplicationStore(Duration.ofHours(1), 100, 4, Clock.systemUTC()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void duplicateWebhookForHandledPayment_shouldBeSuppressed() {
+        // Arrange
+        PaymentResponse completed = response(KonnectPaymentStatus.COMPLETED, Instant.now());
+        when(konnectTemplate.refreshPaymentDetails(PAYMENT_REF)).thenReturn(completed);
+
+        // Act
+        PaymentResponse first = handler.processWebhook(PAYMENT_REF);
+        PaymentResponse duplicate = handler.processWebhook(PAYMENT_REF);
+
+        // Assert
+        assertSame(completed, first);
+        assertSame(completed, duplicate);
+        verify(konnectTemplate, times(1)).refreshPaymentDetails(PAYMENT_REF);
+        assertEquals(1, notifications.get());
+        assertEquals(1, handler.getSuppressedCount());
+    }
+
+    @Test
+    void webhookForCompletedPayment_shouldNotBeMarkedHandledWhenAListenerFails() {
+        // Arrange
+        AtomicInteger failures = new AtomicInteger(1);
+        handler = new KonnectWebhookHandler(konnectTemplate, List.of(
+                paymentResponse -> {
+                    if (failures.getAndDecrement() > 0) {
+                        throw new IllegalStateException("Order not fulfilled");
+                    }
+                },
+                paymentResponse -> notifications.incrementAndGet()),
+                new InMemoryWebhookDeduplicationStore(Duration.ofHours(1), 100, 4, Clock.systemUTC()));
+        PaymentResponse completed = response(KonnectPaymentStatus.COMPLETED, Instant.now());
+        when(konnectTemplate.refreshPaymentDetails(PAYMENT_REF)).thenReturn(completed);
+
+        // Act
+        handler.processWebhook(PAYMENT_REF);
+        handler.processWebhook(PAYMENT_REF);
+        handler.processWebhook(PAYMENT_REF);
+
+        // Assert
+        verify(konnectTemplate, times(2)).refreshPaymentDetails(PAYMENT_REF);
+        assertEquals(2, notifications.get(), "the other listeners are still notified");
+        assertEquals(1, handler.getSuppressedCount());
+    }
+
+    @Test
+    void webhooksForPendingPayment_shouldAllBeProcessed() {
+        // Arrange
+        when(konnectTemplate.refreshPaymentDetails(PAYMENT_REF)).thenReturn(response(KonnectPaymentStatus.PENDING, Instant.now()));
+
+        // Act
+        handler.processWebhook(PAYMENT_REF);
+        handler.processWebhook(PAYMENT_REF);
+
+        // Assert
+        verify(konnectTemplate, times(2)).refreshPaymentDetails(PAYMENT_REF);
+        assertEquals(2, notifications.get());
+        assertEquals(0, handler.getSuppressedCount());
+    }
+
+    @Test
+    void webhookAfterACachedLookup_shouldVerifyTheStatusWithKonnectAndRefreshTheCache() {
+        // Arrange
+        KonnectClient konnectClient = mock(KonnectClient.class);
+        PaymentDetailsCache cache = new ConcurrentMapPaymentDetailsCache(new PaymentDetailsCachePolicy(
+                Duration.ofHours(1), Duration.ofMinutes(1), Duration.ofMinutes(30), Clock.systemUTC()), 100);
+        KonnectTemplate cachingTemplate = new KonnectTemplate(konnectClient, KonnectPropertiesBuilder.konnectProperties().build(),
+                cache.decorate(konnectClient::getPaymentDetails));
+        PaymentResponse completed = response(KonnectPaymentStatus.COMPLETED, Instant.now());
+        when(konnectClient.getPaymentDetails(PAYMENT_REF))
+                .thenReturn(response(KonnectPaymentStatus.PENDING, Instant.now()), completed);
+        List<PaymentResponse> notified = new ArrayList<>();
+        KonnectWebhookHandler cachingHandler = new KonnectWebhookHandler(cachingTemplate, List.of(notified::add),
+                new InMemoryWebhookDeduplicationStore(Duration.ofHours(1), 100, 4, Clock.systemUTC()));
+        cachingTemplate.getPaymentDetails(PAYMENT_REF);
+
+        // Act
+        cachingHandler.processWebhook(PAYMENT_REF);
+
+        // Assert
+        assertEquals(List.of(completed), notified);
+        assertSame(completed, cachingTemplate.getPaymentDetails(PAYMENT_REF));
+        verify(konnectClient, times(2)).getPaymentDetails(PAYMENT_REF);
+    }
+
+    @Test
+    void concurrentDuplicateWebhooks_shouldShareOneLookup() throws Exception {
+        // Arrange
+        PaymentResponse completed = response(KonnectPaymentStatus.COMPLETED, Instant.now());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(konnectTemplate.refreshPaymentDetails(PAYMENT_REF)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return completed;
+        });
+
+        // Act
+        Future<PaymentResponse> first = executor.submit(() -> handler.processWebhook(PAYMENT_REF));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<PaymentResponse> duplicate = executor.submit(() -> handler.processWebhook(PAYMENT_REF));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (handler.getCollapsedCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        // Assert
+        assertSame(completed, first.get(5, TimeUnit.SECONDS));
+        assertSame(completed, duplicate.get(5, TimeUnit.SECONDS));
+        verify(konnectTemplate, times(1)).refreshPaymentDetails(PAYMENT_REF);
+        assertEquals(1, notifications.get());
+        assertEquals(1, handler.getCollapsedCount());
+    }
+}
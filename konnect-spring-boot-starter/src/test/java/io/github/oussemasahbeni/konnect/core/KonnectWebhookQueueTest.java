@@ -0,0 +1,168 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.exception.InvalidPaymentReferenceException;
+import io.github.oussemasahbeni.konnect.exception.WebhookProcessingException;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KonnectWebhookQueueTest {
+
+    private static final String PAYMENT_REF = "68891e9415c9b9a0dae24829";
+    private static final String OTHER_PAYMENT_REF = "68891e9415c9b9a0dae2482a";
+    private static final String LAST_PAYMENT_REF = "68891e9415c9b9a0dae2482b";
+
+    @Mock
+    private KonnectWebhookHandler webhookHandler;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private KonnectWebhookQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (queue != null) {
+            queue.close();
+        }
+    }
+
+    @Test
+    void submit_shouldProcessWebhookOnWorker() {
+        // Arrange
+        queue = new KonnectWebhookQueue(webhookHandler, 10, KonnectWebhookQueue.OverflowPolicy.REJECT, 2, Duration.ofSeconds(5));
+
+        // Act
+        boolean queued = queue.submit(PAYMENT_REF);
+
+        // Assert
+        assertTrue(queued);
+        verify(webhookHandler, timeout(5000)).processWebhook(PAYMENT_REF);
+        assertEquals(1, queue.getAcceptedCount());
+    }
+
+    @Test
+    void submit_shouldRestoreSubmitterObservationOnWorker() throws InterruptedException {
+        // Arrange
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(context -> true);
+        AtomicReference<Observation> current = new AtomicReference<>();
+        CountDownLatch processed = new CountDownLatch(1);
+        when(webhookHandler.processWebhook(PAYMENT_REF)).thenAnswer(invocation -> {
+            current.set(observationRegistry.getCurrentObservation());
+            processed.countDown();
+            return null;
+        });
+        queue = new KonnectWebhookQueue(webhookHandler, 10, KonnectWebhookQueue.OverflowPolicy.REJECT, 1,
+                Duration.ofSeconds(5), observationRegistry);
+        Observation request = Observation.start("http.server.requests", observationRegistry);
+
+        // Act
+        request.scoped(() -> queue.submit(PAYMENT_REF));
+
+        // Assert
+        assertTrue(processed.await(5, TimeUnit.SECONDS));
+        assertSame(request, current.get());
+        request.stop();
+    }
+
+    @Test
+    void submit_withInvalidReference_shouldThrowWithoutQueueing() {
+        // Arrange
+        queue = new KonnectWebhookQueue(webhookHandler, 10, KonnectWebhookQueue.OverflowPolicy.REJECT, 1, Duration.ofSeconds(5));
+
+        // Act & Assert
+        assertThrows(InvalidPaymentReferenceException.class, () -> queue.submit("not-a-valid-ref"));
+        assertEquals(0, queue.getAcceptedCount());
+        verifyNoInteractions(webhookHandler);
+    }
+
+    @Test
+    void submit_whenFullWithRejectPolicy_shouldThrow() throws InterruptedException {
+        // Arrange
+        queue = blockedQueue(KonnectWebhookQueue.OverflowPolicy.REJECT);
+
+        // Act
+        WebhookProcessingException ex = assertThrows(WebhookProcessingException.class, () -> queue.submit(LAST_PAYMENT_REF));
+
+        // Assert
+        assertEquals(KonnectWebhookQueue.QUEUE_FULL_ERROR_CODE, ex.getErrorCode());
+        assertEquals(1, queue.getRejectedCount());
+        assertEquals(1, queue.getQueueDepth());
+    }
+
+    @Test
+    void submit_whenFullWithDropOldestPolicy_shouldDropOldest() throws InterruptedException {
+        // Arrange
+        queue = blockedQueue(KonnectWebhookQueue.OverflowPolicy.DROP_OLDEST);
+
+        // Act
+        queue.submit(LAST_PAYMENT_REF);
+        release.countDown();
+
+        // Assert
+        verify(webhookHandler, timeout(5000)).processWebhook(LAST_PAYMENT_REF);
+        verify(webhookHandler, never()).processWebhook(OTHER_PAYMENT_REF);
+        assertEquals(1, queue.getDroppedCount());
+    }
+
+    @Test
+    void submit_whenFullWithCallerRunsPolicy_shouldProcessOnCaller() throws InterruptedException {
+        // Arrange
+        queue = blockedQueue(KonnectWebhookQueue.OverflowPolicy.CALLER_RUNS);
+        doReturn(new PaymentResponse(null)).when(webhookHandler).processWebhook(LAST_PAYMENT_REF);
+
+        // Act
+        boolean queued = queue.submit(LAST_PAYMENT_REF);
+
+        // Assert
+        assertFalse(queued);
+        verify(webhookHandler).processWebhook(LAST_PAYMENT_REF);
+    }
+
+    @Test
+    void close_shouldDrainQueuedWebhooks() throws InterruptedException {
+        // Arrange
+        queue = blockedQueue(KonnectWebhookQueue.OverflowPolicy.REJECT);
+        release.countDown();
+
+        // Act
+        queue.close();
+
+        // Assert
+        verify(webhookHandler).processWebhook(OTHER_PAYMENT_REF);
+        assertEquals(2, queue.getProcessedCount());
+        assertThrows(WebhookProcessingException.class, () -> queue.submit(LAST_PAYMENT_REF));
+    }
+
+    /**
+     * Creates a queue of capacity 1 whose single worker is blocked on a first webhook, with a second one queued.
+     */
+    private KonnectWebhookQueue blockedQueue(KonnectWebhookQueue.OverflowPolicy overflowPolicy) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new PaymentResponse(null);
+        }).when(webhookHandler).processWebhook(PAYMENT_REF);
+        KonnectWebhookQueue blocked = new KonnectWebhookQueue(webhookHandler, 1, overflowPolicy, 1, Duration.ofSeconds(5));
+        blocked.submit(PAYMENT_REF);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        blocked.submit(OTHER_PAYMENT_REF);
+        return blocked;
+    }
+}
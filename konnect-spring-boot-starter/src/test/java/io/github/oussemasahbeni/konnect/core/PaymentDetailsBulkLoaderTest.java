@@ -0,0 +1,96 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaymentDetailsBulkLoaderTest {
+
+    private static final int PARALLELISM = 4;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private final PaymentDetailsLoader loader = ref -> {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(5);
+            if (ref.endsWith("7")) {
+                throw new KonnectApiException("Not found", 404);
+            }
+            return new PaymentResponse(null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    };
+
+    @Test
+    void load_shouldReturnOneResultPerRefWithinParallelism() {
+        // Arrange
+        List<String> refs = refs(50);
+        List<PaymentDetailsResult> results = new ArrayList<>();
+
+        // Act
+        new PaymentDetailsBulkLoader(loader, PARALLELISM).load(refs, results::add);
+
+        // Assert
+        assertEquals(50, results.size());
+        assertTrue(maxInFlight.get() <= PARALLELISM, "At most " + PARALLELISM + " lookups should run in parallel");
+        Map<String, PaymentDetailsResult> byRef = results.stream()
+                .collect(Collectors.toMap(PaymentDetailsResult::paymentRef, Function.identity()));
+        assertEquals(refs.size(), byRef.size());
+        PaymentDetailsResult failed = byRef.get("ref-7");
+        assertFalse(failed.isSuccess());
+        assertInstanceOf(KonnectApiException.class, failed.error());
+        assertNull(failed.response());
+        assertTrue(byRef.get("ref-8").isSuccess());
+    }
+
+    @Test
+    void stream_shouldReturnEveryResult() {
+        // Act
+        List<PaymentDetailsResult> results;
+        try (Stream<PaymentDetailsResult> stream = new PaymentDetailsBulkLoader(loader, PARALLELISM).stream(refs(20).stream())) {
+            results = stream.toList();
+        }
+
+        // Assert
+        assertEquals(20, results.size());
+        assertEquals(2, results.stream().filter(result -> !result.isSuccess()).count());
+        assertTrue(maxInFlight.get() <= PARALLELISM);
+    }
+
+    @Test
+    void stream_whenInputFails_shouldRethrowToConsumer() {
+        // Arrange
+        Stream<String> refs = Stream.of("ref-1", "ref-2").map(ref -> {
+            if (ref.equals("ref-2")) {
+                throw new IllegalArgumentException("broken input");
+            }
+            return ref;
+        });
+
+        // Act & Assert
+        try (Stream<PaymentDetailsResult> stream = new PaymentDetailsBulkLoader(loader, PARALLELISM).stream(refs)) {
+            assertThrows(IllegalArgumentException.class, stream::toList);
+        }
+    }
+
+    private static List<String> refs(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "ref-" + i).toList();
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.oussemasahbeni.konnect.model.KonnectPayment;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PaymentDetailsCachePolicyTest {
+
+    private static final Instant NOW = Instant.parse("2025-08-01T10:00:00Z");
+
+    private final PaymentDetailsCachePolicy policy = new PaymentDetailsCachePolicy(
+            Duration.ofHours(1), Duration.ofSeconds(5), Duration.ofMinutes(30), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void terminalPayments_shouldBeKeptForTerminalTimeToLive() {
+        assertEquals(Duration.ofHours(1), policy.timeToLive(response(KonnectPaymentStatus.COMPLETED, NOW)));
+        assertEquals(Duration.ofHours(1), policy.timeToLive(response(KonnectPaymentStatus.EXPIRED, NOW)));
+    }
+
+    @Test
+    void pendingPayment_shouldBeKeptForPendingTimeToLive() {
+        assertEquals(Duration.ofSeconds(5), policy.timeToLive(response(KonnectPaymentStatus.PENDING, NOW)));
+    }
+
+    @Test
+    void pendingPayment_shouldNotBeKeptPastItsLifespan() {
+        Instant createdAt = NOW.minus(Duration.ofMinutes(30)).plusSeconds(2);
+
+        assertEquals(Duration.ofSeconds(2), policy.timeToLive(response(KonnectPaymentStatus.PENDING, createdAt)));
+        assertEquals(Duration.ZERO, policy.timeToLive(response(KonnectPaymentStatus.PENDING, NOW.minus(Duration.ofHours(1)))));
+    }
+
+    @Test
+    void pendingPayment_shouldNotBeKeptPastItsExpirationDate() throws Exception {
+        // A payment initiated with a 10 minutes lifespan, shorter than the default one
+        String json = """
+                { "payment": { "status": "pending", "createdAt": "2025-08-01T09:50:00Z", "expirationDate": "2025-08-01T10:00:03Z" } }
+                """;
+        PaymentResponse response = new ObjectMapper().findAndRegisterModules().readValue(json, PaymentResponse.class);
+
+        assertEquals(Duration.ofSeconds(3), policy.timeToLive(response));
+    }
+
+    @Test
+    void responseWithoutStatus_shouldNotBeCached() {
+        assertEquals(Duration.ZERO, policy.timeToLive(null));
+        assertEquals(Duration.ZERO, policy.timeToLive(new PaymentResponse(null)));
+        assertEquals(Duration.ZERO, policy.timeToLive(response(null, NOW)));
+    }
+
+    static PaymentResponse response(KonnectPaymentStatus status, Instant createdAt) {
+        return new PaymentResponse(new KonnectPayment(null, 0, 0, null, null, null, null, null,
+                status, null, null, null, null, createdAt, createdAt, "68891e9415c9b9a0dae24829"));
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static io.github.oussemasahbeni.konnect.core.PaymentDetailsCachePolicyTest.response;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaymentDetailsCacheTest {
+
+    private static final String PAYMENT_REF = "68891e9415c9b9a0dae24829";
+
+    private static final PaymentRef KEY = PaymentRef.parse(PAYMENT_REF);
+
+    private static final PaymentDetailsCachePolicy POLICY = new PaymentDetailsCachePolicy(
+            Duration.ofHours(1), Duration.ofSeconds(5), Duration.ofMinutes(30), Clock.systemUTC());
+
+    static Stream<Arguments> caches() {
+        return Stream.of(
+                Arguments.of("caffeine", (Function<Long, PaymentDetailsCache>) size -> new CaffeinePaymentDetailsCache(POLICY, size)),
+                Arguments.of("concurrent-map", (Function<Long, PaymentDetailsCache>) size -> new ConcurrentMapPaymentDetailsCache(POLICY, size))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("caches")
+    void completedPayment_shouldBeServedFromCache(String name, Function<Long, PaymentDetailsCache> factory) {
+        // Arrange
+        PaymentDetailsCache cache = factory.apply(100L);
+        PaymentResponse completed = response(KonnectPaymentStatus.COMPLETED, Instant.now());
+        AtomicInteger lookups = new AtomicInteger();
+        PaymentDetailsLoader loader = cache.decorate(ref -> {
+            lookups.incrementAndGet();
+            return completed;
+        });
+
+        // Act
+        PaymentResponse first = loader.load(PAYMENT_REF);
+        PaymentResponse second = loader.load(PAYMENT_REF);
+
+        // Assert
+        assertSame(completed, first);
+        assertSame(completed, second);
+        assertEquals(1, lookups.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("caches")
+    void reload_shouldBypassTheCacheAndReplaceTheCachedDetails(String name, Function<Long, PaymentDetailsCache> factory) {
+        // Arrange
+        PaymentDetailsCache cache = factory.apply(100L);
+        PaymentResponse pending = response(KonnectPaymentStatus.PENDING, Instant.now());
+        PaymentResponse completed = response(KonnectPaymentStatus.COMPLETED, Instant.now());
+        AtomicInteger lookups = new AtomicInteger();
+        PaymentDetailsLoader loader = cache.decorate(ref -> lookups.incrementAndGet() == 1 ? pending : completed);
+        loader.load(PAYMENT_REF);
+
+        // Act
+        PaymentResponse reloaded = loader.reload(PAYMENT_REF);
+
+        // Assert
+        assertSame(completed, reloaded);
+        assertSame(completed, loader.load(PAYMENT_REF));
+        assertEquals(2, lookups.get());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("caches")
+    void pendingPaymentPastItsLifespan_shouldNotBeCached(String name, Function<Long, PaymentDetailsCache> factory) {
+        // Arrange
+        PaymentDetailsCache cache = factory.apply(100L);
+        PaymentResponse stale = response(KonnectPaymentStatus.PENDING, Instant.now().minus(Duration.ofHours(1)));
+
+        // Act
+        cache.put(KEY, stale);
+
+        // Assert
+        assertNull(cache.get(KEY));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("caches")
+    void invalidate_shouldRemoveEntry(String name, Function<Long, PaymentDetailsCache> factory) {
+        // Arrange
+        PaymentDetailsCache cache = factory.apply(100L);
+        cache.put(KEY, response(KonnectPaymentStatus.PENDING, Instant.now()));
+
+        // Act
+        cache.invalidate(KEY);
+
+        // Assert
+        assertNull(cache.get(KEY));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("caches")
+    void failedLookup_shouldNotBeCached(String name, Function<Long, PaymentDetailsCache> factory) {
+        // Arrange
+        PaymentDetailsCache cache = factory.apply(100L);
+        PaymentDetailsLoader loader = cache.decorate(ref -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> loader.load(PAYMENT_REF));
+        assertEquals(0, cache.getSize());
+    }
+}
@@ -0,0 +1,156 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.client.KonnectDeadline;
+import io.github.oussemasahbeni.konnect.client.KonnectOperation;
+import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
+import io.github.oussemasahbeni.konnect.exception.KonnectDeadlineExceededException;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaymentDetailsCoalescerTest {
+
+    private static final String PAYMENT_REF = "68891e9415c9b9a0dae24829";
+
+    private static final int CALLERS = 8;
+
+    private final PaymentDetailsCoalescer coalescer = new PaymentDetailsCoalescer();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallsForSameRef_shouldShareOneLookup() throws Exception {
+        // Arrange
+        PaymentResponse expected = new PaymentResponse(null);
+        AtomicInteger lookups = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        PaymentDetailsLoader loader = coalescer.decorate(ref -> {
+            lookups.incrementAndGet();
+            await(release);
+            return expected;
+        });
+
+        // Act
+        List<Future<PaymentResponse>> results = submitCallers(loader);
+        awaitCollapsedCalls(CALLERS - 1);
+        release.countDown();
+
+        // Assert
+        for (Future<PaymentResponse> result : results) {
+            assertSame(expected, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, lookups.get());
+        assertEquals(1, coalescer.getExecutedCount());
+        assertEquals(CALLERS - 1, coalescer.getCollapsedCount());
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    @Test
+    void concurrentCallsForSameRef_shouldShareFailure() throws Exception {
+        // Arrange
+        KonnectApiException failure = new KonnectApiException("Not found", 404);
+        CountDownLatch release = new CountDownLatch(1);
+        PaymentDetailsLoader loader = coalescer.decorate(ref -> {
+            await(release);
+            throw failure;
+        });
+
+        // Act
+        List<Future<PaymentResponse>> results = submitCallers(loader);
+        awaitCollapsedCalls(CALLERS - 1);
+        release.countDown();
+
+        // Assert
+        for (Future<PaymentResponse> result : results) {
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, ex.getCause());
+        }
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    @Test
+    void concurrentCallForSameRef_shouldStopWaitingAtItsDeadline() throws Exception {
+        // Arrange
+        PaymentResponse expected = new PaymentResponse(null);
+        CountDownLatch release = new CountDownLatch(1);
+        PaymentDetailsLoader loader = coalescer.decorate(ref -> {
+            await(release);
+            return expected;
+        });
+        Future<PaymentResponse> leader = executor.submit(() -> loader.load(PAYMENT_REF));
+        while (coalescer.getInFlightCount() == 0) {
+            Thread.sleep(10);
+        }
+
+        // Act
+        KonnectDeadlineExceededException ex = assertThrows(KonnectDeadlineExceededException.class,
+                () -> KonnectDeadline.after(Duration.ofMillis(50)).call(() -> loader.load(PAYMENT_REF)));
+        release.countDown();
+
+        // Assert
+        assertEquals(KonnectOperation.GET_PAYMENT, ex.getKonnectOperation());
+        assertEquals(1, coalescer.getCollapsedCount());
+        assertSame(expected, leader.get(5, TimeUnit.SECONDS));
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    @Test
+    void sequentialCalls_shouldNotBeCoalesced() {
+        // Arrange
+        AtomicInteger lookups = new AtomicInteger();
+        PaymentDetailsLoader loader = coalescer.decorate(ref -> {
+            lookups.incrementAndGet();
+            return new PaymentResponse(null);
+        });
+
+        // Act
+        loader.load(PAYMENT_REF);
+        loader.load(PAYMENT_REF);
+
+        // Assert
+        assertEquals(2, lookups.get());
+        assertEquals(0, coalescer.getCollapsedCount());
+    }
+
+    private List<Future<PaymentResponse>> submitCallers(PaymentDetailsLoader loader) {
+        List<Future<PaymentResponse>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> loader.load(PAYMENT_REF)));
+        }
+        return results;
+    }
+
+    private void awaitCollapsedCalls(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.getCollapsedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, coalescer.getCollapsedCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.autoconfigure.KonnectPropertiesBuilder;
+import io.github.oussemasahbeni.konnect.client.KonnectClient;
+import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.github.oussemasahbeni.konnect.core.PaymentDetailsCachePolicyTest.response;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PaymentDetailsFallbackTest {
+
+    private static final String PAYMENT_REF = "68891e9415c9b9a0dae24829";
+
+    private static final IllegalStateException CIRCUIT_OPEN = new IllegalStateException("circuit open");
+
+    private final PaymentDetailsFallback fallback = new PaymentDetailsFallback(
+            new ConcurrentMapPaymentDetailsCache(new PaymentDetailsCachePolicy(
+                    Duration.ofHours(24), Duration.ZERO, Duration.ofMinutes(30), Clock.systemUTC()), 100),
+            CIRCUIT_OPEN::equals);
+
+    @Test
+    void terminalPayment_shouldBeServedAsStaleWhileKonnectIsUnavailable() {
+        // Arrange
+        PaymentResponse completed = response(KonnectPaymentStatus.COMPLETED, Instant.now());
+        fallback.load(PAYMENT_REF, ref -> completed);
+
+        // Act
+        PaymentDetailsLookup lookup = fallback.load(PAYMENT_REF, ref -> {
+            throw CIRCUIT_OPEN;
+        });
+
+        // Assert
+        assertTrue(lookup.stale());
+        assertEquals(completed, lookup.response());
+        assertEquals(1, fallback.getServedCount());
+    }
+
+    @Test
+    void pendingPayment_shouldNotBeServedWhileKonnectIsUnavailable() {
+        // Arrange
+        fallback.load(PAYMENT_REF, ref -> response(KonnectPaymentStatus.PENDING, Instant.now()));
+
+        // Act & Assert
+        assertSame(CIRCUIT_OPEN, assertThrows(IllegalStateException.class, () -> fallback.load(PAYMENT_REF, ref -> {
+            throw CIRCUIT_OPEN;
+        })));
+        assertEquals(0, fallback.getSize());
+        assertEquals(1, fallback.getMissedCount());
+    }
+
+    @Test
+    void otherFailures_shouldNotFallBack() {
+        // Arrange
+        fallback.load(PAYMENT_REF, ref -> response(KonnectPaymentStatus.COMPLETED, Instant.now()));
+        KonnectApiException notFound = new KonnectApiException("Not found", 404);
+
+        // Act & Assert
+        assertSame(notFound, assertThrows(KonnectApiException.class, () -> fallback.load(PAYMENT_REF, ref -> {
+            throw notFound;
+        })));
+        assertEquals(0, fallback.getServedCount());
+    }
+
+    @Test
+    void answeredLookup_shouldNotBeStale() {
+        // Arrange
+        PaymentResponse completed = response(KonnectPaymentStatus.COMPLETED, Instant.now());
+
+        // Act
+        PaymentDetailsLookup lookup = fallback.load(PAYMENT_REF, ref -> completed);
+
+        // Assert
+        assertFalse(lookup.stale());
+        assertSame(completed, lookup.response());
+    }
+
+    @Test
+    void webhookWhileKonnectIsUnavailable_shouldFailRatherThanBeAnsweredWithTheLastKnownDetails() {
+        // Arrange
+        KonnectClient konnectClient = mock(KonnectClient.class);
+        PaymentResponse completed = response(KonnectPaymentStatus.COMPLETED, Instant.now());
+        when(konnectClient.getPaymentDetails(PAYMENT_REF)).thenReturn(completed).thenThrow(CIRCUIT_OPEN);
+        KonnectTemplate konnectTemplate = new KonnectTemplate(konnectClient, KonnectPropertiesBuilder.konnectProperties().build(),
+                konnectClient::getPaymentDetails, null, ObservationRegistry.NOOP, fallback);
+        WebhookDeduplicationStore deduplicationStore =
+                new InMemoryWebhookDeduplicationStore(Duration.ofHours(1), 100, 4, Clock.systemUTC());
+        List<PaymentResponse> notified = new ArrayList<>();
+        KonnectWebhookHandler handler = new KonnectWebhookHandler(konnectTemplate, List.of(notified::add), deduplicationStore);
+        konnectTemplate.getPaymentDetails(PAYMENT_REF);
+
+        // Act
+        PaymentDetailsLookup lookup = konnectTemplate.lookupPaymentDetails(PAYMENT_REF);
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () -> handler.processWebhook(PAYMENT_REF));
+
+        // Assert
+        assertTrue(lookup.stale(), "lookups should still be answered with the last known details");
+        assertSame(CIRCUIT_OPEN, failure);
+        assertTrue(notified.isEmpty());
+        assertNull(deduplicationStore.getHandled(PaymentRef.parse(PAYMENT_REF)));
+    }
+}
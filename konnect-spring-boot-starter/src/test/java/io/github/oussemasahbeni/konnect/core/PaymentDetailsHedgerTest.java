@@ -0,0 +1,218 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.exception.KonnectDeadlineExceededException;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaymentDetailsHedgerTest {
+
+    private static final String PAYMENT_REF = "68891e9415c9b9a0dae24829";
+
+    private static final int MIN_SAMPLES = 10;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-08-01T10:00:00Z"));
+
+    @Test
+    void slowLookup_shouldBeHedgedAndAnsweredByTheFastestAttempt() throws Exception {
+        // Arrange
+        PaymentDetailsHedger hedger = hedger(1.0);
+        warmUp(hedger);
+        PaymentResponse hedgeResponse = new PaymentResponse(null);
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch primaryCancelled = new CountDownLatch(1);
+        PaymentDetailsLoader loader = hedger.decorate(ref -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(Duration.ofSeconds(30));
+                } catch (InterruptedException e) {
+                    primaryCancelled.countDown();
+                }
+                return new PaymentResponse(null);
+            }
+            return hedgeResponse;
+        });
+
+        // Act
+        PaymentResponse response = loader.load(PAYMENT_REF);
+
+        // Assert
+        assertSame(hedgeResponse, response);
+        assertEquals(2, attempts.get());
+        assertEquals(1, hedger.getHedgedCount());
+        assertEquals(1, hedger.getWonCount());
+        assertTrue(primaryCancelled.await(5, TimeUnit.SECONDS), "the slower attempt should be cancelled");
+    }
+
+    @Test
+    void firstAttemptOutrunByItsHedge_shouldStillRaiseTheDelay() {
+        // Arrange
+        PaymentDetailsHedger hedger = hedger(1.0);
+        warmUp(hedger);
+        AtomicInteger attempts = new AtomicInteger();
+        PaymentDetailsLoader loader = hedger.decorate(ref -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(Duration.ofSeconds(30));
+            }
+            return new PaymentResponse(null);
+        });
+
+        // Act
+        loader.load(PAYMENT_REF);
+
+        // Assert
+        assertEquals(1, hedger.getWonCount());
+        assertTrue(hedger.getDelay().compareTo(Duration.ofMillis(20)) > 0,
+                "the cancelled attempt should be recorded with the time it had been running");
+    }
+
+    @Test
+    void timedOutLookups_shouldBeRecorded() {
+        // Arrange
+        PaymentDetailsHedger hedger = hedger(1.0);
+        PaymentDetailsLoader loader = hedger.decorate(ref -> {
+            sleep(Duration.ofMillis(30));
+            throw new KonnectDeadlineExceededException("get-payment-details");
+        });
+
+        // Act
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            assertThrows(KonnectDeadlineExceededException.class, () -> loader.load(PAYMENT_REF));
+        }
+
+        // Assert
+        assertNotNull(hedger.getDelay(), "timed out lookups should count as latencies");
+        assertTrue(hedger.getDelay().compareTo(Duration.ofMillis(30)) >= 0);
+    }
+
+    @Test
+    void close_shouldCancelTheAttemptsInProgress() throws Exception {
+        // Arrange
+        PaymentDetailsHedger hedger = hedger(0.0);
+        warmUp(hedger);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        PaymentDetailsLoader loader = hedger.decorate(ref -> {
+            started.countDown();
+            try {
+                Thread.sleep(Duration.ofSeconds(30));
+            } catch (InterruptedException e) {
+                cancelled.countDown();
+                throw new IllegalStateException(e);
+            }
+            return new PaymentResponse(null);
+        });
+        CompletableFuture<PaymentResponse> lookup = CompletableFuture.supplyAsync(() -> loader.load(PAYMENT_REF));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act
+        hedger.close();
+
+        // Assert
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS), "the attempt in progress should be cancelled");
+        assertThrows(Exception.class, () -> lookup.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void slowLookup_shouldNotBeHedgedOnceTheBudgetIsExhausted() {
+        // Arrange
+        PaymentDetailsHedger hedger = hedger(0.0);
+        warmUp(hedger);
+        AtomicInteger attempts = new AtomicInteger();
+        PaymentDetailsLoader loader = hedger.decorate(ref -> {
+            attempts.incrementAndGet();
+            sleep(Duration.ofMillis(100));
+            return new PaymentResponse(null);
+        });
+
+        // Act
+        loader.load(PAYMENT_REF);
+
+        // Assert
+        assertEquals(1, attempts.get());
+        assertEquals(0, hedger.getHedgedCount());
+        assertEquals(1, hedger.getExhaustedCount());
+    }
+
+    @Test
+    void delay_shouldFollowTheRecentLatenciesOnly() {
+        // Arrange
+        PaymentDetailsHedger hedger = hedger(1.0);
+
+        // Act & Assert
+        assertNull(hedger.getDelay(), "no lookup should be hedged before enough latencies are known");
+        warmUp(hedger);
+        assertEquals(Duration.ofMillis(20), hedger.getDelay(), "the delay should not be shorter than the minimum delay");
+
+        clock.advance(Duration.ofSeconds(61));
+        assertNull(hedger.getDelay(), "latencies older than the window should be forgotten");
+    }
+
+    @Test
+    void histogram_shouldBoundEachLatencyWithinItsPrecision() {
+        for (long micros : new long[]{0, 1, 7, 8, 15, 16, 999, 1_000, 123_456, 30_000_000}) {
+            long upperBound = PaymentDetailsHedger.upperBound(PaymentDetailsHedger.index(micros));
+            assertTrue(upperBound >= micros, micros + "us should not exceed the bound of its bucket");
+            assertTrue(upperBound <= micros * 1.125 + 1, micros + "us should be within 12.5% of the bound of its bucket");
+        }
+    }
+
+    private PaymentDetailsHedger hedger(double budgetRatio) {
+        return new PaymentDetailsHedger(0.95, Duration.ofMillis(20), MIN_SAMPLES, budgetRatio, Duration.ofSeconds(60),
+                ObservationRegistry.NOOP, clock);
+    }
+
+    private static void warmUp(PaymentDetailsHedger hedger) {
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            hedger.load(PAYMENT_REF, ref -> new PaymentResponse(null));
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
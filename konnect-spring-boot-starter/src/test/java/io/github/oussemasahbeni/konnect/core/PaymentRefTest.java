@@ -0,0 +1,44 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.exception.InvalidPaymentReferenceException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaymentRefTest {
+
+    @Test
+    void parse_shouldRoundTripToLowerCase() {
+        assertEquals("68891e9415c9b9a0dae24829", PaymentRef.parse("68891e9415c9b9a0dae24829").toString());
+        assertEquals("ffffffffffffffffffffffff", PaymentRef.parse("FFFFFFFFFFFFFFFFFFFFFFFF").toString());
+        assertEquals("000000000000000000000001", PaymentRef.parse(" 000000000000000000000001 ").toString());
+    }
+
+    @Test
+    void parse_shouldIgnoreCase() {
+        PaymentRef lowerCase = PaymentRef.parse("68891e9415c9b9a0dae24829");
+        PaymentRef mixedCase = PaymentRef.parse("68891E9415C9b9a0DAE24829");
+
+        assertEquals(lowerCase, mixedCase);
+        assertEquals(lowerCase.hashCode(), mixedCase.hashCode());
+    }
+
+    @Test
+    void equals_shouldCompareEveryByte() {
+        PaymentRef ref = PaymentRef.parse("68891e9415c9b9a0dae24829");
+
+        assertNotEquals(ref, PaymentRef.parse("78891e9415c9b9a0dae24829"));
+        assertNotEquals(ref, PaymentRef.parse("68891e9415c9b9a0dae2482a"));
+        assertNotEquals(ref, null);
+    }
+
+    @Test
+    void parse_shouldRejectInvalidReferences() {
+        assertThrows(InvalidPaymentReferenceException.class, () -> PaymentRef.parse(null));
+        assertThrows(InvalidPaymentReferenceException.class, () -> PaymentRef.parse(""));
+        assertThrows(InvalidPaymentReferenceException.class, () -> PaymentRef.parse("68891e9415c9b9a0dae2482"));
+        InvalidPaymentReferenceException ex = assertThrows(InvalidPaymentReferenceException.class,
+                () -> PaymentRef.parse("68891e9415c9b9a0dae2482G"));
+        assertEquals("68891e9415c9b9a0dae2482G", ex.getPaymentRef());
+    }
+}
@@ -57,4 +57,16 @@ class PaymentRefValidatorTest {
         assertTrue(PaymentRefValidator.validate(spacedRef), "Expected payment reference with leading and trailing spaces to pass validation");
     }
 
-}
\ No newline at end of file
+    @Test
+    void testPaymentRefWithNonAsciiDigits() {
+        String nonAsciiRef = "68891e9415c9b9a0dae2482\uFF19"; // Ends with a fullwidth digit nine
+        assertFalse(PaymentRefValidator.validate(nonAsciiRef), "Expected payment reference with non-ASCII digits to fail validation");
+    }
+
+    @Test
+    void testPaymentRefWithInnerSpace() {
+        String innerSpaceRef = "68891e9415c9 9a0dae24829";
+        assertFalse(PaymentRefValidator.validate(innerSpaceRef), "Expected payment reference with an inner space to fail validation");
+    }
+
+}
@@ -0,0 +1,117 @@
+package io.github.oussemasahbeni.konnect.core;
+
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.oussemasahbeni.konnect.model.PaymentStatusEvent;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.oussemasahbeni.konnect.core.PaymentDetailsCachePolicyTest.response;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaymentStatusBroadcasterTest {
+
+    private static final String PAYMENT_REF = "68891e9415c9b9a0dae24829";
+
+    private PaymentStatusBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.close();
+    }
+
+    @Test
+    void subscriber_shouldReceiveEachStatusChangeUntilPaymentSettles() throws InterruptedException {
+        // Arrange
+        broadcaster = broadcaster(Duration.ofMinutes(1), Duration.ofMinutes(10));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        broadcaster.subscribe(PAYMENT_REF, subscriber);
+        subscriber.awaitEvents(1);
+
+        // Act
+        broadcaster.onPayment(response(KonnectPaymentStatus.PENDING, Instant.now()));
+        broadcaster.onPayment(response(KonnectPaymentStatus.COMPLETED, Instant.now()));
+
+        // Assert
+        assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(KonnectPaymentStatus.PENDING, KonnectPaymentStatus.COMPLETED),
+                subscriber.events.stream().map(PaymentStatusEvent::status).toList());
+        assertEquals(PAYMENT_REF, subscriber.events.getFirst().paymentRef());
+        assertEquals(0, broadcaster.getSubscriberCount());
+    }
+
+    @Test
+    void idleSubscriber_shouldReceiveHeartbeatsThenBeClosed() throws InterruptedException {
+        // Arrange
+        broadcaster = broadcaster(Duration.ofMillis(20), Duration.ofMillis(200));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        // Act
+        broadcaster.subscribe(PAYMENT_REF, subscriber);
+
+        // Assert
+        assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS));
+        assertTrue(subscriber.heartbeats.get() > 0);
+        assertEquals(0, broadcaster.getSubscriberCount());
+    }
+
+    @Test
+    void cancelledSubscription_shouldNotReceiveEvents() throws InterruptedException {
+        // Arrange
+        broadcaster = broadcaster(Duration.ofMinutes(1), Duration.ofMinutes(10));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        PaymentStatusBroadcaster.Subscription subscription = broadcaster.subscribe(PAYMENT_REF, subscriber);
+        subscriber.awaitEvents(1);
+
+        // Act
+        subscription.cancel();
+        broadcaster.onPayment(response(KonnectPaymentStatus.COMPLETED, Instant.now()));
+
+        // Assert
+        assertEquals(1, subscriber.events.size());
+        assertEquals(0, broadcaster.getSubscriberCount());
+    }
+
+    private static PaymentStatusBroadcaster broadcaster(Duration heartbeatInterval, Duration idleTimeout) {
+        return new PaymentStatusBroadcaster(ref -> response(KonnectPaymentStatus.PENDING, Instant.now()),
+                heartbeatInterval, idleTimeout);
+    }
+
+    private static final class RecordingSubscriber implements PaymentStatusSubscriber {
+
+        private final List<PaymentStatusEvent> events = new CopyOnWriteArrayList<>();
+        private final AtomicInteger heartbeats = new AtomicInteger();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void onStatus(PaymentStatusEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onHeartbeat() {
+            heartbeats.incrementAndGet();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        void awaitEvents(int expected) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.size() < expected && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(expected, events.size());
+        }
+    }
+}
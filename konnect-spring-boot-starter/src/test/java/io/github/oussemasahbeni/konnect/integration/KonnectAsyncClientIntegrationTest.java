@@ -0,0 +1,136 @@
+package io.github.oussemasahbeni.konnect.integration;
+
+
+import io.github.oussemasahbeni.konnect.client.KonnectAsyncClient;
+import io.github.oussemasahbeni.konnect.core.KonnectAsyncTemplate;
+import io.github.oussemasahbeni.konnect.exception.InvalidPaymentReferenceException;
+import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
+import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentResponse;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.wiremock.spring.EnableWireMock;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@SpringBootTest(classes = TestApplication.class)
+@TestPropertySource(properties = {
+        "konnect.api.key=test-api-key",
+        "konnect.api.receiver-wallet-id=test-wallet-id",
+        "konnect.api.webhook-url=https://default.com/webhook",
+        "konnect.api.base-url=${wiremock.server.baseUrl}",
+})
+@EnableWireMock
+class KonnectAsyncClientIntegrationTest {
+
+    private static final String PAYMENT_REF = "68891e9415c9b9a0dae24829";
+
+    @Autowired
+    private KonnectAsyncClient konnectAsyncClient;
+
+    @Autowired
+    private KonnectAsyncTemplate konnectAsyncTemplate;
+
+    @Test
+    void getPaymentDetails_whenApiReturns200_shouldCompleteWithPaymentResponse() throws Exception {
+        // Arrange
+        stubFor(get(urlEqualTo("/payments/" + PAYMENT_REF))
+                .withHeader("x-api-key", equalTo("test-api-key"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                        .withBody("""
+                                { "payment": { "id": "68891e9415c9b9a0dae24829", "status": "completed", "amount": 100 } }
+                                """)));
+
+        // Act
+        PaymentResponse response = konnectAsyncTemplate.getPaymentDetails(PAYMENT_REF).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(KonnectPaymentStatus.COMPLETED, response.payment().status());
+    }
+
+    @Test
+    void getPaymentDetails_whenApiReturns404_shouldCompleteWithKonnectApiException() {
+        // Arrange
+        stubFor(get(urlEqualTo("/payments/" + PAYMENT_REF))
+                .willReturn(aResponse()
+                        .withStatus(404)
+                        .withHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                        .withBody("""
+                                { "errors": [ { "code": "NOT_FOUND", "target": "common", "message": "Paiement non trouvé" } ] }
+                                """)));
+
+        // Act
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> konnectAsyncClient.getPaymentDetails(PAYMENT_REF).get(5, TimeUnit.SECONDS));
+
+        // Assert
+        KonnectApiException cause = assertInstanceOf(KonnectApiException.class, ex.getCause());
+        assertEquals(404, cause.getStatusCode());
+        assertTrue(cause.getMessage().contains("Paiement non trouvé"));
+    }
+
+    @Test
+    void getPaymentDetails_withInvalidReference_shouldFailWithoutCallingApi() {
+        // Act
+        CompletableFuture<PaymentResponse> future = konnectAsyncTemplate.getPaymentDetails("not-a-valid-ref");
+
+        // Assert
+        ExecutionException ex = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(InvalidPaymentReferenceException.class, ex.getCause());
+        verify(0, getRequestedFor(anyUrl()));
+    }
+
+    @Test
+    void initiatePayment_shouldApplyDefaultProperties() throws Exception {
+        // Arrange
+        stubFor(post(urlEqualTo("/payments/init-payment"))
+                .withRequestBody(matchingJsonPath("$.receiverWalletId", equalTo("test-wallet-id")))
+                .withRequestBody(matchingJsonPath("$.webhook", equalTo("https://default.com/webhook")))
+                .withRequestBody(matchingJsonPath("$.description", equalTo("Async payment")))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                        .withBody("""
+                                { "payUrl": "https://testpayurl.com", "paymentRef": "test-payment-ref-1234" }
+                                """)));
+
+        // Act
+        InitKonnectPaymentResponse response = konnectAsyncTemplate
+                .initiatePayment(BigDecimal.valueOf(1234), builder -> builder.description("Async payment"))
+                .get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals("test-payment-ref-1234", response.paymentRef());
+        assertEquals("https://testpayurl.com", response.payUrl());
+    }
+
+    @Test
+    void getPaymentDetails_whenCancelled_shouldCompleteAsCancelled() {
+        // Arrange
+        stubFor(get(urlEqualTo("/payments/" + PAYMENT_REF))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withFixedDelay(10_000)));
+
+        // Act
+        CompletableFuture<PaymentResponse> future = konnectAsyncClient.getPaymentDetails(PAYMENT_REF, Runnable::run);
+        boolean cancelled = future.cancel(true);
+
+        // Assert
+        assertTrue(cancelled);
+        assertTrue(future.isCancelled());
+    }
+}
@@ -4,7 +4,10 @@ package io.github.oussemasahbeni.konnect.integration;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.oussemasahbeni.konnect.client.KonnectClient;
+import io.github.oussemasahbeni.konnect.client.KonnectClientHttpRequestFactory;
+import io.github.oussemasahbeni.konnect.client.KonnectDeadline;
 import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
+import io.github.oussemasahbeni.konnect.exception.KonnectDeadlineExceededException;
 import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentRequest;
 import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentResponse;
 import io.github.oussemasahbeni.konnect.model.PaymentResponse;
@@ -18,6 +21,7 @@ import org.springframework.web.client.RestClient;
 import org.wiremock.spring.EnableWireMock;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,6 +44,9 @@ class KonnectClientIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private KonnectClientHttpRequestFactory konnectClientHttpRequestFactory;
+
 
     @BeforeEach
     void setUp() {
@@ -103,6 +110,49 @@ class KonnectClientIntegrationTest {
         assertTrue(ex.getMessage().contains("Paiement non trouvé"));
     }
 
+    @Test
+    void getPaymentDetails_withinDeadline_shouldCutTheReadTimeoutToTheRemainingTime() {
+        // Arrange
+        String paymentRef = "slow-ref";
+        stubFor(get(urlEqualTo("/payments/" + paymentRef))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                        .withBody("{}")
+                        .withFixedDelay(5000)));
+        KonnectClient deadlineAwareClient = new KonnectClient(RestClient.builder()
+                .baseUrl(wiremockBaseUrl)
+                .requestFactory(konnectClientHttpRequestFactory)
+                .build(), objectMapper);
+        long startedAt = System.nanoTime();
+
+        // Act
+        KonnectDeadlineExceededException ex = assertThrows(KonnectDeadlineExceededException.class,
+                () -> KonnectDeadline.after(Duration.ofMillis(300)).call(() -> deadlineAwareClient.getPaymentDetails(paymentRef)));
+
+        // Assert
+        assertEquals("get-payment", ex.getOperation());
+        assertTrue(Duration.ofNanos(System.nanoTime() - startedAt).compareTo(Duration.ofSeconds(3)) < 0,
+                "the request should not wait for the 30s read timeout");
+    }
+
+    @Test
+    void getPaymentDetails_whenApiThrottles_shouldExposeRetryAfter() {
+        // Arrange
+        String paymentRef = "throttled-ref";
+        stubFor(get(urlEqualTo("/payments/" + paymentRef))
+                .willReturn(aResponse()
+                        .withStatus(429)
+                        .withHeader("Retry-After", "7")));
+
+        // Act
+        KonnectApiException ex = assertThrows(KonnectApiException.class, () -> konnectClient.getPaymentDetails(paymentRef));
+
+        // Assert
+        assertEquals(429, ex.getStatusCode());
+        assertEquals(Duration.ofSeconds(7), ex.getRetryAfter());
+    }
+
     @Test
     void initiatePayment_withValidRequest_returnsSuccessResponse() throws JsonProcessingException {
         // Arrange
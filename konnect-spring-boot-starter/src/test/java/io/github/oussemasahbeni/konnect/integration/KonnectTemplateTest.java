@@ -2,10 +2,15 @@ package io.github.oussemasahbeni.konnect.integration;
 
 
 import io.github.oussemasahbeni.konnect.autoconfigure.KonnectProperties;
+import io.github.oussemasahbeni.konnect.autoconfigure.KonnectPropertiesBuilder;
 import io.github.oussemasahbeni.konnect.client.KonnectClient;
+import io.github.oussemasahbeni.konnect.client.KonnectDeadline;
+import io.github.oussemasahbeni.konnect.client.KonnectPriority;
+import io.github.oussemasahbeni.konnect.core.KonnectPaymentPoller;
 import io.github.oussemasahbeni.konnect.core.KonnectTemplate;
 import io.github.oussemasahbeni.konnect.exception.InvalidPaymentReferenceException;
 import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentRequest;
+import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentResponse;
 import io.github.oussemasahbeni.konnect.model.PaymentResponse;
 import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentType;
 import io.github.oussemasahbeni.konnect.model.enums.KonnectTheme;
@@ -18,10 +23,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,16 +41,18 @@ public class KonnectTemplateTest {
     @Mock
     private KonnectClient mockKonnectClient;
 
+    private KonnectProperties testProperties;
+
     private KonnectTemplate konnectTemplate;
 
     @BeforeEach
     void setUp() {
-        KonnectProperties testProperties = new KonnectProperties(
-                "https://api.sandbox.konnect.network/api/v2/",
-                "dummy-key",
-                "default-wallet-id-from-props",
-                "https://default.com/webhook",
-                new KonnectProperties.KonnectPaymentDefaults(
+        testProperties = KonnectPropertiesBuilder.konnectProperties()
+                .baseUrl("https://api.sandbox.konnect.network/api/v2/")
+                .key("dummy-key")
+                .receiverWalletId("default-wallet-id-from-props")
+                .webhookUrl("https://default.com/webhook")
+                .defaults(new KonnectProperties.KonnectPaymentDefaults(
                         KonnectToken.TND,
                         KonnectPaymentType.IMMEDIATE,
                         List.of(),
@@ -48,8 +60,8 @@ public class KonnectTemplateTest {
                         true,
                         KonnectTheme.LIGHT,
                         false
-                )
-        );
+                ))
+                .build();
 
         konnectTemplate = new KonnectTemplate(mockKonnectClient, testProperties);
     }
@@ -150,4 +162,100 @@ public class KonnectTemplateTest {
         //    This proves the template is correctly delegating the call.
         verify(mockKonnectClient, times(1)).getPaymentDetails(validRef);
     }
+
+    @Test
+    void initiatePayment_withPoller_shouldTrackPaymentForItsLifespan() {
+        // Arrange
+        KonnectPaymentPoller poller = mock(KonnectPaymentPoller.class);
+        KonnectTemplate pollingTemplate = new KonnectTemplate(mockKonnectClient, testProperties,
+                mockKonnectClient::getPaymentDetails, poller);
+        when(mockKonnectClient.initiatePayment(any())).thenReturn(
+                new InitKonnectPaymentResponse("https://pay.konnect.network/68891e9415c9b9a0dae24829", "68891e9415c9b9a0dae24829"));
+
+        // Act
+        pollingTemplate.initiatePayment(new BigDecimal("10.00"), builder -> builder.lifespan(10));
+
+        // Assert
+        verify(poller).track("68891e9415c9b9a0dae24829", Duration.ofMinutes(10));
+    }
+
+    @Test
+    void getPaymentDetails_shouldRunWithinTheDefaultDeadlineOfTheOperation() {
+        // Arrange
+        String validRef = "68891e9415c9b9a0dae24829";
+        KonnectProperties deadlineProperties = KonnectPropertiesBuilder.from(testProperties)
+                .operations(new KonnectProperties.KonnectOperations(
+                        new KonnectProperties.KonnectOperationSettings(null, null, null, null, null, null, null, null, null),
+                        new KonnectProperties.KonnectOperationSettings(null, null, Duration.ofSeconds(3), null, null, null, null, null, null)))
+                .build();
+        KonnectTemplate deadlineTemplate = new KonnectTemplate(mockKonnectClient, deadlineProperties);
+        KonnectDeadline[] deadlines = new KonnectDeadline[1];
+        when(mockKonnectClient.getPaymentDetails(validRef)).thenAnswer(invocation -> {
+            deadlines[0] = KonnectDeadline.current();
+            return new PaymentResponse(null);
+        });
+
+        // Act
+        deadlineTemplate.getPaymentDetails(validRef);
+
+        // Assert
+        assertNotNull(deadlines[0]);
+        assertTrue(deadlines[0].remaining().compareTo(Duration.ofSeconds(3)) <= 0);
+        assertNull(KonnectDeadline.current(), "the deadline should leave scope with the call");
+
+        // Act: an explicit deadline replaces the default one
+        deadlineTemplate.getPaymentDetails(validRef, KonnectDeadline.after(Duration.ofSeconds(10)));
+
+        // Assert
+        assertTrue(deadlines[0].remaining().compareTo(Duration.ofSeconds(3)) > 0);
+    }
+
+    @Test
+    void bulkLookups_shouldRunWithinTheDeadlineOfTheCaller() {
+        // Arrange
+        String validRef = "68891e9415c9b9a0dae24829";
+        List<KonnectDeadline> deadlines = new CopyOnWriteArrayList<>();
+        when(mockKonnectClient.getPaymentDetails(validRef)).thenAnswer(invocation -> {
+            deadlines.add(KonnectDeadline.current());
+            return new PaymentResponse(null);
+        });
+        KonnectProperties bulkProperties = KonnectPropertiesBuilder.from(testProperties)
+                .paymentDetails(new KonnectProperties.KonnectPaymentDetails(null, null, new KonnectProperties.KonnectBulk(2), null, null))
+                .build();
+        KonnectTemplate bulkTemplate = new KonnectTemplate(mockKonnectClient, bulkProperties);
+        KonnectDeadline deadline = KonnectDeadline.after(Duration.ofSeconds(3));
+
+        // Act
+        deadline.call(() -> {
+            bulkTemplate.getPaymentDetails(List.of(validRef, validRef), result -> assertTrue(result.isSuccess()));
+            return null;
+        });
+
+        // Assert
+        assertEquals(List.of(deadline, deadline), deadlines);
+    }
+
+    @Test
+    void getPaymentDetails_shouldRunWithTheGivenPriorityAndBulkLookupsInTheBackground() {
+        // Arrange
+        String validRef = "68891e9415c9b9a0dae24829";
+        List<KonnectPriority> priorities = new CopyOnWriteArrayList<>();
+        when(mockKonnectClient.getPaymentDetails(validRef)).thenAnswer(invocation -> {
+            priorities.add(KonnectPriority.current());
+            return new PaymentResponse(null);
+        });
+
+        KonnectProperties bulkProperties = KonnectPropertiesBuilder.from(testProperties)
+                .paymentDetails(new KonnectProperties.KonnectPaymentDetails(null, null, new KonnectProperties.KonnectBulk(2), null, null))
+                .build();
+        KonnectTemplate bulkTemplate = new KonnectTemplate(mockKonnectClient, bulkProperties);
+
+        // Act
+        bulkTemplate.getPaymentDetails(validRef, KonnectPriority.WEBHOOK);
+        bulkTemplate.getPaymentDetails(List.of(validRef), result -> assertTrue(result.isSuccess()));
+
+        // Assert
+        assertEquals(List.of(KonnectPriority.WEBHOOK, KonnectPriority.BACKGROUND), priorities);
+        assertNull(KonnectPriority.current(), "the priority should leave scope with the call");
+    }
 }
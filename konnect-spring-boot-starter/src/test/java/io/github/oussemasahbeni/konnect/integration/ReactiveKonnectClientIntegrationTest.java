@@ -0,0 +1,128 @@
+package io.github.oussemasahbeni.konnect.integration;
+
+
+import io.github.oussemasahbeni.konnect.core.ReactiveKonnectTemplate;
+import io.github.oussemasahbeni.konnect.exception.InvalidPaymentReferenceException;
+import io.github.oussemasahbeni.konnect.exception.KonnectApiException;
+import io.github.oussemasahbeni.konnect.model.InitKonnectPaymentResponse;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.wiremock.spring.EnableWireMock;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@SpringBootTest(classes = TestApplication.class)
+@TestPropertySource(properties = {
+        "konnect.api.key=test-api-key",
+        "konnect.api.receiver-wallet-id=test-wallet-id",
+        "konnect.api.base-url=${wiremock.server.baseUrl}",
+})
+@EnableWireMock
+class ReactiveKonnectClientIntegrationTest {
+
+    private static final String PAYMENT_REF = "68891e9415c9b9a0dae24829";
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Autowired
+    private ReactiveKonnectTemplate reactiveKonnectTemplate;
+
+    @Test
+    void getPaymentDetails_whenApiReturns200_shouldEmitPaymentResponse() {
+        // Arrange
+        stubFor(get(urlEqualTo("/payments/" + PAYMENT_REF))
+                .withHeader("x-api-key", equalTo("test-api-key"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                        .withBody("""
+                                { "payment": { "id": "68891e9415c9b9a0dae24829", "status": "pending", "amount": 100 } }
+                                """)));
+
+        // Act
+        PaymentResponse response = reactiveKonnectTemplate.getPaymentDetails(PAYMENT_REF).block(TIMEOUT);
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(KonnectPaymentStatus.PENDING, response.payment().status());
+    }
+
+    @Test
+    void getPaymentDetails_whenApiReturns404_shouldTerminateWithKonnectApiException() {
+        // Arrange
+        stubFor(get(urlEqualTo("/payments/" + PAYMENT_REF))
+                .willReturn(aResponse()
+                        .withStatus(404)
+                        .withHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                        .withBody("""
+                                { "errors": [ { "code": "NOT_FOUND", "target": "common", "message": "Paiement non trouvé" } ] }
+                                """)));
+
+        // Act
+        KonnectApiException ex = assertThrows(KonnectApiException.class,
+                () -> reactiveKonnectTemplate.getPaymentDetails(PAYMENT_REF).block(TIMEOUT));
+
+        // Assert
+        assertEquals(404, ex.getStatusCode());
+        assertTrue(ex.getMessage().contains("Paiement non trouvé"));
+    }
+
+    @Test
+    void getPaymentDetails_whenApiReturns500WithoutBody_shouldTerminateWithKonnectApiException() {
+        // Arrange
+        stubFor(get(urlEqualTo("/payments/" + PAYMENT_REF))
+                .willReturn(aResponse().withStatus(500)));
+
+        // Act
+        KonnectApiException ex = assertThrows(KonnectApiException.class,
+                () -> reactiveKonnectTemplate.getPaymentDetails(PAYMENT_REF).block(TIMEOUT));
+
+        // Assert
+        assertEquals(500, ex.getStatusCode());
+        assertTrue(ex.getMessage().contains("No response body"));
+    }
+
+    @Test
+    void getPaymentDetails_withInvalidReference_shouldNotCallApi() {
+        // Act
+        Mono<PaymentResponse> response = reactiveKonnectTemplate.getPaymentDetails("not-a-valid-ref");
+
+        // Assert
+        assertThrows(InvalidPaymentReferenceException.class, () -> response.block(TIMEOUT));
+        verify(0, getRequestedFor(anyUrl()));
+    }
+
+    @Test
+    void initiatePayment_shouldApplyDefaultProperties() {
+        // Arrange
+        stubFor(post(urlEqualTo("/payments/init-payment"))
+                .withRequestBody(matchingJsonPath("$.receiverWalletId", equalTo("test-wallet-id")))
+                .withRequestBody(matchingJsonPath("$.orderId", equalTo("order-42")))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                        .withBody("""
+                                { "payUrl": "https://testpayurl.com", "paymentRef": "test-payment-ref-1234" }
+                                """)));
+
+        // Act
+        InitKonnectPaymentResponse response = reactiveKonnectTemplate
+                .initiatePayment(BigDecimal.valueOf(1234), builder -> builder.orderId("order-42"))
+                .block(TIMEOUT);
+
+        // Assert
+        assertNotNull(response);
+        assertEquals("test-payment-ref-1234", response.paymentRef());
+    }
+}
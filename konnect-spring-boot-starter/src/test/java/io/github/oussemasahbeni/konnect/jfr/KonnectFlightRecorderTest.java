@@ -0,0 +1,149 @@
+package io.github.oussemasahbeni.konnect.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.oussemasahbeni.konnect.autoconfigure.KonnectFlightRecorderAutoConfiguration;
+import io.github.oussemasahbeni.konnect.client.KonnectClient;
+import io.github.oussemasahbeni.konnect.core.KonnectPaymentVerifier;
+import io.github.oussemasahbeni.konnect.core.KonnectTemplate;
+import io.github.oussemasahbeni.konnect.core.KonnectWebhookHandler;
+import io.github.oussemasahbeni.konnect.exception.PaymentVerificationException;
+import io.github.oussemasahbeni.konnect.model.KonnectPayment;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectToken;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class KonnectFlightRecorderTest {
+
+    private static final String PAYMENT_REF = "68891e9415c9b9a0dae24829";
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void configuration_shouldEnableKonnectEvents() {
+        // Act
+        var settings = KonnectFlightRecorder.configuration().getSettings();
+
+        // Assert
+        assertEquals("true", settings.get("konnect.ApiCall#enabled"));
+        assertEquals("true", settings.get("konnect.Retry#enabled"));
+        assertEquals("true", settings.get("konnect.WebhookProcessed#enabled"));
+        assertEquals("true", settings.get("konnect.Verification#enabled"));
+    }
+
+    @Test
+    void apiCall_shouldBeRecordedWithOperationStatusAndPayloadSize() throws IOException {
+        // Arrange
+        RestClient.Builder builder = RestClient.builder().baseUrl("https://api.sandbox.konnect.network/api/v2");
+        MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        KonnectClient konnectClient = new KonnectClient(builder.build(), new ObjectMapper());
+        server.expect(requestTo("https://api.sandbox.konnect.network/api/v2/payments/" + PAYMENT_REF))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON).header(HttpHeaders.CONTENT_LENGTH, "2"));
+
+        // Act
+        List<RecordedEvent> events = record(() -> konnectClient.getPaymentDetails(PAYMENT_REF));
+
+        // Assert
+        RecordedEvent event = single(events, "konnect.ApiCall");
+        assertEquals("get-payment", event.getString("operation"));
+        assertEquals(PAYMENT_REF, event.getString("paymentRef"));
+        assertEquals(200, event.getInt("statusCode"));
+        assertEquals(2, event.getLong("payloadSize"));
+    }
+
+    @Test
+    void webhookAndVerification_shouldBeRecorded() throws IOException {
+        // Arrange
+        KonnectTemplate konnectTemplate = mock(KonnectTemplate.class);
+        PaymentResponse pending = new PaymentResponse(new KonnectPayment(List.of(), 0, 0, null, BigDecimal.TEN, null,
+                null, null, KonnectPaymentStatus.PENDING, null, null, null, null, null, null, PAYMENT_REF));
+        when(konnectTemplate.refreshPaymentDetails(PAYMENT_REF)).thenReturn(pending);
+        KonnectWebhookHandler handler = new KonnectWebhookHandler(konnectTemplate);
+
+        // Act
+        List<RecordedEvent> events = record(() -> {
+            PaymentResponse response = handler.processWebhook(PAYMENT_REF);
+            assertThrows(PaymentVerificationException.class,
+                    () -> KonnectPaymentVerifier.verify(response, BigDecimal.TEN, KonnectToken.TND));
+        });
+
+        // Assert
+        RecordedEvent webhook = single(events, "konnect.WebhookProcessed");
+        assertEquals(PAYMENT_REF, webhook.getString("paymentRef"));
+        assertEquals("pending", webhook.getString("paymentStatus"));
+        assertNull(webhook.getString("failure"));
+        RecordedEvent verification = single(events, "konnect.Verification");
+        assertEquals(PAYMENT_REF, verification.getString("paymentRef"));
+        assertFalse(verification.getBoolean("verified"));
+        assertNotNull(verification.getString("reason"));
+    }
+
+    @Test
+    void retry_shouldBeRecordedWhenResilienceIsConfigured() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(KonnectFlightRecorderAutoConfiguration.class))
+                .withBean(RetryRegistry.class, () -> RetryRegistry.of(RetryConfig.custom()
+                        .maxAttempts(2)
+                        .waitDuration(Duration.ofMillis(1))
+                        .build()))
+                .run(context -> {
+                    int[] attempts = {0};
+                    List<RecordedEvent> events = record(() -> context.getBean(RetryRegistry.class).retry("konnect-api")
+                            .executeSupplier(() -> {
+                                if (attempts[0]++ == 0) {
+                                    throw new IllegalStateException("transient");
+                                }
+                                return "ok";
+                            }));
+
+                    RecordedEvent event = single(events, "konnect.Retry");
+                    assertEquals("konnect-api", event.getString("retryName"));
+                    assertEquals(1, event.getInt("attempt"));
+                    assertEquals(IllegalStateException.class.getName(), event.getString("failure"));
+                });
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws IOException {
+        Path file = tempDir.resolve("konnect.jfr");
+        try (Recording recording = new Recording(KonnectFlightRecorder.configuration())) {
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertEquals(1, matching.size(), name);
+        return matching.getFirst();
+    }
+}
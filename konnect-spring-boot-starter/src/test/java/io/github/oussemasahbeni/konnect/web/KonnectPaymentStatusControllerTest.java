@@ -0,0 +1,78 @@
+package io.github.oussemasahbeni.konnect.web;
+
+import io.github.oussemasahbeni.konnect.core.PaymentStatusBroadcaster;
+import io.github.oussemasahbeni.konnect.model.KonnectPayment;
+import io.github.oussemasahbeni.konnect.model.PaymentResponse;
+import io.github.oussemasahbeni.konnect.model.enums.KonnectPaymentStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class KonnectPaymentStatusControllerTest {
+
+    private static final String PAYMENT_REF = "68891e9415c9b9a0dae24829";
+
+    private final PaymentStatusBroadcaster broadcaster = new PaymentStatusBroadcaster(
+            ref -> completed(), Duration.ofMinutes(1), Duration.ofMinutes(10));
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.close();
+    }
+
+    @Test
+    void servletEndpoint_shouldStreamStatusUntilPaymentSettles() throws Exception {
+        // Arrange
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new KonnectPaymentStatusController(broadcaster)).build();
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/konnect/payments/{paymentRef}/events", PAYMENT_REF)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("event:status")))
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("\"status\":\"completed\"")));
+    }
+
+    @Test
+    void reactiveEndpoint_shouldStreamStatusUntilPaymentSettles() {
+        // Arrange
+        WebTestClient client = WebTestClient.bindToController(new ReactiveKonnectPaymentStatusController(broadcaster)).build();
+
+        // Act
+        String body = client.get().uri("/konnect/payments/{paymentRef}/events", PAYMENT_REF)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        // Assert
+        assertThat(body).contains("event:status").contains("\"status\":\"completed\"");
+    }
+
+    private static PaymentResponse completed() {
+        Instant now = Instant.now();
+        return new PaymentResponse(new KonnectPayment(null, 0, 0, null, null, null, null, null,
+                KonnectPaymentStatus.COMPLETED, null, null, null, null, now, now, PAYMENT_REF));
+    }
+}